@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.cache;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Statistics about the built-in query cache of a backend,
+ * i.e. the cache of documents matching filter clauses in each index segment,
+ * shared by all indexes of the backend.
+ * <p>
+ * The built-in query cache can be configured through the
+ * {@link LuceneBackendSettings#QUERY_CACHING_MAX_QUERIES configuration properties}.
+ * <p>
+ * Hits and misses are counted for each lookup of a given clause in a given index segment,
+ * so a single search query may lead to multiple hits and misses.
+ */
+@Incubating
+public interface QueryCacheStatistics {
+
+	/**
+	 * @return The number of lookups that found matching documents in the cache.
+	 */
+	long hitCount();
+
+	/**
+	 * @return The number of lookups that did not find matching documents in the cache.
+	 */
+	long missCount();
+
+	/**
+	 * @param tenantId A tenant identifier.
+	 * @return The number of lookups that found matching documents in the cache,
+	 * for search queries executed on behalf of the given tenant.
+	 * Always zero if multi-tenancy is disabled.
+	 * Hits and misses are only counted for the first 1000 tenants that execute search queries.
+	 */
+	long hitCount(String tenantId);
+
+	/**
+	 * @param tenantId A tenant identifier.
+	 * @return The number of lookups that did not find matching documents in the cache,
+	 * for search queries executed on behalf of the given tenant.
+	 * Always zero if multi-tenancy is disabled.
+	 * Hits and misses are only counted for the first 1000 tenants that execute search queries.
+	 */
+	long missCount(String tenantId);
+
+	/**
+	 * @return The total number of sets of matching documents that were ever added to the cache.
+	 */
+	long cacheCount();
+
+	/**
+	 * @return The total number of sets of matching documents that were evicted from the cache.
+	 */
+	long evictionCount();
+
+	/**
+	 * @return The number of sets of matching documents currently in the cache.
+	 */
+	long cacheSize();
+
+	/**
+	 * @return The memory currently used by the cache, in bytes.
+	 */
+	long ramBytesUsed();
+
+}
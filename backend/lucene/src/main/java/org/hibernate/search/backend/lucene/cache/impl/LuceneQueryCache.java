@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.cache.QueryCacheStatistics;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.FilterWeight;
+import org.apache.lucene.search.LRUQueryCache;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.Weight;
+
+/**
+ * The built-in query cache of a backend, shared by all indexes (and shards) of that backend.
+ * <p>
+ * On top of the global statistics provided by {@link LRUQueryCache},
+ * hits and misses are counted for each tenant,
+ * provided searches use the cache returned by {@link #forTenant(String)}.
+ * To bound memory usage, no more than {@link #MAX_TRACKED_TENANT_COUNT} tenants are tracked:
+ * hits and misses of other tenants are only counted globally.
+ */
+public final class LuceneQueryCache extends LRUQueryCache implements QueryCacheStatistics {
+
+	public static final int MAX_TRACKED_TENANT_COUNT = 1000;
+
+	private static final ThreadLocal<TenantStatistics> CURRENT_TENANT_STATISTICS = new ThreadLocal<>();
+
+	/**
+	 * Same as the default query cache of Lucene's {@code IndexSearcher}:
+	 * 1/20th of the maximum heap size, but no more than 32MB.
+	 */
+	public static long defaultMaxRamBytesUsed() {
+		return Math.min( 1L << 25, Runtime.getRuntime().maxMemory() / 20 );
+	}
+
+	private final Map<String, TenantStatistics> tenantStatistics = new ConcurrentHashMap<>();
+
+	public LuceneQueryCache(int maxQueries, long maxRamBytesUsed) {
+		super( maxQueries, maxRamBytesUsed );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "cacheSize=" + getCacheSize()
+				+ ", ramBytesUsed=" + ramBytesUsed()
+				+ "]";
+	}
+
+	/**
+	 * @param tenantId A tenant identifier, or {@code null}.
+	 * @return A query cache to use when searching on behalf of the given tenant.
+	 */
+	public QueryCache forTenant(String tenantId) {
+		if ( tenantId == null ) {
+			return this;
+		}
+		TenantStatistics statistics = tenantStatistics.get( tenantId );
+		if ( statistics == null ) {
+			// Concurrent calls may exceed the limit slightly, but not significantly.
+			if ( tenantStatistics.size() >= MAX_TRACKED_TENANT_COUNT ) {
+				return this;
+			}
+			statistics = tenantStatistics.computeIfAbsent( tenantId, ignored -> new TenantStatistics() );
+		}
+		return new TenantQueryCache( statistics );
+	}
+
+	@Override
+	public long hitCount() {
+		return getHitCount();
+	}
+
+	@Override
+	public long missCount() {
+		return getMissCount();
+	}
+
+	@Override
+	public long hitCount(String tenantId) {
+		TenantStatistics statistics = tenantStatistics.get( tenantId );
+		return statistics == null ? 0L : statistics.hitCount.sum();
+	}
+
+	@Override
+	public long missCount(String tenantId) {
+		TenantStatistics statistics = tenantStatistics.get( tenantId );
+		return statistics == null ? 0L : statistics.missCount.sum();
+	}
+
+	@Override
+	public long cacheCount() {
+		return getCacheCount();
+	}
+
+	@Override
+	public long evictionCount() {
+		return getEvictionCount();
+	}
+
+	@Override
+	public long cacheSize() {
+		return getCacheSize();
+	}
+
+	@Override
+	protected void onHit(Object readerCoreKey, Query query) {
+		super.onHit( readerCoreKey, query );
+		TenantStatistics statistics = CURRENT_TENANT_STATISTICS.get();
+		if ( statistics != null ) {
+			statistics.hitCount.increment();
+		}
+	}
+
+	@Override
+	protected void onMiss(Object readerCoreKey, Query query) {
+		super.onMiss( readerCoreKey, query );
+		TenantStatistics statistics = CURRENT_TENANT_STATISTICS.get();
+		if ( statistics != null ) {
+			statistics.missCount.increment();
+		}
+	}
+
+	private static final class TenantStatistics {
+		private final LongAdder hitCount = new LongAdder();
+		private final LongAdder missCount = new LongAdder();
+	}
+
+	private final class TenantQueryCache implements QueryCache {
+		private final TenantStatistics statistics;
+
+		private TenantQueryCache(TenantStatistics statistics) {
+			this.statistics = statistics;
+		}
+
+		@Override
+		public Weight doCache(Weight weight, QueryCachingPolicy policy) {
+			// Some queries return the (cached) weight of a sub-query as their own weight:
+			// make sure we don't hide that weight from LRUQueryCache, so that it doesn't get cached twice.
+			while ( weight instanceof TenantAccountingWeight ) {
+				weight = ( (TenantAccountingWeight) weight ).delegate();
+			}
+			return new TenantAccountingWeight( LuceneQueryCache.this.doCache( weight, policy ), statistics );
+		}
+	}
+
+	/**
+	 * Exposes the tenant to {@link #onHit(Object, Query)}/{@link #onMiss(Object, Query)}
+	 * while the cache is being looked up.
+	 * <p>
+	 * Lookups happen synchronously when scorers are created,
+	 * in the thread that searches the index segment,
+	 * which may not be the thread that created the search query when searching concurrently.
+	 */
+	private static final class TenantAccountingWeight extends FilterWeight {
+		private final TenantStatistics statistics;
+
+		private TenantAccountingWeight(Weight weight, TenantStatistics statistics) {
+			super( weight );
+			this.statistics = statistics;
+		}
+
+		private Weight delegate() {
+			return in;
+		}
+
+		@Override
+		public Scorer scorer(LeafReaderContext context) throws IOException {
+			TenantStatistics previous = CURRENT_TENANT_STATISTICS.get();
+			CURRENT_TENANT_STATISTICS.set( statistics );
+			try {
+				return in.scorer( context );
+			}
+			finally {
+				CURRENT_TENANT_STATISTICS.set( previous );
+			}
+		}
+
+		@Override
+		public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+			TenantStatistics previous = CURRENT_TENANT_STATISTICS.get();
+			CURRENT_TENANT_STATISTICS.set( statistics );
+			try {
+				return in.scorerSupplier( context );
+			}
+			finally {
+				CURRENT_TENANT_STATISTICS.set( previous );
+			}
+		}
+
+		@Override
+		public BulkScorer bulkScorer(LeafReaderContext context) throws IOException {
+			TenantStatistics previous = CURRENT_TENANT_STATISTICS.get();
+			CURRENT_TENANT_STATISTICS.set( statistics );
+			try {
+				return in.bulkScorer( context );
+			}
+			finally {
+				CURRENT_TENANT_STATISTICS.set( previous );
+			}
+		}
+
+		@Override
+		public int count(LeafReaderContext context) throws IOException {
+			TenantStatistics previous = CURRENT_TENANT_STATISTICS.get();
+			CURRENT_TENANT_STATISTICS.set( statistics );
+			try {
+				return in.count( context );
+			}
+			finally {
+				CURRENT_TENANT_STATISTICS.set( previous );
+			}
+		}
+	}
+}
@@ -6,6 +6,7 @@
 
 import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.cache.QueryCacheStatistics;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurationContext;
 
 import org.apache.lucene.search.QueryCache;
@@ -17,6 +18,8 @@ public class LuceneQueryCachingContext implements QueryCachingConfigurationConte
 	private final Version luceneVersion;
 	private QueryCache cache;
 	private QueryCachingPolicy policy;
+	private LuceneQueryCache builtInCache;
+	private final QueryCachingPolicy builtInDefaultPolicy = new LuceneQueryCachingPolicy();
 
 	public LuceneQueryCachingContext(Version luceneVersion) {
 		this.luceneVersion = luceneVersion;
@@ -32,8 +35,32 @@ public void queryCache(QueryCache cache) {
 		this.cache = cache;
 	}
 
-	public Optional<QueryCache> queryCache() {
-		return Optional.ofNullable( cache );
+	/**
+	 * Creates the built-in query cache, unless a query cache was configured explicitly.
+	 *
+	 * @param maxQueries The maximum number of queries to cache.
+	 * @param maxRamBytesUsed The maximum memory used by the cache, in bytes.
+	 */
+	public void createBuiltInQueryCacheIfNecessary(int maxQueries, long maxRamBytesUsed) {
+		if ( cache == null ) {
+			builtInCache = new LuceneQueryCache( maxQueries, maxRamBytesUsed );
+		}
+	}
+
+	/**
+	 * @param tenantId The tenant identifier for the search query, or {@code null}.
+	 * @return The query cache to use for a search query,
+	 * or {@code null} to use Lucene's default query cache.
+	 */
+	public QueryCache queryCache(String tenantId) {
+		if ( builtInCache != null ) {
+			return builtInCache.forTenant( tenantId );
+		}
+		return cache;
+	}
+
+	public Optional<QueryCacheStatistics> builtInQueryCacheStatistics() {
+		return Optional.ofNullable( builtInCache );
 	}
 
 	@Override
@@ -41,8 +68,21 @@ public void queryCachingPolicy(QueryCachingPolicy policy) {
 		this.policy = policy;
 	}
 
-	public Optional<QueryCachingPolicy> queryCachingPolicy() {
-		return Optional.ofNullable( policy );
+	/**
+	 * @return The query caching policy to use for a search query,
+	 * or {@code null} to use Lucene's default query caching policy.
+	 */
+	public QueryCachingPolicy queryCachingPolicy() {
+		if ( policy != null ) {
+			return policy;
+		}
+		// Our default policy only makes sense with our own cache:
+		// don't change how Lucene's JVM-wide default cache is used.
+		return builtInCache != null ? builtInDefaultPolicy : null;
+	}
+
+	public boolean hasExplicitQueryCachingPolicy() {
+		return policy != null;
 	}
 
 }
@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.cache.SearchResultCacheStatistics;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+
+/**
+ * A size-bounded, least-recently-used cache of the documents matched by search queries
+ * (top docs and total hit count).
+ * <p>
+ * Entries are keyed by the query, the sort, the requested window of hits,
+ * and the identity of the index readers the query was executed against,
+ * so that an entry can only be used for a query executed against the very same index readers.
+ * Entries are dropped as soon as one of these index readers gets closed,
+ * i.e. as soon as a new index reader was published and no query uses the old one anymore.
+ * <p>
+ * Results of queries requesting more than {@link #MAX_CACHED_WINDOW_SIZE} top docs are not cached,
+ * so that the memory held by each entry is bounded:
+ * top docs are kept in memory as long as the entry is, and queries fetching all hits
+ * would otherwise retain one score doc per matching document.
+ */
+public final class LuceneSearchResultCache implements SearchResultCacheStatistics {
+
+	/**
+	 * The maximum number of top docs, including the offset, for results to be cached.
+	 */
+	public static final int MAX_CACHED_WINDOW_SIZE = 1000;
+
+	private final int maxEntries;
+	private final Map<Key, CachedResult> entries;
+	private final Set<IndexReader.CacheKey> trackedReaderKeys = new HashSet<>();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	public LuceneSearchResultCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, CachedResult> eldest) {
+				if ( size() > LuceneSearchResultCache.this.maxEntries ) {
+					evictionCount.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxEntries=" + maxEntries
+				+ "]";
+	}
+
+	/**
+	 * @param indexReader The index reader the query is executed against.
+	 * @param query The Lucene query, including filters.
+	 * @param sort The Lucene sort, or {@code null}.
+	 * @param offset The offset of the first hit to retrieve.
+	 * @param maxDocs The number of top docs to retrieve, including the offset.
+	 * @param totalHitCountThreshold The total hit count threshold.
+	 * @param requireScore Whether scores need to be computed for top docs.
+	 * @return A key for the cache, or {@code null} if results for this index reader or window of hits cannot be cached.
+	 */
+	public static Key key(IndexReader indexReader, Query query, Sort sort, int offset, int maxDocs,
+			int totalHitCountThreshold, boolean requireScore) {
+		if ( maxDocs > MAX_CACHED_WINDOW_SIZE ) {
+			return null;
+		}
+		List<IndexReaderContext> readerContexts = readerContexts( indexReader );
+		List<IndexReader.CacheKey> readerKeys = new ArrayList<>( readerContexts.size() );
+		for ( IndexReaderContext readerContext : readerContexts ) {
+			IndexReader.CacheHelper cacheHelper = readerContext.reader().getReaderCacheHelper();
+			if ( cacheHelper == null ) {
+				return null;
+			}
+			readerKeys.add( cacheHelper.getKey() );
+		}
+		return new Key( readerKeys, query, sort, offset, maxDocs, totalHitCountThreshold, requireScore );
+	}
+
+	public synchronized CachedResult get(Key key) {
+		CachedResult result = entries.get( key );
+		if ( result == null ) {
+			missCount.increment();
+		}
+		else {
+			hitCount.increment();
+		}
+		return result;
+	}
+
+	public void put(Key key, IndexReader indexReader, CachedResult result) {
+		List<IndexReader.CacheHelper> helpersToTrack = null;
+		synchronized (this) {
+			entries.put( key, result );
+			for ( IndexReaderContext readerContext : readerContexts( indexReader ) ) {
+				IndexReader.CacheHelper cacheHelper = readerContext.reader().getReaderCacheHelper();
+				if ( trackedReaderKeys.add( cacheHelper.getKey() ) ) {
+					if ( helpersToTrack == null ) {
+						helpersToTrack = new ArrayList<>();
+					}
+					helpersToTrack.add( cacheHelper );
+				}
+			}
+		}
+		if ( helpersToTrack != null ) {
+			// The index reader cannot get closed in the meantime: the caller is still using it.
+			for ( IndexReader.CacheHelper cacheHelper : helpersToTrack ) {
+				cacheHelper.addClosedListener( this::invalidate );
+			}
+		}
+	}
+
+	@Override
+	public long hitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long missCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public long evictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private synchronized void invalidate(IndexReader.CacheKey readerKey) {
+		trackedReaderKeys.remove( readerKey );
+		Iterator<Key> iterator = entries.keySet().iterator();
+		while ( iterator.hasNext() ) {
+			if ( iterator.next().readerKeys.contains( readerKey ) ) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private static List<IndexReaderContext> readerContexts(IndexReader indexReader) {
+		List<IndexReaderContext> children = indexReader.getContext().children();
+		return children == null ? List.of( indexReader.getContext() ) : children;
+	}
+
+	public record Key(List<IndexReader.CacheKey> readerKeys, Query query, Sort sort, int offset, int maxDocs,
+			int totalHitCountThreshold, boolean requireScore) {
+	}
+
+	/**
+	 * @param total The total hit count.
+	 * @param topDocs The top docs; must not be altered once cached.
+	 */
+	public record CachedResult(SearchResultTotal total, TopDocs topDocs) {
+	}
+}
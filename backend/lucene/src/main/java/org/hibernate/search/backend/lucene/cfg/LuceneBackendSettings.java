@@ -78,6 +78,36 @@ private LuceneBackendSettings() {
 	 */
 	public static final String QUERY_CACHING_CONFIGURER = "query.caching.configurer";
 
+	/**
+	 * The maximum number of distinct queries held in the built-in query cache,
+	 * i.e. the cache of documents matching filter clauses in each index segment,
+	 * shared by all indexes of the backend.
+	 * <p>
+	 * Only effective if no query cache was set through a {@link #QUERY_CACHING_CONFIGURER query caching configurer}.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Setting this property enables the built-in query cache.
+	 * <p>
+	 * Defaults to no value, meaning the built-in query cache is disabled
+	 * and Lucene's default query cache and caching policy are used.
+	 */
+	public static final String QUERY_CACHING_MAX_QUERIES = "query.caching.max_queries";
+
+	/**
+	 * The maximum memory used by the built-in query cache, in bytes.
+	 * <p>
+	 * Only effective if the built-in query cache is enabled:
+	 * see {@link #QUERY_CACHING_MAX_QUERIES}.
+	 * <p>
+	 * Expects a strictly positive long value,
+	 * or a string that can be parsed into a long value.
+	 * <p>
+	 * Defaults to 1/20th of the maximum heap size, but no more than 32MB.
+	 */
+	public static final String QUERY_CACHING_MAX_SIZE = "query.caching.max_size";
+
 	/**
 	 * The size of the thread pool assigned to the backend.
 	 * <p>
@@ -91,6 +121,68 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * Whether indexing queues of all indexes of the backend are processed in turn by the write threads.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * When enabled, no more indexing queues than there are {@link #THREAD_POOL_SIZE write threads}
+	 * are handed over to the write threads at any given time,
+	 * and indexing queues waiting for a write thread are picked from each index in turn,
+	 * so that an index with a high write rate cannot delay indexing in other indexes indefinitely.
+	 * When disabled, indexing queues are processed in the order they became ready.
+	 * <p>
+	 * Only effective with the built-in work executor,
+	 * since the number of threads of a custom work executor is unknown.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#THREAD_POOL_FAIR_SCHEDULING}.
+	 */
+	public static final String THREAD_POOL_FAIR_SCHEDULING = "thread_pool.fair_scheduling";
+
+	/**
+	 * The size of the thread pool assigned to the backend for concurrent search,
+	 * i.e. for collecting multiple slices of index segments in parallel within a single search query.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * When set to {@code 0}, search queries are executed entirely in the calling thread.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_THREAD_POOL_SIZE}.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search.thread_pool.size";
+
+	/**
+	 * The maximum number of documents in a slice of index segments searched concurrently.
+	 * <p>
+	 * Only effective when {@link #SEARCH_THREAD_POOL_SIZE concurrent search} is enabled.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_SLICE_MAX_DOCS}.
+	 */
+	public static final String SEARCH_SLICE_MAX_DOCS = "search.slice.max_docs";
+
+	/**
+	 * The maximum number of index segments in a slice of index segments searched concurrently.
+	 * <p>
+	 * Only effective when {@link #SEARCH_THREAD_POOL_SIZE concurrent search} is enabled.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_SLICE_MAX_SEGMENTS}.
+	 */
+	public static final String SEARCH_SLICE_MAX_SEGMENTS = "search.slice.max_segments";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -101,6 +193,11 @@ private Defaults() {
 
 		public static final Version LUCENE_VERSION = Version.LATEST;
 
+		public static final boolean THREAD_POOL_FAIR_SCHEDULING = false;
+		public static final int SEARCH_THREAD_POOL_SIZE = 0;
+		public static final int SEARCH_SLICE_MAX_DOCS = 250_000;
+		public static final int SEARCH_SLICE_MAX_SEGMENTS = 5;
+
 		/**
 		 * @deprecated The default for this property is now dynamic and depends on the mapper.
 		 * If the multi-tenancy is enabled in the mapper, the default is {@link MultiTenancyStrategyName#DISCRIMINATOR}.
@@ -10,6 +10,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.LockingStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.replication.ReplicationRoleName;
 import org.hibernate.search.engine.cfg.BackendSettings;
 import org.hibernate.search.engine.cfg.EngineSettings;
 
@@ -46,7 +47,8 @@ private LuceneIndexSettings() {
 	/**
 	 * The filesystem root for the directory.
 	 * <p>
-	 * Only available for the "local-filesystem" directory type.
+	 * Only available for the "local-filesystem" and "tiered-filesystem" directory types.
+	 * For the "tiered-filesystem" directory type, this is the root of the slower, shared filesystem.
 	 * <p>
 	 * Expects a String representing a path to an existing directory accessible in read and write mode, such as "local-filesystem".
 	 * <p>
@@ -68,7 +70,8 @@ private LuceneIndexSettings() {
 	/**
 	 * How to access the filesystem in the directory.
 	 * <p>
-	 * Only available for the "local-filesystem" directory type.
+	 * Only available for the "local-filesystem" directory type,
+	 * and for the local cache of the "tiered-filesystem" directory type.
 	 * <p>
 	 * Expects a {@link FileSystemAccessStrategyName} value, or a String representation of such value.
 	 * <p>
@@ -77,6 +80,87 @@ private LuceneIndexSettings() {
 	public static final String DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY;
 
+	/**
+	 * The extensions of index files to load into physical memory when they are opened,
+	 * avoiding page faults on first access, e.g. after a restart.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type and the local cache of the "tiered-filesystem" directory type,
+	 * and only relevant when files are memory-mapped,
+	 * i.e. with the {@link #DIRECTORY_FILESYSTEM_ACCESS_STRATEGY filesystem access strategy} {@code mmap},
+	 * or {@code auto} on most platforms.
+	 * <p>
+	 * Expects a comma-separated String listing file extensions, such as "dvd,tim",
+	 * or a collection of such Strings.
+	 * <p>
+	 * Defaults to an empty list: no file is preloaded.
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_MMAP_PRELOAD =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_PRELOAD;
+
+	/**
+	 * The extensions of index files to read with random-access advice,
+	 * telling the operating system not to read ahead when accessing these files.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type and the local cache of the "tiered-filesystem" directory type,
+	 * and only relevant when files are memory-mapped,
+	 * i.e. with the {@link #DIRECTORY_FILESYSTEM_ACCESS_STRATEGY filesystem access strategy} {@code mmap},
+	 * or {@code auto} on most platforms.
+	 * <p>
+	 * Files opened for merges are still read with sequential advice.
+	 * <p>
+	 * Expects a comma-separated String listing file extensions, such as "vec,vex",
+	 * or a collection of such Strings.
+	 * <p>
+	 * Defaults to an empty list: the read advice is decided by Lucene.
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_MMAP_RANDOM_ACCESS =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_RANDOM_ACCESS;
+
+	/**
+	 * The maximum amount of memory used to store index files, in megabytes.
+	 * <p>
+	 * Only available for the "local-offheap" directory type.
+	 * <p>
+	 * The limit applies to each shard separately.
+	 * Writing to the index fails when the limit is reached.
+	 * <p>
+	 * Expects a strictly positive Long value, such as {@code 512},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to no limit other than the JVM's own limit on direct memory, see {@code -XX:MaxDirectMemorySize}.
+	 */
+	public static final String DIRECTORY_MAX_MEMORY = DIRECTORY_PREFIX + DirectoryRadicals.MAX_MEMORY;
+
+	/**
+	 * The local filesystem root for the cache of the directory.
+	 * <p>
+	 * Only available for the "tiered-filesystem" directory type, for which it is mandatory.
+	 * <p>
+	 * Expects a String representing a path to a directory on a local, fast filesystem,
+	 * accessible in read and write mode.
+	 * <p>
+	 * Cached index files will be stored in directory {@code <cache-root>/<index-name>}.
+	 * Any file in that directory is deleted on startup.
+	 */
+	public static final String DIRECTORY_CACHE_ROOT = DIRECTORY_PREFIX + DirectoryRadicals.CACHE_ROOT;
+
+	/**
+	 * The maximum size of the local cache of index files, in megabytes.
+	 * <p>
+	 * Only available for the "tiered-filesystem" directory type.
+	 * <p>
+	 * The limit applies to each shard separately.
+	 * When it is exceeded, the least recently opened files are evicted from the cache.
+	 * Files that were not committed yet are only stored in the cache and are never evicted,
+	 * so the cache may temporarily exceed the limit.
+	 * <p>
+	 * Expects a strictly positive Long value, such as {@code 1024},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_CACHE_MAX_SIZE}.
+	 */
+	public static final String DIRECTORY_CACHE_MAX_SIZE = DIRECTORY_PREFIX + DirectoryRadicals.CACHE_MAX_SIZE;
+
 	/**
 	 * The prefix for I/O-related property keys.
 	 */
@@ -144,6 +228,135 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether index readers should be refreshed in the background,
+	 * instead of being refreshed when a search query notices they are stale.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy,
+	 * and requires a strictly positive {@link #IO_REFRESH_INTERVAL refresh interval}.
+	 * <p>
+	 * When enabled, a background task checks every {@link #IO_REFRESH_INTERVAL refresh interval}
+	 * whether the index changed, and if so opens and publishes a new index reader.
+	 * Search queries always use the last published index reader and never wait for a refresh,
+	 * except when a refresh was explicitly requested
+	 * (for example with the {@code read-sync} and {@code sync} indexing plan synchronization strategies in the ORM mapper).
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REFRESH_BACKGROUND}.
+	 */
+	public static final String IO_REFRESH_BACKGROUND = IO_PREFIX + IORadicals.REFRESH_BACKGROUND;
+
+	/**
+	 * Whether changes to the index should be recorded in a translog (write-ahead log)
+	 * before indexing works are considered complete.
+	 * <p>
+	 * When enabled, each change is appended to a translog and flushed to disk
+	 * before the indexing work is considered complete,
+	 * and the translog is truncated every time the index is committed.
+	 * Changes that were not committed yet when the application stopped abruptly
+	 * (crash, power loss, ...) are then replayed from the translog on the next startup,
+	 * which makes it safe to use a long {@link #IO_COMMIT_INTERVAL commit interval}.
+	 * <p>
+	 * The translog is stored next to the index directory,
+	 * in a directory whose name is the name of the index directory with a {@code .translog} suffix.
+	 * Only available with the {@code local-filesystem} {@link #DIRECTORY_TYPE directory type}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_TRANSLOG_ENABLED}.
+	 */
+	public static final String IO_TRANSLOG_ENABLED = IO_PREFIX + IORadicals.TRANSLOG_ENABLED;
+
+	/**
+	 * The warmers to apply to new index segments before they are exposed to search queries.
+	 * <p>
+	 * Warmers are applied to segments resulting from a merge, before the merge completes,
+	 * and to segments resulting from a flush, before the index reader exposing them gets published.
+	 * Warming up segments makes index refreshes slower, but avoids latency spikes for the first search queries
+	 * hitting new segments; consider enabling {@link #IO_REFRESH_BACKGROUND background refresh}
+	 * so that search queries don't wait for refreshes.
+	 * <p>
+	 * Only fully supported by the "near-real-time" I/O strategy:
+	 * with the "debug" I/O strategy, only segments resulting from a merge are warmed up.
+	 * <p>
+	 * Expects a single-valued or multi-valued reference to beans of type
+	 * {@link org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer}.
+	 * The built-in warmer {@code field-data} reads doc values, norms and vectors of new segments.
+	 * <p>
+	 * Defaults to no value.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "multi-valued bean reference" properties and accepted values.
+	 */
+	public static final String IO_READER_WARMER = IO_PREFIX + IORadicals.READER_WARMER;
+
+	/**
+	 * The prefix for property keys related to commits.
+	 */
+	public static final String IO_COMMIT_PREFIX = IO_PREFIX + "commit.";
+
+	/**
+	 * The policy deciding when uncommitted changes must be committed.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * Expects a reference to a bean of type
+	 * {@link org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicy}.
+	 * The built-in policy {@code adaptive} commits as soon as the number of uncommitted changes
+	 * exceeds {@link #IO_COMMIT_MAX_CHANGES}, the RAM used by the index writer exceeds {@link #IO_COMMIT_MAX_RAM_USAGE},
+	 * no change happened for {@link #IO_COMMIT_IDLE_INTERVAL},
+	 * or the last commit happened more than {@link #IO_COMMIT_INTERVAL} ago,
+	 * whichever comes first.
+	 * The {@code adaptive} policy requires a strictly positive {@link #IO_COMMIT_INTERVAL commit interval},
+	 * which should be set well above {@link #IO_COMMIT_IDLE_INTERVAL}.
+	 * <p>
+	 * Defaults to no value, meaning changes are committed every {@link #IO_COMMIT_INTERVAL}.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "bean reference" properties and accepted values.
+	 */
+	public static final String IO_COMMIT_POLICY = IO_COMMIT_PREFIX + CommitRadicals.POLICY;
+
+	/**
+	 * The number of uncommitted changes (document additions, updates or deletions)
+	 * beyond which the {@code adaptive} {@link #IO_COMMIT_POLICY commit policy} commits.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_COMMIT_MAX_CHANGES}.
+	 */
+	public static final String IO_COMMIT_MAX_CHANGES = IO_COMMIT_PREFIX + CommitRadicals.MAX_CHANGES;
+
+	/**
+	 * The amount of RAM used by the index writer, in megabytes,
+	 * beyond which the {@code adaptive} {@link #IO_COMMIT_POLICY commit policy} commits.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 64},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_COMMIT_MAX_RAM_USAGE}.
+	 */
+	public static final String IO_COMMIT_MAX_RAM_USAGE = IO_COMMIT_PREFIX + CommitRadicals.MAX_RAM_USAGE;
+
+	/**
+	 * How much time without any change, in milliseconds,
+	 * after which the {@code adaptive} {@link #IO_COMMIT_POLICY commit policy} commits pending changes.
+	 * <p>
+	 * This allows a long {@link #IO_COMMIT_INTERVAL commit interval} during write peaks
+	 * while still committing promptly once writes stop.
+	 * The idle interval has no effect unless it is lower than the commit interval.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 200},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_COMMIT_IDLE_INTERVAL}.
+	 */
+	public static final String IO_COMMIT_IDLE_INTERVAL = IO_COMMIT_PREFIX + CommitRadicals.IDLE_INTERVAL;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -264,6 +477,193 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_MERGE_CALIBRATE_BY_DELETES = IO_MERGE_PREFIX + MergeRadicals.CALIBRATE_BY_DELETES;
 
+	/**
+	 * The prefix for property keys related to bulk-load mode.
+	 * <p>
+	 * In bulk-load mode, the index writer buffers more changes in memory and merges segments less often,
+	 * index readers are no longer refreshed after changes,
+	 * and commits are deferred until bulk-load mode ends.
+	 *
+	 * @see org.hibernate.search.backend.lucene.index.LuceneIndexManager#beginBulkLoad()
+	 */
+	public static final String IO_BULK_LOAD_PREFIX = IO_PREFIX + "bulk_load.";
+
+	/**
+	 * Whether the index should switch to bulk-load mode automatically when requested by the mapper,
+	 * e.g. for the duration of mass indexing.
+	 * <p>
+	 * Does not affect explicit calls to {@link org.hibernate.search.backend.lucene.index.LuceneIndexManager#beginBulkLoad()}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_BULK_LOAD_AUTOMATIC}.
+	 */
+	public static final String IO_BULK_LOAD_AUTOMATIC = IO_BULK_LOAD_PREFIX + BulkLoadRadicals.AUTOMATIC;
+
+	/**
+	 * The value to pass to {@link IndexWriterConfig#setRAMBufferSizeMB(double)} in bulk-load mode.
+	 * <p>
+	 * In bulk-load mode, the index writer flushes a new segment only when this buffer is full,
+	 * regardless of the number of buffered documents.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_BULK_LOAD_RAM_BUFFER_SIZE}.
+	 */
+	public static final String IO_BULK_LOAD_RAM_BUFFER_SIZE = IO_BULK_LOAD_PREFIX + BulkLoadRadicals.RAM_BUFFER_SIZE;
+
+	/**
+	 * The value to pass to {@link LogByteSizeMergePolicy#setMergeFactor(int)} in bulk-load mode.
+	 * <p>
+	 * Expects a strictly positive Integer value,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_BULK_LOAD_MERGE_FACTOR}.
+	 */
+	public static final String IO_BULK_LOAD_MERGE_FACTOR = IO_BULK_LOAD_PREFIX + BulkLoadRadicals.MERGE_FACTOR;
+
+	/**
+	 * Whether documents added in bulk-load mode should be written to temporary indexes first,
+	 * one per indexing thread, then added to the actual index in a single operation when bulk-load mode ends.
+	 * <p>
+	 * This avoids contention on a single index writer when many threads add documents concurrently,
+	 * at the cost of additional disk space (or heap space, for indexes that are not stored on the local filesystem)
+	 * until bulk-load mode ends.
+	 * Documents added in bulk-load mode will not be visible, even after an explicit commit or refresh,
+	 * until bulk-load mode ends.
+	 * <p>
+	 * Cannot be enabled together with the {@link #IO_TRANSLOG_ENABLED translog}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_BULK_LOAD_OFFLINE_BUILD}.
+	 */
+	public static final String IO_BULK_LOAD_OFFLINE_BUILD = IO_BULK_LOAD_PREFIX + BulkLoadRadicals.OFFLINE_BUILD;
+
+	/**
+	 * The prefix for property keys related to soft deletes.
+	 */
+	public static final String IO_SOFT_DELETES_PREFIX = IO_PREFIX + "soft_deletes.";
+
+	/**
+	 * Whether documents should be soft-deleted when they are updated or deleted,
+	 * instead of being deleted immediately.
+	 * <p>
+	 * Soft-deleted documents are marked as deleted through a doc values update,
+	 * which is cheaper than resolving deletions, and are removed when segments are merged,
+	 * unless retained (see {@link #IO_SOFT_DELETES_RETENTION}).
+	 * <p>
+	 * Only updates and deletions of documents by identifier are affected:
+	 * deletions by query, including those applied to multi-tenant indexes
+	 * or to batches of consecutive single-document works, still delete documents immediately.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_SOFT_DELETES_ENABLED}.
+	 *
+	 * @see IndexWriterConfig#setSoftDeletesField(String)
+	 */
+	public static final String IO_SOFT_DELETES_ENABLED = IO_SOFT_DELETES_PREFIX + SoftDeletesRadicals.ENABLED;
+
+	/**
+	 * How long soft-deleted documents should be retained when segments are merged, in milliseconds.
+	 * <p>
+	 * Only relevant when {@link #IO_SOFT_DELETES_ENABLED soft deletes} are enabled.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 60000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_SOFT_DELETES_RETENTION}.
+	 *
+	 * @see org.apache.lucene.index.SoftDeletesRetentionMergePolicy
+	 */
+	public static final String IO_SOFT_DELETES_RETENTION = IO_SOFT_DELETES_PREFIX + SoftDeletesRadicals.RETENTION;
+
+	/**
+	 * The prefix for replication-related property keys.
+	 */
+	public static final String REPLICATION_PREFIX = "replication.";
+
+	/**
+	 * The role of this index in replication, i.e. whether it publishes its commits to replicas,
+	 * receives commits from a primary, or does not take part in replication at all.
+	 * <p>
+	 * Replicas are read-only: they never write to their own index,
+	 * but copy new segment files published by the primary into their local directory
+	 * and reopen index readers whenever a new commit is available.
+	 * <p>
+	 * Expects a {@link ReplicationRoleName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#REPLICATION_ROLE}.
+	 */
+	public static final String REPLICATION_ROLE = REPLICATION_PREFIX + ReplicationRadicals.ROLE;
+
+	/**
+	 * The transport used to publish commits from the primary and to fetch them on replicas.
+	 * <p>
+	 * Only relevant when the {@link #REPLICATION_ROLE replication role} is {@code primary} or {@code replica}.
+	 * <p>
+	 * Expects a String, such as "shared-filesystem",
+	 * or a reference to a bean implementing
+	 * {@link org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport}.
+	 * See the reference documentation for a list of available values.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#REPLICATION_TRANSPORT}.
+	 */
+	public static final String REPLICATION_TRANSPORT = REPLICATION_PREFIX + ReplicationRadicals.TRANSPORT;
+
+	/**
+	 * The filesystem root of the location where the primary publishes its commits.
+	 * <p>
+	 * Only available for the "shared-filesystem" {@link #REPLICATION_TRANSPORT replication transport}.
+	 * <p>
+	 * Expects a String representing a path to a directory accessible to the primary and to all replicas,
+	 * e.g. a network filesystem mount.
+	 * Each index, and each shard, gets its own subdirectory.
+	 * <p>
+	 * No default: this property must be set when using the "shared-filesystem" replication transport.
+	 */
+	public static final String REPLICATION_SHARED_FILESYSTEM_ROOT =
+			REPLICATION_PREFIX + ReplicationRadicals.SHARED_FILESYSTEM_ROOT;
+
+	/**
+	 * How often replicas check for new commits published by the primary, in milliseconds.
+	 * <p>
+	 * Only relevant when the {@link #REPLICATION_ROLE replication role} is {@code replica}.
+	 * <p>
+	 * Expects a strictly positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#REPLICATION_POLL_INTERVAL}.
+	 */
+	public static final String REPLICATION_POLL_INTERVAL = REPLICATION_PREFIX + ReplicationRadicals.POLL_INTERVAL;
+
+	/**
+	 * The prefix for backup-related property keys.
+	 */
+	public static final String BACKUP_PREFIX = "backup.";
+
+	/**
+	 * The path to a backup to restore when the index does not exist yet.
+	 * <p>
+	 * Backups are created with
+	 * {@link org.hibernate.search.backend.lucene.index.LuceneIndexManager#backup(java.nio.file.Path)}.
+	 * When this property is set and the index directory does not contain an index on startup,
+	 * the latest commit of the backup is copied to the index directory before the index is opened.
+	 * Existing indexes are left untouched.
+	 * <p>
+	 * Expects a String representing a path to a directory containing a backup of this index.
+	 * If the index is sharded, the backup of each shard is expected in a subdirectory named after the shard identifier,
+	 * which is the layout used when creating backups.
+	 * <p>
+	 * No default: backups are not restored unless this property is set.
+	 */
+	public static final String BACKUP_RESTORE_PATH = BACKUP_PREFIX + BackupRadicals.RESTORE_PATH;
+
 	/**
 	 * The prefix for sharding-related property keys.
 	 */
@@ -342,6 +742,97 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * The maximum number of indexing queues of each index (across all its shards)
+	 * that can be processed concurrently by the write threads of the backend.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Useful to prevent an index with a high write rate from using all write threads,
+	 * in particular when {@link LuceneBackendSettings#THREAD_POOL_FAIR_SCHEDULING fair scheduling} is enabled.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to no limit other than the number of write threads.
+	 */
+	public static final String INDEXING_MAX_CONCURRENCY = INDEXING_PREFIX + IndexingRadicals.MAX_CONCURRENCY;
+
+	/**
+	 * The sort applied to documents within each segment of the index, a.k.a. "index sorting".
+	 * <p>
+	 * When search queries are sorted on a prefix of the index sort
+	 * and don't need an exact total hit count,
+	 * Lucene can stop collecting hits in a segment as soon as enough top hits were collected,
+	 * instead of visiting every matching document.
+	 * <p>
+	 * Expects either a String containing multiple sort elements separated by commas (','),
+	 * or a {@code Collection<String>} containing such sort elements.
+	 * Each sort element is the absolute path of a sortable field of the index,
+	 * optionally followed by {@code :asc} (the default) or {@code :desc}, e.g. {@code publicationDate:desc}.
+	 * Only single-valued, numeric, date/time and string fields outside of nested objects are supported.
+	 * <p>
+	 * Changing the index sort of an existing index requires dropping and re-creating the index.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Index sorting",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to no value, i.e. documents are not sorted within segments.
+	 */
+	public static final String INDEXING_SORT = INDEXING_PREFIX + IndexingRadicals.SORT;
+
+	/**
+	 * Whether doc values of doc-values-only fields can be updated in place,
+	 * without re-indexing the whole document.
+	 * <p>
+	 * When enabled, single-valued numeric and date/time fields outside of nested objects
+	 * that are sortable or aggregable, but neither searchable nor projectable,
+	 * are indexed in a way that allows updating them in place.
+	 * Mappers may then update only these fields when they know no other field changed,
+	 * e.g. when an entity property mapped to such a field is the only one that changed.
+	 * <p>
+	 * This setting has no effect on indexes that include nested objects:
+	 * documents of such indexes are always re-indexed as a whole.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Changing this setting for an existing index requires dropping and re-creating the index.
+	 * Fields that can be updated in place cannot be part of the {@link #INDEXING_SORT index sort}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Doc values updates",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_DOC_VALUES_UPDATES}.
+	 */
+	public static final String INDEXING_DOC_VALUES_UPDATES = INDEXING_PREFIX + IndexingRadicals.DOC_VALUES_UPDATES;
+
+	/**
+	 * The prefix for search-related property keys.
+	 */
+	public static final String SEARCH_PREFIX = "search.";
+
+	/**
+	 * The maximum number of entries in the search result cache of each index.
+	 * <p>
+	 * The search result cache holds the documents matched by search queries (top hits and total hit count),
+	 * so that executing the exact same search query again against an index that did not change
+	 * does not require executing the query against the index again.
+	 * The cache is invalidated automatically when the index changes and a new index reader is opened.
+	 * <p>
+	 * Only search queries targeting a single index and without aggregations are cached,
+	 * and only if they retrieve at most 1000 top hits (including the offset):
+	 * in particular, queries fetching all hits are only cached if they match at most 1000 documents.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * {@code 0} disables the cache.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_RESULT_CACHE_MAX_ENTRIES}.
+	 */
+	public static final String SEARCH_RESULT_CACHE_MAX_ENTRIES = SEARCH_PREFIX + SearchRadicals.RESULT_CACHE_MAX_ENTRIES;
+
 	/**
 	 * Builds a configuration property key for the given shard of all indexes of the default backend,
 	 * with the given radical.
@@ -418,6 +909,11 @@ private DirectoryRadicals() {
 		public static final String ROOT = "root";
 		public static final String LOCKING_STRATEGY = "locking.strategy";
 		public static final String FILESYSTEM_ACCESS_STRATEGY = "filesystem_access.strategy";
+		public static final String FILESYSTEM_ACCESS_MMAP_PRELOAD = "filesystem_access.mmap.preload";
+		public static final String FILESYSTEM_ACCESS_MMAP_RANDOM_ACCESS = "filesystem_access.mmap.random_access";
+		public static final String MAX_MEMORY = "max_memory";
+		public static final String CACHE_ROOT = "cache.root";
+		public static final String CACHE_MAX_SIZE = "cache.max_size";
 	}
 
 	/**
@@ -431,6 +927,60 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String REFRESH_BACKGROUND = "refresh_background";
+		public static final String READER_WARMER = "reader.warmer";
+		public static final String TRANSLOG_ENABLED = "translog.enabled";
+	}
+
+	/**
+	 * Configuration property keys for commit options, without the {@link #IO_COMMIT_PREFIX prefix}.
+	 */
+	public static final class CommitRadicals {
+
+		private CommitRadicals() {
+		}
+
+		public static final String POLICY = "policy";
+		public static final String MAX_CHANGES = "max_changes";
+		public static final String MAX_RAM_USAGE = "max_ram_usage";
+		public static final String IDLE_INTERVAL = "idle_interval";
+	}
+
+	/**
+	 * Configuration property keys for soft deletes options, without the {@link #IO_SOFT_DELETES_PREFIX prefix}.
+	 */
+	public static final class SoftDeletesRadicals {
+
+		private SoftDeletesRadicals() {
+		}
+
+		public static final String ENABLED = "enabled";
+		public static final String RETENTION = "retention";
+	}
+
+	/**
+	 * Configuration property keys for replication, without the {@link #REPLICATION_PREFIX prefix}.
+	 */
+	public static final class ReplicationRadicals {
+
+		private ReplicationRadicals() {
+		}
+
+		public static final String ROLE = "role";
+		public static final String TRANSPORT = "transport";
+		public static final String SHARED_FILESYSTEM_ROOT = "shared_filesystem.root";
+		public static final String POLL_INTERVAL = "poll_interval";
+	}
+
+	/**
+	 * Configuration property keys for backups, without the {@link #BACKUP_PREFIX prefix}.
+	 */
+	public static final class BackupRadicals {
+
+		private BackupRadicals() {
+		}
+
+		public static final String RESTORE_PATH = "restore_path";
 	}
 
 	/**
@@ -464,6 +1014,21 @@ private MergeRadicals() {
 
 	}
 
+	/**
+	 * Configuration property keys for bulk-load mode, without the {@link #IO_BULK_LOAD_PREFIX prefix}.
+	 */
+	public static final class BulkLoadRadicals {
+
+		private BulkLoadRadicals() {
+		}
+
+		public static final String AUTOMATIC = "automatic";
+		public static final String RAM_BUFFER_SIZE = "ram_buffer_size";
+		public static final String MERGE_FACTOR = "merge_factor";
+		public static final String OFFLINE_BUILD = "offline_build";
+
+	}
+
 	/**
 	 * Configuration property keys for sharding, without the {@link #SHARDING_PREFIX prefix}.
 	 */
@@ -487,6 +1052,20 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String MAX_CONCURRENCY = "max_concurrency";
+		public static final String SORT = "sort";
+		public static final String DOC_VALUES_UPDATES = "doc_values_updates";
+	}
+
+	/**
+	 * Configuration property keys for search, without the {@link #SEARCH_PREFIX prefix}.
+	 */
+	public static final class SearchRadicals {
+
+		private SearchRadicals() {
+		}
+
+		public static final String RESULT_CACHE_MAX_ENTRIES = "result_cache.max_entries";
 	}
 
 	/**
@@ -499,13 +1078,30 @@ private Defaults() {
 
 		public static final String DIRECTORY_TYPE = "local-filesystem";
 		public static final String DIRECTORY_ROOT = ".";
+		public static final long DIRECTORY_CACHE_MAX_SIZE = 1024L;
 		public static final FileSystemAccessStrategyName DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 				FileSystemAccessStrategyName.AUTO;
 		public static final String SHARDING_STRATEGY = "none";
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
+		public static final int IO_COMMIT_MAX_CHANGES = 10_000;
+		public static final int IO_COMMIT_MAX_RAM_USAGE = 64;
+		public static final int IO_COMMIT_IDLE_INTERVAL = 200;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_REFRESH_BACKGROUND = false;
+		public static final boolean IO_TRANSLOG_ENABLED = false;
+		public static final boolean IO_BULK_LOAD_AUTOMATIC = true;
+		public static final int IO_BULK_LOAD_RAM_BUFFER_SIZE = 256;
+		public static final int IO_BULK_LOAD_MERGE_FACTOR = 30;
+		public static final boolean IO_BULK_LOAD_OFFLINE_BUILD = false;
+		public static final boolean IO_SOFT_DELETES_ENABLED = false;
+		public static final int IO_SOFT_DELETES_RETENTION = 0;
+		public static final ReplicationRoleName REPLICATION_ROLE = ReplicationRoleName.NONE;
+		public static final String REPLICATION_TRANSPORT = "shared-filesystem";
+		public static final int REPLICATION_POLL_INTERVAL = 1000;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final boolean INDEXING_DOC_VALUES_UPDATES = false;
+		public static final int SEARCH_RESULT_CACHE_MAX_ENTRIES = 0;
 	}
 }
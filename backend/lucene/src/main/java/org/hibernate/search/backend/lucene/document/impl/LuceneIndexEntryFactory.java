@@ -4,27 +4,86 @@
  */
 package org.hibernate.search.backend.lucene.document.impl;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.IndexableField;
+
 public class LuceneIndexEntryFactory {
 
 	private final LuceneIndexModel model;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final Set<String> docValuesUpdatableFieldPaths;
 
-	public LuceneIndexEntryFactory(LuceneIndexModel model, MultiTenancyStrategy multiTenancyStrategy) {
+	public LuceneIndexEntryFactory(LuceneIndexModel model, MultiTenancyStrategy multiTenancyStrategy,
+			Set<String> docValuesUpdatableFieldPaths) {
 		this.model = model;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.docValuesUpdatableFieldPaths = docValuesUpdatableFieldPaths;
 	}
 
 	public LuceneIndexEntry create(String tenantId, String id, String routingKey,
 			DocumentContributor documentContributor) {
 		LuceneRootDocumentBuilder builder = new LuceneRootDocumentBuilder(
-				model, multiTenancyStrategy
+				model, multiTenancyStrategy, docValuesUpdatableFieldPaths
 		);
 		documentContributor.contribute( builder );
 		return builder.build( tenantId, id, routingKey );
 	}
 
+	public boolean isDocValuesUpdatable(String absoluteFieldPath) {
+		return docValuesUpdatableFieldPaths.contains( absoluteFieldPath );
+	}
+
+	/**
+	 * @param indexEntry An index entry.
+	 * @param updatedFields References to fields of the index.
+	 * @return The doc values updates that would bring the given fields of an existing document
+	 * to the values they have in the given entry,
+	 * or {@code null} if some of the given fields cannot be updated in place.
+	 */
+	public Field[] createDocValuesUpdatesOrNull(LuceneIndexEntry indexEntry,
+			Collection<? extends IndexFieldReference<?>> updatedFields) {
+		if ( updatedFields.isEmpty() ) {
+			return null;
+		}
+		List<Document> documents = indexEntry.documents();
+		// Nested documents come first: the root document is always the last one.
+		Document rootDocument = documents.get( documents.size() - 1 );
+		Field[] updates = new Field[updatedFields.size()];
+		int i = 0;
+		for ( IndexFieldReference<?> updatedField : updatedFields ) {
+			if ( !( updatedField instanceof LuceneIndexFieldReference<?> luceneUpdatedField )
+					|| luceneUpdatedField.getSchemaNode() == null ) {
+				return null;
+			}
+			String absoluteFieldPath = luceneUpdatedField.getSchemaNode().absolutePath();
+			if ( !isDocValuesUpdatable( absoluteFieldPath ) ) {
+				return null;
+			}
+			updates[i++] = createDocValuesUpdate( rootDocument, absoluteFieldPath );
+		}
+		return updates;
+	}
+
+	private static Field createDocValuesUpdate(Document rootDocument, String absoluteFieldPath) {
+		for ( IndexableField field : rootDocument.getFields( absoluteFieldPath ) ) {
+			if ( DocValuesType.NUMERIC.equals( field.fieldType().docValuesType() ) ) {
+				return (Field) field;
+			}
+		}
+		// No value: the update will remove the previous value, if any.
+		return new NumericDocValuesField( absoluteFieldPath, (Long) null );
+	}
+
 }
@@ -16,6 +16,7 @@
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneDefaultAnalysisConfigurer;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurationContext;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurer;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCache;
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.logging.impl.AnalysisLog;
@@ -67,6 +68,28 @@ public class LuceneBackendFactory implements BackendFactory {
 							.multivalued()
 							.build();
 
+	private static final OptionalConfigurationProperty<Integer> QUERY_CACHING_MAX_QUERIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHING_MAX_QUERIES )
+					.asIntegerStrictlyPositive()
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> QUERY_CACHING_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHING_MAX_SIZE )
+					.asLongStrictlyPositive()
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_SLICE_MAX_DOCS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_SLICE_MAX_DOCS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_SLICE_MAX_DOCS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_SLICE_MAX_SEGMENTS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_SLICE_MAX_SEGMENTS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_SLICE_MAX_SEGMENTS )
+					.build();
+
 	@Override
 	public BackendImplementor create(EventContext eventContext, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -86,6 +109,9 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 			LuceneQueryCachingContext cachingContext = new LuceneQueryCachingContext( luceneVersion );
 
 			configureQueryCache( buildContext, propertySource, cachingContext );
+			QUERY_CACHING_MAX_QUERIES.get( propertySource ).ifPresent( maxQueries -> cachingContext
+					.createBuiltInQueryCacheIfNecessary( maxQueries, QUERY_CACHING_MAX_SIZE.get( propertySource )
+							.orElseGet( LuceneQueryCache::defaultMaxRamBytesUsed ) ) );
 
 			return new LuceneBackendImpl(
 					buildContext.backendName(),
@@ -94,6 +120,8 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					new LuceneWorkFactory( multiTenancyStrategy ),
 					analysisDefinitionRegistry,
 					cachingContext,
+					SEARCH_SLICE_MAX_DOCS.get( propertySource ),
+					SEARCH_SLICE_MAX_SEGMENTS.get( propertySource ),
 					multiTenancyStrategy,
 					buildContext.timingSource(),
 					buildContext.failureHandler()
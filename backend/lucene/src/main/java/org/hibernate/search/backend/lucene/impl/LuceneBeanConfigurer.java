@@ -11,7 +11,15 @@
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalFileSystemDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalHeapDirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalOffHeapDirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.TieredFileSystemDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.FieldDataIndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.SharedFileSystemReplicationTransport;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.AdaptiveCommitPolicy;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicy;
 import org.hibernate.search.backend.lucene.resources.impl.DefaultLuceneWorkExecutorProvider;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -34,6 +42,26 @@ public void configure(BeanConfigurationContext context) {
 				DirectoryProvider.class, LocalHeapDirectoryProvider.NAME,
 				beanResolver -> BeanHolder.of( new LocalHeapDirectoryProvider() )
 		);
+		context.define(
+				DirectoryProvider.class, LocalOffHeapDirectoryProvider.NAME,
+				beanResolver -> BeanHolder.of( new LocalOffHeapDirectoryProvider() )
+		);
+		context.define(
+				DirectoryProvider.class, TieredFileSystemDirectoryProvider.NAME,
+				beanResolver -> BeanHolder.of( new TieredFileSystemDirectoryProvider() )
+		);
+		context.define(
+				IndexReaderWarmer.class, FieldDataIndexReaderWarmer.NAME,
+				beanResolver -> BeanHolder.of( new FieldDataIndexReaderWarmer() )
+		);
+		context.define(
+				CommitPolicy.class, AdaptiveCommitPolicy.NAME,
+				beanResolver -> BeanHolder.of( new AdaptiveCommitPolicy() )
+		);
+		context.define(
+				ReplicationTransport.class, SharedFileSystemReplicationTransport.NAME,
+				beanResolver -> BeanHolder.of( new SharedFileSystemReplicationTransport() )
+		);
 		context.define(
 				ShardingStrategy.class, NoShardingStrategy.NAME,
 				beanResolver -> BeanHolder.of( new NoShardingStrategy() )
@@ -4,9 +4,14 @@
  */
 package org.hibernate.search.backend.lucene.index;
 
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cache.SearchResultCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.util.common.annotation.Incubating;
@@ -49,4 +54,84 @@ public interface LuceneIndexManager extends IndexManager {
 	@Incubating
 	CompletionStage<Long> computeSizeInBytesAsync(OperationSubmitter operationSubmitter);
 
+	/**
+	 * Switches the index to bulk-load mode, blocking until the switch is complete.
+	 * <p>
+	 * In bulk-load mode, the index writer buffers more changes in memory and merges segments less often,
+	 * search queries keep using the index readers that were open when bulk-load mode started,
+	 * and commits are deferred until bulk-load mode ends.
+	 * Changes are thus neither visible in search queries nor durable until {@link #endBulkLoad()} is called,
+	 * unless a refresh or commit is explicitly requested.
+	 * <p>
+	 * Calls can be nested: the index leaves bulk-load mode when every call
+	 * has been matched by a call to {@link #endBulkLoad()}.
+	 * <p>
+	 * Mass indexing switches indexes to bulk-load mode automatically,
+	 * unless disabled through {@link LuceneIndexSettings#IO_BULK_LOAD_AUTOMATIC}.
+	 *
+	 * @see LuceneIndexSettings#IO_BULK_LOAD_PREFIX
+	 */
+	@Incubating
+	void beginBulkLoad();
+
+	/**
+	 * Leaves bulk-load mode, blocking until normal settings are restored
+	 * and all changes are committed and visible in search queries.
+	 *
+	 * @see #beginBulkLoad()
+	 */
+	@Incubating
+	void endBulkLoad();
+
+	/**
+	 * Backs up the index to a directory, blocking until the backup is complete.
+	 * <p>
+	 * Pending changes are committed, then the resulting commit is copied to the given directory
+	 * while indexing continues: the commit is guaranteed not to be deleted until the copy is complete.
+	 * <p>
+	 * Backups are incremental: backing up again to the same directory only copies the segment files
+	 * that were not present in the previous backup, and deletes those that are no longer needed.
+	 * If the index is sharded, each shard is backed up to a subdirectory named after the shard identifier.
+	 * <p>
+	 * A backup can be restored on startup through {@link LuceneIndexSettings#BACKUP_RESTORE_PATH}.
+	 *
+	 * @param target The directory to back up the index to. Created if necessary.
+	 */
+	@Incubating
+	void backup(Path target);
+
+	/**
+	 * @param target The directory to back up the index to. Created if necessary.
+	 * @return A future that will ultimately be completed when the backup is complete.
+	 * @see #backup(Path)
+	 */
+	@Incubating
+	CompletionStage<?> backupAsync(Path target);
+
+	/**
+	 * @return Statistics about the search result cache of this index,
+	 * or {@link Optional#empty()} if the search result cache is disabled.
+	 * @see LuceneIndexSettings#SEARCH_RESULT_CACHE_MAX_ENTRIES
+	 */
+	@Incubating
+	Optional<SearchResultCacheStatistics> searchResultCacheStatistics();
+
+	/**
+	 * @return Statistics about the indexing queues of this index, across all its shards,
+	 * e.g. the number of works waiting to be processed.
+	 * @see LuceneIndexSettings#INDEXING_MAX_CONCURRENCY
+	 */
+	@Incubating
+	IndexingQueueStatistics indexingQueueStatistics();
+
+	/**
+	 * @return The amount of memory used to store the files of this index, across all its shards, in bytes,
+	 * or {@link OptionalLong#empty()} if the directory type does not report its memory usage,
+	 * i.e. with any directory type other than {@code local-offheap}.
+	 * @see LuceneIndexSettings#DIRECTORY_TYPE
+	 * @see LuceneIndexSettings#DIRECTORY_MAX_MEMORY
+	 */
+	@Incubating
+	OptionalLong directoryMemoryUsageInBytes();
+
 }
@@ -0,0 +1,11 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import org.hibernate.search.backend.lucene.index.IndexingQueueStatistics;
+
+record IndexingQueueStatisticsImpl(long queuedWorkCount, int waitingQueueCount, int processingQueueCount)
+		implements IndexingQueueStatistics {
+}
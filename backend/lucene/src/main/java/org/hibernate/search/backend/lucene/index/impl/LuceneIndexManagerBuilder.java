@@ -4,26 +4,47 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexRootBuilder;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexField;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexValueField;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.impl.LuceneIndexValueFieldType;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexRootBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
+import org.hibernate.search.engine.backend.metamodel.IndexFieldDescriptor;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
 public class LuceneIndexManagerBuilder implements IndexManagerBuilder {
 
+	private static final ConfigurationProperty<Boolean> INDEXING_DOC_VALUES_UPDATES =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_DOC_VALUES_UPDATES )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_DOC_VALUES_UPDATES )
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 
 	private final String indexName;
 	private final LuceneIndexRootBuilder schemaRootNodeBuilder;
+	private final boolean docValuesUpdates;
 
 	public LuceneIndexManagerBuilder(IndexManagerBackendContext backendContext,
 			String indexName,
-			LuceneIndexRootBuilder schemaRootNodeBuilder) {
+			LuceneIndexRootBuilder schemaRootNodeBuilder,
+			ConfigurationPropertySource propertySource) {
 		this.backendContext = backendContext;
 		this.indexName = indexName;
 		this.schemaRootNodeBuilder = schemaRootNodeBuilder;
+		this.docValuesUpdates = INDEXING_DOC_VALUES_UPDATES.get( propertySource );
 	}
 
 	@Override
@@ -41,7 +62,13 @@ public LuceneIndexManagerImpl build() {
 		LuceneIndexModel model = null;
 		try {
 			model = schemaRootNodeBuilder.build( indexName );
-			LuceneIndexEntryFactory indexEntryFactory = backendContext.createLuceneIndexEntryFactory( model );
+			// Updates select documents by their identifier, which nested documents share with their root document:
+			// updating doc values in place would affect nested documents too.
+			Set<String> docValuesUpdatableFieldPaths = docValuesUpdates && !model.hasNestedDocuments()
+					? docValuesUpdatableFieldPaths( model )
+					: Collections.emptySet();
+			LuceneIndexEntryFactory indexEntryFactory =
+					backendContext.createLuceneIndexEntryFactory( model, docValuesUpdatableFieldPaths );
 			return new LuceneIndexManagerImpl(
 					backendContext, indexName, model, indexEntryFactory
 			);
@@ -52,4 +79,28 @@ public LuceneIndexManagerImpl build() {
 			throw e;
 		}
 	}
+
+	/*
+	 * Lucene can only update NUMERIC doc values in place,
+	 * i.e. a single value per document, for fields that are not indexed in any other way.
+	 * We also need the field to be in the root document, since updates select documents by their identifier.
+	 */
+	private static Set<String> docValuesUpdatableFieldPaths(LuceneIndexModel model) {
+		Set<String> result = new LinkedHashSet<>();
+		for ( IndexFieldDescriptor descriptor : model.staticFields() ) {
+			LuceneIndexField field = (LuceneIndexField) descriptor;
+			if ( !field.isValueField() ) {
+				continue;
+			}
+			LuceneIndexValueField<?> valueField = field.toValueField();
+			LuceneIndexValueFieldType<?> type = valueField.type();
+			if ( type.codec() instanceof AbstractLuceneNumericFieldCodec
+					&& ( type.sortable() || type.aggregable() )
+					&& !type.searchable() && !type.projectable()
+					&& !valueField.multiValuedInRoot() && valueField.nestedDocumentPath() == null ) {
+				result.add( valueField.absolutePath() );
+			}
+		}
+		return result;
+	}
 }
@@ -5,24 +5,43 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.logging.impl.ConfigurationLog;
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.lowlevel.backup.impl.IndexBackups;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryCreationContextImpl;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderWarmup;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.replication.ReplicationRoleName;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicaSynchronizer;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicationChannelCreationContextImpl;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicationPublisher;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.CommitPolicyInitializationContextImpl;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
+import org.hibernate.search.backend.lucene.resources.impl.WriteTaskScheduler;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.resources.spi.SavedState;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -32,6 +51,7 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.search.Sort;
 
 public final class Shard {
 
@@ -41,6 +61,60 @@ public final class Shard {
 					.withDefault( BeanReference.of( DirectoryProvider.class, LuceneIndexSettings.Defaults.DIRECTORY_TYPE ) )
 					.build();
 
+	private static final OptionalConfigurationProperty<
+			List<BeanReference<? extends IndexReaderWarmer>>> READER_WARMER =
+					ConfigurationProperty.forKey( LuceneIndexSettings.IO_READER_WARMER )
+							.asBeanReference( IndexReaderWarmer.class )
+							.multivalued()
+							.build();
+
+	private static final ConfigurationProperty<Integer> COMMIT_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_INTERVAL )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_INTERVAL )
+					.build();
+
+	private static final OptionalConfigurationProperty<BeanReference<? extends CommitPolicy>> COMMIT_POLICY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_POLICY )
+					.asBeanReference( CommitPolicy.class )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> TRANSLOG_ENABLED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_TRANSLOG_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_TRANSLOG_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> BULK_LOAD_OFFLINE_BUILD =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_BULK_LOAD_OFFLINE_BUILD )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_BULK_LOAD_OFFLINE_BUILD )
+					.build();
+
+	private static final ConfigurationProperty<ReplicationRoleName> REPLICATION_ROLE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.REPLICATION_ROLE )
+					.as( ReplicationRoleName.class, ReplicationRoleName::of )
+					.withDefault( LuceneIndexSettings.Defaults.REPLICATION_ROLE )
+					.build();
+
+	private static final ConfigurationProperty<BeanReference<? extends ReplicationTransport>> REPLICATION_TRANSPORT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.REPLICATION_TRANSPORT )
+					.asBeanReference( ReplicationTransport.class )
+					.withDefault( BeanReference.of( ReplicationTransport.class,
+							LuceneIndexSettings.Defaults.REPLICATION_TRANSPORT ) )
+					.build();
+
+	private static final ConfigurationProperty<Integer> REPLICATION_POLL_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.REPLICATION_POLL_INTERVAL )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.REPLICATION_POLL_INTERVAL )
+					.build();
+
+	private static final OptionalConfigurationProperty<Path> BACKUP_RESTORE_PATH =
+			ConfigurationProperty.forKey( LuceneIndexSettings.BACKUP_RESTORE_PATH )
+					.as( Path.class, Paths::get )
+					.build();
+
 	private static final SavedState.Key<DirectoryHolder> DIRECTORY_HOLDER_KEY = SavedState.key( "directory_holder" );
 
 	private final Optional<String> shardId;
@@ -48,7 +122,13 @@ public final class Shard {
 	private final LuceneIndexModel model;
 
 	private DirectoryHolder directoryHolder;
+	private BeanHolder<List<IndexReaderWarmer>> readerWarmersHolder;
+	private BeanHolder<? extends CommitPolicy> commitPolicyHolder;
+	private Translog translog;
+	private ReplicationRoleName replicationRole;
+	private ReplicationChannel replicationChannel;
 	private IndexAccessorImpl indexAccessor;
+	private ReplicaSynchronizer replicaSynchronizer;
 	private LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 	private LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
 
@@ -89,42 +169,114 @@ void preStart(ConfigurationPropertySource propertySource, BeanResolver beanResol
 				}
 				directoryHolder.start();
 			}
+			readerWarmersHolder = READER_WARMER.getAndMap( propertySource, beanResolver::resolve ).orElse( null );
+			commitPolicyHolder = COMMIT_POLICY.getAndMap( propertySource, beanResolver::resolve ).orElse( null );
+			if ( commitPolicyHolder != null ) {
+				commitPolicyHolder.get().initialize( new CommitPolicyInitializationContextImpl(
+						model.hibernateSearchName(), shardId, COMMIT_INTERVAL.get( propertySource ),
+						beanResolver, propertySource.withMask( "io.commit" ) ) );
+			}
+			replicationRole = REPLICATION_ROLE.get( propertySource );
+			if ( replicationRole != ReplicationRoleName.NONE ) {
+				try ( BeanHolder<? extends ReplicationTransport> transportHolder =
+						REPLICATION_TRANSPORT.getAndTransform( propertySource, beanResolver::resolve ) ) {
+					String indexName = model.hibernateSearchName();
+					replicationChannel = transportHolder.get().createChannel( new ReplicationChannelCreationContextImpl(
+							EventContexts.fromIndexNameAndShardId( indexName, shardId ), indexName, shardId,
+							beanResolver, propertySource.withMask( "replication" ) ) );
+				}
+			}
 		}
 		catch (IOException | RuntimeException e) {
 			throw LuceneMiscLog.INSTANCE.unableToStartShard( e.getMessage(), e );
 		}
 	}
 
-	void start(ConfigurationPropertySource propertySource) {
+	void start(ConfigurationPropertySource propertySource, Sort indexSortOrNull,
+			WriteTaskScheduler.Group indexingTaskGroup) {
 		String indexName = model.hibernateSearchName();
 		EventContext indexAndShardEventContext = EventContexts.fromIndexNameAndShardId( indexName, shardId );
 		try {
-			IOStrategy ioStrategy = backendContext.createIOStrategy( propertySource );
+			boolean replica = replicationRole == ReplicationRoleName.REPLICA;
+			// Replicas never write to their index: the configured I/O strategy is irrelevant.
+			IOStrategy ioStrategy = replica
+					? backendContext.createReplicaIOStrategy()
+					: backendContext.createIOStrategy( propertySource );
+			IndexReaderWarmup readerWarmup = readerWarmersHolder == null || readerWarmersHolder.get().isEmpty()
+					? null
+					: new IndexReaderWarmup( indexName, shardId, indexAndShardEventContext, readerWarmersHolder.get() );
+			if ( TRANSLOG_ENABLED.get( propertySource ) ) {
+				if ( replica ) {
+					throw ConfigurationLog.INSTANCE.replicaIncompatibleWithTranslog();
+				}
+				if ( BULK_LOAD_OFFLINE_BUILD.get( propertySource ) ) {
+					// Commits during an offline build would trim the translog
+					// even though they don't include documents added to temporary indexes.
+					throw ConfigurationLog.INSTANCE.offlineBuildIncompatibleWithTranslog();
+				}
+				translog = Translog.open( directoryHolder.localFileSystemPath()
+						.orElseThrow( ConfigurationLog.INSTANCE::translogRequiresLocalFileSystemDirectory ),
+						indexAndShardEventContext );
+			}
+			Optional<Path> backupRestorePath = BACKUP_RESTORE_PATH.get( propertySource );
+			if ( backupRestorePath.isPresent() ) {
+				restoreBackupIfMissing( backupRestorePath.get(), indexAndShardEventContext );
+			}
 			indexAccessor = backendContext.createIndexAccessor( model, indexAndShardEventContext, directoryHolder,
-					ioStrategy, propertySource );
+					ioStrategy, readerWarmup, indexSortOrNull, propertySource, translog,
+					commitPolicyHolder == null ? null : commitPolicyHolder.get(),
+					replicationRole == ReplicationRoleName.PRIMARY
+							? backendContext.createReplicationPublisher( indexAndShardEventContext, replicationChannel )
+							: null );
+			// Recover changes that were not committed before the previous shutdown, before accepting new ones.
+			backendContext.replayTranslog( model, indexAndShardEventContext, indexAccessor );
 			managementOrchestrator =
 					backendContext.createIndexManagementOrchestrator( indexAndShardEventContext, indexAccessor );
 			indexingOrchestrator =
-					backendContext.createIndexingOrchestrator( indexAndShardEventContext, indexAccessor );
+					backendContext.createIndexingOrchestrator( indexAndShardEventContext, indexAccessor,
+							indexingTaskGroup );
 
 			managementOrchestrator.start( propertySource );
 			indexingOrchestrator.start( propertySource );
+
+			if ( replica ) {
+				replicaSynchronizer = backendContext.createReplicaSynchronizer( indexAndShardEventContext,
+						directoryHolder, replicationChannel, indexAccessor, REPLICATION_POLL_INTERVAL.get( propertySource ) );
+				replicaSynchronizer.start();
+			}
 		}
-		catch (RuntimeException e) {
+		catch (IOException | RuntimeException e) {
 			throw LuceneMiscLog.INSTANCE.unableToStartShard( e.getMessage(), e );
 		}
 	}
 
+	private void restoreBackupIfMissing(Path backupRestorePath, EventContext indexAndShardEventContext) {
+		// Same layout as backups: one subdirectory per shard.
+		Path source = shardId.map( backupRestorePath::resolve ).orElse( backupRestorePath ).toAbsolutePath();
+		try {
+			IndexBackups.restoreIfMissing( source, directoryHolder.get(), indexAndShardEventContext );
+		}
+		catch (IOException | RuntimeException e) {
+			throw LuceneMiscLog.INSTANCE.unableToRestoreIndex( e.getMessage(), source, indexAndShardEventContext, e );
+		}
+	}
+
 	CompletableFuture<?> preStop() {
 		return indexingOrchestrator.preStop();
 	}
 
 	void stop() {
 		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( ReplicaSynchronizer::stop, replicaSynchronizer );
 			closer.push( LuceneSerialWorkOrchestratorImpl::stop, indexingOrchestrator );
 			closer.push( LuceneParallelWorkOrchestratorImpl::stop, managementOrchestrator );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
 			closer.push( IndexAccessorImpl::close, indexAccessor );
+			closer.push( Translog::close, translog );
+			// Close the replication channel after the index writer, which publishes its last commit when closing.
+			closer.push( ReplicationChannel::close, replicationChannel );
+			closer.push( BeanHolder::close, readerWarmersHolder );
+			closer.push( BeanHolder::close, commitPolicyHolder );
 			if ( !savedForRestart ) {
 				closer.push( DirectoryHolder::close, directoryHolder );
 			}
@@ -146,6 +298,14 @@ LuceneSerialWorkOrchestrator indexingOrchestrator() {
 		return indexingOrchestrator;
 	}
 
+	int queuedWorkCount() {
+		return indexingOrchestrator.queuedWorkCount();
+	}
+
+	OptionalLong directoryMemoryUsageInBytes() {
+		return directoryHolder.memoryUsageInBytes();
+	}
+
 	LuceneParallelWorkOrchestrator managementOrchestrator() {
 		return managementOrchestrator;
 	}
@@ -128,4 +128,63 @@ void recommendConfiguringLuceneVersion(String key, Version latest,
 	@LogMessage(level = Logger.Level.DEBUG)
 	@Message(id = ID_OFFSET + 188, value = "Setting Lucene compatibility to Version %s")
 	void luceneCompatibilityVersion(Version luceneVersion);
+
+	@Message(id = ID_OFFSET + 196,
+			value = "Invalid I/O configuration: background refresh of index readers requires"
+					+ " a strictly positive refresh interval, but the refresh interval is set to 0.")
+	SearchException backgroundRefreshRequiresRefreshInterval();
+
+	@Message(id = ID_OFFSET + 198,
+			value = "Invalid index sort: unknown field '%1$s'. The index sort must reference value fields of the index.")
+	SearchException indexSortUnknownField(String absoluteFieldPath);
+
+	@Message(id = ID_OFFSET + 199,
+			value = "Invalid index sort: field '%1$s' cannot be used to sort the index."
+					+ " The index sort must reference sortable fields of type String or of a numeric or temporal type,"
+					+ " outside of nested documents.")
+	SearchException indexSortUnsupportedField(String absoluteFieldPath);
+
+	@Message(id = ID_OFFSET + 200,
+			value = "Invalid index sort: invalid sort order '%1$s' for field '%2$s'. Valid orders are: %3$s.")
+	SearchException indexSortInvalidOrder(String order, String absoluteFieldPath, List<String> validOrders);
+
+	@Message(id = ID_OFFSET + 205,
+			value = "Invalid I/O configuration: the translog requires index files to be stored on the local filesystem."
+					+ " Use the 'local-filesystem' directory type or disable the translog.")
+	SearchException translogRequiresLocalFileSystemDirectory();
+
+	@Message(id = ID_OFFSET + 214,
+			value = "Invalid I/O configuration: the offline build of indexes in bulk-load mode cannot be combined with the translog."
+					+ " Disable either the offline build or the translog.")
+	SearchException offlineBuildIncompatibleWithTranslog();
+
+	@Message(id = ID_OFFSET + 217,
+			value = "Invalid index sort: field '%1$s' cannot be used to sort the index,"
+					+ " because doc values updates are enabled and this field's doc values may be updated in place."
+					+ " Disable doc values updates, or make the field searchable or projectable.")
+	SearchException indexSortDocValuesUpdatableField(String absoluteFieldPath);
+
+	@Message(id = ID_OFFSET + 219,
+			value = "Invalid replication role: '%1$s'. Valid roles are: %2$s.")
+	SearchException invalidReplicationRoleName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 220,
+			value = "When using replication transport '%1$s', this configuration property must be set.")
+	SearchException missingPropertyValueForReplicationTransport(String transportName);
+
+	@Message(id = ID_OFFSET + 221,
+			value = "Invalid replication configuration: a replica cannot use the translog,"
+					+ " because it never writes to its index and only receives commits from the primary."
+					+ " Disable the translog on replicas.")
+	SearchException replicaIncompatibleWithTranslog();
+
+	@Message(id = ID_OFFSET + 232,
+			value = "When using directory type '%1$s', this configuration property must be set.")
+	SearchException missingPropertyValueForDirectoryType(String directoryType);
+
+	@Message(id = ID_OFFSET + 234,
+			value = "Invalid I/O configuration: the 'adaptive' commit policy requires"
+					+ " a strictly positive commit interval, but the commit interval is set to 0."
+					+ " Either set the commit interval to a strictly positive value or remove the commit policy.")
+	SearchException adaptiveCommitPolicyRequiresCommitInterval();
 }
@@ -94,4 +94,15 @@ SearchException invalidFieldValueType(@FormatWith(ClassFormatter.class) Class<?>
 	@Message(id = ID_OFFSET + 185, value = "The dot product vector similarity cannot process non-unit magnitude vectors. "
 			+ "The vector violating this constraint is %1$s.")
 	SearchException vectorDotProductNonUnitMagnitudeNotAcceptable(Object vector);
+
+	@Message(id = ID_OFFSET + 211,
+			value = "Unable to record field '%1$s' in the translog:"
+					+ " fields whose value is a Reader or a TokenStream are not supported.")
+	SearchException unsupportedFieldForTranslog(String absoluteFieldPath);
+
+	@Message(id = ID_OFFSET + 222,
+			value = "Unable to write to the index: this index is a read-only replica,"
+					+ " which only receives changes through replication from the primary."
+					+ " Send write operations to the primary instead.")
+	SearchException writeToReplica(@Param EventContext context);
 }
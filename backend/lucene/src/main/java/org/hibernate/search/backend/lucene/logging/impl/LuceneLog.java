@@ -63,6 +63,6 @@
 	 * here to the next value.
 	 */
 	@LogMessage(level = TRACE)
-	@Message(id = ID_OFFSET + 196, value = "")
+	@Message(id = ID_OFFSET + 236, value = "")
 	void nextLoggerIdForConvenience();
 }
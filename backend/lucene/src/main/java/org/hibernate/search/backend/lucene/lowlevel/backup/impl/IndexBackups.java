@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.backup.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicationFiles;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationCommit;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+
+/**
+ * Backs up index commits to a filesystem directory, and restores them.
+ * <p>
+ * The backup directory always contains a single commit, the latest one:
+ * backing up again to the same directory only copies the files that changed since the previous backup,
+ * then deletes the files that are no longer referenced.
+ */
+public final class IndexBackups {
+
+	private IndexBackups() {
+	}
+
+	/**
+	 * @param commit A commit, which must not be deleted until this method returns,
+	 * e.g. a commit pinned through a {@link org.apache.lucene.index.SnapshotDeletionPolicy}.
+	 * @param target The directory to back up the commit to. Created if necessary.
+	 * @param eventContext The event context of the index.
+	 * @return The number of copied files, excluding the "segments_N" file.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public static int backup(IndexCommit commit, Path target, EventContext eventContext) throws IOException {
+		Directory source = commit.getDirectory();
+		ReplicationCommit commitFiles = ReplicationCommit.read( source, commit.getSegmentsFileName() );
+		Files.createDirectories( target );
+		try ( Directory targetDirectory = FSDirectory.open( target ) ) {
+			int copiedFileCount = ReplicationFiles.copyCommit( commitFiles, targetDirectory,
+					(fileName, targetFileName) -> targetDirectory.copyFrom( source, fileName, targetFileName,
+							IOContext.DEFAULT ) );
+			ReplicationFiles.deleteAllExcept( targetDirectory, ReplicationFiles.fileNames( commitFiles ) );
+			LuceneMiscLog.INSTANCE.backedUpCommit( commit.getSegmentsFileName(), target, copiedFileCount,
+					eventContext );
+			return copiedFileCount;
+		}
+	}
+
+	/**
+	 * Restores the latest commit of a backup, unless an index already exists in the target directory.
+	 *
+	 * @param source The directory containing the backup.
+	 * @param target The directory of the index to restore.
+	 * @param eventContext The event context of the index.
+	 * @return {@code true} if the backup was restored, {@code false} if an index already existed.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public static boolean restoreIfMissing(Path source, Directory target, EventContext eventContext)
+			throws IOException {
+		if ( DirectoryReader.indexExists( target ) ) {
+			return false;
+		}
+		if ( !Files.isDirectory( source ) ) {
+			throw LuceneMiscLog.INSTANCE.missingBackup( source );
+		}
+		try ( Directory sourceDirectory = FSDirectory.open( source ) ) {
+			String segmentsFileName = SegmentInfos.getLastCommitSegmentsFileName( sourceDirectory );
+			if ( segmentsFileName == null ) {
+				throw LuceneMiscLog.INSTANCE.missingBackup( source );
+			}
+			ReplicationCommit commit = ReplicationCommit.read( sourceDirectory, segmentsFileName );
+			int copiedFileCount = ReplicationFiles.copyCommit( commit, target,
+					(fileName, targetFileName) -> target.copyFrom( sourceDirectory, fileName, targetFileName,
+							IOContext.DEFAULT ) );
+			LuceneMiscLog.INSTANCE.restoredIndex( source, copiedFileCount, eventContext );
+			return true;
+		}
+	}
+}
@@ -5,19 +5,22 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.ChildDocIds;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
-import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LoadedStoredFields;
+import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableStoredFieldVisitor;
 import org.hibernate.search.util.common.AssertionFailure;
 
 import com.carrotsearch.hppc.IntObjectHashMap;
 import com.carrotsearch.hppc.IntObjectMap;
 
 import org.apache.lucene.document.Document;
-import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.StoredFields;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Weight;
@@ -28,16 +31,21 @@
  * <strong>WARNING:</strong> this relies on reader.document() to load the value of stored field
  * for <strong>each single matching document</strong>,
  * Use with care.
+ * <p>
+ * Loaded values are kept in {@link LoadedStoredFields} buffers that get reused from one collected document to the next,
+ * so {@link Values} implementations must extract what they need from these buffers
+ * before the next document gets collected.
  */
 public class StoredFieldsValuesDelegate {
 	public static class Factory {
-		private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+		private final boolean requireAllStoredFields;
+		private final Set<String> requiredStoredFields;
 		private final Set<String> requiredNestedDocumentPathsForStoredFields;
 
-		public Factory(ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+		public Factory(boolean requireAllStoredFields, Set<String> requiredStoredFields,
 				Set<String> requiredNestedDocumentPathsForStoredFields) {
-
-			this.storedFieldVisitor = storedFieldVisitor;
+			this.requireAllStoredFields = requireAllStoredFields;
+			this.requiredStoredFields = requiredStoredFields;
 			this.requiredNestedDocumentPathsForStoredFields = requiredNestedDocumentPathsForStoredFields;
 		}
 
@@ -50,29 +58,34 @@ public StoredFieldsValuesDelegate create(CollectorExecutionContext context) thro
 				nestedDocsProvider = context.createNestedDocsProvider( requiredNestedDocumentPathsForStoredFields );
 			}
 
+			// The visitor holds per-segment state, so we need one per delegate.
+			ReusableStoredFieldVisitor storedFieldVisitor =
+					new ReusableStoredFieldVisitor( requireAllStoredFields, requiredStoredFields );
 			return new StoredFieldsValuesDelegate( nestedDocsProvider, storedFieldVisitor, context.getIndexSearcher() );
 		}
 	}
 
 	private final NestedDocsProvider nestedDocsProvider;
 	private final Weight childrenWeight;
-	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+	private final ReusableStoredFieldVisitor storedFieldVisitor;
 
 	private ChildDocIds currentLeafChildDocs;
-	private LeafReader currentLeafReader;
+	private StoredFields currentLeafStoredFields;
 
 	private int currentRootDoc;
-	private Document currentRootDocValue;
-	private final IntObjectMap<Document> currentChildDocValues;
+	private final LoadedStoredFields currentRootDocValue = new LoadedStoredFields();
+	private final IntObjectMap<LoadedStoredFields> currentChildDocValues;
+	private final List<LoadedStoredFields> childDocValuesPool;
 
 	public StoredFieldsValuesDelegate(NestedDocsProvider nestedDocsProvider,
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+			ReusableStoredFieldVisitor storedFieldVisitor,
 			IndexSearcher indexSearcher)
 			throws IOException {
 		this.childrenWeight = nestedDocsProvider == null ? null : nestedDocsProvider.childDocsWeight( indexSearcher );
 		this.nestedDocsProvider = nestedDocsProvider;
 		this.storedFieldVisitor = storedFieldVisitor;
 		this.currentChildDocValues = nestedDocsProvider == null ? null : new IntObjectHashMap<>();
+		this.childDocValuesPool = nestedDocsProvider == null ? null : new ArrayList<>();
 	}
 
 	@Override
@@ -82,14 +95,28 @@ public String toString() {
 				'}';
 	}
 
+	/**
+	 * @param absoluteFieldPath The path of a field that was required through
+	 * {@link org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements.Builder#requireStoredField(String, String)}.
+	 * @return The slot of that field, to be compared to {@link LoadedStoredFields#slot(int)}.
+	 */
+	public int storedFieldSlot(String absoluteFieldPath) {
+		int slot = storedFieldVisitor.slot( absoluteFieldPath );
+		if ( slot < 0 ) {
+			throw new AssertionFailure( "Stored field '" + absoluteFieldPath + "' was not required" );
+		}
+		return slot;
+	}
+
 	void context(LeafReaderContext context) throws IOException {
-		this.currentLeafReader = context.reader();
+		// Retrieving stored fields from the reader is not free: do it once per segment.
+		this.currentLeafStoredFields = context.reader().storedFields();
 		this.currentLeafChildDocs = nestedDocsProvider == null
 				? null
 				: nestedDocsProvider.childDocs( childrenWeight, context, null );
+		storedFieldVisitor.context( context.reader() );
 
 		this.currentRootDoc = -1;
-		this.currentRootDocValue = null;
 		if ( currentChildDocValues != null ) {
 			this.currentChildDocValues.clear();
 		}
@@ -99,29 +126,55 @@ void collect(int parentDoc) throws IOException {
 		this.currentRootDoc = parentDoc;
 
 		// collect child documents if necessary
+		if ( currentChildDocValues != null ) {
+			currentChildDocValues.clear();
+		}
 		if ( currentLeafChildDocs != null && currentLeafChildDocs.advanceExactParent( parentDoc ) ) {
+			int childIndex = 0;
 			for ( int childDoc = currentLeafChildDocs.nextChild(); childDoc != DocIdSetIterator.NO_MORE_DOCS;
 					childDoc = currentLeafChildDocs.nextChild() ) {
-				currentLeafReader.storedFields().document( childDoc, storedFieldVisitor );
-				currentChildDocValues.put( childDoc, storedFieldVisitor.getDocumentAndReset() );
+				LoadedStoredFields childDocValue;
+				if ( childIndex < childDocValuesPool.size() ) {
+					childDocValue = childDocValuesPool.get( childIndex );
+				}
+				else {
+					childDocValue = new LoadedStoredFields();
+					childDocValuesPool.add( childDocValue );
+				}
+				++childIndex;
+				storedFieldVisitor.load( currentLeafStoredFields, childDoc, childDocValue );
+				currentChildDocValues.put( childDoc, childDocValue );
 			}
 		}
 
 		// collect root document
-		currentLeafReader.storedFields().document( parentDoc, storedFieldVisitor );
-		this.currentRootDocValue = storedFieldVisitor.getDocumentAndReset();
+		storedFieldVisitor.load( currentLeafStoredFields, parentDoc, currentRootDocValue );
 	}
 
-	public Document get(int docId) {
+	/**
+	 * @param docId The ID of the current root document, or of one of its child documents.
+	 * @return The loaded stored fields of that document.
+	 * Only valid until the next document is collected.
+	 */
+	public LoadedStoredFields storedFields(int docId) {
 		if ( docId == currentRootDoc ) {
 			return currentRootDocValue;
 		}
-		Document doc = currentChildDocValues.get( docId );
+		LoadedStoredFields doc = currentChildDocValues == null ? null : currentChildDocValues.get( docId );
 		if ( doc == null ) {
 			throw new AssertionFailure( "Getting value for " + docId + ", which is neither root document "
-					+ currentRootDoc + " nor children " + currentChildDocValues.keys() );
+					+ currentRootDoc + " nor children "
+					+ ( currentChildDocValues == null ? "[]" : currentChildDocValues.keys() ) );
 		}
 		return doc;
 	}
 
+	/**
+	 * @param docId The ID of the current root document, or of one of its child documents.
+	 * @return A new document containing the loaded stored fields of that document.
+	 */
+	public Document document(int docId) {
+		return storedFields( docId ).toDocument();
+	}
+
 }
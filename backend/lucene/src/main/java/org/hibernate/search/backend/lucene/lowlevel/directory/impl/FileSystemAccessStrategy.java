@@ -18,24 +18,34 @@
 enum FileSystemAccessStrategy {
 	AUTO {
 		@Override
-		public FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException {
-			return FSDirectory.open( indexDir, factory );
+		public FSDirectory createDirectory(Path indexDir, LockFactory factory, MMapPolicy mmapPolicy)
+				throws IOException {
+			FSDirectory directory = FSDirectory.open( indexDir, factory );
+			if ( directory instanceof MMapDirectory && mmapPolicy != MMapPolicy.DEFAULT ) {
+				// Lucene chose to memory-map files: do the same, but apply the policy.
+				directory.close();
+				return mmapPolicy.createDirectory( indexDir, factory );
+			}
+			return directory;
 		}
 	},
 	NIO {
 		@Override
-		public FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException {
+		public FSDirectory createDirectory(Path indexDir, LockFactory factory, MMapPolicy mmapPolicy)
+				throws IOException {
 			return new NIOFSDirectory( indexDir, factory );
 		}
 	},
 	MMAP {
 		@Override
-		public FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException {
-			return new MMapDirectory( indexDir, factory );
+		public FSDirectory createDirectory(Path indexDir, LockFactory factory, MMapPolicy mmapPolicy)
+				throws IOException {
+			return mmapPolicy.createDirectory( indexDir, factory );
 		}
 	};
 
-	public abstract FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException;
+	public abstract FSDirectory createDirectory(Path indexDir, LockFactory factory, MMapPolicy mmapPolicy)
+			throws IOException;
 
 	public static FileSystemAccessStrategy get(FileSystemAccessStrategyName name) {
 		switch ( name ) {
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+
+import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.SingleInstanceLockFactory;
+
+public class LocalOffHeapDirectoryProvider implements DirectoryProvider {
+
+	public static final String NAME = "local-offheap";
+
+	private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+	private static final OptionalConfigurationProperty<Long> MAX_MEMORY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.MAX_MEMORY )
+					.asLongStrictlyPositive()
+					.build();
+
+	@Override
+	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
+		long maxMemoryInBytes = MAX_MEMORY.get( context.configurationPropertySource() )
+				.map( megabytes -> megabytes > Long.MAX_VALUE / BYTES_PER_MEGABYTE
+						? Long.MAX_VALUE
+						: megabytes * BYTES_PER_MEGABYTE )
+				.orElse( Long.MAX_VALUE );
+		Supplier<LockFactory> lockFactorySupplier = context.createConfiguredLockFactorySupplier()
+				.orElseGet( () -> SingleInstanceLockFactory::new );
+		return new LocalOffHeapDirectoryHolder( lockFactorySupplier.get(), maxMemoryInBytes, context.eventContext() );
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.MMapDirectory;
+
+/**
+ * Per-file-extension rules on how to memory-map index files.
+ */
+final class MMapPolicy {
+
+	static final MMapPolicy DEFAULT = new MMapPolicy( Set.of(), Set.of() );
+
+	static MMapPolicy create(Collection<String> preloadExtensions, Collection<String> randomAccessExtensions) {
+		Set<String> normalizedPreloadExtensions = normalize( preloadExtensions );
+		Set<String> normalizedRandomAccessExtensions = normalize( randomAccessExtensions );
+		if ( normalizedPreloadExtensions.isEmpty() && normalizedRandomAccessExtensions.isEmpty() ) {
+			return DEFAULT;
+		}
+		return new MMapPolicy( normalizedPreloadExtensions, normalizedRandomAccessExtensions );
+	}
+
+	private static Set<String> normalize(Collection<String> extensions) {
+		Set<String> result = new HashSet<>();
+		for ( String extension : extensions ) {
+			String normalized = extension.trim().toLowerCase( Locale.ROOT );
+			if ( normalized.startsWith( "." ) ) {
+				normalized = normalized.substring( 1 );
+			}
+			if ( !normalized.isEmpty() ) {
+				result.add( normalized );
+			}
+		}
+		return result;
+	}
+
+	private final Set<String> preloadExtensions;
+	private final Set<String> randomAccessExtensions;
+
+	private MMapPolicy(Set<String> preloadExtensions, Set<String> randomAccessExtensions) {
+		this.preloadExtensions = preloadExtensions;
+		this.randomAccessExtensions = randomAccessExtensions;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[preloadExtensions=" + preloadExtensions
+				+ ", randomAccessExtensions=" + randomAccessExtensions + "]";
+	}
+
+	MMapDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException {
+		MMapDirectory directory = randomAccessExtensions.isEmpty()
+				? new MMapDirectory( indexDir, factory )
+				: new RandomAccessAwareMMapDirectory( indexDir, factory );
+		if ( !preloadExtensions.isEmpty() ) {
+			directory.setPreload( this::preload );
+		}
+		return directory;
+	}
+
+	boolean preload(String fileName, IOContext context) {
+		return preloadExtensions.contains( extension( fileName ) );
+	}
+
+	IOContext toReadContext(String fileName, IOContext context) {
+		if ( context.context == IOContext.Context.MERGE || context.readOnce || context.randomAccess ) {
+			// Lucene already advises sequential reads for merges and read-once files:
+			// leave those alone, as well as contexts that already request random access.
+			return context;
+		}
+		return randomAccessExtensions.contains( extension( fileName ) ) ? context.withRandomAccess() : context;
+	}
+
+	private static String extension(String fileName) {
+		String extension = IndexFileNames.getExtension( fileName );
+		return extension == null ? "" : extension;
+	}
+
+	private final class RandomAccessAwareMMapDirectory extends MMapDirectory {
+		RandomAccessAwareMMapDirectory(Path path, LockFactory lockFactory) throws IOException {
+			super( path, lockFactory );
+		}
+
+		@Override
+		public IndexInput openInput(String name, IOContext context) throws IOException {
+			return super.openInput( name, toReadContext( name, context ) );
+		}
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.NoSuchFileException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.store.BaseDirectory;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.ByteBuffersIndexInput;
+import org.apache.lucene.store.ByteBuffersIndexOutput;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.LockFactory;
+
+/**
+ * A directory storing index files in memory, like {@link org.apache.lucene.store.ByteBuffersDirectory},
+ * but in direct buffers allocated outside of the Java heap,
+ * so that the content of the index does not need to be traced or copied by the garbage collector.
+ * <p>
+ * The memory used by files is accounted for,
+ * and allocating memory beyond the configured maximum fails.
+ * <p>
+ * Memory used by deleted files is no longer accounted for immediately,
+ * but is only released to the operating system once the garbage collector reclaims the corresponding buffers.
+ */
+final class OffHeapDirectory extends BaseDirectory {
+
+	private final long maxMemoryInBytes;
+	private final EventContext eventContext;
+
+	private final ConcurrentHashMap<String, FileEntry> files = new ConcurrentHashMap<>();
+	private final AtomicLong tempFileCounter = new AtomicLong();
+	private final AtomicLong memoryUsageInBytes = new AtomicLong();
+
+	/**
+	 * @param lockFactory The lock factory.
+	 * @param maxMemoryInBytes The maximum amount of memory used by files, in bytes,
+	 * or {@link Long#MAX_VALUE} for no limit other than the JVM's own limit on direct memory.
+	 * @param eventContext The event context to use in exceptions.
+	 */
+	OffHeapDirectory(LockFactory lockFactory, long maxMemoryInBytes, EventContext eventContext) {
+		super( lockFactory );
+		this.maxMemoryInBytes = maxMemoryInBytes;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "@" + Integer.toHexString( hashCode() ) + "["
+				+ "lockFactory=" + lockFactory
+				+ ", maxMemoryInBytes=" + maxMemoryInBytes
+				+ "]";
+	}
+
+	/**
+	 * @return The amount of memory currently used by files of this directory, in bytes.
+	 */
+	long memoryUsageInBytes() {
+		return memoryUsageInBytes.get();
+	}
+
+	@Override
+	public String[] listAll() throws IOException {
+		ensureOpen();
+		return files.keySet().stream().sorted().toArray( String[]::new );
+	}
+
+	@Override
+	public void deleteFile(String name) throws IOException {
+		ensureOpen();
+		FileEntry removed = files.remove( name );
+		if ( removed == null ) {
+			throw new NoSuchFileException( name );
+		}
+		removed.release();
+	}
+
+	@Override
+	public long fileLength(String name) throws IOException {
+		ensureOpen();
+		return getEntry( name ).length();
+	}
+
+	@Override
+	public IndexOutput createOutput(String name, IOContext context) throws IOException {
+		ensureOpen();
+		FileEntry entry = new FileEntry( name );
+		if ( files.putIfAbsent( name, entry ) != null ) {
+			throw new FileAlreadyExistsException( "File already exists: " + name );
+		}
+		return entry.createOutput();
+	}
+
+	@Override
+	public IndexOutput createTempOutput(String prefix, String suffix, IOContext context) throws IOException {
+		ensureOpen();
+		while ( true ) {
+			String name = IndexFileNames.segmentFileName( prefix,
+					suffix + "_" + Long.toString( tempFileCounter.getAndIncrement(), Character.MAX_RADIX ), "tmp" );
+			FileEntry entry = new FileEntry( name );
+			if ( files.putIfAbsent( name, entry ) == null ) {
+				return entry.createOutput();
+			}
+		}
+	}
+
+	@Override
+	public void sync(Collection<String> names) throws IOException {
+		ensureOpen();
+		// Nothing to do: files are not persisted.
+	}
+
+	@Override
+	public void syncMetaData() throws IOException {
+		ensureOpen();
+		// Nothing to do: files are not persisted.
+	}
+
+	@Override
+	public void rename(String source, String dest) throws IOException {
+		ensureOpen();
+		FileEntry entry = getEntry( source );
+		if ( files.putIfAbsent( dest, entry ) != null ) {
+			throw new FileAlreadyExistsException( dest );
+		}
+		if ( !files.remove( source, entry ) ) {
+			throw new IllegalStateException( "File was unexpectedly replaced: " + source );
+		}
+	}
+
+	@Override
+	public IndexInput openInput(String name, IOContext context) throws IOException {
+		ensureOpen();
+		return getEntry( name ).openInput();
+	}
+
+	@Override
+	public void close() throws IOException {
+		isOpen = false;
+		for ( FileEntry entry : files.values() ) {
+			entry.release();
+		}
+		files.clear();
+	}
+
+	@Override
+	public Set<String> getPendingDeletions() {
+		return Set.of();
+	}
+
+	private FileEntry getEntry(String name) throws NoSuchFileException {
+		FileEntry entry = files.get( name );
+		if ( entry == null ) {
+			throw new NoSuchFileException( name );
+		}
+		return entry;
+	}
+
+	private void reserve(String fileName, long bytes) {
+		long current;
+		do {
+			current = memoryUsageInBytes.get();
+			if ( bytes > maxMemoryInBytes - current ) {
+				throw LuceneMiscLog.INSTANCE.offHeapDirectoryMaxMemoryExceeded( fileName, bytes, current,
+						maxMemoryInBytes, eventContext );
+			}
+		}
+		while ( !memoryUsageInBytes.compareAndSet( current, current + bytes ) );
+	}
+
+	private void unreserve(long bytes) {
+		memoryUsageInBytes.addAndGet( -bytes );
+	}
+
+	private final class FileEntry {
+		private final String fileName;
+
+		// Guarded by this
+		private long allocatedBytes = 0L;
+		private boolean released = false;
+
+		private volatile IndexInput content;
+		private volatile long length;
+
+		private FileEntry(String fileName) {
+			this.fileName = fileName;
+		}
+
+		IndexOutput createOutput() {
+			ByteBuffersDataOutput output = new ByteBuffersDataOutput(
+					ByteBuffersDataOutput.DEFAULT_MIN_BITS_PER_BLOCK, ByteBuffersDataOutput.DEFAULT_MAX_BITS_PER_BLOCK,
+					this::allocate, this::free );
+			return new ByteBuffersIndexOutput( output, "OffHeapDirectory output: " + fileName, fileName,
+					new CRC32(), this::onClose );
+		}
+
+		IndexInput openInput() throws IOException {
+			IndexInput local = content;
+			if ( local == null ) {
+				throw new AccessDeniedException( "Can't open a file still open for writing: " + fileName );
+			}
+			return local.clone();
+		}
+
+		long length() {
+			// Write-once: length is set when the output is closed.
+			return length;
+		}
+
+		private synchronized ByteBuffer allocate(int size) {
+			if ( !released ) {
+				// Once the file is deleted, memory is no longer accounted for:
+				// it will be reclaimed along with the output.
+				reserve( fileName, size );
+				allocatedBytes += size;
+			}
+			return ByteBuffer.allocateDirect( size );
+		}
+
+		private synchronized void free(ByteBuffer buffer) {
+			if ( released ) {
+				return;
+			}
+			allocatedBytes -= buffer.capacity();
+			unreserve( buffer.capacity() );
+		}
+
+		private synchronized void release() {
+			if ( released ) {
+				return;
+			}
+			released = true;
+			unreserve( allocatedBytes );
+			allocatedBytes = 0L;
+		}
+
+		private void onClose(ByteBuffersDataOutput output) {
+			length = output.size();
+			content = new ByteBuffersIndexInput( output.toDataInput(), "OffHeapDirectory input: " + fileName );
+		}
+	}
+}
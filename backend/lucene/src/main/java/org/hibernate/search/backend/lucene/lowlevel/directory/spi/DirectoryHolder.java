@@ -6,6 +6,9 @@
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 import org.apache.lucene.store.Directory;
 
@@ -39,4 +42,20 @@ public interface DirectoryHolder extends Closeable {
 	 */
 	Directory get();
 
+	/**
+	 * @return The path to the directory holding index files on the local filesystem,
+	 * or an empty optional if index files are not stored on the local filesystem.
+	 */
+	default Optional<Path> localFileSystemPath() {
+		return Optional.empty();
+	}
+
+	/**
+	 * @return The amount of memory used to store index files, in bytes,
+	 * or an empty optional if index files are not stored in memory.
+	 */
+	default OptionalLong memoryUsageInBytes() {
+		return OptionalLong.empty();
+	}
+
 }
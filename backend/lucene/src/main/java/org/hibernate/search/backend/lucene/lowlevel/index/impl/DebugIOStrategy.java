@@ -6,9 +6,13 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderWarmup;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicationPublisher;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicy;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -25,20 +29,25 @@ private DebugIOStrategy(BackendThreads threads, FailureHandler failureHandler) {
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource, IndexReaderWarmup readerWarmupOrNull,
+			Translog translogOrNull, CommitPolicy commitPolicyOrNull, ReplicationPublisher publisherOrNull) {
+		// Commit policies are ignored: this strategy always commits after each batch of changes.
 		return new IndexWriterProvider(
 				indexName, eventContext,
-				directoryHolder, configSource,
-				null, 0,
+				directoryHolder, configSource, readerWarmupOrNull, translogOrNull, publisherOrNull,
+				null, 0, null,
 				threads,
 				failureHandler
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
-		return new NotSharedIndexReaderProvider( directoryHolder );
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterConfigSource configSource, IndexWriterProvider indexWriterProvider,
+			IndexReaderWarmup readerWarmupOrNull) {
+		// Index readers are not shared in this strategy, so there is no point in warming them up:
+		// only merged segments get warmed up, by the index writer.
+		return new NotSharedIndexReaderProvider( directoryHolder, configSource.softDeletesFieldOrNull() );
 	}
 
 }
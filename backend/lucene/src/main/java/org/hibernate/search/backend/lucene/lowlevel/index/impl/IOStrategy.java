@@ -6,8 +6,12 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderWarmup;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicationPublisher;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicy;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -24,15 +28,20 @@ protected IOStrategy(BackendThreads threads, FailureHandler failureHandler) {
 	}
 
 	public IndexAccessorImpl createIndexAccessor(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource writerConfigSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource writerConfigSource,
+			IndexReaderWarmup readerWarmupOrNull, Translog translogOrNull, CommitPolicy commitPolicyOrNull,
+			ReplicationPublisher publisherOrNull) {
 		IndexWriterProvider indexWriterProvider = null;
 		IndexReaderProvider indexReaderProvider = null;
 		try {
-			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder, writerConfigSource );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder, writerConfigSource,
+					readerWarmupOrNull, translogOrNull, commitPolicyOrNull, publisherOrNull );
+			indexReaderProvider = createIndexReaderProvider( eventContext, directoryHolder, writerConfigSource,
+					indexWriterProvider, readerWarmupOrNull );
 			return new IndexAccessorImpl(
 					eventContext,
-					directoryHolder, indexWriterProvider, indexReaderProvider
+					directoryHolder, translogOrNull, publisherOrNull, isReadOnly(),
+					indexWriterProvider, indexReaderProvider
 			);
 		}
 		catch (RuntimeException e) {
@@ -45,9 +54,18 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 	}
 
 	abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource);
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource, IndexReaderWarmup readerWarmupOrNull,
+			Translog translogOrNull, CommitPolicy commitPolicyOrNull, ReplicationPublisher publisherOrNull);
 
-	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider);
+	abstract IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterConfigSource configSource, IndexWriterProvider indexWriterProvider,
+			IndexReaderWarmup readerWarmupOrNull);
+
+	/**
+	 * @return {@code true} if index accessors created by this strategy must reject writes.
+	 */
+	boolean isReadOnly() {
+		return false;
+	}
 
 }
@@ -7,11 +7,16 @@
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 
+import org.hibernate.search.backend.lucene.logging.impl.IndexingLog;
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.lowlevel.backup.impl.IndexBackups;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicationPublisher;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
@@ -19,6 +24,7 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
@@ -33,14 +39,24 @@ public class IndexAccessorImpl implements AutoCloseable, IndexAccessor {
 
 	private final EventContext eventContext;
 	private final DirectoryHolder directoryHolder;
+	private final Translog translogOrNull;
+	private final ReplicationPublisher publisherOrNull;
+	private final boolean readOnly;
 	private final IndexWriterProvider indexWriterProvider;
 	private final IndexReaderProvider indexReaderProvider;
 
+	private int bulkLoadDepth = 0;
+	private boolean bulkLoadAborted = false;
+
 	public IndexAccessorImpl(EventContext eventContext,
-			DirectoryHolder directoryHolder,
+			DirectoryHolder directoryHolder, Translog translogOrNull,
+			ReplicationPublisher publisherOrNull, boolean readOnly,
 			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider) {
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
+		this.translogOrNull = translogOrNull;
+		this.publisherOrNull = publisherOrNull;
+		this.readOnly = readOnly;
 		this.indexWriterProvider = indexWriterProvider;
 		this.indexReaderProvider = indexReaderProvider;
 	}
@@ -48,8 +64,8 @@ public IndexAccessorImpl(EventContext eventContext,
 	@Override
 	public void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
-			// Clear the reader first, as it may depend on the writer (see NearRealTimeIndexReaderProvider).
-			closer.push( IndexReaderProvider::clear, indexReaderProvider );
+			// Close the reader first, as it may depend on the writer (see NearRealTimeIndexReaderProvider).
+			closer.push( IndexReaderProvider::close, indexReaderProvider );
 			closer.push( IndexWriterProvider::clear, indexWriterProvider );
 		}
 	}
@@ -64,6 +80,10 @@ public void createIndexIfMissing() {
 			}
 
 			initializeDirectory( directory );
+			if ( publisherOrNull != null ) {
+				// Replicas should not have to wait for the first write to see the (empty) index.
+				publisherOrNull.publishLatestCommit( directory );
+			}
 		}
 		catch (IOException | RuntimeException e) {
 			throw LuceneMiscLog.INSTANCE.unableToInitializeIndexDirectory(
@@ -98,6 +118,10 @@ public void dropIndexIfExisting() {
 			// or the concurrent writes/reads will fail.
 			close();
 
+			if ( translogOrNull != null ) {
+				translogOrNull.clear();
+			}
+
 			Directory directory = directoryHolder.get();
 
 			if ( !DirectoryReader.indexExists( directory ) ) {
@@ -139,7 +163,7 @@ public void commitOrDelay() {
 	@Override
 	public void refresh() {
 		try {
-			indexReaderProvider.clear();
+			indexReaderProvider.refresh();
 		}
 		catch (IOException e) {
 			throw LuceneMiscLog.INSTANCE.unableToRefresh( e.getMessage(), eventContext, e );
@@ -148,6 +172,13 @@ public void refresh() {
 
 	@Override
 	public void mergeSegments() {
+		if ( readOnly ) {
+			throw IndexingLog.INSTANCE.writeToReplica( eventContext );
+		}
+		if ( indexWriterProvider.isReplacingContent() ) {
+			// The current content will be replaced when bulk loading ends: merging it would be pointless.
+			return;
+		}
 		try {
 			indexReaderProvider.clear();
 			indexWriterProvider.getOrCreate().mergeSegments();
@@ -157,9 +188,84 @@ public void mergeSegments() {
 		}
 	}
 
+	@Override
+	public synchronized void beginBulkLoad() {
+		if ( bulkLoadDepth++ > 0 ) {
+			// Already in bulk-load mode.
+			return;
+		}
+		indexWriterProvider.bulkLoad( true );
+		indexReaderProvider.refreshSuspended( true );
+		LuceneMiscLog.INSTANCE.beganBulkLoad( eventContext );
+	}
+
+	@Override
+	public synchronized void endBulkLoad() {
+		endBulkLoad( false );
+	}
+
+	@Override
+	public synchronized void abortBulkLoad() {
+		endBulkLoad( true );
+	}
+
+	private void endBulkLoad(boolean abort) {
+		if ( bulkLoadDepth == 0 ) {
+			// Not in bulk-load mode: ignore unbalanced calls.
+			return;
+		}
+		bulkLoadAborted |= abort;
+		if ( --bulkLoadDepth > 0 ) {
+			// Still in bulk-load mode because of an outer call.
+			return;
+		}
+		boolean aborted = bulkLoadAborted;
+		bulkLoadAborted = false;
+		// Finish an offline build, if any, before resuming refreshes:
+		// readers must not see the index while its content is being replaced.
+		if ( aborted ) {
+			indexWriterProvider.abortBulkLoad();
+		}
+		else {
+			indexWriterProvider.bulkLoad( false );
+		}
+		indexReaderProvider.refreshSuspended( false );
+		commit();
+		refresh();
+		LuceneMiscLog.INSTANCE.endedBulkLoad( eventContext );
+	}
+
+	@Override
+	public void backup(Path target) {
+		if ( readOnly ) {
+			throw LuceneMiscLog.INSTANCE.backUpReplica( eventContext );
+		}
+		try {
+			IndexWriterDelegatorImpl delegator = indexWriterProvider.getOrCreate();
+			IndexCommit commit = delegator.snapshot();
+			try {
+				IndexBackups.backup( commit, target, eventContext );
+			}
+			finally {
+				delegator.releaseSnapshot( commit );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw LuceneMiscLog.INSTANCE.unableToBackUpIndex( e.getMessage(), target, eventContext, e );
+		}
+	}
+
 	@Override
 	public IndexWriterDelegator getIndexWriterDelegator() throws IOException {
-		return indexWriterProvider.getOrCreate();
+		if ( readOnly ) {
+			throw IndexingLog.INSTANCE.writeToReplica( eventContext );
+		}
+		return indexWriterProvider.getOrCreateForIndexing();
+	}
+
+	@Override
+	public Translog getTranslogOrNull() {
+		return translogOrNull;
 	}
 
 	@Override
@@ -5,11 +5,16 @@
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.ConfigurationLog;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderWarmup;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicationPublisher;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicy;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
@@ -31,12 +36,24 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> REFRESH_BACKGROUND =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REFRESH_BACKGROUND )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_BACKGROUND )
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
 			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		boolean backgroundRefresh = REFRESH_BACKGROUND.getAndTransform( propertySource, enabled -> {
+			if ( enabled && refreshInterval == 0 ) {
+				throw ConfigurationLog.INSTANCE.backgroundRefreshRequiresRefreshInterval();
+			}
+			return enabled;
+		} );
 		return new NearRealTimeIOStrategy(
-				timingSource, commitInterval, refreshInterval,
+				timingSource, commitInterval, refreshInterval, backgroundRefresh,
 				threads, failureHandler
 		);
 	}
@@ -44,37 +61,47 @@ public static NearRealTimeIOStrategy create(ConfigurationPropertySource property
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final boolean backgroundRefresh;
 
 	private NearRealTimeIOStrategy(TimingSource timingSource, int commitInterval, int refreshInterval,
+			boolean backgroundRefresh,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		super( threads, failureHandler );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.backgroundRefresh = backgroundRefresh;
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
-		if ( commitInterval != 0 ) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource, IndexReaderWarmup readerWarmupOrNull,
+			Translog translogOrNull, CommitPolicy commitPolicyOrNull, ReplicationPublisher publisherOrNull) {
+		if ( commitInterval != 0 || commitPolicyOrNull != null ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
 		return new IndexWriterProvider(
 				indexName, eventContext,
-				directoryHolder, configSource,
-				timingSource, commitInterval, threads,
+				directoryHolder, configSource, readerWarmupOrNull, translogOrNull, publisherOrNull,
+				timingSource, commitInterval, commitPolicyOrNull, threads,
 				failureHandler
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterConfigSource configSource, IndexWriterProvider indexWriterProvider,
+			IndexReaderWarmup readerWarmupOrNull) {
+		if ( backgroundRefresh ) {
+			return new NearRealTimeIndexReaderProvider( eventContext, indexWriterProvider, refreshInterval,
+					threads.getWriteExecutor(), failureHandler, readerWarmupOrNull );
+		}
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval,
+				readerWarmupOrNull );
 	}
 
 }
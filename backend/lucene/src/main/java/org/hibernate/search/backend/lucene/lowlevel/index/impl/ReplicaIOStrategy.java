@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderWarmup;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReplicaIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicationPublisher;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicy;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * The strategy for read-only replicas,
+ * where the index is never written to locally, but only receives commits replicated from the primary,
+ * and a shared index reader is refreshed after each replicated commit.
+ */
+public class ReplicaIOStrategy extends IOStrategy {
+
+	public static ReplicaIOStrategy create(BackendThreads threads, FailureHandler failureHandler) {
+		return new ReplicaIOStrategy( threads, failureHandler );
+	}
+
+	private ReplicaIOStrategy(BackendThreads threads, FailureHandler failureHandler) {
+		super( threads, failureHandler );
+	}
+
+	@Override
+	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource, IndexReaderWarmup readerWarmupOrNull,
+			Translog translogOrNull, CommitPolicy commitPolicyOrNull, ReplicationPublisher publisherOrNull) {
+		// Writes are rejected by the index accessor: the index writer will never be created.
+		return new IndexWriterProvider(
+				indexName, eventContext,
+				directoryHolder, configSource, readerWarmupOrNull, translogOrNull, publisherOrNull,
+				null, 0, null,
+				threads,
+				failureHandler
+		);
+	}
+
+	@Override
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterConfigSource configSource, IndexWriterProvider indexWriterProvider,
+			IndexReaderWarmup readerWarmupOrNull) {
+		return new ReplicaIndexReaderProvider( directoryHolder, configSource.softDeletesFieldOrNull(),
+				readerWarmupOrNull );
+	}
+
+	@Override
+	boolean isReadOnly() {
+		return true;
+	}
+
+}
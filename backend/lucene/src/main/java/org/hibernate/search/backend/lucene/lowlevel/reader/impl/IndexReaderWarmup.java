@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmupContext;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * Executes {@link IndexReaderWarmer warmers} on new segments of an index (shard).
+ * <p>
+ * Segments resulting from a merge are warmed up by the index writer, before the merge completes,
+ * through {@link #asMergedSegmentWarmer()}.
+ * Other segments (resulting from a flush) are warmed up by {@link #warmNewSegments(DirectoryReader)},
+ * before the index reader exposing them gets published.
+ */
+public final class IndexReaderWarmup {
+
+	private final String indexName;
+	private final Optional<String> shardId;
+	private final EventContext eventContext;
+	private final List<IndexReaderWarmer> warmers;
+
+	/**
+	 * Keys of the cores of segments that were already warmed up,
+	 * and thus don't need to be warmed up again when a new index reader is opened.
+	 * Keys are removed when the corresponding segment core is closed.
+	 */
+	private final Set<Object> warmedCoreKeys = ConcurrentHashMap.newKeySet();
+
+	public IndexReaderWarmup(String indexName, Optional<String> shardId, EventContext eventContext,
+			List<? extends IndexReaderWarmer> warmers) {
+		this.indexName = indexName;
+		this.shardId = shardId;
+		this.eventContext = eventContext;
+		this.warmers = new ArrayList<>( warmers );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "indexName=" + indexName
+				+ ", shardId=" + shardId
+				+ ", warmers=" + warmers
+				+ "]";
+	}
+
+	public IndexWriter.IndexReaderWarmer asMergedSegmentWarmer() {
+		return this::warmMergedSegment;
+	}
+
+	/**
+	 * Warms up the segments of {@code newReader} that were not warmed up yet.
+	 *
+	 * @param newReader The index reader about to be published.
+	 */
+	public void warmNewSegments(DirectoryReader newReader) {
+		List<LeafReader> newSegments = new ArrayList<>();
+		for ( LeafReaderContext leaf : newReader.leaves() ) {
+			IndexReader.CacheHelper cacheHelper = leaf.reader().getCoreCacheHelper();
+			// Segments without a cache helper cannot be tracked: assume they are new.
+			if ( cacheHelper == null || !warmedCoreKeys.contains( cacheHelper.getKey() ) ) {
+				newSegments.add( leaf.reader() );
+			}
+		}
+		if ( newSegments.isEmpty() ) {
+			return;
+		}
+		warm( newSegments );
+	}
+
+	private void warmMergedSegment(LeafReader segment) {
+		warm( Collections.singletonList( segment ) );
+	}
+
+	private void warm(List<LeafReader> segments) {
+		// Do not close sub-readers: they are owned by the caller.
+		try ( MultiReader reader = new MultiReader( segments.toArray( new LeafReader[0] ), false ) ) {
+			IndexSearcher searcher = new IndexSearcher( reader );
+			searcher.setQueryCache( null );
+			IndexReaderWarmupContext context = new WarmupContext( reader, searcher );
+			for ( IndexReaderWarmer warmer : warmers ) {
+				warmer.warm( context );
+			}
+		}
+		catch (RuntimeException | IOException e) {
+			// Warming up is just an optimization: don't prevent the segments from being used.
+			LuceneMiscLog.INSTANCE.unableToWarmUpIndexSegments( e.getMessage(), eventContext, e );
+		}
+		// Even on failure, don't try again: we don't want to fail on every refresh.
+		for ( LeafReader segment : segments ) {
+			IndexReader.CacheHelper cacheHelper = segment.getCoreCacheHelper();
+			if ( cacheHelper != null && warmedCoreKeys.add( cacheHelper.getKey() ) ) {
+				cacheHelper.addClosedListener( warmedCoreKeys::remove );
+			}
+		}
+	}
+
+	private final class WarmupContext implements IndexReaderWarmupContext {
+		private final IndexReader reader;
+		private final IndexSearcher searcher;
+
+		private WarmupContext(IndexReader reader, IndexSearcher searcher) {
+			this.reader = reader;
+			this.searcher = searcher;
+		}
+
+		@Override
+		public String indexName() {
+			return indexName;
+		}
+
+		@Override
+		public Optional<String> shardId() {
+			return shardId;
+		}
+
+		@Override
+		public IndexReader reader() {
+			return reader;
+		}
+
+		@Override
+		public IndexSearcher searcher() {
+			return searcher;
+		}
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.spi;
+
+import java.io.IOException;
+
+/**
+ * A component warming up index segments before they are exposed to search queries,
+ * so that the first search queries hitting these segments don't have to pay the cost
+ * of loading data structures from disk.
+ * <p>
+ * Warmers are called for segments resulting from a merge, before the merge completes,
+ * and for segments resulting from a flush, before the index reader exposing them gets published.
+ * <p>
+ * Warmers should not rely on being called exactly once per segment:
+ * a given segment may be warmed up multiple times, or not at all (e.g. with the "debug" I/O strategy).
+ */
+public interface IndexReaderWarmer {
+
+	/**
+	 * Warms up the index segments exposed by the given context.
+	 * <p>
+	 * Failures are logged and otherwise ignored: the segments will be exposed to search queries regardless.
+	 *
+	 * @param context The warm-up context, giving access to the segments to warm up.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	void warm(IndexReaderWarmupContext context) throws IOException;
+
+}
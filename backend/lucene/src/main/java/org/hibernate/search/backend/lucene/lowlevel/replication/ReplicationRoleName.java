@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication;
+
+import org.hibernate.search.backend.lucene.logging.impl.ConfigurationLog;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+
+public enum ReplicationRoleName {
+
+	/**
+	 * The default: the index does not take part in replication.
+	 */
+	NONE( "none" ),
+	/**
+	 * The index is written to as usual,
+	 * and every commit is published to replicas through the replication transport.
+	 */
+	PRIMARY( "primary" ),
+	/**
+	 * The index is read-only:
+	 * commits published by the primary are copied to the local directory periodically,
+	 * and index readers are reopened to take them into account.
+	 */
+	REPLICA( "replica" );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ReplicationRoleName of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				ReplicationRoleName.values(),
+				ReplicationRoleName::externalRepresentation,
+				ConfigurationLog.INSTANCE::invalidReplicationRoleName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ReplicationRoleName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	private String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
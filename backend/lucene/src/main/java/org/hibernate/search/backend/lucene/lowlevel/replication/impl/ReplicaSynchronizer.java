@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationCommit;
+import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.store.Directory;
+
+/**
+ * Periodically copies the latest commit published by the primary to the directory of a replica,
+ * then refreshes index readers so that they take the new commit into account.
+ * <p>
+ * Only files that are not present in the directory of the replica yet are copied,
+ * which for a typical commit means only newly flushed or merged segments.
+ */
+public final class ReplicaSynchronizer {
+
+	private final EventContext eventContext;
+	private final DirectoryHolder directoryHolder;
+	private final ReplicationChannel channel;
+	private final IndexAccessor indexAccessor;
+	private final int pollInterval;
+	private final SingletonTask pollTask;
+
+	private volatile boolean stopped = false;
+
+	public ReplicaSynchronizer(EventContext eventContext, DirectoryHolder directoryHolder,
+			ReplicationChannel channel, IndexAccessor indexAccessor, int pollInterval,
+			SimpleScheduledExecutor executor, FailureHandler failureHandler) {
+		this.eventContext = eventContext;
+		this.directoryHolder = directoryHolder;
+		this.channel = channel;
+		this.indexAccessor = indexAccessor;
+		this.pollInterval = pollInterval;
+		this.pollTask = new SingletonTask(
+				"Replication from the primary for " + eventContext.render(),
+				new PollWorker( failureHandler ),
+				new PollScheduler( executor ),
+				failureHandler
+		);
+	}
+
+	public void start() {
+		pollTask.ensureScheduled();
+	}
+
+	public void stop() {
+		stopped = true;
+		pollTask.stop();
+	}
+
+	/**
+	 * Copies the latest commit published by the primary to the local directory, if necessary,
+	 * and refreshes index readers.
+	 *
+	 * @return {@code true} if a new commit was copied, {@code false} if the local directory was already up-to-date.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	boolean replicate() throws IOException {
+		Optional<ReplicationCommit> latestCommit = channel.latestCommit();
+		if ( latestCommit.isEmpty() ) {
+			// The primary did not publish anything yet.
+			return false;
+		}
+		ReplicationCommit commit = latestCommit.get();
+		Directory directory = directoryHolder.get();
+		if ( commit.segmentsFile().existsIn( directory ) ) {
+			// Already up-to-date.
+			return false;
+		}
+
+		int copiedFileCount = ReplicationFiles.copyCommit( commit, directory,
+				(fileName, targetFileName) -> channel.fetch( fileName, directory, targetFileName ) );
+		// Files of previous commits are no longer needed.
+		// Index readers still using them opened them already, and will be closed on refresh.
+		ReplicationFiles.deleteAllExcept( directory, ReplicationFiles.fileNames( commit ) );
+		indexAccessor.refresh();
+
+		LuceneMiscLog.INSTANCE.replicatedCommit( commit.segmentsFile().name(), copiedFileCount, eventContext );
+		return true;
+	}
+
+	private class PollWorker implements SingletonTask.Worker {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+		private final FailureHandler failureHandler;
+
+		private PollWorker(FailureHandler failureHandler) {
+			this.failureHandler = failureHandler;
+		}
+
+		@Override
+		public CompletableFuture<?> work() {
+			if ( stopped ) {
+				return completedFuture;
+			}
+			try {
+				replicate();
+			}
+			catch (RuntimeException | IOException e) {
+				// Queries will keep using the last replicated commit; we'll try again on the next run.
+				FailureContext.Builder failureContextBuilder = FailureContext.builder();
+				failureContextBuilder.throwable( LuceneMiscLog.INSTANCE.unableToReplicateCommit( e.getMessage(),
+						eventContext, e ) );
+				failureContextBuilder.failingOperation( "Replication of the latest commit from the primary" );
+				failureHandler.handle( failureContextBuilder.build() );
+			}
+			// This will re-schedule the task once this run is over.
+			pollTask.ensureScheduled();
+			return completedFuture;
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do: the task reschedules itself until it is stopped.
+		}
+	}
+
+	private class PollScheduler implements SingletonTask.Scheduler {
+		private final SimpleScheduledExecutor delegate;
+
+		private PollScheduler(SimpleScheduledExecutor delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Future<?> schedule(Runnable runnable) {
+			return delegate.schedule( runnable, pollInterval, TimeUnit.MILLISECONDS );
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannelCreationContext;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+public class ReplicationChannelCreationContextImpl implements ReplicationChannelCreationContext {
+
+	private final EventContext eventContext;
+	private final String indexName;
+	private final Optional<String> shardId;
+	private final BeanResolver beanResolver;
+	private final ConfigurationPropertySource configurationPropertySource;
+
+	public ReplicationChannelCreationContextImpl(EventContext eventContext, String indexName, Optional<String> shardId,
+			BeanResolver beanResolver, ConfigurationPropertySource configurationPropertySource) {
+		this.eventContext = eventContext;
+		this.indexName = indexName;
+		this.shardId = shardId;
+		this.beanResolver = beanResolver;
+		this.configurationPropertySource = configurationPropertySource;
+	}
+
+	@Override
+	public EventContext eventContext() {
+		return eventContext;
+	}
+
+	@Override
+	public String indexName() {
+		return indexName;
+	}
+
+	@Override
+	public Optional<String> shardId() {
+		return shardId;
+	}
+
+	@Override
+	public BeanResolver beanResolver() {
+		return beanResolver;
+	}
+
+	@Override
+	public ConfigurationPropertySource configurationPropertySource() {
+		return configurationPropertySource;
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.io.IOException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationCommit;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+
+/**
+ * Publishes commits of a primary index to replicas, through a {@link ReplicationChannel}.
+ */
+public final class ReplicationPublisher {
+
+	private final EventContext eventContext;
+	private final ReplicationChannel channel;
+	private final FailureHandler failureHandler;
+
+	private final ReentrantLock publicationLock = new ReentrantLock();
+
+	public ReplicationPublisher(EventContext eventContext, ReplicationChannel channel, FailureHandler failureHandler) {
+		this.eventContext = eventContext;
+		this.channel = channel;
+		this.failureHandler = failureHandler;
+	}
+
+	/**
+	 * Publishes the latest commit of the given directory, unless it was already published.
+	 * <p>
+	 * Failures are reported to the failure handler instead of being thrown:
+	 * the commit itself succeeded, and replicas will catch up with the next successful publication.
+	 *
+	 * @param directory The directory of the primary index.
+	 */
+	public void publishLatestCommit(Directory directory) {
+		publicationLock.lock();
+		try {
+			String segmentsFileName = SegmentInfos.getLastCommitSegmentsFileName( directory.listAll() );
+			if ( segmentsFileName == null ) {
+				// Nothing to publish yet.
+				return;
+			}
+			channel.publish( directory, ReplicationCommit.read( directory, segmentsFileName ) );
+		}
+		catch (RuntimeException | IOException e) {
+			FailureContext.Builder failureContextBuilder = FailureContext.builder();
+			failureContextBuilder.throwable( LuceneMiscLog.INSTANCE.unableToPublishCommit( e.getMessage(),
+					eventContext, e ) );
+			failureContextBuilder.failingOperation( "Publication of the latest commit to replicas" );
+			failureHandler.handle( failureContextBuilder.build() );
+		}
+		finally {
+			publicationLock.unlock();
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.spi;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.Objects;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+
+/**
+ * A file of a {@link ReplicationCommit}.
+ * <p>
+ * Index files are write-once, but their names may be reused when an index is dropped and re-created:
+ * two files are considered identical only if their name, length and checksum match.
+ */
+public final class ReplicatedFile {
+
+	/**
+	 * @param directory A directory.
+	 * @param name The name of a file in that directory.
+	 * @return A description of that file.
+	 * @throws IOException If an I/O failure occurs, e.g. if the file does not exist or has no valid footer.
+	 */
+	public static ReplicatedFile read(Directory directory, String name) throws IOException {
+		long length = directory.fileLength( name );
+		try ( IndexInput input = directory.openInput( name, IOContext.READONCE ) ) {
+			return new ReplicatedFile( name, length, CodecUtil.retrieveChecksum( input ) );
+		}
+	}
+
+	private final String name;
+	private final long length;
+	private final long checksum;
+
+	public ReplicatedFile(String name, long length, long checksum) {
+		this.name = name;
+		this.length = length;
+		this.checksum = checksum;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[name=" + name + ", length=" + length + ", checksum=" + checksum + "]";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		ReplicatedFile other = (ReplicatedFile) obj;
+		return name.equals( other.name ) && length == other.length && checksum == other.checksum;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( name, length, checksum );
+	}
+
+	/**
+	 * @param directory A directory.
+	 * @return {@code true} if that directory contains a file identical to this one, {@code false} otherwise.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public boolean existsIn(Directory directory) throws IOException {
+		try {
+			return directory.fileLength( name ) == length && equals( read( directory, name ) );
+		}
+		catch (NoSuchFileException | FileNotFoundException | CorruptIndexException e) {
+			// Missing, or only partially copied.
+			return false;
+		}
+	}
+
+	/**
+	 * @return The name of the file.
+	 */
+	public String name() {
+		return name;
+	}
+
+	/**
+	 * @return The length of the file, in bytes.
+	 */
+	public long length() {
+		return length;
+	}
+
+	/**
+	 * @return The checksum of the file, as recorded in its footer.
+	 */
+	public long checksum() {
+		return checksum;
+	}
+
+}
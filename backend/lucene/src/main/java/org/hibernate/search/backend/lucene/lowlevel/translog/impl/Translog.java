@@ -0,0 +1,352 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.translog.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.util.IOUtils;
+
+/**
+ * An append-only log of the changes applied to an index writer, a.k.a. write-ahead log,
+ * allowing to recover changes that were not committed yet after an abrupt shutdown.
+ * <p>
+ * The translog is split into generations, each stored in its own file.
+ * Changes are appended to the current generation;
+ * committing the index writer involves {@link #roll() starting a new generation} beforehand
+ * and {@link #trim(long) deleting previous generations} afterwards,
+ * since the changes they contain are then part of the commit.
+ * <p>
+ * To ensure a commit includes all changes from previous generations,
+ * changes must be appended and applied to the index writer
+ * while holding the {@link #appendLock() append lock}, which prevents rolling to a new generation.
+ */
+public final class Translog implements Closeable {
+
+	private static final String DIRECTORY_SUFFIX = ".translog";
+	private static final String FILE_PREFIX = "translog-";
+
+	private static final int HEADER_MAGIC = 0x48535458;
+	private static final int FORMAT_VERSION = 1;
+	private static final int HEADER_LENGTH = 2 * Integer.BYTES;
+	private static final int RECORD_HEADER_LENGTH = 2 * Integer.BYTES;
+
+	/**
+	 * @param indexDirectoryPath The path to the index directory.
+	 * @param eventContext The event context, for logging purposes.
+	 * @return A translog stored next to the given index directory,
+	 * ready to {@link #replay(Consumer) replay} operations that were not committed yet.
+	 * @throws IOException If the translog cannot be opened.
+	 */
+	public static Translog open(Path indexDirectoryPath, EventContext eventContext) throws IOException {
+		Path directory = indexDirectoryPath.resolveSibling( indexDirectoryPath.getFileName() + DIRECTORY_SUFFIX );
+		Files.createDirectories( directory );
+		List<Long> generations = listGenerations( directory );
+		long lastGeneration = generations.isEmpty() ? 0L : generations.get( generations.size() - 1 );
+		Translog translog = new Translog( directory, eventContext );
+		translog.startGeneration( lastGeneration + 1 );
+		return translog;
+	}
+
+	private final Path directory;
+	private final EventContext eventContext;
+
+	private final ReentrantReadWriteLock generationLock = new ReentrantReadWriteLock();
+	private final ReentrantLock channelLock = new ReentrantLock();
+
+	private long generation;
+	private FileChannel channel;
+	private boolean generationHasRecords;
+
+	private Translog(Path directory, EventContext eventContext) {
+		this.directory = directory;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public void close() throws IOException {
+		generationLock.writeLock().lock();
+		try {
+			if ( channel != null ) {
+				channel.close();
+				channel = null;
+			}
+		}
+		finally {
+			generationLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @return The lock to hold while {@link #append(TranslogBuffer) appending} operations
+	 * and until these operations have been applied to the index writer.
+	 */
+	public Lock appendLock() {
+		return generationLock.readLock();
+	}
+
+	/**
+	 * Appends operations to the translog and makes sure they are durably stored.
+	 * <p>
+	 * Callers must hold the {@link #appendLock() append lock}.
+	 *
+	 * @param buffer The operations to append.
+	 * @throws IOException If operations cannot be appended.
+	 * Operations that were partially appended are removed from the translog in that case, if possible.
+	 */
+	public void append(TranslogBuffer buffer) throws IOException {
+		if ( buffer.isEmpty() ) {
+			return;
+		}
+		channelLock.lock();
+		try {
+			long start = channel.position();
+			try {
+				for ( ByteBuffer byteBuffer : buffer.buffers() ) {
+					while ( byteBuffer.hasRemaining() ) {
+						channel.write( byteBuffer );
+					}
+				}
+			}
+			catch (IOException | RuntimeException e) {
+				// Avoid leaving a partial record in the middle of the file,
+				// which would prevent the replay of records appended afterwards.
+				try {
+					channel.truncate( start );
+					channel.position( start );
+				}
+				catch (IOException | RuntimeException e2) {
+					e.addSuppressed( e2 );
+				}
+				throw e;
+			}
+			generationHasRecords = true;
+		}
+		finally {
+			channelLock.unlock();
+		}
+		// Forcing outside the lock allows concurrent appenders to share a single sync.
+		channel.force( false );
+	}
+
+	/**
+	 * Starts a new generation if the current one contains operations,
+	 * waiting for all operations being appended to be applied to the index writer.
+	 * <p>
+	 * Must be called before committing the index writer.
+	 * <p>
+	 * If the current thread holds the {@link #appendLock() append lock},
+	 * e.g. because a work requires a commit while being applied,
+	 * this keeps the current generation instead of deadlocking:
+	 * its operations will simply be removed on a later commit.
+	 *
+	 * @return The current generation, to pass to {@link #trim(long)} after the commit.
+	 * @throws IOException If a new generation cannot be started.
+	 */
+	public long roll() throws IOException {
+		if ( generationLock.getReadHoldCount() > 0 ) {
+			// No other thread can start a new generation while we hold the lock.
+			return generation;
+		}
+		generationLock.writeLock().lock();
+		try {
+			if ( generationHasRecords ) {
+				startGeneration( generation + 1 );
+			}
+			return generation;
+		}
+		finally {
+			generationLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Deletes generations whose operations are all committed.
+	 * <p>
+	 * Failures are logged, but not propagated: obsolete generations will simply be deleted later.
+	 *
+	 * @param generation A generation returned by {@link #roll()} before a successful commit:
+	 * all generations strictly older than this one will be deleted.
+	 */
+	public void trim(long generation) {
+		try {
+			for ( long existingGeneration : listGenerations( directory ) ) {
+				if ( existingGeneration < generation ) {
+					Files.deleteIfExists( file( existingGeneration ) );
+				}
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			LuceneMiscLog.INSTANCE.unableToTrimTranslog( e.getMessage(), eventContext, e );
+		}
+	}
+
+	/**
+	 * Removes all operations from the translog, e.g. because the index was dropped.
+	 *
+	 * @throws IOException If operations cannot be removed.
+	 */
+	public void clear() throws IOException {
+		generationLock.writeLock().lock();
+		try {
+			for ( long existingGeneration : listGenerations( directory ) ) {
+				if ( existingGeneration < generation ) {
+					Files.deleteIfExists( file( existingGeneration ) );
+				}
+			}
+			channel.truncate( HEADER_LENGTH );
+			channel.position( HEADER_LENGTH );
+			channel.force( false );
+			generationHasRecords = false;
+		}
+		finally {
+			generationLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Reads operations that were appended before this translog was opened,
+	 * i.e. operations that were not committed before the previous shutdown.
+	 * <p>
+	 * Replaying an operation that was actually committed must be harmless.
+	 * Replayed operations will be removed from the translog on the next commit.
+	 *
+	 * @param consumer A consumer for replayed operations, called in the order operations were appended.
+	 * @return The number of replayed operations.
+	 * @throws IOException If the translog cannot be read.
+	 */
+	public int replay(Consumer<TranslogOperation> consumer) throws IOException {
+		int count = 0;
+		for ( long existingGeneration : listGenerations( directory ) ) {
+			if ( existingGeneration < generation ) {
+				count += replay( file( existingGeneration ), consumer );
+			}
+		}
+		if ( count == 0 ) {
+			// Nothing to commit: the previous generations can be deleted right away.
+			trim( generation );
+		}
+		return count;
+	}
+
+	private int replay(Path file, Consumer<TranslogOperation> consumer) throws IOException {
+		int count = 0;
+		long offset = 0L;
+		try ( FileChannel readChannel = FileChannel.open( file, StandardOpenOption.READ ) ) {
+			long size = readChannel.size();
+			ByteBuffer header = ByteBuffer.allocate( HEADER_LENGTH ).order( ByteOrder.LITTLE_ENDIAN );
+			if ( !readFully( readChannel, header ) || header.getInt( 0 ) != HEADER_MAGIC
+					|| header.getInt( Integer.BYTES ) != FORMAT_VERSION ) {
+				LuceneMiscLog.INSTANCE.ignoringTruncatedTranslog( file, offset, eventContext );
+				return count;
+			}
+			offset = HEADER_LENGTH;
+			ByteBuffer recordHeader = ByteBuffer.allocate( RECORD_HEADER_LENGTH ).order( ByteOrder.LITTLE_ENDIAN );
+			CRC32 checksum = new CRC32();
+			while ( offset < size ) {
+				recordHeader.clear();
+				if ( !readFully( readChannel, recordHeader ) ) {
+					break;
+				}
+				int length = recordHeader.getInt( 0 );
+				int expectedChecksum = recordHeader.getInt( Integer.BYTES );
+				if ( length < 0 || length > size - offset - RECORD_HEADER_LENGTH ) {
+					break;
+				}
+				ByteBuffer payload = ByteBuffer.allocate( length );
+				if ( !readFully( readChannel, payload ) ) {
+					break;
+				}
+				checksum.reset();
+				checksum.update( payload.array() );
+				if ( (int) checksum.getValue() != expectedChecksum ) {
+					break;
+				}
+				consumer.accept( TranslogOperationCodec.decode( new ByteArrayDataInput( payload.array() ) ) );
+				++count;
+				offset += RECORD_HEADER_LENGTH + length;
+			}
+			if ( offset < size ) {
+				LuceneMiscLog.INSTANCE.ignoringTruncatedTranslog( file, offset, eventContext );
+			}
+		}
+		return count;
+	}
+
+	private void startGeneration(long newGeneration) throws IOException {
+		Path file = file( newGeneration );
+		FileChannel newChannel = FileChannel.open( file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE );
+		try {
+			ByteBuffer header = ByteBuffer.allocate( HEADER_LENGTH ).order( ByteOrder.LITTLE_ENDIAN );
+			header.putInt( HEADER_MAGIC ).putInt( FORMAT_VERSION ).flip();
+			while ( header.hasRemaining() ) {
+				newChannel.write( header );
+			}
+			newChannel.force( false );
+			// Make sure the file itself survives a crash.
+			IOUtils.fsync( directory, true );
+		}
+		catch (IOException | RuntimeException e) {
+			IOUtils.closeWhileHandlingException( newChannel );
+			IOUtils.deleteFilesIgnoringExceptions( file );
+			throw e;
+		}
+		FileChannel oldChannel = channel;
+		channel = newChannel;
+		generation = newGeneration;
+		generationHasRecords = false;
+		if ( oldChannel != null ) {
+			oldChannel.close();
+		}
+	}
+
+	private Path file(long generation) {
+		return directory.resolve( FILE_PREFIX + generation );
+	}
+
+	private static List<Long> listGenerations(Path directory) throws IOException {
+		List<Long> generations = new ArrayList<>();
+		try ( DirectoryStream<Path> stream = Files.newDirectoryStream( directory, FILE_PREFIX + "*" ) ) {
+			for ( Path file : stream ) {
+				try {
+					generations.add( Long.parseLong( file.getFileName().toString().substring( FILE_PREFIX.length() ) ) );
+				}
+				catch (NumberFormatException e) {
+					// Not a translog file: ignore.
+				}
+			}
+		}
+		Collections.sort( generations );
+		return generations;
+	}
+
+	private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while ( buffer.hasRemaining() ) {
+			if ( channel.read( buffer ) < 0 ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
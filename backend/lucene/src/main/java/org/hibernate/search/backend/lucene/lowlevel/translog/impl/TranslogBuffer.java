@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.translog.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.apache.lucene.store.ByteBuffersDataOutput;
+
+/**
+ * A buffer of encoded operations, to be {@link Translog#append(TranslogBuffer) appended} to a translog
+ * in a single write.
+ * <p>
+ * A buffer is NOT thread-safe, but can be reused after a call to {@link #clear()}.
+ */
+public final class TranslogBuffer {
+
+	private final ByteBuffersDataOutput records = new ByteBuffersDataOutput();
+	private final ByteBuffersDataOutput scratch = new ByteBuffersDataOutput();
+	private final CRC32 checksum = new CRC32();
+
+	/**
+	 * @param operation An operation to add to this buffer.
+	 * @throws IOException If the operation cannot be encoded.
+	 * @throws RuntimeException If the operation cannot be encoded.
+	 * The buffer is left unchanged in that case.
+	 */
+	public void add(TranslogOperation operation) throws IOException {
+		scratch.reset();
+		TranslogOperationCodec.encode( scratch, operation );
+		byte[] payload = scratch.toArrayCopy();
+		checksum.reset();
+		checksum.update( payload );
+		records.writeInt( payload.length );
+		records.writeInt( (int) checksum.getValue() );
+		records.writeBytes( payload, payload.length );
+	}
+
+	public boolean isEmpty() {
+		return records.size() == 0L;
+	}
+
+	public void clear() {
+		records.reset();
+		scratch.reset();
+	}
+
+	List<ByteBuffer> buffers() {
+		return records.toBufferList();
+	}
+
+}
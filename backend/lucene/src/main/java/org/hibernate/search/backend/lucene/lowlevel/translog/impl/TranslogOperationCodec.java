@@ -0,0 +1,460 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.translog.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.logging.impl.IndexingLog;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.InvertableType;
+import org.apache.lucene.document.KnnByteVectorField;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.StoredValue;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexableFieldType;
+import org.apache.lucene.index.VectorEncoding;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Encodes {@link TranslogOperation}s into bytes, and decodes them back.
+ * <p>
+ * Documents are encoded field by field, in a way that does not depend on the {@link IndexableField} implementation:
+ * decoded fields expose the same values to the index writer as the original fields,
+ * so indexing them has the same effect.
+ * The only exceptions are fields whose value is a {@link java.io.Reader} or a {@link org.apache.lucene.analysis.TokenStream},
+ * which cannot be encoded.
+ * <p>
+ * Enum constants are encoded by name, so that a translog written by a given version of Lucene
+ * can still be replayed after an upgrade.
+ */
+final class TranslogOperationCodec {
+
+	private static final byte OPERATION_DELETE = 0;
+	private static final byte OPERATION_INDEX = 1;
+
+	private static final int TYPE_STORED = 1;
+	private static final int TYPE_TOKENIZED = 1 << 1;
+	private static final int TYPE_STORE_TERM_VECTORS = 1 << 2;
+	private static final int TYPE_STORE_TERM_VECTOR_OFFSETS = 1 << 3;
+	private static final int TYPE_STORE_TERM_VECTOR_POSITIONS = 1 << 4;
+	private static final int TYPE_STORE_TERM_VECTOR_PAYLOADS = 1 << 5;
+	private static final int TYPE_OMIT_NORMS = 1 << 6;
+
+	private static final int VALUE_STRING = 1;
+	private static final int VALUE_BINARY = 1 << 1;
+	private static final int VALUE_NUMERIC = 1 << 2;
+	private static final int VALUE_STORED = 1 << 3;
+	private static final int VALUE_BINARY_INVERTABLE = 1 << 4;
+	private static final int VALUE_FLOAT_VECTOR = 1 << 5;
+	private static final int VALUE_BYTE_VECTOR = 1 << 6;
+
+	private static final byte NUMBER_INT = 0;
+	private static final byte NUMBER_LONG = 1;
+	private static final byte NUMBER_FLOAT = 2;
+	private static final byte NUMBER_DOUBLE = 3;
+	private static final byte STORED_BINARY = 4;
+	private static final byte STORED_STRING = 5;
+
+	private TranslogOperationCodec() {
+	}
+
+	static void encode(DataOutput out, TranslogOperation operation) throws IOException {
+		out.writeByte( operation.isDeletion() ? OPERATION_DELETE : OPERATION_INDEX );
+		writeOptionalString( out, operation.tenantId() );
+		out.writeString( operation.entityTypeName() );
+		out.writeString( operation.entityIdentifier() );
+		out.writeString( operation.documentIdentifier() );
+		if ( operation.isDeletion() ) {
+			return;
+		}
+		// Field types are generally shared between fields: write each of them only once.
+		Map<IndexableFieldType, Integer> fieldTypeOrdinals = new IdentityHashMap<>();
+		List<Document> documents = operation.documents();
+		out.writeVInt( documents.size() );
+		for ( Document document : documents ) {
+			List<IndexableField> fields = document.getFields();
+			out.writeVInt( fields.size() );
+			for ( IndexableField field : fields ) {
+				writeField( out, field, fieldTypeOrdinals );
+			}
+		}
+	}
+
+	static TranslogOperation decode(DataInput in) throws IOException {
+		boolean deletion = in.readByte() == OPERATION_DELETE;
+		String tenantId = readOptionalString( in );
+		String entityTypeName = in.readString();
+		String entityIdentifier = in.readString();
+		String documentIdentifier = in.readString();
+		if ( deletion ) {
+			return new TranslogOperation( tenantId, entityTypeName, entityIdentifier, documentIdentifier, null );
+		}
+		List<FieldType> fieldTypes = new ArrayList<>();
+		int documentCount = in.readVInt();
+		List<Document> documents = new ArrayList<>( documentCount );
+		for ( int i = 0; i < documentCount; i++ ) {
+			Document document = new Document();
+			int fieldCount = in.readVInt();
+			for ( int j = 0; j < fieldCount; j++ ) {
+				document.add( readField( in, fieldTypes ) );
+			}
+			documents.add( document );
+		}
+		return new TranslogOperation( tenantId, entityTypeName, entityIdentifier, documentIdentifier, documents );
+	}
+
+	private static void writeField(DataOutput out, IndexableField field,
+			Map<IndexableFieldType, Integer> fieldTypeOrdinals)
+			throws IOException {
+		if ( field.readerValue() != null || field instanceof Field && ( (Field) field ).tokenStreamValue() != null ) {
+			throw IndexingLog.INSTANCE.unsupportedFieldForTranslog( field.name() );
+		}
+		out.writeString( field.name() );
+		IndexableFieldType fieldType = field.fieldType();
+		Integer fieldTypeOrdinal = fieldTypeOrdinals.get( fieldType );
+		if ( fieldTypeOrdinal != null ) {
+			out.writeVInt( fieldTypeOrdinal );
+		}
+		else {
+			int newOrdinal = fieldTypeOrdinals.size();
+			fieldTypeOrdinals.put( fieldType, newOrdinal );
+			out.writeVInt( newOrdinal );
+			writeFieldType( out, fieldType );
+		}
+
+		// The index writer casts vector fields to their concrete type to retrieve the vector.
+		if ( field instanceof KnnFloatVectorField vectorField ) {
+			out.writeVInt( VALUE_FLOAT_VECTOR );
+			float[] vector = vectorField.vectorValue();
+			out.writeVInt( vector.length );
+			for ( float value : vector ) {
+				out.writeInt( Float.floatToIntBits( value ) );
+			}
+			return;
+		}
+		if ( field instanceof KnnByteVectorField vectorField ) {
+			out.writeVInt( VALUE_BYTE_VECTOR );
+			byte[] vector = vectorField.vectorValue();
+			out.writeVInt( vector.length );
+			out.writeBytes( vector, vector.length );
+			return;
+		}
+
+		String stringValue = field.stringValue();
+		BytesRef binaryValue = field.binaryValue();
+		Number numericValue = field.numericValue();
+		StoredValue storedValue = fieldType.stored() ? field.storedValue() : null;
+		if ( stringValue == null && binaryValue == null && numericValue == null && storedValue == null ) {
+			throw IndexingLog.INSTANCE.unsupportedFieldForTranslog( field.name() );
+		}
+		int flags = 0;
+		if ( stringValue != null ) {
+			flags |= VALUE_STRING;
+		}
+		if ( binaryValue != null ) {
+			flags |= VALUE_BINARY;
+		}
+		if ( numericValue != null ) {
+			flags |= VALUE_NUMERIC;
+		}
+		if ( storedValue != null ) {
+			flags |= VALUE_STORED;
+		}
+		if ( field.invertableType() == InvertableType.BINARY ) {
+			flags |= VALUE_BINARY_INVERTABLE;
+		}
+		out.writeVInt( flags );
+		if ( stringValue != null ) {
+			out.writeString( stringValue );
+		}
+		if ( binaryValue != null ) {
+			writeBytesRef( out, binaryValue );
+		}
+		if ( numericValue != null ) {
+			writeNumber( out, field.name(), numericValue );
+		}
+		if ( storedValue != null ) {
+			writeStoredValue( out, field.name(), storedValue );
+		}
+	}
+
+	private static IndexableField readField(DataInput in, List<FieldType> fieldTypes) throws IOException {
+		String name = in.readString();
+		int fieldTypeOrdinal = in.readVInt();
+		FieldType fieldType;
+		if ( fieldTypeOrdinal < fieldTypes.size() ) {
+			fieldType = fieldTypes.get( fieldTypeOrdinal );
+		}
+		else {
+			fieldType = readFieldType( in );
+			fieldTypes.add( fieldType );
+		}
+
+		int flags = in.readVInt();
+		if ( ( flags & VALUE_FLOAT_VECTOR ) != 0 ) {
+			float[] vector = new float[in.readVInt()];
+			for ( int i = 0; i < vector.length; i++ ) {
+				vector[i] = Float.intBitsToFloat( in.readInt() );
+			}
+			return new KnnFloatVectorField( name, vector, fieldType );
+		}
+		if ( ( flags & VALUE_BYTE_VECTOR ) != 0 ) {
+			byte[] vector = new byte[in.readVInt()];
+			in.readBytes( vector, 0, vector.length );
+			return new KnnByteVectorField( name, vector, fieldType );
+		}
+
+		String stringValue = ( flags & VALUE_STRING ) != 0 ? in.readString() : null;
+		BytesRef binaryValue = ( flags & VALUE_BINARY ) != 0 ? readBytesRef( in ) : null;
+		Number numericValue = ( flags & VALUE_NUMERIC ) != 0 ? readNumber( in ) : null;
+		StoredValue storedValue = ( flags & VALUE_STORED ) != 0 ? readStoredValue( in ) : null;
+		InvertableType invertableType = ( flags & VALUE_BINARY_INVERTABLE ) != 0
+				? InvertableType.BINARY
+				: InvertableType.TOKEN_STREAM;
+		return new DecodedField( name, fieldType, stringValue, binaryValue, numericValue, storedValue, invertableType );
+	}
+
+	private static void writeFieldType(DataOutput out, IndexableFieldType fieldType) throws IOException {
+		int flags = 0;
+		if ( fieldType.stored() ) {
+			flags |= TYPE_STORED;
+		}
+		if ( fieldType.tokenized() ) {
+			flags |= TYPE_TOKENIZED;
+		}
+		if ( fieldType.storeTermVectors() ) {
+			flags |= TYPE_STORE_TERM_VECTORS;
+		}
+		if ( fieldType.storeTermVectorOffsets() ) {
+			flags |= TYPE_STORE_TERM_VECTOR_OFFSETS;
+		}
+		if ( fieldType.storeTermVectorPositions() ) {
+			flags |= TYPE_STORE_TERM_VECTOR_POSITIONS;
+		}
+		if ( fieldType.storeTermVectorPayloads() ) {
+			flags |= TYPE_STORE_TERM_VECTOR_PAYLOADS;
+		}
+		if ( fieldType.omitNorms() ) {
+			flags |= TYPE_OMIT_NORMS;
+		}
+		out.writeVInt( flags );
+		out.writeString( fieldType.indexOptions().name() );
+		out.writeString( fieldType.docValuesType().name() );
+		out.writeVInt( fieldType.pointDimensionCount() );
+		if ( fieldType.pointDimensionCount() != 0 ) {
+			out.writeVInt( fieldType.pointIndexDimensionCount() );
+			out.writeVInt( fieldType.pointNumBytes() );
+		}
+		out.writeVInt( fieldType.vectorDimension() );
+		if ( fieldType.vectorDimension() != 0 ) {
+			out.writeString( fieldType.vectorEncoding().name() );
+			out.writeString( fieldType.vectorSimilarityFunction().name() );
+		}
+		Map<String, String> attributes = fieldType.getAttributes();
+		out.writeMapOfStrings( attributes == null ? Map.of() : attributes );
+	}
+
+	private static FieldType readFieldType(DataInput in) throws IOException {
+		FieldType fieldType = new FieldType();
+		int flags = in.readVInt();
+		fieldType.setStored( ( flags & TYPE_STORED ) != 0 );
+		fieldType.setTokenized( ( flags & TYPE_TOKENIZED ) != 0 );
+		fieldType.setStoreTermVectors( ( flags & TYPE_STORE_TERM_VECTORS ) != 0 );
+		fieldType.setStoreTermVectorOffsets( ( flags & TYPE_STORE_TERM_VECTOR_OFFSETS ) != 0 );
+		fieldType.setStoreTermVectorPositions( ( flags & TYPE_STORE_TERM_VECTOR_POSITIONS ) != 0 );
+		fieldType.setStoreTermVectorPayloads( ( flags & TYPE_STORE_TERM_VECTOR_PAYLOADS ) != 0 );
+		fieldType.setOmitNorms( ( flags & TYPE_OMIT_NORMS ) != 0 );
+		fieldType.setIndexOptions( IndexOptions.valueOf( in.readString() ) );
+		fieldType.setDocValuesType( DocValuesType.valueOf( in.readString() ) );
+		int pointDimensionCount = in.readVInt();
+		if ( pointDimensionCount != 0 ) {
+			int pointIndexDimensionCount = in.readVInt();
+			int pointNumBytes = in.readVInt();
+			fieldType.setDimensions( pointDimensionCount, pointIndexDimensionCount, pointNumBytes );
+		}
+		int vectorDimension = in.readVInt();
+		if ( vectorDimension != 0 ) {
+			VectorEncoding vectorEncoding = VectorEncoding.valueOf( in.readString() );
+			VectorSimilarityFunction similarityFunction = VectorSimilarityFunction.valueOf( in.readString() );
+			fieldType.setVectorAttributes( vectorDimension, vectorEncoding, similarityFunction );
+		}
+		for ( Map.Entry<String, String> attribute : in.readMapOfStrings().entrySet() ) {
+			fieldType.putAttribute( attribute.getKey(), attribute.getValue() );
+		}
+		fieldType.freeze();
+		return fieldType;
+	}
+
+	private static void writeNumber(DataOutput out, String fieldName, Number number) throws IOException {
+		if ( number instanceof Integer ) {
+			out.writeByte( NUMBER_INT );
+			out.writeInt( number.intValue() );
+		}
+		else if ( number instanceof Long ) {
+			out.writeByte( NUMBER_LONG );
+			out.writeLong( number.longValue() );
+		}
+		else if ( number instanceof Float ) {
+			out.writeByte( NUMBER_FLOAT );
+			out.writeInt( Float.floatToIntBits( number.floatValue() ) );
+		}
+		else if ( number instanceof Double ) {
+			out.writeByte( NUMBER_DOUBLE );
+			out.writeLong( Double.doubleToLongBits( number.doubleValue() ) );
+		}
+		else {
+			throw IndexingLog.INSTANCE.unsupportedFieldForTranslog( fieldName );
+		}
+	}
+
+	private static Number readNumber(DataInput in) throws IOException {
+		byte type = in.readByte();
+		switch ( type ) {
+			case NUMBER_INT:
+				return in.readInt();
+			case NUMBER_LONG:
+				return in.readLong();
+			case NUMBER_FLOAT:
+				return Float.intBitsToFloat( in.readInt() );
+			case NUMBER_DOUBLE:
+				return Double.longBitsToDouble( in.readLong() );
+			default:
+				throw new IOException( "Unknown number type in translog: " + type );
+		}
+	}
+
+	private static void writeStoredValue(DataOutput out, String fieldName, StoredValue storedValue) throws IOException {
+		switch ( storedValue.getType() ) {
+			case INTEGER:
+				writeNumber( out, fieldName, storedValue.getIntValue() );
+				break;
+			case LONG:
+				writeNumber( out, fieldName, storedValue.getLongValue() );
+				break;
+			case FLOAT:
+				writeNumber( out, fieldName, storedValue.getFloatValue() );
+				break;
+			case DOUBLE:
+				writeNumber( out, fieldName, storedValue.getDoubleValue() );
+				break;
+			case BINARY:
+				out.writeByte( STORED_BINARY );
+				writeBytesRef( out, storedValue.getBinaryValue() );
+				break;
+			case STRING:
+				out.writeByte( STORED_STRING );
+				out.writeString( storedValue.getStringValue() );
+				break;
+			default:
+				throw IndexingLog.INSTANCE.unsupportedFieldForTranslog( fieldName );
+		}
+	}
+
+	private static StoredValue readStoredValue(DataInput in) throws IOException {
+		byte type = in.readByte();
+		switch ( type ) {
+			case NUMBER_INT:
+				return new StoredValue( in.readInt() );
+			case NUMBER_LONG:
+				return new StoredValue( in.readLong() );
+			case NUMBER_FLOAT:
+				return new StoredValue( Float.intBitsToFloat( in.readInt() ) );
+			case NUMBER_DOUBLE:
+				return new StoredValue( Double.longBitsToDouble( in.readLong() ) );
+			case STORED_BINARY:
+				return new StoredValue( readBytesRef( in ) );
+			case STORED_STRING:
+				return new StoredValue( in.readString() );
+			default:
+				throw new IOException( "Unknown stored value type in translog: " + type );
+		}
+	}
+
+	private static void writeBytesRef(DataOutput out, BytesRef bytesRef) throws IOException {
+		out.writeVInt( bytesRef.length );
+		out.writeBytes( bytesRef.bytes, bytesRef.offset, bytesRef.length );
+	}
+
+	private static BytesRef readBytesRef(DataInput in) throws IOException {
+		byte[] bytes = new byte[in.readVInt()];
+		in.readBytes( bytes, 0, bytes.length );
+		return new BytesRef( bytes );
+	}
+
+	private static void writeOptionalString(DataOutput out, String value) throws IOException {
+		if ( value == null ) {
+			out.writeByte( (byte) 0 );
+		}
+		else {
+			out.writeByte( (byte) 1 );
+			out.writeString( value );
+		}
+	}
+
+	private static String readOptionalString(DataInput in) throws IOException {
+		return in.readByte() == 0 ? null : in.readString();
+	}
+
+	/**
+	 * A field exposing the exact values that were recorded,
+	 * relying on {@link Field} for the creation of token streams.
+	 */
+	private static final class DecodedField extends Field {
+		private final String stringValue;
+		private final BytesRef binaryValue;
+		private final Number numericValue;
+		private final StoredValue storedValue;
+		private final InvertableType invertableType;
+
+		private DecodedField(String name, FieldType type, String stringValue, BytesRef binaryValue, Number numericValue,
+				StoredValue storedValue, InvertableType invertableType) {
+			super( name, type );
+			this.stringValue = stringValue;
+			this.binaryValue = binaryValue;
+			this.numericValue = numericValue;
+			this.storedValue = storedValue;
+			this.invertableType = invertableType;
+			// Only used in toString()
+			this.fieldsData = numericValue != null ? numericValue : stringValue != null ? stringValue : binaryValue;
+		}
+
+		@Override
+		public String stringValue() {
+			return stringValue;
+		}
+
+		@Override
+		public BytesRef binaryValue() {
+			return binaryValue;
+		}
+
+		@Override
+		public Number numericValue() {
+			return numericValue;
+		}
+
+		@Override
+		public StoredValue storedValue() {
+			return storedValue;
+		}
+
+		@Override
+		public InvertableType invertableType() {
+			return invertableType;
+		}
+	}
+}
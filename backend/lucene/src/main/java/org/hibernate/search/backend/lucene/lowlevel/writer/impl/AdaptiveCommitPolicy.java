@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.ConfigurationLog;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicy;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicyContext;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicyInitializationContext;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+
+/**
+ * A commit policy that commits as soon as any of its budgets is exceeded:
+ * number of uncommitted changes, RAM used by the index writer, time since the last change
+ * or time since the last commit.
+ * <p>
+ * This allows infrequent commits during write peaks, when commits would be most expensive,
+ * while still committing promptly once writes stop.
+ * <p>
+ * The commit interval acts as the maximum time between commits, so it must be strictly positive:
+ * with a commit interval of 0, every change would be committed immediately and no budget would ever apply.
+ */
+public final class AdaptiveCommitPolicy implements CommitPolicy {
+
+	public static final String NAME = "adaptive";
+
+	private static final ConfigurationProperty<Integer> MAX_CHANGES =
+			ConfigurationProperty.forKey( LuceneIndexSettings.CommitRadicals.MAX_CHANGES )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_MAX_CHANGES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_RAM_USAGE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.CommitRadicals.MAX_RAM_USAGE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_MAX_RAM_USAGE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> IDLE_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.CommitRadicals.IDLE_INTERVAL )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_IDLE_INTERVAL )
+					.build();
+
+	private long maxChanges;
+	private long maxRamBytes;
+	private long idleInterval;
+	private long maxInterval;
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxChanges=" + maxChanges
+				+ ", maxRamBytes=" + maxRamBytes
+				+ ", idleInterval=" + idleInterval
+				+ ", maxInterval=" + maxInterval
+				+ "]";
+	}
+
+	@Override
+	public void initialize(CommitPolicyInitializationContext context) {
+		ConfigurationPropertySource propertySource = context.configurationPropertySource();
+		maxChanges = MAX_CHANGES.get( propertySource );
+		maxRamBytes = MAX_RAM_USAGE.get( propertySource ) * 1024L * 1024L;
+		idleInterval = IDLE_INTERVAL.get( propertySource );
+		maxInterval = context.commitInterval();
+		if ( maxInterval == 0 ) {
+			throw ConfigurationLog.INSTANCE.adaptiveCommitPolicyRequiresCommitInterval();
+		}
+	}
+
+	@Override
+	public long timeToCommit(CommitPolicyContext context) {
+		if ( context.uncommittedChangeCount() >= maxChanges || context.ramBytesUsed() >= maxRamBytes ) {
+			return 0L;
+		}
+		long timeToMaxInterval = maxInterval - context.timeSinceLastCommit();
+		long timeToIdleInterval = idleInterval - context.timeSinceLastChange();
+		return Math.min( timeToMaxInterval, timeToIdleInterval );
+	}
+
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicyInitializationContext;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
+
+public final class CommitPolicyInitializationContextImpl implements CommitPolicyInitializationContext {
+
+	private final String indexName;
+	private final Optional<String> shardId;
+	private final int commitInterval;
+	private final BeanResolver beanResolver;
+	private final ConfigurationPropertySource configurationPropertySource;
+
+	public CommitPolicyInitializationContextImpl(String indexName, Optional<String> shardId, int commitInterval,
+			BeanResolver beanResolver, ConfigurationPropertySource configurationPropertySource) {
+		this.indexName = indexName;
+		this.shardId = shardId;
+		this.commitInterval = commitInterval;
+		this.beanResolver = beanResolver;
+		this.configurationPropertySource = configurationPropertySource;
+	}
+
+	@Override
+	public String indexName() {
+		return indexName;
+	}
+
+	@Override
+	public Optional<String> shardId() {
+		return shardId;
+	}
+
+	@Override
+	public int commitInterval() {
+		return commitInterval;
+	}
+
+	@Override
+	public BeanResolver beanResolver() {
+		return beanResolver;
+	}
+
+	@Override
+	public ConfigurationPropertySource configurationPropertySource() {
+		return configurationPropertySource;
+	}
+}
@@ -20,6 +20,10 @@
 
 	@Override
 	public void submitTo(LuceneBatchedWorkProcessor processor) {
+		processor.enqueue( this );
+	}
+
+	void executeWith(LuceneBatchedWorkProcessor processor) {
 		try {
 			T result = processor.submit( work );
 			future.complete( result );
@@ -29,6 +33,29 @@ public void submitTo(LuceneBatchedWorkProcessor processor) {
 		}
 	}
 
+	@SuppressWarnings("unchecked") // Only single-document works, which all return the same type, can be part of a bulk
+	void completeWithBulkResult(Object result) {
+		future.complete( (T) result );
+	}
+
+	/**
+	 * Completes this work the same way as the given, already executed work,
+	 * which made the execution of this work unnecessary.
+	 *
+	 * @param supersedingWork A work with the same coalescing key as this work.
+	 */
+	@SuppressWarnings("unchecked") // Works with the same coalescing key necessarily return the same type
+	void completeAsSupersededBy(LuceneBatchedWork<?> supersedingWork) {
+		supersedingWork.future.whenComplete( (result, throwable) -> {
+			if ( throwable != null ) {
+				markAsFailed( throwable );
+			}
+			else {
+				future.complete( (T) result );
+			}
+		} );
+	}
+
 	@Override
 	public void markAsFailed(Throwable t) {
 		future.completeExceptionally( t );
@@ -37,4 +64,12 @@ public void markAsFailed(Throwable t) {
 	String getQueuingKey() {
 		return work.getQueuingKey();
 	}
+
+	Object getCoalescingKey() {
+		return work.getCoalescingKey();
+	}
+
+	boolean supersedesPreviousWorks() {
+		return work.supersedesPreviousWorks();
+	}
 }
@@ -6,8 +6,10 @@
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
@@ -15,6 +17,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
@@ -24,7 +27,10 @@
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.QueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.search.similarities.Similarity;
 
 public class LuceneSyncWorkOrchestratorImpl
@@ -33,22 +39,28 @@
 
 	private final Similarity similarity;
 	private final LuceneQueryCachingContext cachingContext;
+	private final BackendThreads threads;
+	private final int sliceMaxDocs;
+	private final int sliceMaxSegments;
 
 	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity,
-			LuceneQueryCachingContext cachingContext) {
+			LuceneQueryCachingContext cachingContext,
+			BackendThreads threads, int sliceMaxDocs, int sliceMaxSegments) {
 		super( name );
 		this.similarity = similarity;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 		this.cachingContext = cachingContext;
+		this.threads = threads;
+		this.sliceMaxDocs = sliceMaxDocs;
+		this.sliceMaxSegments = sliceMaxSegments;
 	}
 
 	@Override
 	public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work,
+			Set<String> routingKeys, String tenantId, ReadWork<T> work,
 			HibernateSearchMultiReader indexReader) {
-		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext
-		);
+		WorkExecution<T> workExecution = new WorkExecution<>( this, indexNames, indexManagerContexts, routingKeys,
+				tenantId, work, indexReader );
 		Throwable throwable = null;
 		try {
 			submit( workExecution, OperationSubmitter.blocking() );
@@ -96,23 +108,46 @@ protected void doStop() {
 		// Nothing to do
 	}
 
+	private IndexSearcher createSearcher(HibernateSearchMultiReader indexReader, String tenantId) {
+		Executor searchExecutor = threads.getSearchExecutorOrNull();
+		IndexSearcher searcher = searchExecutor == null
+				? new IndexSearcher( indexReader )
+				: new SlicingIndexSearcher( indexReader, searchExecutor, sliceMaxDocs, sliceMaxSegments );
+		searcher.setSimilarity( similarity );
+
+		QueryCache queryCache = cachingContext.queryCache( tenantId );
+		if ( queryCache != null ) {
+			searcher.setQueryCache( queryCache );
+		}
+		QueryCachingPolicy queryCachingPolicy = cachingContext.queryCachingPolicy();
+		if ( queryCachingPolicy != null ) {
+			searcher.setQueryCachingPolicy( queryCachingPolicy );
+		}
+		// Note: Lucene 11 will not enable cache by default so policy won't get applied, let's warn users if this happens:
+		if ( cachingContext.hasExplicitQueryCachingPolicy() && searcher.getQueryCache() == null ) {
+			QueryLog.INSTANCE.ineffectiveQueryCachingPolicy();
+		}
+
+		return searcher;
+	}
+
 	static class WorkExecution<T> implements AutoCloseable, ReadWorkExecutionContext {
-		private final Similarity similarity;
+		private final LuceneSyncWorkOrchestratorImpl orchestrator;
 		private final Set<String> indexNames;
 		private final HibernateSearchMultiReader indexReader;
+		private final String tenantId;
 		private final ReadWork<T> work;
 		private final boolean closeIndexReader;
-		private final LuceneQueryCachingContext cachingContext;
 
 		private T result;
 
-		WorkExecution(Similarity similarity, Set<String> indexNames,
+		WorkExecution(LuceneSyncWorkOrchestratorImpl orchestrator, Set<String> indexNames,
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, ReadWork<T> work,
-				HibernateSearchMultiReader indexReader,
-				LuceneQueryCachingContext cachingContext) {
-			this.similarity = similarity;
+				Set<String> routingKeys, String tenantId, ReadWork<T> work,
+				HibernateSearchMultiReader indexReader) {
+			this.orchestrator = orchestrator;
 			this.indexNames = indexNames;
+			this.tenantId = tenantId;
 			this.work = work;
 
 			if ( indexReader == null ) {
@@ -123,24 +158,11 @@ protected void doStop() {
 				this.indexReader = indexReader;
 				this.closeIndexReader = false;
 			}
-			this.cachingContext = cachingContext;
 		}
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
-			searcher.setSimilarity( similarity );
-
-			cachingContext.queryCache().ifPresent( searcher::setQueryCache );
-			if ( cachingContext.queryCachingPolicy().isPresent() ) {
-				searcher.setQueryCachingPolicy( cachingContext.queryCachingPolicy().get() );
-				// Note: Lucene 11 will not enable cache by default so policy won't get applied, let's warn users if this happens:
-				if ( searcher.getQueryCache() == null ) {
-					QueryLog.INSTANCE.ineffectiveQueryCachingPolicy();
-				}
-			}
-
-			return searcher;
+			return orchestrator.createSearcher( indexReader, tenantId );
 		}
 
 		@Override
@@ -176,4 +198,25 @@ public void close() {
 		}
 	}
 
+	/**
+	 * An index searcher that executes slices of index segments concurrently,
+	 * with slices sized according to the backend configuration.
+	 */
+	private static final class SlicingIndexSearcher extends IndexSearcher {
+		private final int sliceMaxDocs;
+		private final int sliceMaxSegments;
+
+		SlicingIndexSearcher(HibernateSearchMultiReader indexReader, Executor executor,
+				int sliceMaxDocs, int sliceMaxSegments) {
+			super( indexReader, executor );
+			this.sliceMaxDocs = sliceMaxDocs;
+			this.sliceMaxSegments = sliceMaxSegments;
+		}
+
+		@Override
+		protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+			// Slices are computed lazily, after this object is fully initialized.
+			return slices( leaves, sliceMaxDocs, sliceMaxSegments );
+		}
+	}
 }
@@ -4,11 +4,12 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.ExecutorService;
+
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
-import org.hibernate.search.engine.common.execution.spi.DelegatingSimpleScheduledExecutor;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 
 public class DefaultLuceneWorkExecutorProvider implements LuceneWorkExecutorProvider {
@@ -20,6 +21,12 @@ public class DefaultLuceneWorkExecutorProvider implements LuceneWorkExecutorProv
 					.asIntegerStrictlyPositive()
 					.build();
 
+	private static final ConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_THREAD_POOL_SIZE )
+					.build();
+
 	@Override
 	public SimpleScheduledExecutor writeExecutor(Context context) {
 		int threadPoolSize = THREAD_POOL_SIZE.get( context.propertySource() )
@@ -27,12 +34,25 @@ public SimpleScheduledExecutor writeExecutor(Context context) {
 
 		// We use a scheduled executor for write so that we perform all commits,
 		// scheduled or not, in the *same* thread pool.
-		return new DelegatingSimpleScheduledExecutor(
+		return new FixedSizeSimpleScheduledExecutor(
 				context.threadPoolProvider().newScheduledExecutor(
 						threadPoolSize,
 						context.recommendedThreadNamePrefix()
 				),
-				context.threadPoolProvider().isScheduledExecutorBlocking()
+				context.threadPoolProvider().isScheduledExecutorBlocking(),
+				threadPoolSize
 		);
 	}
+
+	@Override
+	public ExecutorService searchExecutor(Context context) {
+		int threadPoolSize = SEARCH_THREAD_POOL_SIZE.get( context.propertySource() );
+		if ( threadPoolSize == 0 ) {
+			// Concurrent search is disabled: queries will be executed in the calling thread.
+			return null;
+		}
+		// Lucene's IndexSearcher lets the calling thread execute pending slices as well,
+		// so a full queue only slows queries down and cannot lead to a deadlock.
+		return context.threadPoolProvider().newFixedThreadPool( threadPoolSize, context.recommendedThreadNamePrefix() );
+	}
 }
@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.resources.impl;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.hibernate.search.engine.common.execution.spi.DelegatingSimpleScheduledExecutor;
+
+/**
+ * A {@link DelegatingSimpleScheduledExecutor} whose number of threads is known,
+ * so that the {@link WriteTaskScheduler} can hand over no more tasks than there are threads.
+ */
+final class FixedSizeSimpleScheduledExecutor extends DelegatingSimpleScheduledExecutor {
+
+	private final int threadCount;
+
+	FixedSizeSimpleScheduledExecutor(ScheduledExecutorService delegate, boolean blocking, int threadCount) {
+		super( delegate, blocking );
+		this.threadCount = threadCount;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[threadCount=" + threadCount + "]";
+	}
+
+	int threadCount() {
+		return threadCount;
+	}
+}
@@ -4,11 +4,24 @@
  */
 package org.hibernate.search.backend.lucene.search.common.impl;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.engine.search.common.spi.SearchIndexIdentifierContext;
 
+import org.apache.lucene.search.Sort;
+
 public interface LuceneSearchIndexContext extends ReadIndexManagerContext {
 
 	SearchIndexIdentifierContext identifier();
 
+	/**
+	 * @return The search result cache of this index, or {@code null} if caching is disabled.
+	 */
+	LuceneSearchResultCache searchResultCacheOrNull();
+
+	/**
+	 * @return The sort applied to documents within each segment of this index, or {@code null} if there is none.
+	 */
+	Sort indexSortOrNull();
+
 }
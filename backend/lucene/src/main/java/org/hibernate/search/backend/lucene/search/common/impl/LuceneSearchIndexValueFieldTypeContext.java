@@ -18,4 +18,11 @@
 
 	boolean hasTermVectorsConfigured();
 
+	/**
+	 * @return {@code true} if projections can read values from doc values instead of stored fields,
+	 * i.e. if {@link LuceneFieldCodec#docValuesDecoderOrNull()} returns a non-null value
+	 * (for all targeted indexes in the case of multi-index search).
+	 */
+	boolean projectableFromDocValues();
+
 }
@@ -10,6 +10,7 @@
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollector;
@@ -135,6 +136,28 @@ else if ( resultTotal.isHitCountExact() ) {
 		}
 	}
 
+	/**
+	 * Alternative to phase 1: reuse matching docs collected by a previous execution of the same query
+	 * against the same index reader.
+	 *
+	 * @param cachedResult The matching docs collected by a previous execution.
+	 */
+	public void restoreMatchingDocs(LuceneSearchResultCache.CachedResult cachedResult) {
+		resultTotal = cachedResult.total();
+		topDocs = cachedResult.topDocs();
+	}
+
+	/**
+	 * @return The matching docs collected in phase 1, to be cached,
+	 * or {@code null} if they cannot be cached because the query timed out.
+	 */
+	public LuceneSearchResultCache.CachedResult matchingDocsForCaching() {
+		if ( timeoutManager.isTimedOut() ) {
+			return null;
+		}
+		return new LuceneSearchResultCache.CachedResult( resultTotal, topDocs );
+	}
+
 	public MultiCollectedResults collectedMultiResults() {
 		return results;
 	}
@@ -155,10 +178,12 @@ public <T> List<T> collectTopDocsData(TopDocsDataCollector.Factory<T> collectorF
 		List<T> extractedData = new ArrayList<>( endExclusive - startInclusive );
 		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
 		ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( scoreDocs, startInclusive, endExclusive );
-		HibernateSearchMultiCollectorManager collectorManager = buildTopDocsDataCollectors( collectorFactory );
+		IndexSearcher topDocsDataSearcher = topDocsDataSearcher();
+		HibernateSearchMultiCollectorManager collectorManager =
+				buildTopDocsDataCollectors( topDocsDataSearcher, collectorFactory );
 		var timeout = collectorManager.queryTimeout();
-		indexSearcher.setTimeout( timeout );
-		MultiCollectedResults collectedResults = indexSearcher.search( topDocsQuery, collectorManager );
+		topDocsDataSearcher.setTimeout( timeout );
+		MultiCollectedResults collectedResults = topDocsDataSearcher.search( topDocsQuery, collectorManager );
 
 		// If we had a timeout set, and we've reached it while collecting the data
 		//   then the collector state will be unpredictable
@@ -195,11 +220,27 @@ private void handleRescoring() throws IOException {
 		}
 	}
 
-	private <T> HibernateSearchMultiCollectorManager buildTopDocsDataCollectors(
+	/**
+	 * @return A searcher that will collect top docs data in a single thread.
+	 * Collectors for top docs data share state across segments (stored fields visitors in particular)
+	 * and only handle a few documents anyway, so there is nothing to gain from executing them concurrently.
+	 */
+	private IndexSearcher topDocsDataSearcher() {
+		if ( indexSearcher.getSlices().length <= 1 ) {
+			return indexSearcher;
+		}
+		IndexSearcher sequentialSearcher = new IndexSearcher( indexSearcher.getIndexReader() );
+		sequentialSearcher.setSimilarity( indexSearcher.getSimilarity() );
+		sequentialSearcher.setQueryCache( indexSearcher.getQueryCache() );
+		sequentialSearcher.setQueryCachingPolicy( indexSearcher.getQueryCachingPolicy() );
+		return sequentialSearcher;
+	}
+
+	private <T> HibernateSearchMultiCollectorManager buildTopDocsDataCollectors(IndexSearcher topDocsDataSearcher,
 			TopDocsDataCollector.Factory<T> collectorManagerFactory)
 			throws IOException {
 		TopDocsDataCollectorExecutionContext executionContext = new TopDocsDataCollectorExecutionContext(
-				metadataResolver, indexSearcher,
+				metadataResolver, topDocsDataSearcher,
 				rewrittenLuceneQuery,
 				originalLuceneQuery,
 				topDocs,
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.StoredFieldVisitor;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Inspired by Lucene's DocumentStoredFieldVisitor, with the difference that we want
+ * to reuse the same FieldVisitor to load stored fields of multiple documents,
+ * and that we load values into a reusable {@link LoadedStoredFields} buffer
+ * instead of creating a new {@link org.apache.lucene.document.Document} for each document.
+ * <p>
+ * Each required field is assigned a "slot" (its index in the collection of required fields),
+ * and loaded values are tagged with the slot of their field,
+ * so that consumers can pick the values they are interested in without comparing field names.
+ * Slots are resolved once per segment, by field number.
+ * <p>
+ * A ReusableStoredFieldVisitor is NOT threadsafe: in case you need one
+ * for multiple threads make a new one for each thread.
+ *
+ * @see org.apache.lucene.document.DocumentStoredFieldVisitor
+ */
+public final class ReusableStoredFieldVisitor extends StoredFieldVisitor {
+
+	private static final int[] NO_SLOTS = new int[0];
+
+	private final boolean acceptAllFields;
+	private final Map<String, Integer> slotByFieldName;
+
+	private int[] slotByFieldNumber = NO_SLOTS;
+	private LoadedStoredFields target;
+
+	/**
+	 * @param acceptAllFields Whether all stored fields should be loaded,
+	 * even those that are not part of {@code requiredFields}.
+	 * @param requiredFields The fields that require a slot, in slot order.
+	 */
+	public ReusableStoredFieldVisitor(boolean acceptAllFields, Collection<String> requiredFields) {
+		this.acceptAllFields = acceptAllFields;
+		this.slotByFieldName = new HashMap<>();
+		for ( String fieldName : requiredFields ) {
+			slotByFieldName.putIfAbsent( fieldName, slotByFieldName.size() );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "acceptAllFields=" + acceptAllFields
+				+ ", slotByFieldName=" + slotByFieldName
+				+ "]";
+	}
+
+	/**
+	 * @param absoluteFieldPath The path of a field.
+	 * @return The slot assigned to that field, or {@code -1} if the field was not required.
+	 */
+	public int slot(String absoluteFieldPath) {
+		Integer slot = slotByFieldName.get( absoluteFieldPath );
+		return slot == null ? -1 : slot;
+	}
+
+	public void context(LeafReader reader) {
+		FieldInfos fieldInfos = reader.getFieldInfos();
+		int maxFieldNumber = -1;
+		for ( FieldInfo fieldInfo : fieldInfos ) {
+			maxFieldNumber = Math.max( maxFieldNumber, fieldInfo.number );
+		}
+		int[] slots = new int[maxFieldNumber + 1];
+		Arrays.fill( slots, -1 );
+		for ( FieldInfo fieldInfo : fieldInfos ) {
+			Integer slot = slotByFieldName.get( fieldInfo.name );
+			if ( slot != null ) {
+				slots[fieldInfo.number] = slot;
+			}
+		}
+		this.slotByFieldNumber = slots;
+	}
+
+	/**
+	 * Loads the stored fields of the given document into the given buffer, after resetting the buffer.
+	 */
+	public void load(StoredFields storedFields, int docId, LoadedStoredFields target) throws IOException {
+		target.reset();
+		this.target = target;
+		try {
+			storedFields.document( docId, this );
+		}
+		finally {
+			this.target = null;
+		}
+	}
+
+	@Override
+	public void binaryField(FieldInfo fieldInfo, byte[] value) {
+		target.add( fieldInfo, slot( fieldInfo ), new BytesRef( value ) );
+	}
+
+	@Override
+	public void stringField(FieldInfo fieldInfo, String value) {
+		target.add( fieldInfo, slot( fieldInfo ), value );
+	}
+
+	@Override
+	public void intField(FieldInfo fieldInfo, int value) {
+		target.add( fieldInfo, slot( fieldInfo ), value );
+	}
+
+	@Override
+	public void longField(FieldInfo fieldInfo, long value) {
+		target.add( fieldInfo, slot( fieldInfo ), value );
+	}
+
+	@Override
+	public void floatField(FieldInfo fieldInfo, float value) {
+		target.add( fieldInfo, slot( fieldInfo ), value );
+	}
+
+	@Override
+	public void doubleField(FieldInfo fieldInfo, double value) {
+		target.add( fieldInfo, slot( fieldInfo ), value );
+	}
+
+	@Override
+	public Status needsField(FieldInfo fieldInfo) {
+		return ( acceptAllFields || slot( fieldInfo ) >= 0 ) ? Status.YES : Status.NO;
+	}
+
+	private int slot(FieldInfo fieldInfo) {
+		int number = fieldInfo.number;
+		return number < slotByFieldNumber.length ? slotByFieldNumber[number] : -1;
+	}
+
+}
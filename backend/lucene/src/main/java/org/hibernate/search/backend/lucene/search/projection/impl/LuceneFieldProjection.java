@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import java.io.IOException;
 import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
@@ -13,6 +14,8 @@
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LoadedStoredFields;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneDocValuesDecoder;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
@@ -22,7 +25,6 @@
 import org.hibernate.search.engine.search.projection.SearchProjection;
 import org.hibernate.search.engine.search.projection.spi.FieldProjectionBuilder;
 
-import org.apache.lucene.document.Document;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.DocIdSetIterator;
@@ -41,11 +43,17 @@
 	private final String requiredContextAbsoluteFieldPath;
 
 	private final Function<IndexableField, T> decodeFunction;
+	private final LuceneDocValuesDecoder<T> docValuesDecoderOrNull;
 	private final ProjectionConverter<T, ? extends V> converter;
 	private final ProjectionCollector.Provider<V, P> collectorProvider;
 
 	private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionCollector.Provider<V, P> collectorProvider) {
-		this( builder.scope, builder.field, builder.decodeFunction, builder.converter, collectorProvider );
+		this( builder.scope, builder.field, builder.decodeFunction,
+				// Doc values are sorted, so we can only use them when there is at most one value per document.
+				( builder.field.multiValued() || !builder.field.type().projectableFromDocValues() )
+						? null
+						: builder.docValuesDecoderOrNull,
+				builder.converter, collectorProvider );
 	}
 
 	LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
@@ -53,6 +61,15 @@ private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionCollector.Prov
 			Function<IndexableField, T> decodeFunction,
 			ProjectionConverter<T, ? extends V> converter,
 			ProjectionCollector.Provider<V, P> collectorProvider) {
+		this( scope, field, decodeFunction, null, converter, collectorProvider );
+	}
+
+	private LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
+			LuceneSearchIndexValueFieldContext<?> field,
+			Function<IndexableField, T> decodeFunction,
+			LuceneDocValuesDecoder<T> docValuesDecoderOrNull,
+			ProjectionConverter<T, ? extends V> converter,
+			ProjectionCollector.Provider<V, P> collectorProvider) {
 		super( scope );
 		this.absoluteFieldPath = field.absolutePath();
 		this.nestedDocumentPath = field.nestedDocumentPath();
@@ -60,6 +77,7 @@ private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionCollector.Prov
 				? field.closestMultiValuedParentAbsolutePath()
 				: null;
 		this.decodeFunction = decodeFunction;
+		this.docValuesDecoderOrNull = docValuesDecoderOrNull;
 		this.converter = converter;
 		this.collectorProvider = collectorProvider;
 	}
@@ -79,8 +97,12 @@ public ValueFieldExtractor<?> request(ProjectionRequestContext context) {
 			throw QueryLog.INSTANCE.invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(
 					absoluteFieldPath, requiredContextAbsoluteFieldPath );
 		}
-		context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
-		return new ValueFieldExtractor<>( context.absoluteCurrentNestedFieldPath(), collectorProvider.get() );
+		boolean useDocValues = docValuesDecoderOrNull != null && context.preferDocValuesForProjections();
+		if ( !useDocValues ) {
+			context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		}
+		return new ValueFieldExtractor<>( context.absoluteCurrentNestedFieldPath(), collectorProvider.get(),
+				useDocValues );
 	}
 
 	/**
@@ -90,10 +112,13 @@ public ValueFieldExtractor<?> request(ProjectionRequestContext context) {
 
 		private final String contextAbsoluteFieldPath;
 		private final ProjectionCollector<T, V, A, P> collector;
+		private final boolean useDocValues;
 
-		public ValueFieldExtractor(String contextAbsoluteFieldPath, ProjectionCollector<T, V, A, P> collector) {
+		public ValueFieldExtractor(String contextAbsoluteFieldPath, ProjectionCollector<T, V, A, P> collector,
+				boolean useDocValues) {
 			this.collector = collector;
 			this.contextAbsoluteFieldPath = contextAbsoluteFieldPath;
+			this.useDocValues = useDocValues;
 		}
 
 		@Override
@@ -101,21 +126,51 @@ public String toString() {
 			return getClass().getSimpleName() + "["
 					+ "absoluteFieldPath=" + absoluteFieldPath
 					+ ", collector=" + collector
+					+ ", useDocValues=" + useDocValues
 					+ "]";
 		}
 
 		@Override
 		public Values<A> values(ProjectionExtractContext context) {
+			if ( useDocValues ) {
+				return new DocValuesFieldValues( collector, context.collectorExecutionContext() );
+			}
 			return new StoredFieldValues( collector, context.collectorExecutionContext() );
 		}
 
+		private class DocValuesFieldValues extends AbstractNestingAwareAccumulatingValues<T, A> {
+			private LuceneDocValuesDecoder.LeafValues<T> currentLeafValues;
+
+			public DocValuesFieldValues(ProjectionCollector<T, V, A, P> collector,
+					TopDocsDataCollectorExecutionContext context) {
+				super( contextAbsoluteFieldPath, nestedDocumentPath, collector, context );
+			}
+
+			@Override
+			protected DocIdSetIterator doContext(LeafReaderContext context) throws IOException {
+				currentLeafValues = docValuesDecoderOrNull.leafValues( context.reader(), absoluteFieldPath );
+				return currentLeafValues.iterator();
+			}
+
+			@Override
+			protected A accumulate(A accumulated, int docId) throws IOException {
+				T decoded = currentLeafValues.valueOrNull( docId );
+				if ( decoded != null ) {
+					accumulated = collector.accumulate( accumulated, decoded );
+				}
+				return accumulated;
+			}
+		}
+
 		private class StoredFieldValues extends AbstractNestingAwareAccumulatingValues<T, A> {
 			private final StoredFieldsValuesDelegate delegate;
+			private final int slot;
 
 			public StoredFieldValues(ProjectionCollector<T, V, A, P> collector,
 					TopDocsDataCollectorExecutionContext context) {
 				super( contextAbsoluteFieldPath, nestedDocumentPath, collector, context );
 				this.delegate = context.storedFieldsValuesDelegate();
+				this.slot = delegate.storedFieldSlot( absoluteFieldPath );
 			}
 
 			@Override
@@ -126,10 +181,12 @@ protected DocIdSetIterator doContext(LeafReaderContext context) {
 
 			@Override
 			protected A accumulate(A accumulated, int docId) {
-				Document document = delegate.get( docId );
-				for ( IndexableField field : document.getFields() ) {
-					if ( field.name().equals( absoluteFieldPath ) ) {
-						T decoded = decodeFunction.apply( field );
+				// Decode values straight from the loaded stored fields,
+				// without creating a Document and one field instance per value.
+				LoadedStoredFields storedFields = delegate.storedFields( docId );
+				for ( int i = 0; i < storedFields.size(); i++ ) {
+					if ( storedFields.slot( i ) == slot ) {
+						T decoded = decodeFunction.apply( storedFields.field( i ) );
 						accumulated = collector.accumulate( accumulated, decoded );
 					}
 				}
@@ -178,6 +235,7 @@ private TypeSelector(LuceneFieldCodec<F, E> codec,
 			if ( ValueModel.RAW.equals( valueModel ) ) {
 				return new Builder<>( scope, field,
 						codec::raw,
+						codec.docValuesDecoderOrNull(),
 						// unchecked cast to make eclipse-compiler happy
 						// we know that Lucene projection converters work with the encoded type
 						( (ProjectionConverter<E, ?>) field.type().rawProjectionConverter() )
@@ -185,8 +243,10 @@ private TypeSelector(LuceneFieldCodec<F, E> codec,
 				);
 			}
 			else {
+				LuceneDocValuesDecoder<E> docValuesDecoder = codec.docValuesDecoderOrNull();
 				return new Builder<>( scope, field,
 						codec::decode,
+						docValuesDecoder == null ? null : docValuesDecoder.map( codec::decode ),
 						field.type().projectionConverter( valueModel ).withConvertedType( expectedType, field )
 				);
 			}
@@ -198,14 +258,18 @@ private TypeSelector(LuceneFieldCodec<F, E> codec,
 
 		private final Function<IndexableField, T> decodeFunction;
 
+		private final LuceneDocValuesDecoder<T> docValuesDecoderOrNull;
+
 		private final LuceneSearchIndexValueFieldContext<F> field;
 
 		private final ProjectionConverter<T, ? extends V> converter;
 
 		private Builder(LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<F> field,
-				Function<IndexableField, T> decodeFunction, ProjectionConverter<T, ? extends V> converter) {
+				Function<IndexableField, T> decodeFunction, LuceneDocValuesDecoder<T> docValuesDecoderOrNull,
+				ProjectionConverter<T, ? extends V> converter) {
 			super( scope );
 			this.decodeFunction = decodeFunction;
+			this.docValuesDecoderOrNull = docValuesDecoderOrNull;
 			this.field = field;
 			this.converter = converter;
 		}
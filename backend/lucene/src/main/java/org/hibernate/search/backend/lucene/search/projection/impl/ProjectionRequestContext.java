@@ -24,21 +24,24 @@ public final class ProjectionRequestContext {
 	private final LuceneAbstractSearchHighlighter globalHighlighter;
 	private final Map<String, LuceneAbstractSearchHighlighter> namedHighlighters;
 	private final QueryParameters parameters;
+	private final boolean preferDocValuesForProjections;
 
 	public ProjectionRequestContext(ExtractionRequirements.Builder extractionRequirementsBuilder,
 			LuceneAbstractSearchHighlighter globalHighlighter, Map<String, LuceneAbstractSearchHighlighter> namedHighlighters,
-			QueryParameters parameters) {
-		this( extractionRequirementsBuilder, globalHighlighter, namedHighlighters, parameters, null, null );
+			QueryParameters parameters, boolean preferDocValuesForProjections) {
+		this( extractionRequirementsBuilder, globalHighlighter, namedHighlighters, parameters,
+				preferDocValuesForProjections, null, null );
 	}
 
 	private ProjectionRequestContext(ExtractionRequirements.Builder extractionRequirementsBuilder,
 			LuceneAbstractSearchHighlighter globalHighlighter, Map<String, LuceneAbstractSearchHighlighter> namedHighlighters,
-			QueryParameters parameters,
+			QueryParameters parameters, boolean preferDocValuesForProjections,
 			String absoluteCurrentFieldPath, String absoluteCurrentNestedFieldPath) {
 		this.extractionRequirementsBuilder = extractionRequirementsBuilder;
 		this.globalHighlighter = globalHighlighter;
 		this.namedHighlighters = namedHighlighters;
 		this.parameters = parameters;
+		this.preferDocValuesForProjections = preferDocValuesForProjections;
 		this.absoluteCurrentNestedFieldPath = absoluteCurrentNestedFieldPath;
 		this.absoluteCurrentFieldPath = absoluteCurrentFieldPath;
 	}
@@ -76,14 +79,15 @@ void checkNotNested(SearchQueryElementTypeKey<?> projectionKey, String hint) {
 	}
 
 	public ProjectionRequestContext root() {
-		return new ProjectionRequestContext( extractionRequirementsBuilder, globalHighlighter, namedHighlighters, parameters );
+		return new ProjectionRequestContext( extractionRequirementsBuilder, globalHighlighter, namedHighlighters, parameters,
+				preferDocValuesForProjections );
 	}
 
 	public ProjectionRequestContext forField(String absoluteFieldPath, boolean nestedObject) {
 		checkValidField( absoluteFieldPath );
 		return new ProjectionRequestContext(
 				extractionRequirementsBuilder, globalHighlighter, namedHighlighters, parameters,
-				absoluteFieldPath, nestedObject ? absoluteFieldPath : absoluteCurrentFieldPath
+				preferDocValuesForProjections, absoluteFieldPath, nestedObject ? absoluteFieldPath : absoluteCurrentFieldPath
 		);
 	}
 
@@ -117,6 +121,10 @@ public LuceneAbstractSearchHighlighter highlighter(String name) {
 		}
 	}
 
+	public boolean preferDocValuesForProjections() {
+		return preferDocValuesForProjections;
+	}
+
 	public NamedValues queryParameters() {
 		return parameters;
 	}
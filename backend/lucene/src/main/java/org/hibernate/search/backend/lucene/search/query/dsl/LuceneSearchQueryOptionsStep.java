@@ -6,9 +6,11 @@
 
 import org.hibernate.search.backend.lucene.search.aggregation.dsl.LuceneSearchAggregationFactory;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchFetchable;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchPointInTime;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
 import org.hibernate.search.backend.lucene.search.sort.dsl.LuceneSearchSortFactory;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 public interface LuceneSearchQueryOptionsStep<SR, H, LOS>
 		extends SearchQueryOptionsStep<
@@ -20,6 +22,52 @@
 				LuceneSearchAggregationFactory<SR>>,
 		LuceneSearchFetchable<H> {
 
+	/**
+	 * Execute the query against a point in time,
+	 * i.e. ignore any change made to the targeted indexes after the point in time was opened.
+	 *
+	 * @param pointInTime A point in time, opened through {@link LuceneSearchQuery#openPointInTime(java.time.Duration)}
+	 * on a query targeting the same indexes with the same routing keys.
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	LuceneSearchQueryOptionsStep<SR, H, LOS> pointInTime(LuceneSearchPointInTime pointInTime);
+
+	/**
+	 * Make field projections read values from doc values instead of stored fields, where possible.
+	 * <p>
+	 * Equivalent to {@code preferDocValuesForProjections(true)}.
+	 *
+	 * @return {@code this}, for method chaining.
+	 * @see #preferDocValuesForProjections(boolean)
+	 */
+	@Incubating
+	LuceneSearchQueryOptionsStep<SR, H, LOS> preferDocValuesForProjections();
+
+	/**
+	 * Whether field projections should read values from doc values instead of stored fields, where possible.
+	 * <p>
+	 * Reading stored fields requires decompressing a whole block of documents for each hit,
+	 * which can dominate the cost of queries returning many hits,
+	 * whereas doc values are stored in a column-oriented fashion and are cheap to read.
+	 * <p>
+	 * Doc values are only used for fields that are single-valued, that have doc values
+	 * (i.e. fields that are {@link org.hibernate.search.engine.backend.types.Sortable sortable}
+	 * or {@link org.hibernate.search.engine.backend.types.Aggregable aggregable}),
+	 * and whose doc values hold the exact same information as stored fields.
+	 * This excludes in particular string fields with a normalizer
+	 * and temporal types whose doc values are truncated to the millisecond or lack time zone information.
+	 * Other projections still read stored fields.
+	 * <p>
+	 * Defaults to {@code false}.
+	 *
+	 * @param enabled {@code true} to read values from doc values where possible,
+	 * {@code false} to always read values from stored fields.
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	LuceneSearchQueryOptionsStep<SR, H, LOS> preferDocValuesForProjections(boolean enabled);
+
 	@Override
 	LuceneSearchQuery<H> toQuery();
 
@@ -95,6 +95,11 @@ public int hitSize() {
 		return ( topDocs == null ) ? 0 : topDocs.scoreDocs.length;
 	}
 
+	ScoreDoc lastScoreDoc() {
+		ScoreDoc[] scoreDocs = luceneCollectors.getTopDocs().scoreDocs;
+		return scoreDocs[scoreDocs.length - 1];
+	}
+
 	SearchResultTotal total() {
 		return luceneCollectors.getResultTotal();
 	}
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchPointInTime;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+
+/**
+ * A point in time, pinning an index reader so that it can be shared by multiple search queries.
+ * <p>
+ * The point in time holds one reference to the index reader,
+ * and each search query (or scroll) using the point in time holds an additional reference
+ * until it no longer needs the reader.
+ * The reader is closed when the point in time is closed (explicitly or on expiration)
+ * and all queries using it are done.
+ */
+public final class LuceneSearchPointInTimeImpl implements LuceneSearchPointInTime {
+
+	private final Set<String> indexNames;
+	private final Set<String> routingKeys;
+	private final HibernateSearchMultiReader indexReader;
+	private final SimpleScheduledExecutor expirationExecutor;
+	private final long keepAliveNanos;
+
+	private final AtomicBoolean closed = new AtomicBoolean( false );
+	private volatile long expiration;
+	private ScheduledFuture<?> expirationFuture;
+
+	LuceneSearchPointInTimeImpl(Set<String> indexNames, Set<String> routingKeys,
+			HibernateSearchMultiReader indexReader, SimpleScheduledExecutor expirationExecutor, Duration keepAlive) {
+		this.indexNames = Set.copyOf( indexNames );
+		this.routingKeys = Set.copyOf( routingKeys );
+		this.indexReader = indexReader;
+		this.expirationExecutor = expirationExecutor;
+		this.keepAliveNanos = keepAlive.toNanos();
+		this.expiration = System.nanoTime() + keepAliveNanos;
+		scheduleExpiration( keepAliveNanos );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "indexNames=" + indexNames
+				+ ", routingKeys=" + routingKeys
+				+ ", closed=" + closed.get()
+				+ "]";
+	}
+
+	@Override
+	public void close() {
+		if ( !closed.compareAndSet( false, true ) ) {
+			return;
+		}
+		synchronized (this) {
+			if ( expirationFuture != null ) {
+				expirationFuture.cancel( false );
+				expirationFuture = null;
+			}
+		}
+		release( indexReader );
+	}
+
+	void checkTarget(Set<String> queryIndexNames, Set<String> queryRoutingKeys) {
+		if ( !indexNames.equals( queryIndexNames ) || !routingKeys.equals( queryRoutingKeys ) ) {
+			throw QueryLog.INSTANCE.pointInTimeTargetMismatch( indexNames, routingKeys,
+					queryIndexNames, queryRoutingKeys );
+		}
+	}
+
+	/**
+	 * @return The pinned index reader, with its reference count incremented:
+	 * callers must call {@link #release(HibernateSearchMultiReader)} when they no longer need it.
+	 */
+	HibernateSearchMultiReader acquire() {
+		if ( closed.get() || !indexReader.tryIncRef() ) {
+			throw QueryLog.INSTANCE.pointInTimeClosed();
+		}
+		expiration = System.nanoTime() + keepAliveNanos;
+		return indexReader;
+	}
+
+	void release(HibernateSearchMultiReader acquiredReader) {
+		try {
+			acquiredReader.decRef();
+		}
+		catch (IOException | RuntimeException e) {
+			LuceneMiscLog.INSTANCE.unableToCloseIndexReader( EventContexts.fromIndexNames( indexNames ), e );
+		}
+	}
+
+	private synchronized void scheduleExpiration(long delayNanos) {
+		if ( closed.get() ) {
+			return;
+		}
+		try {
+			expirationFuture = expirationExecutor.schedule( this::expireIfUnused, delayNanos, TimeUnit.NANOSECONDS );
+		}
+		catch (RejectedExecutionException e) {
+			// The backend is shutting down: nothing will be able to use this point in time anymore.
+			expirationFuture = null;
+			closed.set( true );
+			release( indexReader );
+		}
+	}
+
+	private void expireIfUnused() {
+		long remainingNanos = expiration - System.nanoTime();
+		if ( indexReader.getRefCount() > 1 ) {
+			// Currently in use: the keep-alive starts over when the point in time is no longer used.
+			remainingNanos = keepAliveNanos;
+		}
+		if ( remainingNanos > 0 ) {
+			scheduleExpiration( remainingNanos );
+		}
+		else {
+			close();
+		}
+	}
+}
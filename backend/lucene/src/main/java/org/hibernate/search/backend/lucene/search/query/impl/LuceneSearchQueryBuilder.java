@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -14,6 +15,7 @@
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
@@ -21,17 +23,21 @@
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.RootAggregationRequestContext;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexContext;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
 import org.hibernate.search.backend.lucene.search.highlighter.impl.LuceneAbstractSearchHighlighter;
 import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
 import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.ProjectionRequestContext;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchPointInTime;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSort;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
+import org.hibernate.search.backend.lucene.types.sort.impl.LuceneIndexSorts;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.aggregation.SearchAggregation;
 import org.hibernate.search.engine.search.highlighter.SearchHighlighter;
@@ -42,6 +48,7 @@
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.sort.SearchSort;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+import org.hibernate.search.util.common.impl.Contracts;
 
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanClause.Occur;
@@ -54,6 +61,7 @@
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final SimpleScheduledExecutor pointInTimeExpirationExecutor;
 
 	private final LuceneSearchQueryIndexScope<?, ?> scope;
 	private final BackendSessionContext sessionContext;
@@ -70,6 +78,8 @@
 	private TimeUnit timeUnit;
 	private boolean exceptionOnTimeout;
 	private Long totalHitCountThreshold;
+	private LuceneSearchPointInTimeImpl pointInTime;
+	private boolean preferDocValuesForProjections;
 	private LuceneAbstractSearchHighlighter globalHighlighter;
 	private final Map<String, LuceneAbstractSearchHighlighter> namedHighlighters = new HashMap<>();
 	private final QueryParameters parameters = new QueryParameters();
@@ -77,12 +87,14 @@
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
 			LuceneSyncWorkOrchestrator queryOrchestrator,
+			SimpleScheduledExecutor pointInTimeExpirationExecutor,
 			LuceneSearchQueryIndexScope<?, ?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?> loadingContextBuilder,
 			LuceneSearchProjection<H> rootProjection) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.pointInTimeExpirationExecutor = pointInTimeExpirationExecutor;
 
 		this.scope = scope;
 		this.sessionContext = sessionContext;
@@ -144,6 +156,15 @@ public void totalHitCountThreshold(long totalHitCountThreshold) {
 		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
 
+	public void pointInTime(LuceneSearchPointInTime pointInTime) {
+		Contracts.assertNotNull( pointInTime, "pointInTime" );
+		this.pointInTime = (LuceneSearchPointInTimeImpl) pointInTime;
+	}
+
+	public void preferDocValuesForProjections(boolean enabled) {
+		this.preferDocValuesForProjections = enabled;
+	}
+
 	@Override
 	public void highlighter(SearchHighlighter queryHighlighter) {
 		this.globalHighlighter = LuceneAbstractSearchHighlighter.from( scope, queryHighlighter );
@@ -197,6 +218,10 @@ public PredicateRequestContext toPredicateRequestContext(String absoluteNestedPa
 
 	@Override
 	public LuceneSearchQuery<H> build() {
+		if ( pointInTime != null ) {
+			pointInTime.checkTarget( scope.hibernateSearchIndexNames(), routingKeys );
+		}
+
 		Query luceneQuery = lucenePredicate.toQuery(
 				PredicateRequestContext.withSession( scope, sessionContext, routingKeys, parameters ) );
 
@@ -226,9 +251,13 @@ public LuceneSearchQuery<H> build() {
 			}
 		}
 
+		Collection<? extends LuceneSearchIndexContext> indexes = scope.indexes();
+
 		Sort luceneSort = null;
 		if ( sortFields != null && !sortFields.isEmpty() ) {
 			luceneSort = new Sort( sortFields.toArray( new SortField[0] ) );
+			// Allow Lucene to terminate collection early if the query sort matches the index sort.
+			luceneSort = LuceneIndexSorts.applyIndexSort( luceneSort, commonIndexSortOrNull( indexes ) );
 		}
 
 		LuceneSearchQueryRequestContext requestContext = new LuceneSearchQueryRequestContext(
@@ -260,7 +289,8 @@ public LuceneSearchQuery<H> build() {
 				extractionRequirementsBuilder,
 				resolvedGlobalHighlighter,
 				resolvedNamedHighlighters,
-				parameters
+				parameters,
+				preferDocValuesForProjections
 		);
 		LuceneSearchProjection.Extractor<?, H> rootExtractor = rootProjection.request( projectionRequestContext );
 		Map<AggregationKey<?>, LuceneSearchAggregation.Extractor<?>> aggregationExtractors;
@@ -280,16 +310,22 @@ public LuceneSearchQuery<H> build() {
 
 		TimeoutManager timeoutManager = scope.createTimeoutManager( timeout, timeUnit, exceptionOnTimeout );
 
+		// Results can only be cached per index.
+		LuceneSearchResultCache resultCacheOrNull = indexes.size() == 1
+				? indexes.iterator().next().searchResultCacheOrNull()
+				: null;
+
 		LuceneSearcherImpl<H> searcher = new LuceneSearcherImpl<>(
 				requestContext,
 				rootExtractor,
 				aggregationExtractors,
 				extractionRequirements,
+				resultCacheOrNull,
 				timeoutManager
 		);
 
 		return new LuceneSearchQueryImpl<>(
-				queryOrchestrator, workFactory,
+				queryOrchestrator, workFactory, pointInTimeExpirationExecutor,
 				scope,
 				sessionContext,
 				loadingContext,
@@ -297,7 +333,20 @@ public LuceneSearchQuery<H> build() {
 				timeoutManager,
 				definitiveLuceneQuery,
 				luceneSort,
-				searcher, totalHitCountThreshold
+				searcher, totalHitCountThreshold,
+				pointInTime
 		);
 	}
+
+	private static Sort commonIndexSortOrNull(Collection<? extends LuceneSearchIndexContext> indexes) {
+		Sort indexSort = null;
+		for ( LuceneSearchIndexContext index : indexes ) {
+			Sort sort = index.indexSortOrNull();
+			if ( sort == null || ( indexSort != null && !indexSort.equals( sort ) ) ) {
+				return null;
+			}
+			indexSort = sort;
+		}
+		return indexSort;
+	}
 }
@@ -7,6 +7,7 @@
 import java.io.IOException;
 import java.util.Map;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TimeoutCountCollectorManager;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
@@ -23,6 +24,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 class LuceneSearcherImpl<H> implements LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> {
 
@@ -34,6 +36,7 @@
 	private final LuceneSearchProjection.Extractor<?, H> rootExtractor;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation.Extractor<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
+	private final LuceneSearchResultCache resultCacheOrNull;
 
 	private TimeoutManager timeoutManager;
 
@@ -41,11 +44,15 @@
 			LuceneSearchProjection.Extractor<?, H> rootExtractor,
 			Map<AggregationKey<?>, LuceneSearchAggregation.Extractor<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
+			LuceneSearchResultCache resultCacheOrNull,
 			TimeoutManager timeoutManager) {
 		this.requestContext = requestContext;
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
+		// Collectors for aggregations cannot be compared across queries,
+		// so results of queries with aggregations cannot be cached.
+		this.resultCacheOrNull = extractionRequirements.allowsMatchingDocsCaching() ? resultCacheOrNull : null;
 		this.timeoutManager = timeoutManager;
 	}
 
@@ -64,20 +71,20 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
 			int offset, Integer limit, int totalHitCountThreshold)
 			throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold ).extract();
+		return doSearch( indexSearcher, metadataResolver, offset, null, limit, totalHitCountThreshold ).extract();
 	}
 
 	@Override
 	public LuceneExtractableSearchResult<H> scroll(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold)
+			ScoreDoc after, int limit, int totalHitCountThreshold)
 			throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold );
+		return doSearch( indexSearcher, metadataResolver, 0, after, limit, totalHitCountThreshold );
 	}
 
 	private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit, int totalHitCountThreshold)
+			int offset, ScoreDoc after, Integer limit, int totalHitCountThreshold)
 			throws IOException {
 		if ( limit != null && (long) offset + limit > Integer.MAX_VALUE ) {
 			throw QueryLog.INSTANCE.offsetLimitExceedsMaxValue( offset, limit );
@@ -87,8 +94,8 @@ private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
 
 		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
 		LuceneCollectors luceneCollectors = ( limit != null || maxDocs <= PREFETCH_HITS_SIZE )
-				? collectMatchingDocs( indexSearcher, metadataResolver, offset, maxDocs, totalHitCountThreshold )
-				: collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, offset, maxDocs,
+				? collectMatchingDocs( indexSearcher, metadataResolver, offset, after, maxDocs, totalHitCountThreshold )
+				: collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, offset, after, maxDocs,
 						totalHitCountThreshold );
 
 		return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
@@ -126,29 +133,47 @@ public void setTimeoutManager(TimeoutManager timeoutManager) {
 	}
 
 	private LuceneCollectors collectMatchingDocs(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver, int offset,
+			IndexReaderMetadataResolver metadataResolver, int offset, ScoreDoc after,
 			int maxDocs, int totalHitCountThreshold)
 			throws IOException {
 		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver,
-				maxDocs, offset, totalHitCountThreshold
+				maxDocs, offset, after, totalHitCountThreshold
 		);
+
+		LuceneSearchResultCache.Key cacheKey = resultCacheKeyOrNull( indexSearcher, offset, after, maxDocs,
+				totalHitCountThreshold );
+		if ( cacheKey != null ) {
+			LuceneSearchResultCache.CachedResult cachedResult = resultCacheOrNull.get( cacheKey );
+			if ( cachedResult != null ) {
+				luceneCollectors.restoreMatchingDocs( cachedResult );
+				return luceneCollectors;
+			}
+		}
+
 		luceneCollectors.collectMatchingDocs();
+
+		if ( cacheKey != null ) {
+			LuceneSearchResultCache.CachedResult resultToCache = luceneCollectors.matchingDocsForCaching();
+			if ( resultToCache != null ) {
+				resultCacheOrNull.put( cacheKey, indexSearcher.getIndexReader(), resultToCache );
+			}
+		}
 		return luceneCollectors;
 	}
 
 	private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver, int offset,
+			IndexReaderMetadataResolver metadataResolver, int offset, ScoreDoc after,
 			int maxDocs, int totalHitCountThreshold)
 			throws IOException {
 
 		// prefetch:
-		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, offset,
+		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, offset, after,
 				PREFETCH_HITS_SIZE, Math.max( totalHitCountThreshold, PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) );
 
 		SearchResultTotal resultTotal = luceneCollectors.getResultTotal();
 		if ( resultTotal.isHitCountLowerBound() || resultTotal.hitCount() > PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) {
 			// if the total hit count is unbounded, we need to execute the unbounded query
-			return collectMatchingDocs( indexSearcher, metadataResolver, offset, maxDocs, maxDocs );
+			return collectMatchingDocs( indexSearcher, metadataResolver, offset, after, maxDocs, maxDocs );
 		}
 
 		if ( resultTotal.hitCount() < PREFETCH_HITS_SIZE ) {
@@ -158,18 +183,29 @@ private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSear
 
 		// if the total hit count is in the middle between the two cases above, we can execute a bounded query
 		int exactHitCount = Math.toIntExact( resultTotal.hitCount() );
-		return collectMatchingDocs( indexSearcher, metadataResolver, offset, exactHitCount, exactHitCount );
+		return collectMatchingDocs( indexSearcher, metadataResolver, offset, after, exactHitCount, exactHitCount );
 	}
 
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int maxDocs, int offset, int totalHitCountThreshold)
+			int maxDocs, int offset, ScoreDoc after, int totalHitCountThreshold)
 			throws IOException {
 		return extractionRequirements.createCollectors(
 				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, offset, timeoutManager, totalHitCountThreshold
+				metadataResolver, maxDocs, offset, after, timeoutManager, totalHitCountThreshold
 		);
 	}
 
+	private LuceneSearchResultCache.Key resultCacheKeyOrNull(IndexSearcher indexSearcher, int offset, ScoreDoc after,
+			int maxDocs, int totalHitCountThreshold) {
+		if ( resultCacheOrNull == null || after != null ) {
+			// Caching is disabled, or we're scrolling: don't cache.
+			return null;
+		}
+		return LuceneSearchResultCache.key( indexSearcher.getIndexReader(), requestContext.getLuceneQuery(),
+				requestContext.getLuceneSort(), offset, maxDocs, totalHitCountThreshold,
+				extractionRequirements.requireScore() );
+	}
+
 	private int getMaxDocs(IndexReader reader, int offset, Integer limit) {
 		if ( limit == null ) {
 			return reader.maxDoc();
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+
+/**
+ * Decodes the values of a field from its doc values,
+ * so that projections can avoid loading stored fields.
+ * <p>
+ * Decoded values are the same as what {@link LuceneFieldCodec#raw(org.apache.lucene.index.IndexableField)}
+ * would return for the corresponding stored field.
+ * Doc values are sorted (and, for text, deduplicated), so the order of values is not preserved:
+ * decoders should only be used for single-valued fields.
+ *
+ * @param <E> The encoded type.
+ */
+public interface LuceneDocValuesDecoder<E> {
+
+	LeafValues<E> leafValues(LeafReader reader, String absoluteFieldPath) throws IOException;
+
+	default <T> LuceneDocValuesDecoder<T> map(Function<? super E, ? extends T> function) {
+		return (reader, absoluteFieldPath) -> {
+			LeafValues<E> delegate = leafValues( reader, absoluteFieldPath );
+			return new LeafValues<T>() {
+				@Override
+				public DocIdSetIterator iterator() {
+					return delegate.iterator();
+				}
+
+				@Override
+				public T valueOrNull(int docId) throws IOException {
+					E value = delegate.valueOrNull( docId );
+					return value == null ? null : function.apply( value );
+				}
+			};
+		};
+	}
+
+	interface LeafValues<E> {
+
+		/**
+		 * @return An iterator over documents that have a value.
+		 */
+		DocIdSetIterator iterator();
+
+		/**
+		 * @param docId A document ID, greater than the document ID passed to the previous call, if any.
+		 * @return The value for the given document, or {@code null} if there is none.
+		 */
+		E valueOrNull(int docId) throws IOException;
+
+	}
+
+	static <E extends Number> LuceneDocValuesDecoder<E> numeric(LuceneNumericDomain<E> domain) {
+		return (reader, absoluteFieldPath) -> {
+			SortedNumericDocValues docValues = DocValues.getSortedNumeric( reader, absoluteFieldPath );
+			return new LeafValues<E>() {
+				@Override
+				public DocIdSetIterator iterator() {
+					return docValues;
+				}
+
+				@Override
+				public E valueOrNull(int docId) throws IOException {
+					return docValues.advanceExact( docId ) ? domain.sortedDocValueToTerm( docValues.nextValue() ) : null;
+				}
+			};
+		};
+	}
+
+	static LuceneDocValuesDecoder<String> text() {
+		return (reader, absoluteFieldPath) -> {
+			SortedSetDocValues docValues = DocValues.getSortedSet( reader, absoluteFieldPath );
+			return new LeafValues<String>() {
+				@Override
+				public DocIdSetIterator iterator() {
+					return docValues;
+				}
+
+				@Override
+				public String valueOrNull(int docId) throws IOException {
+					return docValues.advanceExact( docId ) ? docValues.lookupOrd( docValues.nextOrd() ).utf8ToString() : null;
+				}
+			};
+		};
+	}
+}
@@ -40,6 +40,15 @@
 
 	F decode(E field);
 
+	/**
+	 * @return A decoder for the doc values created by {@link #addToDocument(LuceneDocumentContent, String, Object)},
+	 * yielding the same values as {@link #raw(IndexableField)},
+	 * or {@code null} if there are no doc values or if they do not hold the exact same information as stored fields.
+	 */
+	default LuceneDocValuesDecoder<E> docValuesDecoderOrNull() {
+		return null;
+	}
+
 	/**
 	 * Encode the given value.
 	 * <p>
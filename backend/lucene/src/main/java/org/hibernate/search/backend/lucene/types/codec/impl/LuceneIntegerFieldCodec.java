@@ -43,6 +43,11 @@ public Integer decode(Integer encoded) {
 		return encoded;
 	}
 
+	@Override
+	protected boolean hasLosslessDocValues() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
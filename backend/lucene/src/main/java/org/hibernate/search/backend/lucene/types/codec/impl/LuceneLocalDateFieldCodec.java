@@ -64,6 +64,11 @@ public LocalDate decode(Long encoded) {
 		return LocalDate.ofEpochDay( encoded );
 	}
 
+	@Override
+	protected boolean hasLosslessDocValues() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
@@ -68,6 +68,14 @@ public String decode(String field) {
 		return field;
 	}
 
+	@Override
+	public LuceneDocValuesDecoder<String> docValuesDecoderOrNull() {
+		// Doc values hold normalized values: we can only use them if there is no normalization.
+		return ( DocValues.ENABLED.equals( docValues ) && analyzerOrNormalizer == AnalyzerConstants.KEYWORD_ANALYZER )
+				? LuceneDocValuesDecoder.text()
+				: null;
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?, ?> obj) {
 		if ( this == obj ) {
@@ -58,6 +58,11 @@ public boolean hasTermVectorsConfigured() {
 		return hasTermVectorsConfigured;
 	}
 
+	@Override
+	public boolean projectableFromDocValues() {
+		return codec.docValuesDecoderOrNull() != null;
+	}
+
 	@Override
 	public DslConverter<?, ?> rawDslConverter() {
 		return rawDslConverter;
@@ -19,6 +19,7 @@
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Pruning;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 
 public class LuceneDoubleDomain implements LuceneNumericDomain<Double> {
@@ -101,6 +102,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Doubl
 		return new SortedNumericDocValuesField( absoluteFieldPath, NumericUtils.doubleToSortableLong( numericValue ) );
 	}
 
+	@Override
+	public SortField.Type sortFieldType() {
+		return SortField.Type.DOUBLE;
+	}
+
 	@Override
 	public FieldComparator<Double> createFieldComparator(String fieldName, int numHits,
 			Double missingValue, boolean reversed, Pruning pruning, MultiValueMode multiValueMode,
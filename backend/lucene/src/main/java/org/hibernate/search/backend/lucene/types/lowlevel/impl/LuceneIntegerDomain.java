@@ -20,6 +20,7 @@
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Pruning;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public class LuceneIntegerDomain implements LuceneNumericDomain<Integer> {
 	private static final LuceneNumericDomain<Integer> INSTANCE = new LuceneIntegerDomain();
@@ -100,6 +101,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Integ
 		return new SortedNumericDocValuesField( absoluteFieldPath, numericValue.longValue() );
 	}
 
+	@Override
+	public SortField.Type sortFieldType() {
+		return SortField.Type.INT;
+	}
+
 	@Override
 	public FieldComparator<Integer> createFieldComparator(String fieldName, int numHits,
 			Integer missingValue, boolean reversed, Pruning pruning, MultiValueMode multiValueMode,
@@ -15,6 +15,7 @@
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Pruning;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public interface LuceneNumericDomain<E extends Number> {
 
@@ -46,6 +47,12 @@
 
 	IndexableField createSortedDocValuesField(String absoluteFieldPath, E numericValue);
 
+	/**
+	 * @return The type to use in a {@link org.apache.lucene.search.SortedNumericSortField}
+	 * so that it decodes the doc values created by {@link #createSortedDocValuesField(String, Number)}.
+	 */
+	SortField.Type sortFieldType();
+
 	FieldComparator<E> createFieldComparator(String absoluteFieldPath, int numHits,
 			E missingValue, boolean reversed, Pruning pruning, MultiValueMode multiValueMode,
 			NestedDocsProvider nestedDocsProvider);
@@ -60,6 +60,39 @@ public CompletableFuture<?> refresh(OperationSubmitter operationSubmitter,
 		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.refresh(), false, operationSubmitter );
 	}
 
+	@Override
+	public CompletableFuture<?> beginBulkLoad(OperationSubmitter operationSubmitter,
+			// bulk load is always supported, though it can be disabled
+			UnsupportedOperationBehavior ignored) {
+		if ( !indexManagerContext.automaticBulkLoad() ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.beginBulkLoad(), false,
+				operationSubmitter );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkLoad(OperationSubmitter operationSubmitter,
+			// bulk load is always supported, though it can be disabled
+			UnsupportedOperationBehavior ignored) {
+		if ( !indexManagerContext.automaticBulkLoad() ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.endBulkLoad(), false,
+				operationSubmitter );
+	}
+
+	@Override
+	public CompletableFuture<?> abortBulkLoad(OperationSubmitter operationSubmitter,
+			// bulk load is always supported, though it can be disabled
+			UnsupportedOperationBehavior ignored) {
+		if ( !indexManagerContext.automaticBulkLoad() ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.abortBulkLoad(), false,
+				operationSubmitter );
+	}
+
 	private <T> CompletableFuture<?> doSubmit(List<LuceneParallelWorkOrchestrator> orchestrators,
 			IndexManagementWork<T> work, boolean commit, OperationSubmitter operationSubmitter) {
 		CompletableFuture<?>[] writeFutures = new CompletableFuture[orchestrators.size()];
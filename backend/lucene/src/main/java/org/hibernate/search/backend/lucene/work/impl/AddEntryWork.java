@@ -10,6 +10,8 @@
 import org.hibernate.search.backend.lucene.logging.impl.IndexingLog;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 
+import org.apache.lucene.search.Query;
+
 public class AddEntryWork extends AbstractSingleDocumentIndexingWork {
 
 	private final LuceneIndexEntry indexEntry;
@@ -33,4 +35,20 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	@Override
+	public boolean supersedesPreviousWorks() {
+		// Adding a document does not remove previous versions of that document.
+		return false;
+	}
+
+	@Override
+	Query filterOrNull() {
+		return null;
+	}
+
+	@Override
+	LuceneIndexEntry indexEntryOrNull() {
+		return indexEntry;
+	}
+
 }
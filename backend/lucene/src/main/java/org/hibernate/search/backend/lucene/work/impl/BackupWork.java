@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.nio.file.Path;
+
+public class BackupWork implements IndexManagementWork<Void> {
+
+	private final Path target;
+
+	BackupWork(Path target) {
+		this.target = target;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[target=" + target + "]";
+	}
+
+	@Override
+	public Void execute(IndexManagementWorkExecutionContext context) {
+		context.getIndexAccessor().backup( target );
+		return null;
+	}
+
+	@Override
+	public Object getInfo() {
+		return this;
+	}
+}
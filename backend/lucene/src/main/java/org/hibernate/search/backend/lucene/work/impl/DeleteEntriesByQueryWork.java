@@ -9,14 +9,17 @@
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 
+import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 
 public class DeleteEntriesByQueryWork implements IndexManagementWork<Long> {
 
+	private final Query filterOrNull;
 	private final Query query;
 
-	DeleteEntriesByQueryWork(Query query) {
-		this.query = query;
+	DeleteEntriesByQueryWork(Query filterOrNull) {
+		this.filterOrNull = filterOrNull;
+		this.query = filterOrNull == null ? new MatchAllDocsQuery() : filterOrNull;
 	}
 
 	@Override
@@ -32,7 +35,7 @@ public String toString() {
 	public Long execute(IndexManagementWorkExecutionContext context) {
 		try {
 			IndexWriterDelegator indexWriterDelegator = context.getIndexAccessor().getIndexWriterDelegator();
-			return indexWriterDelegator.deleteDocuments( query );
+			return indexWriterDelegator.deleteAll( filterOrNull );
 		}
 		catch (IOException e) {
 			throw QueryLog.INSTANCE.unableToDeleteAllEntriesFromIndex( query, e.getMessage(), context.getEventContext(), e );
@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+public class EndBulkLoadWork implements IndexManagementWork<Void> {
+
+	private final boolean abort;
+
+	EndBulkLoadWork(boolean abort) {
+		this.abort = abort;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[abort=" + abort + "]";
+	}
+
+	@Override
+	public Void execute(IndexManagementWorkExecutionContext context) {
+		if ( abort ) {
+			context.getIndexAccessor().abortBulkLoad();
+		}
+		else {
+			context.getIndexAccessor().endBulkLoad();
+		}
+		return null;
+	}
+
+	@Override
+	public Object getInfo() {
+		return this;
+	}
+}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -13,9 +14,11 @@
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 
+import org.apache.lucene.document.Field;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public final class LuceneWorkFactory {
 
@@ -49,6 +52,22 @@ public IndexManagementWork<?> mergeSegments() {
 		return new MergeSegmentsWork();
 	}
 
+	public IndexManagementWork<?> beginBulkLoad() {
+		return new BeginBulkLoadWork();
+	}
+
+	public IndexManagementWork<?> endBulkLoad() {
+		return new EndBulkLoadWork( false );
+	}
+
+	public IndexManagementWork<?> abortBulkLoad() {
+		return new EndBulkLoadWork( true );
+	}
+
+	public IndexManagementWork<?> backup(Path target) {
+		return new BackupWork( target );
+	}
+
 	public IndexManagementWork<Long> computeSizeInBytes() {
 		return new ComputeSizeInBytesWork();
 	}
@@ -66,6 +85,18 @@ public SingleDocumentIndexingWork update(String tenantId, String entityTypeName,
 				documentIdentifier, filter, indexEntry );
 	}
 
+	public SingleDocumentIndexingWork updateDocValues(String tenantId, String entityTypeName, Object entityIdentifier,
+			String documentIdentifier, LuceneIndexEntry indexEntry, Field[] updates) {
+		Query filter = multiTenancyStrategy.filterOrNull( tenantId );
+		if ( filter != null ) {
+			// In-place updates cannot be restricted to a given tenant.
+			return new UpdateEntryWork( tenantId, entityTypeName, entityIdentifier,
+					documentIdentifier, filter, indexEntry );
+		}
+		return new UpdateEntryDocValuesWork( tenantId, entityTypeName, entityIdentifier,
+				documentIdentifier, indexEntry, updates );
+	}
+
 	public SingleDocumentIndexingWork delete(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier) {
 		Query filter = multiTenancyStrategy.filterOrNull( tenantId );
@@ -82,15 +113,16 @@ public IndexManagementWork<?> deleteAll(Set<String> tenantIds, Set<String> routi
 			filters.add( Queries.anyTerm( MetadataFields.routingKeyFieldName(), routingKeys ) );
 		}
 
-		return new DeleteEntriesByQueryWork( Queries.boolFilter( new MatchAllDocsQuery(), filters ) );
+		return new DeleteEntriesByQueryWork( filters.isEmpty() ? null : Queries.boolFilter( new MatchAllDocsQuery(), filters ) );
 	}
 
 	public <R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, Integer offset, Integer limit, int totalHitCountThreshold) {
 		return new SearchWork<>( searcher, offset, limit, totalHitCountThreshold );
 	}
 
-	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, int offset, int limit, int totalHitCountThreshold) {
-		return new ScrollWork<>( searcher, offset, limit, totalHitCountThreshold );
+	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, ScoreDoc after, int limit,
+			int totalHitCountThreshold) {
+		return new ScrollWork<>( searcher, after, limit, totalHitCountThreshold );
 	}
 
 	public ReadWork<Integer> count(LuceneSearcher<?, ?> searcher) {
@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * A group of single-document works applied to the index writer in a single operation:
+ * one call to delete previous versions of all documents and add all new documents atomically,
+ * instead of one call per work.
+ * <p>
+ * All deletions are applied before all additions,
+ * so a work can only be added to the bulk if it does not delete a document that another work of the bulk adds.
+ * <p>
+ * A bulk is NOT thread-safe, but can be reused after a call to {@link #clear()}.
+ */
+public final class SingleDocumentIndexingWorkBulk {
+
+	// Each filter leads to a separate clause in the delete query: avoid hitting the max clause count.
+	private static final int MAX_FILTER_COUNT = 64;
+
+	private final Map<Query, List<BytesRef>> deletedIdsByFilter = new LinkedHashMap<>();
+	private final Set<Object> addedKeys = new HashSet<>();
+	private final List<Document> addedDocuments = new ArrayList<>();
+	private int size = 0;
+
+	/**
+	 * @param work A work.
+	 * @return {@code true} if the work was added to this bulk,
+	 * {@code false} if it cannot be part of this bulk and must be executed separately,
+	 * after this bulk.
+	 */
+	public boolean add(IndexingWork<?> work) {
+		if ( !( work instanceof AbstractSingleDocumentIndexingWork singleDocumentWork ) ) {
+			return false;
+		}
+		if ( work instanceof UpdateEntryDocValuesWork ) {
+			// In-place updates cannot be expressed as a deletion followed by an addition.
+			return false;
+		}
+		Object key = singleDocumentWork.getCoalescingKey();
+		if ( singleDocumentWork.supersedesPreviousWorks() ) {
+			if ( addedKeys.contains( key ) ) {
+				// The deletion would be applied before the addition, instead of after.
+				return false;
+			}
+			Query filter = singleDocumentWork.filterOrNull();
+			List<BytesRef> deletedIds = deletedIdsByFilter.get( filter );
+			if ( deletedIds == null ) {
+				if ( deletedIdsByFilter.size() >= MAX_FILTER_COUNT ) {
+					return false;
+				}
+				deletedIds = new ArrayList<>();
+				deletedIdsByFilter.put( filter, deletedIds );
+			}
+			deletedIds.add( new BytesRef( singleDocumentWork.documentIdentifier ) );
+		}
+		LuceneIndexEntry indexEntry = singleDocumentWork.indexEntryOrNull();
+		if ( indexEntry != null ) {
+			addedKeys.add( key );
+			for ( Document document : indexEntry ) {
+				addedDocuments.add( document );
+			}
+		}
+		++size;
+		return true;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param indexWriterDelegator The index writer.
+	 * @return {@code true} if this bulk can be applied to the given index writer
+	 * with the same effect as applying each work individually, {@code false} otherwise.
+	 */
+	public boolean canExecute(IndexWriterDelegator indexWriterDelegator) {
+		if ( deletesByQueryInsteadOfTerms() && indexWriterDelegator.softDeletesByTerm() ) {
+			// Individual works would soft-delete previous versions of documents, but the bulk would hard-delete them.
+			return false;
+		}
+		return indexWriterDelegator.canAddMultipleBlocksAtOnce();
+	}
+
+	/**
+	 * Applies all works of this bulk to the given index writer.
+	 *
+	 * @param indexWriterDelegator The index writer, which this bulk {@link #canExecute(IndexWriterDelegator) can be applied to}.
+	 * @return The sequence number of the operation.
+	 * @throws IOException If the operation fails.
+	 */
+	public long execute(IndexWriterDelegator indexWriterDelegator) throws IOException {
+		if ( addedDocuments.isEmpty() ) {
+			List<BytesRef> unfilteredDeletedIds = deletedIdsByFilter.get( null );
+			if ( unfilteredDeletedIds != null && deletedIdsByFilter.size() == 1 ) {
+				// Pass terms directly instead of a query: presumably more efficient.
+				Term[] terms = new Term[unfilteredDeletedIds.size()];
+				for ( int i = 0; i < terms.length; i++ ) {
+					terms[i] = new Term( MetadataFields.idFieldName(), unfilteredDeletedIds.get( i ) );
+				}
+				return indexWriterDelegator.deleteDocuments( terms );
+			}
+			return indexWriterDelegator.deleteDocuments( deleteQuery() );
+		}
+		else if ( deletedIdsByFilter.isEmpty() ) {
+			return indexWriterDelegator.addDocuments( addedDocuments );
+		}
+		else {
+			// Atomic update: readers never see a state where old documents are deleted but new ones are missing.
+			return indexWriterDelegator.updateDocuments( deleteQuery(), addedDocuments );
+		}
+	}
+
+	public void clear() {
+		deletedIdsByFilter.clear();
+		addedKeys.clear();
+		addedDocuments.clear();
+		size = 0;
+	}
+
+	private boolean deletesByQueryInsteadOfTerms() {
+		// Unfiltered deletions are applied by term by individual works,
+		// but by query by the bulk, unless it only contains unfiltered deletions.
+		return deletedIdsByFilter.containsKey( null )
+				&& ( !addedDocuments.isEmpty() || deletedIdsByFilter.size() > 1 );
+	}
+
+	private Query deleteQuery() {
+		if ( deletedIdsByFilter.size() == 1 ) {
+			Map.Entry<Query, List<BytesRef>> entry = deletedIdsByFilter.entrySet().iterator().next();
+			return deleteQuery( entry.getKey(), entry.getValue() );
+		}
+		BooleanQuery.Builder builder = new BooleanQuery.Builder();
+		for ( Map.Entry<Query, List<BytesRef>> entry : deletedIdsByFilter.entrySet() ) {
+			builder.add( deleteQuery( entry.getKey(), entry.getValue() ), BooleanClause.Occur.SHOULD );
+		}
+		return builder.build();
+	}
+
+	private static Query deleteQuery(Query filter, List<BytesRef> ids) {
+		Query idQuery = new TermInSetQuery( MetadataFields.idFieldName(), ids );
+		return filter == null ? idQuery : Queries.boolFilter( idQuery, filter );
+	}
+}
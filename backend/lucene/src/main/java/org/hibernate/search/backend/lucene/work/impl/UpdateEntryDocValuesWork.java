@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.logging.impl.IndexingLog;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+
+/**
+ * Updates the doc values of an existing document in place,
+ * falling back to updating the whole document when the document does not exist
+ * or Lucene cannot apply the update in place.
+ */
+public class UpdateEntryDocValuesWork extends AbstractSingleDocumentIndexingWork {
+
+	private final LuceneIndexEntry indexEntry;
+
+	private final Field[] updates;
+
+	UpdateEntryDocValuesWork(String tenantId, String entityTypeName, Object entityIdentifier,
+			String documentIdentifier, LuceneIndexEntry indexEntry, Field[] updates) {
+		super( "updateEntryDocValues", tenantId, entityTypeName, entityIdentifier, documentIdentifier );
+		this.indexEntry = indexEntry;
+		this.updates = updates;
+	}
+
+	@Override
+	public Long execute(IndexingWorkExecutionContext context) {
+		try {
+			IndexWriterDelegator indexWriterDelegator = context.getIndexWriterDelegator();
+			Term idTerm = new Term( MetadataFields.idFieldName(), documentIdentifier );
+			long sequenceNumber;
+			try {
+				sequenceNumber = indexWriterDelegator.updateDocValues( idTerm, updates );
+			}
+			catch (IllegalArgumentException e) {
+				// The fields cannot be updated in place, e.g. because they do not exist in the index yet.
+				sequenceNumber = -1L;
+			}
+			if ( sequenceNumber >= 0L ) {
+				return sequenceNumber;
+			}
+			// The document is missing from the index, e.g. because of a previous indexing failure,
+			// or could not be updated in place: add or update the whole document.
+			return indexWriterDelegator.updateDocuments( idTerm, indexEntry );
+		}
+		catch (IOException e) {
+			throw IndexingLog.INSTANCE.unableToIndexEntry( tenantId, entityTypeName, entityIdentifier, e.getMessage(),
+					context.getEventContext(), e );
+		}
+	}
+
+	@Override
+	public boolean supersedesPreviousWorks() {
+		// Updating doc values in place relies on the document having been added previously.
+		return false;
+	}
+
+	@Override
+	Query filterOrNull() {
+		return null;
+	}
+
+	@Override
+	LuceneIndexEntry indexEntryOrNull() {
+		// Used when replaying the translog: replaying a full update is equivalent.
+		return indexEntry;
+	}
+
+}
@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.backend.lucene.work.spi;
 
+import java.util.concurrent.ExecutorService;
+
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
@@ -14,6 +16,16 @@ public interface LuceneWorkExecutorProvider {
 
 	SimpleScheduledExecutor writeExecutor(Context context);
 
+	/**
+	 * @param context The instantiation context.
+	 * @return An executor used to search multiple slices of index segments concurrently within a single query,
+	 * or {@code null} to execute each query entirely in the calling thread.
+	 * The executor will be shut down when the backend stops.
+	 */
+	default ExecutorService searchExecutor(Context context) {
+		return null;
+	}
+
 	interface Context {
 		/**
 		 * @return A provider of thread pools.
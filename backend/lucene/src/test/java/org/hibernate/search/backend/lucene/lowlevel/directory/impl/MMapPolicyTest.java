@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.lucene.store.FSLockFactory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.MergeInfo;
+
+class MMapPolicyTest {
+
+	@TempDir
+	Path indexDir;
+
+	@Test
+	void create_empty() {
+		assertThat( MMapPolicy.create( List.of(), List.of() ) ).isSameAs( MMapPolicy.DEFAULT );
+		assertThat( MMapPolicy.create( List.of( " " ), List.of( "" ) ) ).isSameAs( MMapPolicy.DEFAULT );
+	}
+
+	@Test
+	void preload() {
+		MMapPolicy policy = MMapPolicy.create( List.of( "dvd", " .TIM" ), List.of() );
+
+		assertThat( policy.preload( "_0.dvd", IOContext.DEFAULT ) ).isTrue();
+		assertThat( policy.preload( "_0_Lucene912_0.tim", IOContext.DEFAULT ) ).isTrue();
+		assertThat( policy.preload( "_0.fdt", IOContext.DEFAULT ) ).isFalse();
+		assertThat( policy.preload( "segments_1", IOContext.DEFAULT ) ).isFalse();
+	}
+
+	@Test
+	void randomAccess() {
+		MMapPolicy policy = MMapPolicy.create( List.of(), List.of( "vec", "vex" ) );
+
+		assertThat( policy.toReadContext( "_0_Lucene99HnswVectorsFormat_0.vec", IOContext.DEFAULT ).randomAccess )
+				.isTrue();
+		assertThat( policy.toReadContext( "_0_Lucene99HnswVectorsFormat_0.vex", IOContext.DEFAULT ).randomAccess )
+				.isTrue();
+		assertThat( policy.toReadContext( "_0.fdt", IOContext.DEFAULT ) ).isSameAs( IOContext.DEFAULT );
+
+		// Merges and read-once files are read sequentially: leave them alone.
+		IOContext mergeContext = new IOContext( new MergeInfo( 10, 1024, false, 1 ) );
+		assertThat( policy.toReadContext( "_0_Lucene99HnswVectorsFormat_0.vec", mergeContext ) )
+				.isSameAs( mergeContext );
+		assertThat( policy.toReadContext( "_0_Lucene99HnswVectorsFormat_0.vec", IOContext.READONCE ) )
+				.isSameAs( IOContext.READONCE );
+	}
+
+	@Test
+	void createDirectory() throws IOException {
+		MMapPolicy policy = MMapPolicy.create( List.of( "dvd" ), List.of( "vec" ) );
+
+		try ( MMapDirectory directory = policy.createDirectory( indexDir, FSLockFactory.getDefault() ) ) {
+			for ( String fileName : List.of( "_0.dvd", "_0.vec", "_0.fdt" ) ) {
+				try ( IndexOutput output = directory.createOutput( fileName, IOContext.DEFAULT ) ) {
+					output.writeInt( 42 );
+					output.writeString( fileName );
+				}
+				try ( IndexInput input = directory.openInput( fileName, IOContext.DEFAULT ) ) {
+					assertThat( input.readInt() ).isEqualTo( 42 );
+					assertThat( input.readString() ).isEqualTo( fileName );
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.NoSuchFileException;
+
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.SingleInstanceLockFactory;
+
+class OffHeapDirectoryTest {
+
+	private static final String INDEX_NAME = "SomeIndexName";
+
+	private OffHeapDirectory directory;
+
+	@AfterEach
+	void cleanup() throws IOException {
+		if ( directory != null ) {
+			directory.close();
+		}
+	}
+
+	@Test
+	void writeAndRead() throws IOException {
+		directory = create( Long.MAX_VALUE );
+
+		try ( IndexOutput output = directory.createOutput( "file", IOContext.DEFAULT ) ) {
+			output.writeInt( 42 );
+			output.writeString( "someValue" );
+		}
+
+		assertThat( directory.listAll() ).containsExactly( "file" );
+		try ( IndexInput input = directory.openInput( "file", IOContext.DEFAULT ) ) {
+			assertThat( input.readInt() ).isEqualTo( 42 );
+			assertThat( input.readString() ).isEqualTo( "someValue" );
+		}
+		assertThat( directory.fileLength( "file" ) ).isEqualTo( 14L );
+	}
+
+	@Test
+	void openInput_stillWriting() throws IOException {
+		directory = create( Long.MAX_VALUE );
+
+		try ( IndexOutput output = directory.createOutput( "file", IOContext.DEFAULT ) ) {
+			output.writeInt( 42 );
+			assertThatThrownBy( () -> directory.openInput( "file", IOContext.DEFAULT ) )
+					.isInstanceOf( AccessDeniedException.class );
+		}
+	}
+
+	@Test
+	void memoryUsage() throws IOException {
+		directory = create( Long.MAX_VALUE );
+		assertThat( directory.memoryUsageInBytes() ).isZero();
+
+		write( "file1", 100_000 );
+		long memoryUsageAfterFirstFile = directory.memoryUsageInBytes();
+		assertThat( memoryUsageAfterFirstFile ).isGreaterThanOrEqualTo( 100_000 );
+
+		write( "file2", 10 );
+		assertThat( directory.memoryUsageInBytes() ).isGreaterThan( memoryUsageAfterFirstFile );
+
+		directory.rename( "file2", "file3" );
+		assertThat( directory.listAll() ).containsExactly( "file1", "file3" );
+
+		directory.deleteFile( "file3" );
+		assertThat( directory.memoryUsageInBytes() ).isEqualTo( memoryUsageAfterFirstFile );
+
+		directory.deleteFile( "file1" );
+		assertThat( directory.memoryUsageInBytes() ).isZero();
+		assertThatThrownBy( () -> directory.deleteFile( "file1" ) )
+				.isInstanceOf( NoSuchFileException.class );
+	}
+
+	@Test
+	void maxMemory() throws IOException {
+		directory = create( 64 * 1024 );
+
+		write( "file1", 32 * 1024 );
+		long memoryUsage = directory.memoryUsageInBytes();
+
+		assertThatThrownBy( () -> write( "file2", 64 * 1024 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to allocate", "for index file 'file2'",
+						"this would exceed the maximum memory of the directory (65536 bytes",
+						INDEX_NAME );
+
+		// Memory can be reused after deleting files.
+		directory.deleteFile( "file2" );
+		assertThat( directory.memoryUsageInBytes() ).isEqualTo( memoryUsage );
+		directory.deleteFile( "file1" );
+		write( "file3", 32 * 1024 );
+		assertThat( directory.listAll() ).containsExactly( "file3" );
+	}
+
+	@Test
+	void indexWriter() throws IOException {
+		directory = create( Long.MAX_VALUE );
+
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) ) ) {
+			for ( int i = 0; i < 100; i++ ) {
+				Document document = new Document();
+				document.add( new StringField( "id", String.valueOf( i ), Field.Store.YES ) );
+				writer.addDocument( document );
+			}
+			writer.commit();
+		}
+
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			IndexSearcher searcher = new IndexSearcher( reader );
+			assertThat( reader.numDocs() ).isEqualTo( 100 );
+			assertThat( searcher.count( new TermQuery( new Term( "id", "42" ) ) ) ).isEqualTo( 1 );
+		}
+		assertThat( directory.memoryUsageInBytes() ).isPositive();
+	}
+
+	private OffHeapDirectory create(long maxMemoryInBytes) {
+		return new OffHeapDirectory( new SingleInstanceLockFactory(), maxMemoryInBytes,
+				EventContexts.fromIndexName( INDEX_NAME ) );
+	}
+
+	private void write(String name, int length) throws IOException {
+		try ( IndexOutput output = directory.createOutput( name, IOContext.DEFAULT ) ) {
+			for ( int i = 0; i < length; i++ ) {
+				output.writeByte( (byte) i );
+			}
+		}
+	}
+}
@@ -0,0 +1,253 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FSLockFactory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.NoLockFactory;
+
+class TieredDirectoryTest {
+
+	private static final String INDEX_NAME = "SomeIndexName";
+
+	// A local temporary directory stands in for the slower, shared filesystem.
+	@TempDir
+	Path remotePath;
+
+	@TempDir
+	Path cachePath;
+
+	private TieredDirectory directory;
+
+	@AfterEach
+	void cleanup() throws IOException {
+		if ( directory != null ) {
+			directory.close();
+		}
+	}
+
+	@Test
+	void writeThroughOnCommit() throws IOException {
+		directory = create( Long.MAX_VALUE );
+
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) ) ) {
+			addDocuments( writer, 0, 10 );
+			writer.flush();
+			// Flushed, but not committed: only in the cache.
+			assertThat( remoteFiles() ).noneMatch( name -> name.startsWith( "_" ) );
+			assertThat( cachedFiles() ).anyMatch( name -> name.startsWith( "_" ) );
+			assertThat( directory.listAll() ).containsAll( cachedFiles() );
+
+			writer.commit();
+			try ( Directory remote = FSDirectory.open( remotePath ) ) {
+				assertThat( remoteFiles() )
+						.containsAll( SegmentInfos.readLatestCommit( remote ).files( true ) );
+				try ( DirectoryReader reader = DirectoryReader.open( remote ) ) {
+					assertThat( reader.numDocs() ).isEqualTo( 10 );
+				}
+			}
+			// Committed files stay in the cache.
+			assertThat( directory.cachedSizeInBytes() ).isPositive();
+		}
+	}
+
+	@Test
+	void readThroughCache() throws IOException {
+		try ( Directory remote = FSDirectory.open( remotePath );
+				IndexWriter writer = new IndexWriter( remote, new IndexWriterConfig( new StandardAnalyzer() ) ) ) {
+			addDocuments( writer, 0, 10 );
+			writer.commit();
+		}
+		directory = create( Long.MAX_VALUE );
+		assertThat( cachedFiles() ).isEmpty();
+
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			assertThat( reader.numDocs() ).isEqualTo( 10 );
+		}
+		assertThat( cachedFiles() ).isNotEmpty();
+		assertThat( remoteFiles() ).containsAll( cachedFiles() );
+	}
+
+	@Test
+	void cacheClearedOnStartup() throws IOException {
+		Files.writeString( cachePath.resolve( "_0.cfs" ), "stale" );
+
+		directory = create( Long.MAX_VALUE );
+
+		assertThat( cachedFiles() ).isEmpty();
+		assertThat( directory.listAll() ).isEmpty();
+	}
+
+	@Test
+	void eviction_leastRecentlyOpened() throws IOException {
+		directory = create( 250 );
+		writeAndSync( "a", 100 );
+		writeAndSync( "b", 100 );
+		writeAndSync( "c", 100 );
+		// Written files are cached, but the third one exceeded the limit.
+		assertThat( cachedFiles() ).containsExactlyInAnyOrder( "b", "c" );
+
+		read( "b" );
+		read( "a" );
+		// "c" was the least recently opened file.
+		assertThat( cachedFiles() ).containsExactlyInAnyOrder( "a", "b" );
+		assertThat( directory.cachedSizeInBytes() ).isEqualTo( 200 );
+
+		read( "c" );
+		assertThat( cachedFiles() ).containsExactlyInAnyOrder( "a", "c" );
+		assertThat( remoteFiles() ).containsExactlyInAnyOrder( "a", "b", "c" );
+	}
+
+	@Test
+	void eviction_pendingUpload() throws IOException {
+		directory = create( 150 );
+		write( "a", 100 );
+		write( "b", 100 );
+
+		// Files that were not synced only exist in the cache: they must not be evicted.
+		assertThat( cachedFiles() ).containsExactlyInAnyOrder( "a", "b" );
+		assertThat( remoteFiles() ).isEmpty();
+		assertThat( directory.listAll() ).containsExactly( "a", "b" );
+
+		directory.sync( List.of( "a", "b" ) );
+		assertThat( remoteFiles() ).containsExactlyInAnyOrder( "a", "b" );
+		assertThat( cachedFiles() ).containsExactly( "b" );
+
+		read( "a" );
+		assertThat( cachedFiles() ).containsExactly( "a" );
+	}
+
+	@Test
+	void largeFile() throws IOException {
+		directory = create( 50 );
+		writeAndSync( "a", 100 );
+		assertThat( cachedFiles() ).isEmpty();
+
+		// Files larger than the cache are read from the remote directory directly.
+		read( "a" );
+		assertThat( cachedFiles() ).isEmpty();
+		assertThat( directory.fileLength( "a" ) ).isEqualTo( 100 );
+	}
+
+	@Test
+	void rename() throws IOException {
+		directory = create( Long.MAX_VALUE );
+		write( "pending_segments_1", 10 );
+
+		directory.rename( "pending_segments_1", "segments_1" );
+
+		assertThat( remoteFiles() ).containsExactly( "segments_1" );
+		assertThat( cachedFiles() ).containsExactly( "segments_1" );
+		assertThat( directory.listAll() ).containsExactly( "segments_1" );
+		read( "segments_1" );
+	}
+
+	@Test
+	void deleteFile() throws IOException {
+		directory = create( Long.MAX_VALUE );
+		writeAndSync( "a", 100 );
+		write( "b", 100 );
+
+		directory.deleteFile( "a" );
+		directory.deleteFile( "b" );
+
+		assertThat( remoteFiles() ).isEmpty();
+		assertThat( cachedFiles() ).isEmpty();
+		assertThat( directory.listAll() ).isEmpty();
+		assertThat( directory.cachedSizeInBytes() ).isZero();
+		assertThatThrownBy( () -> directory.openInput( "a", IOContext.DEFAULT ) )
+				.isInstanceOf( NoSuchFileException.class );
+		assertThatThrownBy( () -> directory.deleteFile( "a" ) )
+				.isInstanceOf( NoSuchFileException.class );
+	}
+
+	@Test
+	void lock() throws IOException {
+		directory = create( Long.MAX_VALUE );
+
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) ) ) {
+			// The lock is held on the remote directory, so that other nodes sharing it see it.
+			assertThat( remoteFiles() ).contains( IndexWriter.WRITE_LOCK_NAME );
+			assertThat( cachedFiles() ).doesNotContain( IndexWriter.WRITE_LOCK_NAME );
+		}
+	}
+
+	private TieredDirectory create(long maxCacheSizeInBytes) throws IOException {
+		return new TieredDirectory( FSDirectory.open( remotePath, FSLockFactory.getDefault() ),
+				FSDirectory.open( cachePath, NoLockFactory.INSTANCE ), maxCacheSizeInBytes,
+				EventContexts.fromIndexName( INDEX_NAME ) );
+	}
+
+	private void write(String name, int size) throws IOException {
+		try ( IndexOutput output = directory.createOutput( name, IOContext.DEFAULT ) ) {
+			for ( int i = 0; i < size; i++ ) {
+				output.writeByte( (byte) i );
+			}
+		}
+	}
+
+	private void writeAndSync(String name, int size) throws IOException {
+		write( name, size );
+		directory.sync( List.of( name ) );
+	}
+
+	private void read(String name) throws IOException {
+		try ( IndexInput input = directory.openInput( name, IOContext.DEFAULT ) ) {
+			for ( int i = 0; i < input.length(); i++ ) {
+				assertThat( input.readByte() ).isEqualTo( (byte) i );
+			}
+		}
+	}
+
+	private void addDocuments(IndexWriter writer, int firstId, int count) throws IOException {
+		for ( int i = firstId; i < firstId + count; i++ ) {
+			Document document = new Document();
+			document.add( new StringField( "id", String.valueOf( i ), Field.Store.YES ) );
+			writer.addDocument( document );
+		}
+	}
+
+	private List<String> remoteFiles() throws IOException {
+		return listFiles( remotePath );
+	}
+
+	private List<String> cachedFiles() throws IOException {
+		return listFiles( cachePath );
+	}
+
+	private static List<String> listFiles(Path path) throws IOException {
+		try ( Stream<Path> stream = Files.list( path ) ) {
+			return stream.map( p -> p.getFileName().toString() ).toList();
+		}
+	}
+}
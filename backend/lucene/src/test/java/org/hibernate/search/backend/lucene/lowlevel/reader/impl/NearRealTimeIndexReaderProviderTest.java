@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class NearRealTimeIndexReaderProviderTest {
+
+	private static final int REFRESH_INTERVAL = 1000;
+
+	@Mock
+	private IndexWriterProvider indexWriterProviderMock;
+	@Mock
+	private IndexWriterDelegatorImpl indexWriterDelegatorMock;
+	@Mock
+	private SimpleScheduledExecutor executorMock;
+	@Mock
+	private ScheduledFuture<?> scheduledFutureMock;
+	@Mock
+	private FailureHandler failureHandlerMock;
+
+	private NearRealTimeIndexReaderProvider provider;
+
+	@BeforeEach
+	void setup() {
+		provider = new NearRealTimeIndexReaderProvider( EventContexts.fromIndexName( "SomeIndexName" ),
+				indexWriterProviderMock, REFRESH_INTERVAL, executorMock, failureHandlerMock, null );
+	}
+
+	@Test
+	void close_stopsBackgroundRefresh() throws IOException {
+		try ( Directory directory = new ByteBuffersDirectory() ) {
+			DirectoryReader reader = openEmptyIndexReader( directory );
+			when( indexWriterProviderMock.getOrCreate() ).thenReturn( indexWriterDelegatorMock );
+			when( indexWriterDelegatorMock.openReader() ).thenReturn( reader );
+			doReturn( scheduledFutureMock ).when( executorMock )
+					.schedule( any(), eq( (long) REFRESH_INTERVAL ), eq( TimeUnit.MILLISECONDS ) );
+
+			// Publishing a reader schedules the background refresh.
+			provider.getOrCreate().decRef();
+			verify( executorMock ).schedule( any(), eq( (long) REFRESH_INTERVAL ), eq( TimeUnit.MILLISECONDS ) );
+
+			provider.close();
+			verify( scheduledFutureMock ).cancel( false );
+			assertThat( provider.getCurrentForTests() ).isNull();
+			// The provider was the last user of the reader.
+			assertThat( reader.getRefCount() ).isZero();
+		}
+	}
+
+	private static DirectoryReader openEmptyIndexReader(Directory directory) throws IOException {
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) ) ) {
+			writer.commit();
+		}
+		return DirectoryReader.open( directory );
+	}
+}
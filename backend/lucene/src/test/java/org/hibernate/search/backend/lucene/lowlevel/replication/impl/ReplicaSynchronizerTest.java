@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.NoLockFactory;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class ReplicaSynchronizerTest {
+
+	private static final String INDEX_NAME = "SomeIndexName";
+
+	private final EventContext indexEventContext = EventContexts.fromIndexName( INDEX_NAME );
+
+	@TempDir
+	Path sharedRoot;
+
+	@Mock
+	private DirectoryHolder replicaDirectoryHolderMock;
+	@Mock
+	private IndexAccessor replicaIndexAccessorMock;
+	@Mock
+	private FailureHandler failureHandlerMock;
+
+	private final Directory primaryDirectory = new ByteBuffersDirectory();
+	private final Directory replicaDirectory = new ByteBuffersDirectory();
+	private SharedFileSystemReplicationChannel channel;
+	private IndexWriter primaryWriter;
+	private ReplicationPublisher publisher;
+	private ReplicaSynchronizer synchronizer;
+
+	@BeforeEach
+	void start() throws IOException {
+		channel = new SharedFileSystemReplicationChannel( FSDirectory.open( sharedRoot, NoLockFactory.INSTANCE ) );
+		primaryWriter = new IndexWriter( primaryDirectory, new IndexWriterConfig( new StandardAnalyzer() ) );
+		publisher = new ReplicationPublisher( indexEventContext, channel, failureHandlerMock );
+		synchronizer = new ReplicaSynchronizer( indexEventContext, replicaDirectoryHolderMock, channel,
+				replicaIndexAccessorMock, 1000, null, failureHandlerMock );
+	}
+
+	@AfterEach
+	void close() throws IOException {
+		primaryWriter.close();
+		channel.close();
+		primaryDirectory.close();
+		replicaDirectory.close();
+	}
+
+	@Test
+	void nothingPublished() throws IOException {
+		assertThat( synchronizer.replicate() ).isFalse();
+
+		verifyNoInteractions( replicaIndexAccessorMock );
+	}
+
+	@Test
+	void replicate() throws IOException {
+		when( replicaDirectoryHolderMock.get() ).thenReturn( replicaDirectory );
+
+		addAndCommit( 0, 10 );
+		publisher.publishLatestCommit( primaryDirectory );
+
+		assertThat( synchronizer.replicate() ).isTrue();
+		verify( replicaIndexAccessorMock ).refresh();
+		assertThat( replicaDocCount() ).isEqualTo( 10 );
+		assertSameCommit();
+
+		// Nothing new: nothing to do.
+		assertThat( synchronizer.replicate() ).isFalse();
+		verify( replicaIndexAccessorMock ).refresh();
+
+		String[] filesBeforeSecondCommit = replicaDirectory.listAll();
+		addAndCommit( 10, 5 );
+		publisher.publishLatestCommit( primaryDirectory );
+
+		assertThat( synchronizer.replicate() ).isTrue();
+		verify( replicaIndexAccessorMock, times( 2 ) ).refresh();
+		assertThat( replicaDocCount() ).isEqualTo( 15 );
+		assertSameCommit();
+		// Files of the first commit were still referenced, and were not copied again.
+		assertThat( replicaDirectory.listAll() ).contains(
+				Arrays.stream( filesBeforeSecondCommit ).filter( name -> !name.startsWith( "segments" ) )
+						.toArray( String[]::new ) );
+
+		verifyNoInteractions( failureHandlerMock );
+	}
+
+	@Test
+	void replicate_obsoleteFilesDeleted() throws IOException {
+		when( replicaDirectoryHolderMock.get() ).thenReturn( replicaDirectory );
+
+		addAndCommit( 0, 10 );
+		addAndCommit( 10, 10 );
+		publisher.publishLatestCommit( primaryDirectory );
+		assertThat( synchronizer.replicate() ).isTrue();
+
+		primaryWriter.forceMerge( 1 );
+		primaryWriter.commit();
+		publisher.publishLatestCommit( primaryDirectory );
+		assertThat( synchronizer.replicate() ).isTrue();
+
+		assertThat( replicaDocCount() ).isEqualTo( 20 );
+		assertSameCommit();
+		// Merged segments are no longer referenced: they were deleted from the replica.
+		assertThat( replicaDirectory.listAll() )
+				.containsExactlyInAnyOrder( SegmentInfos.readLatestCommit( primaryDirectory ).files( true )
+						.toArray( String[]::new ) );
+
+		verifyNoInteractions( failureHandlerMock );
+	}
+
+	private void addAndCommit(int firstId, int count) throws IOException {
+		for ( int i = firstId; i < firstId + count; i++ ) {
+			Document document = new Document();
+			document.add( new StringField( "id", String.valueOf( i ), Field.Store.YES ) );
+			primaryWriter.addDocument( document );
+		}
+		primaryWriter.commit();
+	}
+
+	private int replicaDocCount() throws IOException {
+		try ( DirectoryReader reader = DirectoryReader.open( replicaDirectory ) ) {
+			return reader.numDocs();
+		}
+	}
+
+	private void assertSameCommit() throws IOException {
+		assertThat( SegmentInfos.getLastCommitSegmentsFileName( replicaDirectory.listAll() ) )
+				.isEqualTo( SegmentInfos.getLastCommitSegmentsFileName( primaryDirectory.listAll() ) );
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.translog.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.util.BytesRef;
+
+class TranslogTest {
+
+	private static final String INDEX_NAME = "SomeIndexName";
+
+	private final EventContext indexEventContext = EventContexts.fromIndexName( INDEX_NAME );
+
+	@TempDir
+	Path root;
+
+	private Path indexDirectory;
+	private Translog translog;
+	private final TranslogBuffer buffer = new TranslogBuffer();
+
+	@BeforeEach
+	void setup() throws IOException {
+		indexDirectory = root.resolve( INDEX_NAME );
+		translog = Translog.open( indexDirectory, indexEventContext );
+	}
+
+	@AfterEach
+	void cleanup() throws IOException {
+		translog.close();
+	}
+
+	@Test
+	void replay_roundTrip() throws IOException {
+		Document document = new Document();
+		document.add( new StringField( "keyword", "someValue", Field.Store.YES ) );
+		document.add( new TextField( "text", "some text", Field.Store.NO ) );
+		document.add( new IntPoint( "int", 42 ) );
+		document.add( new NumericDocValuesField( "int", 42L ) );
+		document.add( new StoredField( "int", 42 ) );
+		document.add( new SortedSetDocValuesField( "keyword", new BytesRef( "someValue" ) ) );
+		document.add( new KnnFloatVectorField( "vector", new float[] { 1.0f, 2.0f },
+				VectorSimilarityFunction.COSINE ) );
+
+		append( TranslogOperation.index( "someTenant", "SomeEntity", 1, "1", List.of( document ) ),
+				TranslogOperation.delete( null, "SomeEntity", 2, "2" ) );
+
+		List<TranslogOperation> replayed = reopenAndReplay();
+		assertThat( replayed ).hasSize( 2 );
+
+		TranslogOperation indexOperation = replayed.get( 0 );
+		assertThat( indexOperation.isDeletion() ).isFalse();
+		assertThat( indexOperation.tenantId() ).isEqualTo( "someTenant" );
+		assertThat( indexOperation.entityTypeName() ).isEqualTo( "SomeEntity" );
+		assertThat( indexOperation.entityIdentifier() ).isEqualTo( "1" );
+		assertThat( indexOperation.documentIdentifier() ).isEqualTo( "1" );
+		assertThat( indexOperation.documents() ).hasSize( 1 );
+		List<IndexableField> expectedFields = document.getFields();
+		List<IndexableField> actualFields = indexOperation.documents().get( 0 ).getFields();
+		assertThat( actualFields ).hasSameSizeAs( expectedFields );
+		for ( int i = 0; i < expectedFields.size(); i++ ) {
+			IndexableField expected = expectedFields.get( i );
+			IndexableField actual = actualFields.get( i );
+			assertThat( actual.name() ).isEqualTo( expected.name() );
+			assertThat( actual.fieldType().stored() ).isEqualTo( expected.fieldType().stored() );
+			assertThat( actual.fieldType().tokenized() ).isEqualTo( expected.fieldType().tokenized() );
+			assertThat( actual.fieldType().indexOptions() ).isEqualTo( expected.fieldType().indexOptions() );
+			assertThat( actual.fieldType().docValuesType() ).isEqualTo( expected.fieldType().docValuesType() );
+			assertThat( actual.fieldType().pointDimensionCount() )
+					.isEqualTo( expected.fieldType().pointDimensionCount() );
+			assertThat( actual.fieldType().vectorDimension() ).isEqualTo( expected.fieldType().vectorDimension() );
+			assertThat( actual.stringValue() ).isEqualTo( expected.stringValue() );
+			assertThat( actual.binaryValue() ).isEqualTo( expected.binaryValue() );
+			assertThat( actual.numericValue() ).isEqualTo( expected.numericValue() );
+		}
+		assertThat( ( (KnnFloatVectorField) actualFields.get( 6 ) ).vectorValue() )
+				.containsExactly( 1.0f, 2.0f );
+
+		TranslogOperation deleteOperation = replayed.get( 1 );
+		assertThat( deleteOperation.isDeletion() ).isTrue();
+		assertThat( deleteOperation.tenantId() ).isNull();
+		assertThat( deleteOperation.documentIdentifier() ).isEqualTo( "2" );
+	}
+
+	@Test
+	void replay_truncatedTail() throws IOException {
+		append( TranslogOperation.delete( null, "SomeEntity", 1, "1" ) );
+		append( TranslogOperation.delete( null, "SomeEntity", 2, "2" ) );
+		translog.close();
+
+		// Simulate a crash in the middle of the second append.
+		Path file = singleTranslogFile();
+		try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.WRITE ) ) {
+			channel.truncate( channel.size() - 1 );
+		}
+
+		translog = Translog.open( indexDirectory, indexEventContext );
+		List<TranslogOperation> replayed = new ArrayList<>();
+		assertThat( translog.replay( replayed::add ) ).isEqualTo( 1 );
+		assertThat( replayed ).extracting( TranslogOperation::documentIdentifier ).containsExactly( "1" );
+	}
+
+	@Test
+	void rollAndTrim() throws IOException {
+		append( TranslogOperation.delete( null, "SomeEntity", 1, "1" ) );
+		long committedGeneration = translog.roll();
+		append( TranslogOperation.delete( null, "SomeEntity", 2, "2" ) );
+		// Simulate a successful commit.
+		translog.trim( committedGeneration );
+
+		assertThat( reopenAndReplay() ).extracting( TranslogOperation::documentIdentifier ).containsExactly( "2" );
+	}
+
+	@Test
+	void roll_noRecords() throws IOException {
+		long generation = translog.roll();
+		assertThat( translog.roll() ).isEqualTo( generation );
+	}
+
+	@Test
+	void roll_holdingAppendLock() throws IOException {
+		long generation = translog.roll();
+		append( TranslogOperation.delete( null, "SomeEntity", 1, "1" ) );
+		translog.appendLock().lock();
+		try {
+			// Must not deadlock, and must keep the current generation since it contains operations.
+			assertThat( translog.roll() ).isEqualTo( generation );
+		}
+		finally {
+			translog.appendLock().unlock();
+		}
+		assertThat( translog.roll() ).isGreaterThan( generation );
+	}
+
+	@Test
+	void clear() throws IOException {
+		append( TranslogOperation.delete( null, "SomeEntity", 1, "1" ) );
+		translog.roll();
+		append( TranslogOperation.delete( null, "SomeEntity", 2, "2" ) );
+		translog.clear();
+
+		assertThat( reopenAndReplay() ).isEmpty();
+	}
+
+	@Test
+	void add_unsupportedField() throws IOException {
+		Document document = new Document();
+		document.add( new TextField( "text", new StringReader( "some text" ) ) );
+
+		assertThatThrownBy( () -> buffer.add(
+				TranslogOperation.index( null, "SomeEntity", 1, "1", List.of( document ) ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "'text'" );
+		assertThat( buffer.isEmpty() ).isTrue();
+	}
+
+	private void append(TranslogOperation... operations) throws IOException {
+		for ( TranslogOperation operation : operations ) {
+			buffer.add( operation );
+		}
+		translog.appendLock().lock();
+		try {
+			translog.append( buffer );
+		}
+		finally {
+			translog.appendLock().unlock();
+			buffer.clear();
+		}
+	}
+
+	private List<TranslogOperation> reopenAndReplay() throws IOException {
+		translog.close();
+		translog = Translog.open( indexDirectory, indexEventContext );
+		List<TranslogOperation> replayed = new ArrayList<>();
+		translog.replay( replayed::add );
+		return replayed;
+	}
+
+	private Path singleTranslogFile() throws IOException {
+		try ( Stream<Path> files = Files.list( root.resolve( INDEX_NAME + ".translog" ) ) ) {
+			List<Path> list = files.toList();
+			assertThat( list ).hasSize( 1 );
+			return list.get( 0 );
+		}
+	}
+}
@@ -15,6 +15,7 @@
 
 import org.hibernate.search.engine.backend.types.ObjectStructure;
 import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.AssociationInverseSide;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
@@ -40,7 +41,7 @@ public class Book {
 	@KeywordField(projectable = Projectable.YES)
 	private Genre genre;
 
-	@GenericField(projectable = Projectable.YES)
+	@GenericField(projectable = Projectable.YES, sortable = Sortable.YES)
 	private Integer pageCount;
 
 	@FullTextField(analyzer = "english", projectable = Projectable.YES)
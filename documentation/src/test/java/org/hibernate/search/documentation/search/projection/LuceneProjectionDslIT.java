@@ -90,6 +90,21 @@ void explanation() {
 		} );
 	}
 
+	@Test
+	void preferDocValuesForProjections() {
+		withinSearchSession( searchSession -> {
+			// tag::lucene-preferDocValues[]
+			List<Integer> hits = searchSession.search( Book.class )
+					.extension( LuceneExtension.get() ) // <1>
+					.select( f -> f.field( "pageCount", Integer.class ) ) // <2>
+					.where( f -> f.matchAll() )
+					.preferDocValuesForProjections() // <3>
+					.fetchHits( 20 ); // <4>
+			// end::lucene-preferDocValues[]
+			assertThat( hits ).hasSize( 4 );
+		} );
+	}
+
 	private void withinSearchSession(Consumer<SearchSession> action) {
 		with( entityManagerFactory ).runInTransaction( entityManager -> {
 			SearchSession searchSession = Search.session( entityManager );
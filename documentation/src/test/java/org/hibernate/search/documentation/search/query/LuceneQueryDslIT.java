@@ -7,9 +7,13 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
 
+import java.time.Duration;
+import java.util.List;
+
 import jakarta.persistence.EntityManagerFactory;
 
 import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchPointInTime;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.documentation.testsupport.BackendConfigurations;
@@ -105,6 +109,37 @@ void lowLevel() {
 		} );
 	}
 
+	@Test
+	void pointInTime() {
+		with( entityManagerFactory ).runInTransaction( entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::lucene-pointInTime[]
+			LuceneSearchQuery<Book> query = searchSession.search( Book.class )
+					.extension( LuceneExtension.get() ) // <1>
+					.where( f -> f.matchAll() )
+					.sort( f -> f.field( "title_sort" ) )
+					.toQuery();
+			try ( LuceneSearchPointInTime pointInTime = query.openPointInTime( Duration.ofMinutes( 1 ) ) ) { // <2>
+				LuceneSearchQuery<Book> pagedQuery = searchSession.search( Book.class )
+						.extension( LuceneExtension.get() )
+						.where( f -> f.matchAll() )
+						.sort( f -> f.field( "title_sort" ) )
+						.pointInTime( pointInTime ) // <3>
+						.toQuery();
+				List<Book> firstPage = pagedQuery.fetchHits( 0, 2 ); // <4>
+				List<Book> secondPage = pagedQuery.fetchHits( 2, 2 );
+				// end::lucene-pointInTime[]
+
+				assertThat( firstPage ).extracting( Book::getId )
+						.containsExactly( BOOK1_ID, BOOK4_ID );
+				assertThat( secondPage ).extracting( Book::getId )
+						.containsExactly( BOOK2_ID, BOOK3_ID );
+				// tag::lucene-pointInTime[]
+			} // <5>
+			// end::lucene-pointInTime[]
+		} );
+	}
+
 	private void initData() {
 		with( entityManagerFactory ).runInTransaction( entityManager -> {
 			Book book1 = new Book();
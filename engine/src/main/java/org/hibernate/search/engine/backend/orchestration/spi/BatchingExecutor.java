@@ -140,6 +140,14 @@ public CompletableFuture<?> completion() {
 		return processingTask.completion();
 	}
 
+	/**
+	 * @return The number of works submitted to this executor and waiting to be processed.
+	 * Works currently being processed are not included.
+	 */
+	public int queueSize() {
+		return workQueue.size();
+	}
+
 	/**
 	 * Takes a batch of works from the queue and submits them to the processor.
 	 */
@@ -159,10 +159,35 @@ public interface Worker {
 
 	public interface Scheduler {
 
+		/**
+		 * @param runnable The runnable to schedule.
+		 * If it is a {@link RejectableRunnable} and the scheduler fails to execute it after this method returned,
+		 * the scheduler must call {@link RejectableRunnable#rejected(Throwable)}.
+		 * @return A future completing when the runnable has been executed.
+		 * @throws RuntimeException If the runnable cannot be scheduled.
+		 */
 		Future<?> schedule(Runnable runnable);
 
 	}
 
+	/**
+	 * A runnable that must be notified if a {@link Scheduler} accepted it, but will not execute it after all.
+	 */
+	public interface RejectableRunnable extends Runnable {
+
+		/**
+		 * Notifies this runnable that it will never be executed,
+		 * e.g. because an executor rejected it after {@link Scheduler#schedule(Runnable)} returned.
+		 * <p>
+		 * Failures to schedule the runnable that are detected synchronously must be reported
+		 * by throwing an exception from {@link Scheduler#schedule(Runnable)} instead.
+		 *
+		 * @param throwable The reason of the rejection.
+		 */
+		void rejected(Throwable throwable);
+
+	}
+
 	private enum Status {
 		IDLE,
 		SCHEDULED
@@ -175,7 +200,7 @@ private enum Status {
 	 *     <li>The task is re-scheduled after it ran if necessary.</li>
 	 * </ul>
 	 */
-	private class RunnableWrapper implements Runnable {
+	private class RunnableWrapper implements RejectableRunnable {
 		private final Worker worker;
 		private final BiFunction<Object, Throwable, Object> workFinishedHandler = Futures.handler( this::onWorkFinished );
 
@@ -198,6 +223,28 @@ public void run() {
 			}
 		}
 
+		@Override
+		public void rejected(Throwable throwable) {
+			/*
+			 * Same as a failure to schedule the task in ensureScheduled():
+			 * make sure the task can be scheduled again,
+			 * and doesn't leave other threads waiting indefinitely.
+			 */
+			nextExecutionFuture = null;
+			CompletableFuture<?> future = completionFuture;
+			completionFuture = null;
+			status.set( Status.IDLE );
+			try {
+				if ( future != null ) {
+					future.completeExceptionally( throwable );
+				}
+			}
+			finally {
+				// Nobody called ensureScheduled() on this thread: report the failure.
+				handleUnexpectedFailure( throwable, "Scheduling task '" + name + "'" );
+			}
+		}
+
 		private Void onWorkFinished(Object ignored, Throwable throwable) {
 			if ( throwable != null ) {
 				handleUnexpectedFailure( throwable, "Executing task '" + name + "'" );
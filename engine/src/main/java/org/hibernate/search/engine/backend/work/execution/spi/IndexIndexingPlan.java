@@ -4,9 +4,11 @@
  */
 package org.hibernate.search.engine.backend.work.execution.spi;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.util.common.impl.Throwables;
 
@@ -39,6 +41,25 @@ public interface IndexIndexingPlan {
 	 */
 	void addOrUpdate(DocumentReferenceProvider documentReferenceProvider, DocumentContributor documentContributor);
 
+	/**
+	 * Update a document in the index, knowing that only the given fields may have changed
+	 * since the document was last indexed.
+	 * <p>
+	 * Backends may take advantage of this to update the given fields in place
+	 * instead of re-indexing the whole document,
+	 * in which case the document will not be added if it's absent from the index.
+	 * By default, this is equivalent to {@link #addOrUpdate(DocumentReferenceProvider, DocumentContributor)}.
+	 *
+	 * @param documentReferenceProvider A source of information about the identity of the document to update.
+	 * @param documentContributor A contributor to the document, adding fields to the indexed document.
+	 * The contributor must add all fields to the document, not just the updated ones.
+	 * @param updatedFields References to the fields whose value may have changed.
+	 */
+	default void updateFields(DocumentReferenceProvider documentReferenceProvider,
+			DocumentContributor documentContributor, Collection<? extends IndexFieldReference<?>> updatedFields) {
+		addOrUpdate( documentReferenceProvider, documentContributor );
+	}
+
 	/**
 	 * Delete a document from the index.
 	 *
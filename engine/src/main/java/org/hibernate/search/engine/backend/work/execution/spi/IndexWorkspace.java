@@ -59,4 +59,47 @@ CompletableFuture<?> flush(OperationSubmitter operationSubmitter,
 	CompletableFuture<?> refresh(OperationSubmitter operationSubmitter,
 			UnsupportedOperationBehavior unsupportedOperationBehavior);
 
+	/**
+	 * Switch the index to a mode optimized for bulk loading,
+	 * where changes may only become visible and be committed when {@link #endBulkLoad(OperationSubmitter, UnsupportedOperationBehavior) bulk loading ends}.
+	 * <p>
+	 * Calls can be nested: the index only leaves bulk-load mode when every call
+	 * has been matched by a call to {@link #endBulkLoad(OperationSubmitter, UnsupportedOperationBehavior)}.
+	 * @param operationSubmitter The behavior to adopt when submitting the operation to a full queue/executor.
+	 * @param unsupportedOperationBehavior The behavior to adopt if the operation is not supported in this index.
+	 * @return A completion stage for the executed operation, or a completed stage if the operation is not supported.
+	 */
+	default CompletableFuture<?> beginBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior) {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	/**
+	 * Leave the mode entered through {@link #beginBulkLoad(OperationSubmitter, UnsupportedOperationBehavior)},
+	 * restoring normal settings and making all changes executed so far durable and visible in search queries.
+	 * @param operationSubmitter The behavior to adopt when submitting the operation to a full queue/executor.
+	 * @param unsupportedOperationBehavior The behavior to adopt if the operation is not supported in this index.
+	 * @return A completion stage for the executed operation, or a completed stage if the operation is not supported.
+	 */
+	default CompletableFuture<?> endBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior) {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	/**
+	 * Leave the mode entered through {@link #beginBulkLoad(OperationSubmitter, UnsupportedOperationBehavior)}
+	 * after bulk loading failed or was interrupted.
+	 * <p>
+	 * Same as {@link #endBulkLoad(OperationSubmitter, UnsupportedOperationBehavior)},
+	 * except implementations may discard changes that would replace the previous content of the index
+	 * with partial content, e.g. a purge followed by the addition of some documents.
+	 * @param operationSubmitter The behavior to adopt when submitting the operation to a full queue/executor.
+	 * @param unsupportedOperationBehavior The behavior to adopt if the operation is not supported in this index.
+	 * @return A completion stage for the executed operation, or a completed stage if the operation is not supported.
+	 */
+	default CompletableFuture<?> abortBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior) {
+		return endBulkLoad( operationSubmitter, unsupportedOperationBehavior );
+	}
+
 }
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cache.QueryCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckBackendHelper;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapping;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubSession;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class LuceneQueryCacheStatisticsIT {
+
+	// Lucene's query cache ignores small segments
+	private static final int DOCUMENT_COUNT_PER_TENANT = 10_000;
+
+	private static final String TENANT_1 = "tenant_1";
+	private static final String TENANT_2 = "tenant_2";
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	@Test
+	void disabledByDefault() {
+		StubMapping mapping = setupHelper.start().withIndex( index ).setup();
+
+		assertThat( backend( mapping ).queryCacheStatistics() ).isEmpty();
+	}
+
+	@Test
+	void enabled() {
+		StubMapping mapping = setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.QUERY_CACHING_MAX_QUERIES, 100 )
+				.withIndex( index )
+				.setup();
+
+		assertThat( backend( mapping ).queryCacheStatistics() ).isNotEmpty();
+	}
+
+	@Test
+	void tenantFilter() {
+		StubMapping mapping = setupHelper.start( TckBackendHelper::createNoShardingMultiTenancyBackendSetupStrategy )
+				.withBackendProperty( LuceneBackendSettings.QUERY_CACHING_MAX_QUERIES, 1000 )
+				.withIndex( index ).withMultiTenancy()
+				.setup();
+		StubSession tenant1Session = mapping.session( TENANT_1 );
+		StubSession tenant2Session = mapping.session( TENANT_2 );
+		initData( tenant1Session );
+		initData( tenant2Session );
+		// Make sure we get a single, large segment
+		IndexWorkspace workspace = index.createWorkspace( tenant1Session );
+		workspace.mergeSegments( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		workspace.refresh( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		QueryCacheStatistics statistics = backend( mapping ).queryCacheStatistics().orElseThrow();
+
+		assertThat( query( tenant1Session ).fetch( 10 ).total().hitCount() ).isEqualTo( DOCUMENT_COUNT_PER_TENANT );
+		assertThat( statistics.missCount( TENANT_1 ) ).isPositive();
+		assertThat( statistics.cacheSize() ).isPositive();
+		assertThat( statistics.ramBytesUsed() ).isPositive();
+
+		// The tenant filter is now cached
+		assertThat( query( tenant1Session ).fetch( 10 ).total().hitCount() ).isEqualTo( DOCUMENT_COUNT_PER_TENANT );
+		assertThat( statistics.hitCount( TENANT_1 ) ).isPositive();
+		assertThat( statistics.hitCount( TENANT_2 ) ).isZero();
+		assertThat( statistics.missCount( TENANT_2 ) ).isZero();
+
+		assertThat( query( tenant2Session ).fetch( 10 ).total().hitCount() ).isEqualTo( DOCUMENT_COUNT_PER_TENANT );
+		assertThat( statistics.missCount( TENANT_2 ) ).isPositive();
+		assertThat( statistics.hitCount() )
+				.isEqualTo( statistics.hitCount( TENANT_1 ) + statistics.hitCount( TENANT_2 ) );
+		assertThat( statistics.missCount() )
+				.isEqualTo( statistics.missCount( TENANT_1 ) + statistics.missCount( TENANT_2 ) );
+	}
+
+	private SearchQuery<DocumentReference> query(StubSession session) {
+		return index.createScope().query( session )
+				.where( f -> f.exists().field( "string" ) )
+				.toQuery();
+	}
+
+	private LuceneBackend backend(StubMapping mapping) {
+		return mapping.integration().backend().unwrap( LuceneBackend.class );
+	}
+
+	private void initData(StubSession session) {
+		index.bulkIndexer( session, true )
+				.add( DOCUMENT_COUNT_PER_TENANT, i -> documentProvider(
+						String.valueOf( i ),
+						document -> document.addValue( index.binding().string, "value" + i )
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
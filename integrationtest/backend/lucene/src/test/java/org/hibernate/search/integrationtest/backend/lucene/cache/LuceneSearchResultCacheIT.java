@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cache.SearchResultCacheStatistics;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class LuceneSearchResultCacheIT {
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	@Test
+	void disabledByDefault() {
+		setup( null );
+
+		assertThat( index.toApi().unwrap( LuceneIndexManager.class ).searchResultCacheStatistics() ).isEmpty();
+	}
+
+	@Test
+	void hit() {
+		setup( 10 );
+		initData( 0, 10 );
+		SearchResultCacheStatistics statistics = statistics();
+
+		assertThat( sortedQuery().fetch( 20 ).total().hitCount() ).isEqualTo( 10 );
+		assertThat( statistics.missCount() ).isEqualTo( 1 );
+		assertThat( statistics.hitCount() ).isZero();
+		assertThat( statistics.size() ).isEqualTo( 1 );
+
+		// Same query, new query instance
+		assertThat( sortedQuery().fetch( 20 ).hits() )
+				.extracting( DocumentReference::id )
+				.containsExactly( "0", "1", "2", "3", "4", "5", "6", "7", "8", "9" );
+		assertThat( statistics.missCount() ).isEqualTo( 1 );
+		assertThat( statistics.hitCount() ).isEqualTo( 1 );
+		assertThat( statistics.size() ).isEqualTo( 1 );
+
+		// Same query, different window of hits
+		assertThat( sortedQuery().fetchHits( 2, 3 ) )
+				.extracting( DocumentReference::id )
+				.containsExactly( "2", "3", "4" );
+		assertThat( statistics.missCount() ).isEqualTo( 2 );
+		assertThat( statistics.size() ).isEqualTo( 2 );
+	}
+
+	@Test
+	void invalidation() {
+		setup( 10 );
+		initData( 0, 10 );
+		SearchResultCacheStatistics statistics = statistics();
+
+		assertThat( sortedQuery().fetch( 20 ).total().hitCount() ).isEqualTo( 10 );
+		assertThat( statistics.size() ).isEqualTo( 1 );
+
+		initData( 10, 5 );
+
+		// The index changed: the cached results must not be used.
+		assertThat( sortedQuery().fetch( 20 ).total().hitCount() ).isEqualTo( 15 );
+		assertThat( statistics.hitCount() ).isZero();
+		assertThat( statistics.missCount() ).isEqualTo( 2 );
+		// ... and results related to the old index reader should have been dropped.
+		assertThat( statistics.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void eviction() {
+		setup( 2 );
+		initData( 0, 10 );
+		SearchResultCacheStatistics statistics = statistics();
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( sortedQuery().fetchHits( i, 1 ) )
+					.extracting( DocumentReference::id )
+					.containsExactly( String.valueOf( i ) );
+		}
+		assertThat( statistics.missCount() ).isEqualTo( 3 );
+		assertThat( statistics.evictionCount() ).isEqualTo( 1 );
+		assertThat( statistics.size() ).isEqualTo( 2 );
+	}
+
+	@Test
+	void largeWindow_notCached() {
+		setup( 10 );
+		int documentCount = LuceneSearchResultCache.MAX_CACHED_WINDOW_SIZE + 500;
+		initData( 0, documentCount );
+		SearchResultCacheStatistics statistics = statistics();
+
+		assertThat( sortedQuery().fetchHits( 0, LuceneSearchResultCache.MAX_CACHED_WINDOW_SIZE + 1 ) )
+				.hasSize( LuceneSearchResultCache.MAX_CACHED_WINDOW_SIZE + 1 );
+		assertThat( statistics.missCount() ).isZero();
+		assertThat( statistics.size() ).isZero();
+
+		// Unlimited window: only the small window of prefetched hits may be cached, not all hits.
+		for ( int i = 0; i < 2; i++ ) {
+			assertThat( sortedQuery().fetchAllHits() ).hasSize( documentCount );
+		}
+		assertThat( statistics.missCount() ).isEqualTo( 1 );
+		assertThat( statistics.hitCount() ).isEqualTo( 1 );
+		assertThat( statistics.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void aggregation_notCached() {
+		setup( 10 );
+		initData( 0, 10 );
+		SearchResultCacheStatistics statistics = statistics();
+
+		AggregationKey<Map<Integer, Long>> aggregationKey = AggregationKey.of( "number" );
+		for ( int i = 0; i < 2; i++ ) {
+			assertThat( index.query().where( f -> f.matchAll() )
+					.aggregation( aggregationKey, f -> f.terms().field( "number", Integer.class ) )
+					.fetch( 10 )
+					.aggregation( aggregationKey ) )
+					.hasSize( 10 );
+		}
+		assertThat( statistics.missCount() ).isZero();
+		assertThat( statistics.hitCount() ).isZero();
+		assertThat( statistics.size() ).isZero();
+	}
+
+	private SearchQuery<DocumentReference> sortedQuery() {
+		return index.query()
+				.where( f -> f.range().field( "number" ).atLeast( 0 ) )
+				.sort( f -> f.field( "number" ) )
+				.toQuery();
+	}
+
+	private SearchResultCacheStatistics statistics() {
+		return index.toApi().unwrap( LuceneIndexManager.class ).searchResultCacheStatistics().orElseThrow();
+	}
+
+	private void setup(Integer maxEntries) {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.SEARCH_RESULT_CACHE_MAX_ENTRIES, maxEntries )
+				.setup();
+	}
+
+	private void initData(int firstNumber, int documentCount) {
+		index.bulkIndexer()
+				.add( documentCount, i -> documentProvider(
+						String.valueOf( firstNumber + i ),
+						document -> document.addValue( index.binding().number, firstNumber + i )
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", f -> f.asInteger().sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
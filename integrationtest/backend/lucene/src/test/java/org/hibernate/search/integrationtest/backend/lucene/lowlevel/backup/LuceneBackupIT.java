@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.backup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+class LuceneBackupIT {
+
+	private static final String INDEX_NAME = "backedUpIndex";
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	@RegisterExtension
+	public final SearchSetupHelper restoredSetupHelper = SearchSetupHelper.create();
+
+	@TempDir
+	Path temporaryFolder;
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new )
+			.name( INDEX_NAME );
+	private final SimpleMappedIndex<IndexBinding> restoredIndex = SimpleMappedIndex.of( IndexBinding::new )
+			.name( INDEX_NAME );
+
+	@Test
+	void backupAndRestore() {
+		Path backup = temporaryFolder.resolve( "backup" );
+		setup( false );
+
+		add( "1", "2", "3" );
+		index.toApi().unwrap( LuceneIndexManager.class ).backup( backup );
+
+		// Changes after the backup are not restored.
+		add( "4" );
+
+		setupRestored( backup, false );
+		assertThatQuery( restoredIndex.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( restoredIndex.typeName(), "1", "2", "3" );
+	}
+
+	@Test
+	void backupAndRestore_incremental() {
+		Path backup = temporaryFolder.resolve( "backup" );
+		setup( false );
+		LuceneIndexManager indexManager = index.toApi().unwrap( LuceneIndexManager.class );
+
+		add( "1", "2", "3" );
+		indexManager.backup( backup );
+		// Uncommitted changes are committed before the backup.
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "4" ), document -> document.addValue( index.binding().text, "text" ) );
+		plan.delete( referenceProvider( "1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+		assertThat( indexManager.backupAsync( backup ) ).succeedsWithin( Duration.ofSeconds( 30 ) );
+
+		setupRestored( backup, false );
+		assertThatQuery( restoredIndex.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( restoredIndex.typeName(), "2", "3", "4" );
+	}
+
+	@Test
+	void backupAndRestore_sharding() {
+		Path backup = temporaryFolder.resolve( "backup" );
+		setup( true );
+
+		add( "1", "2", "3", "4", "5", "6", "7", "8", "9", "10" );
+		index.toApi().unwrap( LuceneIndexManager.class ).backup( backup );
+
+		setupRestored( backup, true );
+		assertThatQuery( restoredIndex.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( restoredIndex.typeName(), "1", "2", "3", "4", "5", "6", "7", "8", "9", "10" );
+	}
+
+	@Test
+	void restore_existingIndex() throws IOException {
+		Path backup = temporaryFolder.resolve( "backup" );
+		setup( false );
+		add( "1" );
+		index.toApi().unwrap( LuceneIndexManager.class ).backup( backup );
+		setupHelper.cleanUp();
+
+		// Restore: the index does not exist yet.
+		setupRestored( backup, false );
+		IndexIndexingPlan plan = restoredIndex.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "2" ), document -> document.addValue( restoredIndex.binding().text, "text" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+		restoredSetupHelper.cleanUp();
+
+		// Restart: the index exists and is left untouched.
+		SimpleMappedIndex<IndexBinding> restartedIndex = SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+		restoredSetupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.NONE )
+				.withIndex( restartedIndex )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, temporaryFolder.resolve( "restored" ) )
+				.withBackendProperty( LuceneIndexSettings.BACKUP_RESTORE_PATH, backup )
+				.setup();
+		assertThatQuery( restartedIndex.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( restartedIndex.typeName(), "1", "2" );
+	}
+
+	@Test
+	void restore_missingBackup() {
+		Path backup = temporaryFolder.resolve( "missing" );
+		assertThatThrownBy( () -> setupRestored( backup, false ) )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( INDEX_NAME )
+						.failure( "Unable to restore the index from the backup in '" + backup + "'",
+								"Directory '" + backup + "' does not contain any backup" ) );
+	}
+
+	private void add(String... ids) {
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE );
+		for ( String id : ids ) {
+			plan.add( referenceProvider( id ), document -> document.addValue( index.binding().text, "text" ) );
+		}
+		plan.execute( OperationSubmitter.blocking() ).join();
+	}
+
+	private void setup(boolean sharding) {
+		SearchSetupHelper.SetupContext context = setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, temporaryFolder.resolve( "original" ) );
+		if ( sharding ) {
+			context = withSharding( context );
+		}
+		context.setup();
+	}
+
+	private void setupRestored(Path backup, boolean sharding) {
+		SearchSetupHelper.SetupContext context = restoredSetupHelper.start()
+				// Dropping the index on startup would defeat the purpose of restoring it.
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.NONE )
+				.withIndex( restoredIndex )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, temporaryFolder.resolve( "restored" ) )
+				.withBackendProperty( LuceneIndexSettings.BACKUP_RESTORE_PATH, backup );
+		if ( sharding ) {
+			context = withSharding( context );
+		}
+		context.setup();
+	}
+
+	private static SearchSetupHelper.SetupContext withSharding(SearchSetupHelper.SetupContext context) {
+		return context.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 3 );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", c -> c.asString() ).toReference();
+		}
+	}
+}
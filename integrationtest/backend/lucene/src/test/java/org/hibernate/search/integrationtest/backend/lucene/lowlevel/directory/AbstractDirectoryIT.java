@@ -72,7 +72,7 @@ protected final void setup(Object directoryType,
 				.setup();
 	}
 
-	private static class IndexBinding {
+	static class IndexBinding {
 		final IndexFieldReference<String> string;
 
 		IndexBinding(IndexSchemaElement root) {
@@ -96,6 +96,22 @@ void filesystemAccessStrategy_mmap() {
 		testFileSystemAccessStrategy( "mmap", MMapDirectory.class, false );
 	}
 
+	@Test
+	void filesystemAccessStrategy_mmap_tuning() {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "mmap" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MMAP_PRELOAD, "dvd,tim" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MMAP_RANDOM_ACCESS, "vec,vex" ) );
+
+		checkIndexingAndQuerying();
+
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		assertThat( luceneIndexManager.getShardsForTests() )
+				.extracting( Shard::indexAccessorForTests )
+				.extracting( IndexAccessorImpl::getDirectoryForTests )
+				.isNotEmpty()
+				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( MMapDirectory.class ) );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-3440")
 	@PortedFromSearch5(
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.directory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.OptionalLong;
+import java.util.Random;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.FSDirectory;
+
+class LuceneLocalOffHeapDirectoryIT extends AbstractBuiltInDirectoryIT {
+
+	@Test
+	void test() {
+		setup( c -> c );
+
+		checkIndexingAndQuerying();
+
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		assertThat( luceneIndexManager.getShardsForTests() )
+				.extracting( Shard::indexAccessorForTests )
+				.extracting( IndexAccessorImpl::getDirectoryForTests )
+				.isNotEmpty()
+				.allSatisfy( directory -> assertThat( directory )
+						.isNotInstanceOf( FSDirectory.class )
+						.isNotInstanceOf( ByteBuffersDirectory.class ) );
+	}
+
+	@Test
+	void memoryUsage() {
+		setup( c -> c );
+
+		long initialMemoryUsage = directoryMemoryUsage().orElseThrow();
+
+		checkIndexingAndQuerying();
+
+		assertThat( directoryMemoryUsage().orElseThrow() ).isGreaterThan( initialMemoryUsage );
+	}
+
+	@Test
+	void memoryUsage_otherDirectoryType() {
+		setup( "local-heap", c -> c );
+
+		checkIndexingAndQuerying();
+
+		assertThat( directoryMemoryUsage() ).isEmpty();
+	}
+
+	@Test
+	void maxMemory() {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_MAX_MEMORY, 1 ) );
+
+		// Random, large terms that Lucene cannot compress much.
+		Random random = new Random( 42L );
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.NONE );
+		for ( int i = 0; i < 200; i++ ) {
+			String value = randomString( random, 30_000 );
+			plan.add( referenceProvider( "large" + i ), document -> document.addValue( index.binding().string, value ) );
+		}
+
+		assertThatThrownBy( () -> plan.execute( OperationSubmitter.blocking() ).join() )
+				.hasStackTraceContaining( "this would exceed the maximum memory of the directory (1048576 bytes" );
+		assertThat( directoryMemoryUsage().orElseThrow() ).isLessThanOrEqualTo( 1048576L );
+
+		// Smaller indexes still work.
+		checkIndexingAndQuerying();
+	}
+
+	@Test
+	void maxMemory_invalid() {
+		assertThatThrownBy( () -> setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_MAX_MEMORY, 0 ) ) )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure(
+								"Invalid value for configuration property 'hibernate.search.backend.directory.max_memory'",
+								"'0'"
+						) );
+	}
+
+	@Override
+	protected Object getDirectoryType() {
+		return "local-offheap";
+	}
+
+	@Override
+	protected boolean isFSDirectory() {
+		return false;
+	}
+
+	@Override
+	protected String getDefaultLockClassName() {
+		return SINGLE_INSTANCE_LOCK_FQN;
+	}
+
+	private OptionalLong directoryMemoryUsage() {
+		return index.toApi().unwrap( LuceneIndexManager.class ).directoryMemoryUsageInBytes();
+	}
+
+	private static String randomString(Random random, int length) {
+		StringBuilder builder = new StringBuilder( length );
+		for ( int i = 0; i < length; i++ ) {
+			builder.append( (char) ( 'a' + random.nextInt( 26 ) ) );
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.directory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LuceneTieredFileSystemDirectoryIT extends AbstractDirectoryIT {
+
+	private static final String DIRECTORY_TYPE = "tiered-filesystem";
+
+	// A local temporary directory stands in for the slower, shared filesystem.
+	@TempDir
+	Path remoteRoot;
+
+	@TempDir
+	Path cacheRoot;
+
+	@Test
+	void test() throws IOException {
+		setup( DIRECTORY_TYPE, c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, remoteRoot )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_CACHE_ROOT, cacheRoot ) );
+
+		checkIndexingAndQuerying();
+
+		// Committed files are written through to the remote directory, and kept in the cache.
+		assertThat( indexFiles( remoteRoot ) ).contains( "write.lock" ).anyMatch( name -> name.startsWith( "segments_" ) );
+		assertThat( indexFiles( cacheRoot ) ).isNotEmpty().doesNotContain( "write.lock" );
+	}
+
+	@Test
+	void restart() throws IOException {
+		setup( DIRECTORY_TYPE, c -> c.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, remoteRoot )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_CACHE_ROOT, cacheRoot ) );
+		checkIndexingAndQuerying();
+		setupHelper.cleanUp();
+
+		// The cache is discarded on startup: files are read from the remote directory again.
+		mapping = setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, DIRECTORY_TYPE )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, remoteRoot )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_CACHE_ROOT, cacheRoot )
+				.setup();
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3" );
+	}
+
+	@Test
+	void cacheMaxSize_invalid() {
+		assertThatThrownBy( () -> setup( DIRECTORY_TYPE, c -> c
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_CACHE_ROOT, cacheRoot )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_CACHE_MAX_SIZE, 0 ) ) )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure(
+								"Invalid value for configuration property 'hibernate.search.backend.directory.cache.max_size'",
+								"'0'"
+						) );
+	}
+
+	@Test
+	void cacheRoot_missing() {
+		assertThatThrownBy( () -> setup( DIRECTORY_TYPE, c -> c ) )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure(
+								"Invalid value for configuration property 'hibernate.search.backend.indexes."
+										+ index.name() + ".directory.cache.root'",
+								"When using directory type 'tiered-filesystem', this configuration property must be set"
+						) );
+	}
+
+	private static List<String> indexFiles(Path root) throws IOException {
+		try ( Stream<Path> files = Files.list( root.resolve( index.name() ) ) ) {
+			return files.map( path -> path.getFileName().toString() ).toList();
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmupContext;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.lucene.search.MatchAllDocsQuery;
+
+class LuceneIndexReaderWarmerIT {
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeEach
+	void resetWarmups() {
+		RecordingWarmer.WARMUPS.clear();
+	}
+
+	@Test
+	void newSegmentsOnly() {
+		setup( RecordingWarmer.class.getName() );
+
+		indexDocuments( 0, 3 );
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasTotalHitCount( 3 );
+		assertThat( RecordingWarmer.WARMUPS )
+				.containsExactly( new Warmup( index.name(), 3, 3 ) );
+
+		indexDocuments( 3, 2 );
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasTotalHitCount( 5 );
+		// Only the new segment gets warmed up
+		assertThat( RecordingWarmer.WARMUPS )
+				.containsExactly( new Warmup( index.name(), 3, 3 ), new Warmup( index.name(), 2, 2 ) );
+
+		// No change: no warm-up
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasTotalHitCount( 5 );
+		assertThat( RecordingWarmer.WARMUPS ).hasSize( 2 );
+	}
+
+	@Test
+	void mergedSegments() {
+		setup( RecordingWarmer.class.getName() );
+
+		indexDocuments( 0, 3 );
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasTotalHitCount( 3 );
+		indexDocuments( 3, 2 );
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasTotalHitCount( 5 );
+		RecordingWarmer.WARMUPS.clear();
+
+		IndexWorkspace workspace = index.createWorkspace();
+		workspace.mergeSegments( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		// The merged segment gets warmed up by the index writer...
+		assertThat( RecordingWarmer.WARMUPS )
+				.containsExactly( new Warmup( index.name(), 5, 5 ) );
+
+		workspace.refresh( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasTotalHitCount( 5 );
+		// ... and thus doesn't get warmed up again when it is exposed to search queries
+		assertThat( RecordingWarmer.WARMUPS ).hasSize( 1 );
+	}
+
+	@Test
+	void builtIn_fieldData() {
+		setup( "field-data" );
+
+		indexDocuments( 0, 10 );
+		assertThatQuery( index.query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.knn( 3 ).field( "vector" ).matching( 1.0f, 0.0f ) )
+				.sort( f -> f.field( "string" ) ) )
+				.hasTotalHitCount( 3 );
+	}
+
+	@Test
+	void failure() {
+		setup( FailingWarmer.class.getName() );
+
+		indexDocuments( 0, 3 );
+		// Warm-up failures are logged, but don't prevent search queries from executing
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasTotalHitCount( 3 );
+	}
+
+	private void setup(String warmer) {
+		setupHelper.start()
+				.expectCustomBeans()
+				.withIndexProperty( index.name(), LuceneIndexSettings.IO_READER_WARMER, warmer )
+				.withIndex( index )
+				.setup();
+	}
+
+	private void indexDocuments(int offset, int count) {
+		index.bulkIndexer()
+				.add( count, i -> documentProvider(
+						String.valueOf( offset + i ),
+						document -> {
+							int value = offset + i;
+							document.addValue( index.binding().string, "value" + value );
+							document.addValue( index.binding().integer, value );
+							document.addValue( index.binding().vector, new float[] { 1.0f, (float) value } );
+						}
+				) )
+				.join();
+	}
+
+	public static class RecordingWarmer implements IndexReaderWarmer {
+		static final List<Warmup> WARMUPS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void warm(IndexReaderWarmupContext context) throws IOException {
+			WARMUPS.add( new Warmup( context.indexName(), context.reader().numDocs(),
+					context.searcher().count( new MatchAllDocsQuery() ) ) );
+		}
+	}
+
+	public static class FailingWarmer implements IndexReaderWarmer {
+		@Override
+		public void warm(IndexReaderWarmupContext context) {
+			throw new IllegalStateException( "Simulated failure" );
+		}
+	}
+
+	private record Warmup(String indexName, int numDocs, int matchAllCount) {
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<float[]> vector;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ) ).toReference();
+			vector = root.field( "vector", f -> f.asFloatVector().dimension( 2 ) ).toReference();
+		}
+	}
+}
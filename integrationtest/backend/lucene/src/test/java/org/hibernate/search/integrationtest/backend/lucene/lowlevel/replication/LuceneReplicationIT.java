@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.replication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.awaitility.Awaitility;
+
+class LuceneReplicationIT {
+
+	private static final String INDEX_NAME = "replicatedIndex";
+
+	@RegisterExtension
+	public final SearchSetupHelper primarySetupHelper = SearchSetupHelper.create();
+
+	@RegisterExtension
+	public final SearchSetupHelper replicaSetupHelper = SearchSetupHelper.create();
+
+	@TempDir
+	Path temporaryFolder;
+
+	private final SimpleMappedIndex<IndexBinding> primaryIndex = SimpleMappedIndex.of( IndexBinding::new )
+			.name( INDEX_NAME );
+	private final SimpleMappedIndex<IndexBinding> replicaIndex = SimpleMappedIndex.of( IndexBinding::new )
+			.name( INDEX_NAME );
+
+	@Test
+	void replicate() {
+		setupPrimary();
+		setupReplica();
+
+		// The (empty) index created on the primary gets replicated.
+		Awaitility.await().untilAsserted( () -> assertThatQuery( replicaIndex.query().where( f -> f.matchAll() ) )
+				.hasNoHits() );
+
+		IndexIndexingPlan plan = primaryIndex.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( primaryIndex.binding().text, "initial" ) );
+		plan.add( referenceProvider( "2" ), document -> document.addValue( primaryIndex.binding().text, "initial" ) );
+		plan.add( referenceProvider( "3" ), document -> document.addValue( primaryIndex.binding().text, "initial" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		Awaitility.await().untilAsserted( () -> assertThatQuery( replicaIndex.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( replicaIndex.typeName(), "1", "2", "3" ) );
+
+		plan = primaryIndex.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+		plan.addOrUpdate( referenceProvider( "1" ),
+				document -> document.addValue( primaryIndex.binding().text, "updated" ) );
+		plan.delete( referenceProvider( "2" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		Awaitility.await().untilAsserted( () -> assertThatQuery( replicaIndex.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( replicaIndex.typeName(), "1", "3" ) );
+		assertThatQuery( replicaIndex.query().where( f -> f.match().field( "text" ).matching( "updated" ) ) )
+				.hasDocRefHitsAnyOrder( replicaIndex.typeName(), "1" );
+	}
+
+	@Test
+	void replica_write() {
+		setupPrimary();
+		setupReplica();
+
+		IndexIndexingPlan plan = replicaIndex.createIndexingPlan();
+		plan.add( referenceProvider( "1" ), document -> document.addValue( replicaIndex.binding().text, "text" ) );
+		assertThatThrownBy( () -> plan.execute( OperationSubmitter.blocking() ).join() )
+				.hasStackTraceContaining( "Unable to write to the index: this index is a read-only replica" );
+
+		assertThat( replicaIndex.createWorkspace().mergeSegments( OperationSubmitter.blocking(),
+				UnsupportedOperationBehavior.FAIL ) )
+				.failsWithin( Duration.ofSeconds( 10 ) )
+				.withThrowableThat()
+				.havingRootCause()
+				.withMessageContaining( "this index is a read-only replica" );
+	}
+
+	@Test
+	void replica_translog() {
+		assertThatThrownBy( () -> replicaSetupHelper.start()
+				.withIndex( replicaIndex )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, temporaryFolder.resolve( "replica" ) )
+				.withBackendProperty( LuceneIndexSettings.REPLICATION_ROLE, "replica" )
+				.withBackendProperty( LuceneIndexSettings.REPLICATION_SHARED_FILESYSTEM_ROOT,
+						temporaryFolder.resolve( "shared" ) )
+				.withBackendProperty( LuceneIndexSettings.IO_TRANSLOG_ENABLED, true )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( INDEX_NAME )
+						.failure( "Invalid replication configuration: a replica cannot use the translog" ) );
+	}
+
+	@Test
+	void sharedFileSystem_missingRoot() {
+		assertThatThrownBy( () -> primarySetupHelper.start()
+				.withIndex( primaryIndex )
+				.withBackendProperty( LuceneIndexSettings.REPLICATION_ROLE, "primary" )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( INDEX_NAME )
+						.failure( "Invalid value for configuration property 'hibernate.search.backend.indexes."
+								+ INDEX_NAME + ".replication.shared_filesystem.root'",
+								"When using replication transport 'shared-filesystem',"
+										+ " this configuration property must be set" ) );
+	}
+
+	@Test
+	void invalidRole() {
+		assertThatThrownBy( () -> primarySetupHelper.start()
+				.withIndex( primaryIndex )
+				.withBackendProperty( LuceneIndexSettings.REPLICATION_ROLE, "some-invalid-role" )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( INDEX_NAME )
+						.failure( "Invalid value for configuration property 'hibernate.search.backend.replication.role'",
+								"Invalid replication role: 'some-invalid-role'",
+								"Valid roles are: [none, primary, replica]" ) );
+	}
+
+	private void setupPrimary() {
+		primarySetupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( primaryIndex )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, temporaryFolder.resolve( "primary" ) )
+				.withBackendProperty( LuceneIndexSettings.REPLICATION_ROLE, "primary" )
+				.withBackendProperty( LuceneIndexSettings.REPLICATION_SHARED_FILESYSTEM_ROOT,
+						temporaryFolder.resolve( "shared" ) )
+				.setup();
+	}
+
+	private void setupReplica() {
+		replicaSetupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( replicaIndex )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, temporaryFolder.resolve( "replica" ) )
+				.withBackendProperty( LuceneIndexSettings.REPLICATION_ROLE, "replica" )
+				.withBackendProperty( LuceneIndexSettings.REPLICATION_SHARED_FILESYSTEM_ROOT,
+						temporaryFolder.resolve( "shared" ) )
+				.withBackendProperty( LuceneIndexSettings.REPLICATION_POLL_INTERVAL, 50 )
+				.setup();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", c -> c.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,399 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LiveIndexWriterConfig;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.LogMergePolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
+
+class LuceneIndexWriterBulkLoadIT {
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final StubMappedIndex index = StubMappedIndex.withoutFields();
+
+	@Test
+	void settings() {
+		setup( false );
+		LuceneIndexManager indexManager = index.unwrapForTests( LuceneIndexManager.class );
+
+		assertDefaultSettings();
+
+		indexManager.beginBulkLoad();
+		assertBulkLoadSettings( LuceneIndexSettings.Defaults.IO_BULK_LOAD_RAM_BUFFER_SIZE,
+				LuceneIndexSettings.Defaults.IO_BULK_LOAD_MERGE_FACTOR );
+
+		// Nested calls
+		indexManager.beginBulkLoad();
+		indexManager.endBulkLoad();
+		assertBulkLoadSettings( LuceneIndexSettings.Defaults.IO_BULK_LOAD_RAM_BUFFER_SIZE,
+				LuceneIndexSettings.Defaults.IO_BULK_LOAD_MERGE_FACTOR );
+
+		indexManager.endBulkLoad();
+		assertDefaultSettings();
+	}
+
+	@Test
+	void settings_custom() {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, 420 )
+				.withBackendProperty( LuceneIndexSettings.IO_MERGE_FACTOR, 42 )
+				.withBackendProperty( LuceneIndexSettings.IO_BULK_LOAD_RAM_BUFFER_SIZE, 64 )
+				.withBackendProperty( LuceneIndexSettings.IO_BULK_LOAD_MERGE_FACTOR, 100 )
+				.setup();
+		LuceneIndexManager indexManager = index.unwrapForTests( LuceneIndexManager.class );
+
+		indexManager.beginBulkLoad();
+		assertBulkLoadSettings( 64, 100 );
+
+		indexManager.endBulkLoad();
+		assertWriterConfigs( config -> {
+			assertThat( config.getMaxBufferedDocs() ).isEqualTo( 420 );
+			assertThat( config.getRAMBufferSizeMB() ).isEqualTo( IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB );
+			assertThat( ( (LogMergePolicy) config.getMergePolicy() ).getMergeFactor() ).isEqualTo( 42 );
+		} );
+	}
+
+	/**
+	 * Test that commits and refreshes are deferred until bulk loading ends.
+	 */
+	@Test
+	void deferCommitsAndRefreshes() throws IOException {
+		setup( false );
+		LuceneIndexManager indexManager = index.unwrapForTests( LuceneIndexManager.class );
+
+		// Make sure an index reader is open
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasNoHits();
+
+		indexManager.beginBulkLoad();
+
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.NONE,
+				DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> {} );
+		plan.add( referenceProvider( "2" ), document -> {} );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// With a commit interval of 0, changes would normally be committed and visible immediately
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasNoHits();
+		assertThat( countDocsOnDisk() ).isZero();
+
+		indexManager.endBulkLoad();
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2" );
+		assertThat( countDocsOnDisk() ).isEqualTo( 2 );
+	}
+
+	/**
+	 * Test that explicit commits and refreshes are still executed during bulk loading.
+	 */
+	@Test
+	void explicitCommitAndRefresh() throws IOException {
+		setup( false );
+		LuceneIndexManager indexManager = index.unwrapForTests( LuceneIndexManager.class );
+
+		indexManager.beginBulkLoad();
+
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( "1" ), document -> {} );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+		assertThat( countDocsOnDisk() ).isEqualTo( 1 );
+
+		indexManager.endBulkLoad();
+	}
+
+	@Test
+	void workspace() {
+		setup( false );
+		IndexWorkspace workspace = index.createWorkspace();
+
+		workspace.beginBulkLoad( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		assertBulkLoadSettings( LuceneIndexSettings.Defaults.IO_BULK_LOAD_RAM_BUFFER_SIZE,
+				LuceneIndexSettings.Defaults.IO_BULK_LOAD_MERGE_FACTOR );
+
+		workspace.endBulkLoad( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		assertDefaultSettings();
+	}
+
+	@Test
+	void workspace_automaticDisabled() {
+		setup( true );
+		IndexWorkspace workspace = index.createWorkspace();
+
+		workspace.beginBulkLoad( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		assertDefaultSettings();
+
+		workspace.endBulkLoad( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		assertDefaultSettings();
+	}
+
+	/**
+	 * Test that documents added in bulk-load mode with an offline build
+	 * become visible when bulk loading ends, and only then.
+	 */
+	@Test
+	void offlineBuild() throws IOException {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.IO_BULK_LOAD_OFFLINE_BUILD, true )
+				.setup();
+		LuceneIndexManager indexManager = index.unwrapForTests( LuceneIndexManager.class );
+		Directory directory = index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests().get( 0 )
+				.indexAccessorForTests().getDirectoryForTests();
+		Path indexDirectoryPath = ( (FSDirectory) FilterDirectory.unwrap( directory ) ).getDirectory();
+		Path offlineBuildPath = indexDirectoryPath.resolveSibling( indexDirectoryPath.getFileName() + ".offline-build" );
+
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( "0" ), document -> {} );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		indexManager.beginBulkLoad();
+
+		plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.FORCE );
+		for ( int i = 1; i <= 20; i++ ) {
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {} );
+		}
+		plan.execute( OperationSubmitter.blocking() ).join();
+		plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.FORCE );
+		plan.addOrUpdate( referenceProvider( "0" ), document -> {} );
+		plan.addOrUpdate( referenceProvider( "1" ), document -> {} );
+		plan.delete( referenceProvider( "2" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// Even explicit commits and refreshes don't expose documents in temporary indexes,
+		// while the previous version of updated documents is deleted from the actual index.
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasNoHits();
+		assertThat( offlineBuildPath ).isDirectory();
+
+		indexManager.endBulkLoad();
+
+		String[] expectedIds = IntStream.rangeClosed( 0, 20 ).filter( i -> i != 2 )
+				.mapToObj( String::valueOf ).toArray( String[]::new );
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( c -> {
+					for ( String id : expectedIds ) {
+						c.doc( index.typeName(), id );
+					}
+				} );
+		// Committed, without duplicates.
+		assertThat( LuceneIndexContentUtils.readIndex( setupHelper, index.name(), IndexReader::numDocs ) )
+				.isEqualTo( expectedIds.length );
+		assertThat( offlineBuildPath ).doesNotExist();
+	}
+
+	/**
+	 * Test that purging the index during an offline build
+	 * leaves the previous content visible until bulk loading ends, then replaces it atomically.
+	 */
+	@Test
+	void offlineBuild_replace() throws IOException {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.IO_BULK_LOAD_OFFLINE_BUILD, true )
+				.setup();
+		LuceneIndexManager indexManager = index.unwrapForTests( LuceneIndexManager.class );
+		IndexWorkspace workspace = index.createWorkspace();
+
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( "old1" ), document -> {} );
+		plan.add( referenceProvider( "old2" ), document -> {} );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		indexManager.beginBulkLoad();
+
+		workspace.purge( Collections.emptySet(), OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL )
+				.join();
+		workspace.mergeSegments( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( "new1" ), document -> {} );
+		plan.add( referenceProvider( "new2" ), document -> {} );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// The previous content is still visible and committed, even after explicit commits and refreshes.
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "old1", "old2" );
+		assertThat( LuceneIndexContentUtils.readIndex( setupHelper, index.name(), IndexReader::numDocs ) )
+				.isEqualTo( 2 );
+
+		indexManager.endBulkLoad();
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "new1", "new2" );
+		assertThat( LuceneIndexContentUtils.readIndex( setupHelper, index.name(), IndexReader::numDocs ) )
+				.isEqualTo( 2 );
+	}
+
+	/**
+	 * Test that purging part of the index during an offline build, e.g. for some routing keys,
+	 * leaves the previous content of that part visible until bulk loading ends, then replaces it atomically,
+	 * without affecting the rest of the index.
+	 */
+	@Test
+	void offlineBuild_replace_routingKeys() throws IOException {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.IO_BULK_LOAD_OFFLINE_BUILD, true )
+				.setup();
+		LuceneIndexManager indexManager = index.unwrapForTests( LuceneIndexManager.class );
+		IndexWorkspace workspace = index.createWorkspace();
+
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( "old1", "purged" ), document -> {} );
+		plan.add( referenceProvider( "old2", "purged" ), document -> {} );
+		plan.add( referenceProvider( "kept1", "kept" ), document -> {} );
+		plan.add( referenceProvider( "kept2", "kept" ), document -> {} );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		indexManager.beginBulkLoad();
+
+		plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( "new1", "purged" ), document -> {} );
+		plan.execute( OperationSubmitter.blocking() ).join();
+		workspace.purge( Set.of( "purged" ), OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL )
+				.join();
+		plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( "new2", "purged" ), document -> {} );
+		plan.addOrUpdate( referenceProvider( "kept2", "kept" ), document -> {} );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// The previous content of the purged part is still visible and committed,
+		// even after explicit commits and refreshes.
+		// Other changes are applied to the actual index as usual.
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "old1", "old2", "kept1" );
+		assertThat( LuceneIndexContentUtils.readIndex( setupHelper, index.name(), IndexReader::numDocs ) )
+				.isEqualTo( 3 );
+
+		indexManager.endBulkLoad();
+
+		// Documents added before the purge were purged as well.
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "new2", "kept1", "kept2" );
+		assertThat( LuceneIndexContentUtils.readIndex( setupHelper, index.name(), IndexReader::numDocs ) )
+				.isEqualTo( 3 );
+	}
+
+	@Test
+	void offlineBuild_translog() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.IO_TRANSLOG_ENABLED, true )
+				.withBackendProperty( LuceneIndexSettings.IO_BULK_LOAD_OFFLINE_BUILD, true )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid I/O configuration: the offline build of indexes in bulk-load mode"
+								+ " cannot be combined with the translog" ) );
+	}
+
+	private void assertDefaultSettings() {
+		assertWriterConfigs( config -> {
+			assertThat( config.getMaxBufferedDocs() ).isEqualTo( IndexWriterConfig.DEFAULT_MAX_BUFFERED_DOCS );
+			assertThat( config.getRAMBufferSizeMB() ).isEqualTo( IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB );
+			assertThat( ( (LogMergePolicy) config.getMergePolicy() ).getMergeFactor() )
+					.isEqualTo( LogByteSizeMergePolicy.DEFAULT_MERGE_FACTOR );
+		} );
+	}
+
+	private void assertBulkLoadSettings(int ramBufferSize, int mergeFactor) {
+		assertWriterConfigs( config -> {
+			assertThat( config.getMaxBufferedDocs() ).isEqualTo( IndexWriterConfig.DISABLE_AUTO_FLUSH );
+			assertThat( config.getRAMBufferSizeMB() ).isEqualTo( ramBufferSize );
+			assertThat( ( (LogMergePolicy) config.getMergePolicy() ).getMergeFactor() ).isEqualTo( mergeFactor );
+		} );
+	}
+
+	private void assertWriterConfigs(Consumer<LiveIndexWriterConfig> assertion) {
+		List<Shard> shards = index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests();
+		assertThat( shards )
+				.extracting( Shard::indexAccessorForTests )
+				.extracting( IndexAccessorImpl::getWriterForTests )
+				.extracting( IndexWriter::getConfig )
+				.isNotEmpty()
+				.allSatisfy( assertion::accept );
+	}
+
+	/**
+	 * @return The number of document that are actually present in the low-level, physical representation of the index.
+	 * This bypasses Hibernate Search, its index writer and its index readers,
+	 * so only committed changes will be taken into account.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	private int countDocsOnDisk() throws IOException {
+		return LuceneIndexContentUtils.readIndex(
+				setupHelper, index.name(),
+				reader -> reader.getDocCount( MetadataFields.idFieldName() )
+		);
+	}
+
+	private void setup(boolean disableAutomaticBulkLoad) {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, 0 )
+				.withBackendProperty( LuceneIndexSettings.IO_BULK_LOAD_AUTOMATIC, !disableAutomaticBulkLoad )
+				.setup();
+	}
+}
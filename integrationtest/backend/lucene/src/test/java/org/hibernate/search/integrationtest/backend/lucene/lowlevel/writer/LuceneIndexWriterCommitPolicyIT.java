@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicy;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicyContext;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicyInitializationContext;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.awaitility.Awaitility;
+
+class LuceneIndexWriterCommitPolicyIT {
+
+	// Large enough that no commit happens during the test, unless triggered by another budget.
+	private static final int NEVER = 3_600_000;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final StubMappedIndex index = StubMappedIndex.withoutFields();
+
+	@Test
+	void adaptive_maxChanges() throws IOException {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, NEVER )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_POLICY, "adaptive" )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_MAX_CHANGES, 3 )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_IDLE_INTERVAL, NEVER )
+				.setup();
+
+		add( "1", "2" );
+		// Below the budget: no commit.
+		assertThat( countDocsOnDisk() ).isZero();
+
+		add( "3" );
+		// Budget exceeded: commit.
+		awaitDocsOnDisk( 3 );
+	}
+
+	@Test
+	void adaptive_idleInterval() throws IOException {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, NEVER )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_POLICY, "adaptive" )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_IDLE_INTERVAL, 200 )
+				.setup();
+
+		add( "1" );
+		// No more changes: commit once idle for long enough, even though the commit interval is far from elapsed.
+		awaitDocsOnDisk( 1 );
+	}
+
+	@Test
+	void adaptive_defaults() throws IOException {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, NEVER )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_POLICY, "adaptive" )
+				.setup();
+
+		add( "1" );
+		// The default idle interval is short enough to commit well before the commit interval elapses.
+		awaitDocsOnDisk( 1 );
+	}
+
+	@Test
+	void adaptive_commitIntervalZero() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, 0 )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_POLICY, "adaptive" )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid I/O configuration: the 'adaptive' commit policy requires"
+								+ " a strictly positive commit interval, but the commit interval is set to 0" ) );
+	}
+
+	@Test
+	void custom() throws IOException {
+		RecordingCommitPolicy policy = new RecordingCommitPolicy();
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, 42 )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_POLICY, BeanReference.ofInstance( policy ) )
+				.setup();
+
+		assertThat( policy.initializedIndexName ).isEqualTo( index.name() );
+		assertThat( policy.initializedCommitInterval ).isEqualTo( 42 );
+
+		add( "1", "2" );
+		// The policy is consulted after each batch and delays the commit.
+		Awaitility.await().untilAsserted( () -> assertThat( policy.uncommittedChangeCounts ).contains( 2L ) );
+		assertThat( countDocsOnDisk() ).isZero();
+
+		add( "3" );
+		awaitDocsOnDisk( 3 );
+		assertThat( policy.uncommittedChangeCounts ).endsWith( 3L );
+	}
+
+	private void add(String... ids) {
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		for ( String id : ids ) {
+			plan.add( referenceProvider( id ), document -> {} );
+		}
+		plan.execute( OperationSubmitter.blocking() ).join();
+	}
+
+	private void awaitDocsOnDisk(int expected) {
+		Awaitility.await().untilAsserted( () -> {
+			try {
+				assertThat( countDocsOnDisk() ).isEqualTo( expected );
+			}
+			catch (IOException e) {
+				// May happen if we call the method *right* as a commit is executing
+				fail( "countDocsOnDisk() failed: " + e.getMessage(), e );
+			}
+		} );
+	}
+
+	private int countDocsOnDisk() throws IOException {
+		return LuceneIndexContentUtils.readIndex(
+				setupHelper, index.name(),
+				reader -> reader.getDocCount( MetadataFields.idFieldName() )
+		);
+	}
+
+	private static class RecordingCommitPolicy implements CommitPolicy {
+		private final List<Long> uncommittedChangeCounts = new CopyOnWriteArrayList<>();
+		private volatile String initializedIndexName;
+		private volatile int initializedCommitInterval;
+
+		@Override
+		public void initialize(CommitPolicyInitializationContext context) {
+			initializedIndexName = context.indexName();
+			initializedCommitInterval = context.commitInterval();
+		}
+
+		@Override
+		public long timeToCommit(CommitPolicyContext context) {
+			long uncommittedChangeCount = context.uncommittedChangeCount();
+			uncommittedChangeCounts.add( uncommittedChangeCount );
+			return uncommittedChangeCount >= 3 ? 0L : NEVER;
+		}
+	}
+}
@@ -0,0 +1,364 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.DocIdSetIterator;
+
+class LuceneIndexWriterDocValuesUpdatesIT {
+
+	// Large enough that soft-deleted documents are retained during the whole test.
+	private static final int FOREVER = 3_600_000;
+	private static final int UPDATE_COUNT = 8;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+	private final SimpleMappedIndex<NestedIndexBinding> nestedIndex =
+			SimpleMappedIndex.of( NestedIndexBinding::new ).name( "nested" );
+
+	@Test
+	void inPlace() throws IOException {
+		setup( true );
+		indexInitialDocuments();
+
+		updateFields( "1", 10, "initial", index.binding().rank );
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ).sort( f -> f.field( "rank" ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "2", "3", "1" );
+		assertThatQuery( index.query().where( f -> f.match().field( "text" ).matching( "initial" ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3" );
+		AggregationKey<Map<Integer, Long>> aggregationKey = AggregationKey.of( "rank" );
+		Map<Integer, Long> aggregation = index.query().where( f -> f.matchAll() )
+				.aggregation( aggregationKey, f -> f.terms().field( "rank", Integer.class ) )
+				.fetch( 0 )
+				.aggregation( aggregationKey );
+		assertThat( aggregation ).containsOnlyKeys( 2, 3, 10 );
+
+		// The document was updated in place: no new document was added.
+		assertThat( maxDoc() ).isEqualTo( 3 );
+	}
+
+	@Test
+	void inPlace_removeValue() throws IOException {
+		setup( true );
+		indexInitialDocuments();
+
+		updateFields( "1", null, "initial", index.binding().rank );
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ).sort( f -> f.field( "rank" ).missing().first() ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "1", "2", "3" );
+		assertThatQuery( index.query().where( f -> f.matchAll() ).sort( f -> f.field( "rank" ).desc().missing().last() ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "3", "2", "1" );
+		assertThat( maxDoc() ).isEqualTo( 3 );
+	}
+
+	/**
+	 * Test that soft-deleted versions of a document are not updated along with the live version.
+	 */
+	@Test
+	void inPlace_softDeletes() throws IOException {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withIndexProperty( index.name(), LuceneIndexSettings.INDEXING_DOC_VALUES_UPDATES, true )
+				.withBackendProperty( LuceneIndexSettings.IO_SOFT_DELETES_ENABLED, true )
+				.withBackendProperty( LuceneIndexSettings.IO_SOFT_DELETES_RETENTION, FOREVER )
+				.setup();
+		indexInitialDocuments();
+
+		// Soft-delete the initial version of the document.
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE );
+		plan.addOrUpdate( referenceProvider( "1" ), document -> {
+			document.addValue( index.binding().text, "updated" );
+			document.addValue( index.binding().rank, 5 );
+		} );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		updateFields( "1", 10, "updated", index.binding().rank );
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ).sort( f -> f.field( "rank" ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "2", "3", "1" );
+		// The live version was updated in place, the soft-deleted version was left untouched.
+		assertThat( maxDoc() ).isEqualTo( 4 );
+		assertThat( rankValuesOnDisk( "1" ) ).containsExactlyInAnyOrder( 1L, 10L );
+	}
+
+	/**
+	 * Test that consecutive in-place updates do not each reopen the reader used to look up documents,
+	 * which would flush documents added in the meantime to a new segment for each update.
+	 */
+	@Test
+	void inPlace_consecutiveUpdates_noSegmentPerUpdate() throws IOException {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withIndexProperty( index.name(), LuceneIndexSettings.INDEXING_DOC_VALUES_UPDATES, true )
+				// Only commit when required, so that new segments can only result from lookups.
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, FOREVER )
+				.setup();
+		indexInitialDocuments();
+		int initialSegmentCount = segmentCount();
+
+		for ( int i = 0; i < UPDATE_COUNT; i++ ) {
+			int rank = 10 + i;
+			int addedRank = 100 + i;
+			IndexIndexingPlan plan = index.createIndexingPlan(
+					i == UPDATE_COUNT - 1 ? DocumentCommitStrategy.FORCE : DocumentCommitStrategy.NONE,
+					DocumentRefreshStrategy.NONE );
+			plan.add( referenceProvider( "added" + i ), document -> {
+				document.addValue( index.binding().text, "initial" );
+				document.addValue( index.binding().rank, addedRank );
+			} );
+			plan.updateFields( referenceProvider( "1" ), document -> {
+				document.addValue( index.binding().text, "initial" );
+				document.addValue( index.binding().rank, rank );
+			}, List.of( index.binding().rank ) );
+			plan.execute( OperationSubmitter.blocking() ).join();
+		}
+
+		// Every update was applied in place...
+		assertThat( maxDoc() ).isEqualTo( 3 + UPDATE_COUNT );
+		assertThat( rankValuesOnDisk( "1" ) ).containsExactly( 10L + UPDATE_COUNT - 1 );
+		// ... and added documents were not flushed to a new segment for each update:
+		// at most one flush on the first lookup, and one on commit.
+		assertThat( segmentCount() ).isLessThanOrEqualTo( initialSegmentCount + 2 );
+	}
+
+	/**
+	 * Test that a document missing from the index is added,
+	 * as for any other add-or-update.
+	 */
+	@Test
+	void fallback_missingDocument() throws IOException {
+		setup( true );
+		indexInitialDocuments();
+
+		updateFields( "4", 10, "initial", index.binding().rank );
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ).sort( f -> f.field( "rank" ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "1", "2", "3", "4" );
+		assertThatQuery( index.query().where( f -> f.match().field( "text" ).matching( "initial" ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3", "4" );
+		assertThat( maxDoc() ).isEqualTo( 4 );
+	}
+
+	@Test
+	void fallback_nonUpdatableField() throws IOException {
+		setup( true );
+		indexInitialDocuments();
+
+		updateFields( "1", 10, "updated", index.binding().text );
+
+		assertThatQuery( index.query().where( f -> f.match().field( "text" ).matching( "updated" ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+		assertThatQuery( index.query().where( f -> f.matchAll() ).sort( f -> f.field( "rank" ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "2", "3", "1" );
+		// The whole document was re-indexed.
+		assertThat( maxDoc() ).isEqualTo( 4 );
+	}
+
+	/**
+	 * Test that documents of indexes with nested documents are re-indexed as a whole,
+	 * because nested documents share the identifier of their root document.
+	 */
+	@Test
+	void fallback_nestedDocuments() throws IOException {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( nestedIndex )
+				.withIndexProperty( nestedIndex.name(), LuceneIndexSettings.INDEXING_DOC_VALUES_UPDATES, true )
+				.setup();
+		IndexIndexingPlan plan = nestedIndex.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE );
+		for ( int i = 1; i <= 3; i++ ) {
+			int rank = i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( nestedIndex.binding().rank, rank );
+				document.addObject( nestedIndex.binding().nested )
+						.addValue( nestedIndex.binding().nestedText, "initial" );
+			} );
+		}
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		plan = nestedIndex.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.FORCE );
+		plan.updateFields( referenceProvider( "1" ), document -> {
+			document.addValue( nestedIndex.binding().rank, 10 );
+			document.addObject( nestedIndex.binding().nested )
+					.addValue( nestedIndex.binding().nestedText, "initial" );
+		}, List.of( nestedIndex.binding().rank ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		assertThatQuery( nestedIndex.query().where( f -> f.matchAll() ).sort( f -> f.field( "rank" ) ) )
+				.hasDocRefHitsExactOrder( nestedIndex.typeName(), "2", "3", "1" );
+		assertThatQuery( nestedIndex.query()
+				.where( f -> f.nested( "nested" ).add( f.match().field( "nested.text" ).matching( "initial" ) ) ) )
+				.hasDocRefHitsAnyOrder( nestedIndex.typeName(), "1", "2", "3" );
+		// The whole document was re-indexed, including its nested document.
+		assertThat( LuceneIndexContentUtils.readIndex( setupHelper, nestedIndex.name(), IndexReader::maxDoc ) )
+				.isEqualTo( 8 );
+	}
+
+	@Test
+	void disabled() throws IOException {
+		setup( false );
+		indexInitialDocuments();
+
+		updateFields( "1", 10, "initial", index.binding().rank );
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ).sort( f -> f.field( "rank" ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "2", "3", "1" );
+		// The whole document was re-indexed.
+		assertThat( maxDoc() ).isEqualTo( 4 );
+	}
+
+	@Test
+	void invalid_indexSort() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndex( index )
+				.withIndexProperty( index.name(), LuceneIndexSettings.INDEXING_DOC_VALUES_UPDATES, true )
+				.withIndexProperty( index.name(), LuceneIndexSettings.INDEXING_SORT, "rank" )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid index sort: field 'rank' cannot be used to sort the index,"
+								+ " because doc values updates are enabled" ) );
+	}
+
+	private void indexInitialDocuments() {
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE );
+		for ( int i = 1; i <= 3; i++ ) {
+			int rank = i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( index.binding().text, "initial" );
+				document.addValue( index.binding().rank, rank );
+			} );
+		}
+		plan.execute( OperationSubmitter.blocking() ).join();
+	}
+
+	private void updateFields(String id, Integer rank, String text, IndexFieldReference<?> updatedField) {
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE );
+		plan.updateFields( referenceProvider( id ), document -> {
+			document.addValue( index.binding().text, text );
+			document.addValue( index.binding().rank, rank );
+		}, List.of( updatedField ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+	}
+
+	private int maxDoc() throws IOException {
+		return LuceneIndexContentUtils.readIndex( setupHelper, index.name(), IndexReader::maxDoc );
+	}
+
+	private int segmentCount() throws IOException {
+		return LuceneIndexContentUtils.readIndex( setupHelper, index.name(), reader -> reader.leaves().size() );
+	}
+
+	/**
+	 * @return The values of the "rank" field for all documents with the given identifier,
+	 * including soft-deleted documents, which are not filtered out by readers opened directly from the directory.
+	 */
+	private List<Long> rankValuesOnDisk(String id) throws IOException {
+		return LuceneIndexContentUtils.readIndex( setupHelper, index.name(), reader -> {
+			List<Long> values = new ArrayList<>();
+			for ( LeafReaderContext leaf : reader.leaves() ) {
+				PostingsEnum postings = leaf.reader().postings( new Term( MetadataFields.idFieldName(), id ) );
+				NumericDocValues ranks = leaf.reader().getNumericDocValues( "rank" );
+				if ( postings == null || ranks == null ) {
+					continue;
+				}
+				for ( int docId = postings.nextDoc(); docId != DocIdSetIterator.NO_MORE_DOCS;
+						docId = postings.nextDoc() ) {
+					if ( ranks.advanceExact( docId ) ) {
+						values.add( ranks.longValue() );
+					}
+				}
+			}
+			return values;
+		} );
+	}
+
+	private void setup(boolean docValuesUpdates) {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withIndexProperty( index.name(), LuceneIndexSettings.INDEXING_DOC_VALUES_UPDATES, docValuesUpdates )
+				.setup();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+		final IndexFieldReference<Integer> rank;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", c -> c.asString() ).toReference();
+			rank = root.field( "rank", c -> c.asInteger()
+					.searchable( Searchable.NO ).projectable( Projectable.NO )
+					.sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+
+	private static class NestedIndexBinding {
+		final IndexFieldReference<Integer> rank;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<String> nestedText;
+
+		NestedIndexBinding(IndexSchemaElement root) {
+			rank = root.field( "rank", c -> c.asInteger()
+					.searchable( Searchable.NO ).projectable( Projectable.NO )
+					.sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+			IndexSchemaObjectField nestedObject = root.objectField( "nested", ObjectStructure.NESTED );
+			nested = nestedObject.toReference();
+			nestedText = nestedObject.field( "text", c -> c.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.SoftDeletesDirectoryReaderWrapper;
+
+class LuceneIndexWriterSoftDeletesIT {
+
+	// Large enough that soft-deleted documents are retained during the whole test.
+	private static final int FOREVER = 3_600_000;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	void updateAndDelete() throws IOException {
+		setup( null, null );
+
+		indexInitialDocumentsThenUpdateAndDelete();
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "3" );
+		assertThatQuery( index.query().where( f -> f.match().field( "text" ).matching( "updated" ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+
+		// Previous versions are still on disk, but soft-deleted.
+		assertThat( countLiveDocsOnDisk() )
+				.isEqualTo( 2 );
+		assertThat( LuceneIndexContentUtils.readIndex( setupHelper, index.name(), IndexReader::maxDoc ) )
+				.isEqualTo( 4 );
+		String softDeletesField = LuceneIndexContentUtils.readIndex( setupHelper, index.name(),
+				reader -> FieldInfos.getMergedFieldInfos( reader ).getSoftDeletesField() );
+		assertThat( softDeletesField ).isEqualTo( MetadataFields.softDeletesFieldName() );
+	}
+
+	/**
+	 * Test that soft-deleted documents are ignored by index readers opened directly from the directory.
+	 */
+	@Test
+	void updateAndDelete_debugIOStrategy() {
+		setup( "debug", null );
+
+		indexInitialDocumentsThenUpdateAndDelete();
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "3" );
+		assertThatQuery( index.query().where( f -> f.match().field( "text" ).matching( "initial" ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "3" );
+	}
+
+	@Test
+	void merge_noRetention() throws IOException {
+		setup( null, null );
+
+		indexInitialDocumentsThenUpdateAndDelete();
+		mergeSegments();
+
+		// Soft-deleted documents were removed by the merge.
+		assertThat( countLiveDocsOnDisk() )
+				.isEqualTo( 2 );
+		assertThat( LuceneIndexContentUtils.readIndex( setupHelper, index.name(), IndexReader::maxDoc ) )
+				.isEqualTo( 2 );
+	}
+
+	@Test
+	void merge_retention() throws IOException {
+		setup( null, FOREVER );
+
+		indexInitialDocumentsThenUpdateAndDelete();
+		mergeSegments();
+
+		// Soft-deleted documents were retained by the merge...
+		assertThat( countLiveDocsOnDisk() )
+				.isEqualTo( 2 );
+		assertThat( LuceneIndexContentUtils.readIndex( setupHelper, index.name(), IndexReader::maxDoc ) )
+				.isEqualTo( 4 );
+		// ... but are still invisible to search queries.
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "3" );
+	}
+
+	/**
+	 * Test that updates applied together, e.g. because they were submitted concurrently,
+	 * soft-delete previous versions of documents as well.
+	 */
+	@Test
+	void concurrentUpdates_retention() throws IOException {
+		setup( null, FOREVER );
+		int documentCount = 20;
+
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.NONE );
+		for ( int i = 0; i < documentCount; i++ ) {
+			plan.add( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( index.binding().text, "initial" ) );
+		}
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// Several updates in the same plan...
+		plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		for ( int i = 0; i < documentCount / 2; i++ ) {
+			plan.addOrUpdate( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( index.binding().text, "updated" ) );
+		}
+		CompletableFuture<?> planFuture = plan.execute( OperationSubmitter.blocking() );
+		// ... and in concurrent plans.
+		List<CompletableFuture<?>> futures = IntStream.range( documentCount / 2, documentCount )
+				.mapToObj( i -> CompletableFuture.runAsync( () -> {
+					IndexIndexingPlan concurrentPlan = index.createIndexingPlan( DocumentCommitStrategy.NONE,
+							DocumentRefreshStrategy.NONE );
+					concurrentPlan.addOrUpdate( referenceProvider( String.valueOf( i ) ),
+							document -> document.addValue( index.binding().text, "updated" ) );
+					concurrentPlan.execute( OperationSubmitter.blocking() ).join();
+				} ) )
+				.collect( Collectors.toList() );
+		futures.add( planFuture );
+		CompletableFuture.allOf( futures.toArray( CompletableFuture[]::new ) ).join();
+		mergeSegments();
+
+		assertThatQuery( index.query().where( f -> f.match().field( "text" ).matching( "updated" ) ) )
+				.hasTotalHitCount( documentCount );
+		assertThatQuery( index.query().where( f -> f.match().field( "text" ).matching( "initial" ) ) )
+				.hasNoHits();
+		// Previous versions were soft-deleted, so they were retained by the merge.
+		assertThat( countLiveDocsOnDisk() )
+				.isEqualTo( documentCount );
+		assertThat( LuceneIndexContentUtils.readIndex( setupHelper, index.name(), IndexReader::maxDoc ) )
+				.isEqualTo( 2 * documentCount );
+	}
+
+	/**
+	 * @return The number of documents on disk that are not deleted, be it through soft or hard deletes.
+	 * Soft deletes are not applied by readers opened directly from the directory, unless wrapped.
+	 */
+	private int countLiveDocsOnDisk() throws IOException {
+		return LuceneIndexContentUtils.readIndex( setupHelper, index.name(),
+				reader -> new SoftDeletesDirectoryReaderWrapper( reader, MetadataFields.softDeletesFieldName() )
+						.numDocs() );
+	}
+
+	private void indexInitialDocumentsThenUpdateAndDelete() {
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "initial" ) );
+		plan.add( referenceProvider( "2" ), document -> document.addValue( index.binding().text, "initial" ) );
+		plan.add( referenceProvider( "3" ), document -> document.addValue( index.binding().text, "initial" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.FORCE );
+		plan.addOrUpdate( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "updated" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.FORCE );
+		plan.delete( referenceProvider( "2" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+	}
+
+	private void mergeSegments() {
+		index.createWorkspace().mergeSegments( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		index.createWorkspace().flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+	}
+
+	private void setup(String ioStrategyName, Integer retention) {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
+				.withBackendProperty( LuceneIndexSettings.IO_SOFT_DELETES_ENABLED, true )
+				.withBackendProperty( LuceneIndexSettings.IO_SOFT_DELETES_RETENTION, retention )
+				.setup();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", c -> c.asString() ).toReference();
+		}
+	}
+}
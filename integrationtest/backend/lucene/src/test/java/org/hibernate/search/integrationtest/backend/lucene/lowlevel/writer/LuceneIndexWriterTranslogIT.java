@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapping;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+class LuceneIndexWriterTranslogIT {
+
+	// Large enough that no commit happens during the test, unless forced.
+	private static final int NEVER = 3_600_000;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	@TempDir
+	Path temporaryFolder;
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	/**
+	 * Test that changes that were not committed before an abrupt shutdown are recovered on the next startup.
+	 */
+	@Test
+	void recoverUncommittedChanges() throws IOException {
+		Path root = temporaryFolder.resolve( "root" );
+		Path crashedRoot = temporaryFolder.resolve( "crashed" );
+
+		try ( StubMapping mapping = setup( root, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY ) ) {
+			IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.NONE,
+					DocumentRefreshStrategy.NONE );
+			plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "initial" ) );
+			plan.add( referenceProvider( "2" ), document -> document.addValue( index.binding().text, "initial" ) );
+			plan.add( referenceProvider( "3" ), document -> document.addValue( index.binding().text, "initial" ) );
+			plan.execute( OperationSubmitter.blocking() ).join();
+
+			plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+			plan.addOrUpdate( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "updated" ) );
+			plan.delete( referenceProvider( "2" ) );
+			plan.execute( OperationSubmitter.blocking() ).join();
+
+			// Simulate an abrupt shutdown by copying the files while changes are not committed yet.
+			copyRecursively( root, crashedRoot );
+		}
+
+		// The changes were not committed...
+		try ( Directory directory = FSDirectory.open( crashedRoot.resolve( index.name() ) );
+				DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			assertThat( reader.numDocs() ).isZero();
+		}
+
+		// ... but they are recovered on startup.
+		try ( StubMapping mapping = setup( crashedRoot, StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY ) ) {
+			assertThatQuery( index.query().where( f -> f.matchAll() ) )
+					.hasDocRefHitsAnyOrder( index.typeName(), "1", "3" );
+			assertThatQuery( index.query().where( f -> f.match().field( "text" ).matching( "updated" ) ) )
+					.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+
+			// Recovered changes are committed on startup.
+			try ( Directory directory = FSDirectory.open( crashedRoot.resolve( index.name() ) );
+					DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				assertThat( reader.numDocs() ).isEqualTo( 2 );
+			}
+		}
+	}
+
+	/**
+	 * Test that committed changes are removed from the translog.
+	 */
+	@Test
+	void commitTrimsTranslog() throws IOException {
+		Path root = temporaryFolder.resolve( "root" );
+
+		try ( StubMapping mapping = setup( root, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY ) ) {
+			IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.NONE,
+					DocumentRefreshStrategy.NONE );
+			plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "initial" ) );
+			plan.execute( OperationSubmitter.blocking() ).join();
+
+			Path translogDirectory = root.resolve( index.name() + ".translog" );
+			assertThat( translogFiles( translogDirectory ) ).hasSize( 1 );
+			long sizeBeforeCommit = Files.size( translogFiles( translogDirectory ).get( 0 ) );
+
+			index.createWorkspace().flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+
+			// Only the new, empty generation remains.
+			List<Path> translogFilesAfterCommit = translogFiles( translogDirectory );
+			assertThat( translogFilesAfterCommit ).hasSize( 1 );
+			assertThat( Files.size( translogFilesAfterCommit.get( 0 ) ) ).isLessThan( sizeBeforeCommit );
+		}
+	}
+
+	@Test
+	void localHeapDirectory() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-heap" )
+				.withBackendProperty( LuceneIndexSettings.IO_TRANSLOG_ENABLED, true )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid I/O configuration: the translog requires index files to be stored"
+								+ " on the local filesystem" ) );
+	}
+
+	private StubMapping setup(Path root, StubMappingSchemaManagementStrategy schemaManagementStrategy) {
+		return setupHelper.start()
+				.withSchemaManagement( schemaManagementStrategy )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, root.toAbsolutePath() )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, NEVER )
+				.withBackendProperty( LuceneIndexSettings.IO_TRANSLOG_ENABLED, true )
+				.setup();
+	}
+
+	private static List<Path> translogFiles(Path translogDirectory) throws IOException {
+		try ( Stream<Path> files = Files.list( translogDirectory ) ) {
+			return files.toList();
+		}
+	}
+
+	private static void copyRecursively(Path source, Path target) throws IOException {
+		try ( Stream<Path> paths = Files.walk( source ) ) {
+			for ( Path path : (Iterable<Path>) paths::iterator ) {
+				Path copy = target.resolve( source.relativize( path ).toString() );
+				if ( Files.isDirectory( path ) ) {
+					Files.createDirectories( copy );
+				}
+				else if ( !path.getFileName().toString().equals( "write.lock" ) ) {
+					Files.copy( path, copy );
+				}
+			}
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", c -> c.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatResult;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Checks that search queries return the same results when slices of segments are searched concurrently.
+ */
+class LuceneConcurrentSearchIT {
+
+	private static final int INDEX_SIZE = 5_000;
+	private static final int MODULO = 7;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, 4 )
+				// Small slices, so that we actually get multiple slices
+				.withBackendProperty( LuceneBackendSettings.SEARCH_SLICE_MAX_DOCS, 500 )
+				.withBackendProperty( LuceneBackendSettings.SEARCH_SLICE_MAX_SEGMENTS, 1 )
+				// Small buffers, so that we actually get multiple segments
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, 200 )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@Test
+	void totalHitCount() {
+		assertThat( index.query().where( f -> f.range().field( "number" ).atLeast( 1_000 ) ).fetchTotalHitCount() )
+				.isEqualTo( INDEX_SIZE - 1_000 );
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( INDEX_SIZE );
+	}
+
+	@Test
+	void sortAndProjection() {
+		List<Integer> hits = index.query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.range().field( "number" ).atLeast( 1_000 ) )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetchHits( 10, 20 );
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = INDEX_SIZE - 1 - 10; expected.size() < 20; i-- ) {
+			expected.add( i );
+		}
+		assertThat( hits ).containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	void aggregation() {
+		AggregationKey<Map<Integer, Long>> aggregationKey = AggregationKey.of( "modulo" );
+		SearchResult<?> result = index.query()
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, f -> f.terms().field( "modulo", Integer.class ) )
+				.fetch( 0 );
+
+		assertThatResult( result ).hasTotalHitCount( INDEX_SIZE );
+		Map<Integer, Long> aggregation = result.aggregation( aggregationKey );
+		long total = 0L;
+		for ( int i = 0; i < MODULO; i++ ) {
+			long expectedCount = INDEX_SIZE / MODULO + ( i < INDEX_SIZE % MODULO ? 1 : 0 );
+			assertThat( aggregation ).containsEntry( i, expectedCount );
+			total += aggregation.get( i );
+		}
+		assertThat( total ).isEqualTo( INDEX_SIZE );
+	}
+
+	@Test
+	void scroll_ties() {
+		// Lots of ties on the sort, and hits spread across slices:
+		// each hit must still be returned exactly once.
+		Set<String> ids = new HashSet<>();
+		int previousModulo = 0;
+		try ( SearchScroll<List<?>> scroll = index.query()
+				.select( f -> f.composite( f.id( String.class ), f.field( "modulo", Integer.class ) ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "modulo" ) )
+				.scroll( 100 ) ) {
+			for ( SearchScrollResult<List<?>> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				for ( List<?> hit : chunk.hits() ) {
+					assertThat( ids.add( (String) hit.get( 0 ) ) ).isTrue();
+					int modulo = (Integer) hit.get( 1 );
+					assertThat( modulo ).isGreaterThanOrEqualTo( previousModulo );
+					previousModulo = modulo;
+				}
+			}
+		}
+		assertThat( ids ).hasSize( INDEX_SIZE );
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( INDEX_SIZE, i -> documentProvider(
+						String.valueOf( i ),
+						document -> {
+							document.addValue( index.binding().number, i );
+							document.addValue( index.binding().modulo, i % MODULO );
+						}
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<Integer> modulo;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", c -> c.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			modulo = root.field( "modulo", c -> c.asInteger().aggregable( Aggregable.YES ).sortable( Sortable.YES )
+						.projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
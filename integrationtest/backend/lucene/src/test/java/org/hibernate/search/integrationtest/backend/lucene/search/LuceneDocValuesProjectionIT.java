@@ -0,0 +1,218 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.common.ValueModel;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Checks that field projections return the same values
+ * whether they read doc values or stored fields.
+ */
+class LuceneDocValuesProjectionIT {
+
+	private static final Instant INSTANT_WITH_NANOS = Instant.parse( "2020-01-01T10:15:30.123456789Z" );
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new ).name( "main" );
+	private final SimpleMappedIndex<UnsortableIndexBinding> unsortableIndex =
+			SimpleMappedIndex.of( UnsortableIndexBinding::new ).name( "unsortable" );
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start().withIndexes( index, unsortableIndex ).setup();
+
+		index.bulkIndexer()
+				.add( "1", document -> {
+					document.addValue( index.binding().id, 1 );
+					document.addValue( index.binding().integer, -42 );
+					document.addValue( index.binding().floatingPoint, -0.0 );
+					document.addValue( index.binding().bool, true );
+					document.addValue( index.binding().localDate, LocalDate.of( 1970, 1, 1 ) );
+					document.addValue( index.binding().instant, INSTANT_WITH_NANOS );
+					document.addValue( index.binding().keyword, "Some Text" );
+					document.addValue( index.binding().normalized, "Some Text" );
+					document.addValue( index.binding().multiValued, 3 );
+					document.addValue( index.binding().multiValued, 1 );
+					document.addValue( index.binding().multiValued, 2 );
+					DocumentElement nested1 = document.addObject( index.binding().nested );
+					nested1.addValue( index.binding().nestedInteger, 7 );
+					DocumentElement nested2 = document.addObject( index.binding().nested );
+					nested2.addValue( index.binding().nestedInteger, 5 );
+				} )
+				.add( "2", document -> {
+					document.addValue( index.binding().id, 2 );
+					document.addValue( index.binding().integer, Integer.MAX_VALUE );
+					document.addValue( index.binding().floatingPoint, 1.5 );
+					document.addValue( index.binding().bool, false );
+					document.addValue( index.binding().localDate, LocalDate.of( 2020, 2, 29 ) );
+					document.addValue( index.binding().instant, Instant.EPOCH );
+					document.addValue( index.binding().keyword, "other" );
+					document.addValue( index.binding().normalized, "OTHER" );
+					document.addObject( index.binding().nested );
+				} )
+				// No value at all
+				.add( "3", document -> document.addValue( index.binding().id, 3 ) )
+				.join();
+		unsortableIndex.bulkIndexer()
+				.add( "4", document -> document.addValue( unsortableIndex.binding().integer, 4 ) )
+				.join();
+	}
+
+	@Test
+	void numeric() {
+		assertSameValues( "integer", Integer.class, -42, Integer.MAX_VALUE, null );
+		assertSameValues( "floatingPoint", Double.class, -0.0, 1.5, null );
+		assertSameValues( "bool", Boolean.class, true, false, null );
+	}
+
+	@Test
+	void temporal() {
+		assertSameValues( "localDate", LocalDate.class, LocalDate.of( 1970, 1, 1 ), LocalDate.of( 2020, 2, 29 ), null );
+		// Doc values are truncated to the millisecond, so stored fields must be used.
+		assertSameValues( "instant", Instant.class, INSTANT_WITH_NANOS, Instant.EPOCH, null );
+	}
+
+	@Test
+	void string() {
+		assertSameValues( "keyword", String.class, "Some Text", "other", null );
+		// Doc values are normalized, so stored fields must be used.
+		assertSameValues( "normalized", String.class, "Some Text", "OTHER", null );
+	}
+
+	@Test
+	void raw() {
+		assertThat( index.query().extension( LuceneExtension.get() )
+				.select( f -> f.field( "localDate", Object.class, ValueModel.RAW ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.preferDocValuesForProjections()
+				.fetchAllHits() )
+				.containsExactly( 0L, LocalDate.of( 2020, 2, 29 ).toEpochDay(), null );
+	}
+
+	@Test
+	void multiValued() {
+		// Doc values are sorted, so stored fields must be used to preserve the order of values.
+		assertThat( index.query().extension( LuceneExtension.get() )
+				.select( f -> f.field( "multiValued", Integer.class ).list() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.preferDocValuesForProjections()
+				.fetchAllHits() )
+				.containsExactly( List.of( 3, 1, 2 ), List.of(), List.of() );
+	}
+
+	@Test
+	void nested() {
+		assertThat( index.query().extension( LuceneExtension.get() )
+				.select( f -> f.object( "nested" )
+						.from( f.field( "nested.integer", Integer.class ) )
+						.as( value -> value )
+						.list() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.preferDocValuesForProjections()
+				.fetchAllHits() )
+				.containsExactly( List.of( 7, 5 ), Arrays.asList( (Integer) null ), List.of() );
+	}
+
+	@Test
+	void multiIndex_docValuesInSomeIndexesOnly() {
+		assertThat( index.createScope( unsortableIndex ).query().extension( LuceneExtension.get() )
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.preferDocValuesForProjections()
+				.fetchAllHits() )
+				.containsExactlyInAnyOrder( -42, Integer.MAX_VALUE, null, 4 );
+	}
+
+	@SafeVarargs
+	private <T> void assertSameValues(String fieldPath, Class<T> type, T... expected) {
+		for ( boolean preferDocValues : new boolean[] { false, true } ) {
+			assertThat( index.query().extension( LuceneExtension.get() )
+					.select( f -> f.field( fieldPath, type ) )
+					.where( f -> f.matchAll() )
+					.sort( f -> f.field( "id" ) )
+					.preferDocValuesForProjections( preferDocValues )
+					.fetchAllHits() )
+					.as( "Projection on %s with preferDocValues=%s", fieldPath, preferDocValues )
+					.containsExactly( expected );
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> id;
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Double> floatingPoint;
+		final IndexFieldReference<Boolean> bool;
+		final IndexFieldReference<LocalDate> localDate;
+		final IndexFieldReference<Instant> instant;
+		final IndexFieldReference<String> keyword;
+		final IndexFieldReference<String> normalized;
+		final IndexFieldReference<Integer> multiValued;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedInteger;
+
+		IndexBinding(IndexSchemaElement root) {
+			id = root.field( "id", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			integer = root.field( "integer", f -> f.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) ).toReference();
+			floatingPoint = root.field( "floatingPoint", f -> f.asDouble()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) ).toReference();
+			bool = root.field( "bool", f -> f.asBoolean()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) ).toReference();
+			localDate = root.field( "localDate", f -> f.asLocalDate()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) ).toReference();
+			instant = root.field( "instant", f -> f.asInstant()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) ).toReference();
+			keyword = root.field( "keyword", f -> f.asString()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) ).toReference();
+			normalized = root.field( "normalized", f -> f.asString()
+					.normalizer( DefaultAnalysisDefinitions.NORMALIZER_LOWERCASE.name )
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) ).toReference();
+			multiValued = root.field( "multiValued", f -> f.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) ).multiValued().toReference();
+			IndexSchemaObjectField nestedObject = root.objectField( "nested", ObjectStructure.NESTED ).multiValued();
+			nested = nestedObject.toReference();
+			nestedInteger = nestedObject.field( "integer", f -> f.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) ).toReference();
+		}
+	}
+
+	private static class UnsortableIndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		UnsortableIndexBinding(IndexSchemaElement root) {
+			root.field( "id", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			integer = root.field( "integer", f -> f.asInteger()
+					.sortable( Sortable.NO ).projectable( Projectable.YES ) ).toReference();
+		}
+	}
+}
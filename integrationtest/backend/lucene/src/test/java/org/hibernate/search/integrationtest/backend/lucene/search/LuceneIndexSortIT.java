@@ -0,0 +1,203 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class LuceneIndexSortIT {
+
+	private static final int DOCUMENT_COUNT = 5000;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	void matchingSort_earlyTermination() {
+		setup( "integer:desc" );
+
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.exists().field( "integer" ) )
+				.sort( f -> f.field( "integer" ).desc() )
+				.totalHitCountThreshold( 100 )
+				.fetch( 10 );
+
+		assertThat( result.hits() ).extracting( DocumentReference::id )
+				.containsExactly( "4999", "4998", "4997", "4996", "4995", "4994", "4993", "4992", "4991", "4990" );
+		SearchResultTotal total = result.total();
+		assertThat( total.isHitCountLowerBound() ).isTrue();
+		assertThat( total.hitCountLowerBound() ).isLessThan( DOCUMENT_COUNT );
+	}
+
+	@Test
+	void matchingSort_exactTotalHitCount() {
+		setup( "integer:desc" );
+
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.exists().field( "integer" ) )
+				.sort( f -> f.field( "integer" ).desc() )
+				.fetch( 3 );
+
+		assertThat( result.hits() ).extracting( DocumentReference::id )
+				.containsExactly( "4999", "4998", "4997" );
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	void matchingSortPrefix() {
+		setup( "string", "integer:desc" );
+
+		assertThat( index.query()
+				.where( f -> f.exists().field( "integer" ) )
+				.sort( f -> f.field( "string" ).then().field( "integer" ).desc() )
+				.fetchHits( 3 ) )
+				.extracting( DocumentReference::id )
+				.containsExactly( "4990", "4980", "4970" );
+	}
+
+	@Test
+	void nonMatchingSort() {
+		setup( "integer:desc" );
+
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.exists().field( "integer" ) )
+				.sort( f -> f.field( "integer" ).asc() )
+				.fetch( 3 );
+
+		assertThat( result.hits() ).extracting( DocumentReference::id )
+				.containsExactly( "0", "1", "2" );
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	void nestedDocuments() {
+		setup( "integer:desc" );
+
+		assertThatQuery( index.query()
+				.where( f -> f.nested( "nested" ).add( f.match().field( "nested.integer" ).matching( 42 ) ) )
+				.sort( f -> f.field( "integer" ).desc() )
+				.toQuery() )
+				.hasDocRefHitsExactOrder( index.typeName(), "42" );
+
+		assertThat( index.query()
+				.where( f -> f.exists().field( "integer" ) )
+				.sort( f -> f.field( "nested.integer" ).desc() )
+				.fetchHits( 2 ) )
+				.extracting( DocumentReference::id )
+				.containsExactly( "4999", "4998" );
+	}
+
+	@Test
+	void invalid_unknownField() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndexProperty( index.name(), LuceneIndexSettings.INDEXING_SORT, "unknown" )
+				.withIndex( index )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid value for configuration property '"
+								+ "hibernate.search.backend.indexes." + index.name() + "." + LuceneIndexSettings.INDEXING_SORT,
+								"Invalid index sort: unknown field 'unknown'" ) );
+	}
+
+	@Test
+	void invalid_unsortableField() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndexProperty( index.name(), LuceneIndexSettings.INDEXING_SORT, "unsortable" )
+				.withIndex( index )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid index sort: field 'unsortable' cannot be used to sort the index" ) );
+	}
+
+	@Test
+	void invalid_nestedField() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndexProperty( index.name(), LuceneIndexSettings.INDEXING_SORT, "nested.integer" )
+				.withIndex( index )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid index sort: field 'nested.integer' cannot be used to sort the index" ) );
+	}
+
+	@Test
+	void invalid_order() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndexProperty( index.name(), LuceneIndexSettings.INDEXING_SORT, "integer:up" )
+				.withIndex( index )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid index sort: invalid sort order 'up' for field 'integer'",
+								"Valid orders are: [asc, desc]" ) );
+	}
+
+	private void setup(String... indexSort) {
+		setupHelper.start()
+				.withIndexProperty( index.name(), LuceneIndexSettings.INDEXING_SORT, List.of( indexSort ) )
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> StubMapperUtils.documentProvider(
+						String.valueOf( i ),
+						document -> {
+							document.addValue( index.binding().integer, i );
+							document.addValue( index.binding().string, i % 10 == 0 ? "a" : "b" );
+							document.addValue( index.binding().unsortable, i );
+							DocumentElement nested = document.addObject( index.binding().nested );
+							nested.addValue( index.binding().nestedInteger, i );
+						} ) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<Integer> unsortable;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedInteger;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+			unsortable = root.field( "unsortable", f -> f.asInteger().sortable( Sortable.NO ) ).toReference();
+			IndexSchemaObjectField nestedObject = root.objectField( "nested", ObjectStructure.NESTED );
+			nested = nestedObject.toReference();
+			nestedInteger = nestedObject.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
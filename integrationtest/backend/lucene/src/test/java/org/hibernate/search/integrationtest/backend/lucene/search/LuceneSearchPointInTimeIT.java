@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchPointInTime;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchScroll;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchScrollResult;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.awaitility.Awaitility;
+
+class LuceneSearchPointInTimeIT {
+
+	private static final int DOCUMENT_COUNT = 20;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start().withIndex( index ).setup();
+		indexDocuments( 0, DOCUMENT_COUNT );
+	}
+
+	@Test
+	void pagination() {
+		try ( LuceneSearchPointInTime pointInTime = query().openPointInTime( Duration.ofMinutes( 1 ) ) ) {
+			LuceneSearchResult<DocumentReference> firstPage = queryAt( pointInTime ).fetch( 0, 10 );
+			assertThat( ids( firstPage.hits() ) ).containsExactly( 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 );
+			assertThat( firstPage.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+
+			// Documents indexed after the point in time was opened must be ignored...
+			indexDocuments( -DOCUMENT_COUNT, 0 );
+
+			LuceneSearchResult<DocumentReference> secondPage = queryAt( pointInTime ).fetch( 10, 10 );
+			assertThat( ids( secondPage.hits() ) ).containsExactly( 10, 11, 12, 13, 14, 15, 16, 17, 18, 19 );
+			assertThat( secondPage.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+			assertThat( queryAt( pointInTime ).fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+
+			// ... but not by queries that do not use the point in time.
+			assertThat( query().fetchTotalHitCount() ).isEqualTo( 2 * DOCUMENT_COUNT );
+		}
+	}
+
+	@Test
+	void scroll() {
+		List<Integer> ids = new ArrayList<>();
+		try ( LuceneSearchPointInTime pointInTime = query().openPointInTime( Duration.ofMinutes( 1 ) ) ) {
+			indexDocuments( -DOCUMENT_COUNT, 0 );
+
+			try ( LuceneSearchScroll<DocumentReference> scroll = queryAt( pointInTime ).scroll( 7 ) ) {
+				// Closing the point in time must not affect scrolls that are already open.
+				pointInTime.close();
+
+				for ( LuceneSearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+						chunk = scroll.next() ) {
+					ids.addAll( ids( chunk.hits() ) );
+					assertThat( chunk.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+				}
+			}
+		}
+		assertThat( ids ).hasSize( DOCUMENT_COUNT ).isSorted().allMatch( id -> id >= 0 );
+	}
+
+	@Test
+	void close() {
+		LuceneSearchPointInTime pointInTime = query().openPointInTime( Duration.ofMinutes( 1 ) );
+		LuceneSearchQuery<DocumentReference> query = queryAt( pointInTime );
+		assertThat( query.fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+
+		pointInTime.close();
+		// Closing multiple times is fine
+		pointInTime.close();
+
+		assertThatThrownBy( () -> query.fetch( 10 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to use the point in time: it was closed or it expired" );
+	}
+
+	@Test
+	void keepAlive() {
+		LuceneSearchPointInTime pointInTime = query().openPointInTime( Duration.ofMillis( 100 ) );
+		LuceneSearchQuery<DocumentReference> query = queryAt( pointInTime );
+
+		Awaitility.await().untilAsserted( () -> assertThatThrownBy( () -> query.fetch( 10 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to use the point in time: it was closed or it expired" ) );
+	}
+
+	@Test
+	void invalidKeepAlive() {
+		assertThatThrownBy( () -> query().openPointInTime( Duration.ZERO ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid keep-alive for a point in time: 'PT0S'",
+						"The keep-alive must be strictly positive" );
+	}
+
+	@Test
+	void targetMismatch() {
+		try ( LuceneSearchPointInTime pointInTime = query().openPointInTime( Duration.ofMinutes( 1 ) ) ) {
+			assertThatThrownBy( () -> index.query().extension( LuceneExtension.get() )
+					.where( f -> f.matchAll() )
+					.routing( "someRoutingKey" )
+					.pointInTime( pointInTime )
+					.toQuery() )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll( "Invalid point in time",
+							"opened for indexes [" + index.name() + "] and routing keys []",
+							"but the search query targets indexes [" + index.name() + "] and routing keys [someRoutingKey]" );
+		}
+	}
+
+	private LuceneSearchQuery<DocumentReference> query() {
+		return index.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery();
+	}
+
+	private LuceneSearchQuery<DocumentReference> queryAt(LuceneSearchPointInTime pointInTime) {
+		return index.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.pointInTime( pointInTime )
+				.toQuery();
+	}
+
+	private static List<Integer> ids(List<DocumentReference> hits) {
+		return hits.stream().map( hit -> Integer.parseInt( hit.id() ) ).toList();
+	}
+
+	private void indexDocuments(int fromInclusive, int toExclusive) {
+		index.bulkIndexer()
+				.add( toExclusive - fromInclusive, i -> StubMapperUtils.documentProvider(
+						String.valueOf( fromInclusive + i ),
+						document -> document.addValue( index.binding().integer, fromInclusive + i ) ) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.lucene.document.Document;
+
+/**
+ * Checks that field projections decode stored fields correctly
+ * when multiple values, binary values or no value at all are stored for a field.
+ */
+class LuceneStoredFieldsProjectionIT {
+
+	private static final GeoPoint POINT_1 = GeoPoint.of( 42.0, -7.5 );
+	private static final GeoPoint POINT_2 = GeoPoint.of( -12.25, 120.0 );
+	private static final GeoPoint POINT_3 = GeoPoint.of( 0.0, 0.0 );
+	private static final float[] VECTOR_1 = new float[] { 1.0f, -2.5f, 3.75f };
+	private static final float[] VECTOR_2 = new float[] { 0.0f, 0.5f, -1.0f };
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		index.bulkIndexer()
+				.add( "1", document -> {
+					document.addValue( index.binding().id, 1 );
+					document.addValue( index.binding().strings, "c" );
+					document.addValue( index.binding().strings, "a" );
+					document.addValue( index.binding().strings, "b" );
+					document.addValue( index.binding().integers, 3 );
+					document.addValue( index.binding().integers, 1 );
+					document.addValue( index.binding().geoPoint, POINT_1 );
+					document.addValue( index.binding().geoPoints, POINT_2 );
+					document.addValue( index.binding().geoPoints, POINT_3 );
+					document.addValue( index.binding().vector, VECTOR_1 );
+					document.addValue( index.binding().optional, "present" );
+					DocumentElement nested1 = document.addObject( index.binding().nested );
+					nested1.addValue( index.binding().nestedStrings, "x" );
+					nested1.addValue( index.binding().nestedStrings, "y" );
+					nested1.addValue( index.binding().nestedGeoPoint, POINT_3 );
+					DocumentElement nested2 = document.addObject( index.binding().nested );
+					nested2.addValue( index.binding().nestedStrings, "z" );
+				} )
+				.add( "2", document -> {
+					document.addValue( index.binding().id, 2 );
+					document.addValue( index.binding().strings, "single" );
+					document.addValue( index.binding().integers, 2 );
+					document.addValue( index.binding().geoPoint, POINT_2 );
+					document.addValue( index.binding().vector, VECTOR_2 );
+					document.addObject( index.binding().nested );
+				} )
+				// No value at all
+				.add( "3", document -> document.addValue( index.binding().id, 3 ) )
+				.join();
+	}
+
+	@Test
+	void multiValued() {
+		// Values must be returned in the order they were indexed.
+		assertThat( index.query()
+				.select( f -> f.field( "strings", String.class ).list() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.fetchAllHits() )
+				.containsExactly( List.of( "c", "a", "b" ), List.of( "single" ), List.of() );
+		assertThat( index.query()
+				.select( f -> f.field( "integers", Integer.class ).list() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.fetchAllHits() )
+				.containsExactly( List.of( 3, 1 ), List.of( 2 ), List.of() );
+	}
+
+	@Test
+	void multiValued_severalFields() {
+		// Values of different fields are interleaved in stored fields: each projection must only pick its own.
+		assertThat( index.query()
+				.select( f -> f.composite()
+						.from( f.field( "strings", String.class ).list(),
+								f.field( "integers", Integer.class ).list(),
+								f.field( "geoPoints", GeoPoint.class ).list() )
+						.asList() )
+				.where( f -> f.id().matching( "1" ) )
+				.fetchAllHits() )
+				.containsExactly( List.of( List.of( "c", "a", "b" ), List.of( 3, 1 ), List.of( POINT_2, POINT_3 ) ) );
+	}
+
+	@Test
+	void binary() {
+		assertThat( index.query()
+				.select( f -> f.field( "geoPoint", GeoPoint.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.fetchAllHits() )
+				.containsExactly( POINT_1, POINT_2, null );
+		assertThat( index.query()
+				.select( f -> f.field( "geoPoints", GeoPoint.class ).list() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.fetchAllHits() )
+				.containsExactly( List.of( POINT_2, POINT_3 ), List.of(), List.of() );
+		assertThat( index.query()
+				.select( f -> f.field( "vector", float[].class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.fetchAllHits() )
+				.containsExactly( VECTOR_1, VECTOR_2, null );
+	}
+
+	@Test
+	void missing() {
+		assertThat( index.query()
+				.select( f -> f.composite()
+						.from( f.field( "optional", String.class ), f.field( "geoPoint", GeoPoint.class ),
+								f.field( "strings", String.class ).list() )
+						.asList() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.fetchAllHits() )
+				.containsExactly(
+						Arrays.asList( "present", POINT_1, List.of( "c", "a", "b" ) ),
+						Arrays.asList( null, POINT_2, List.of( "single" ) ),
+						Arrays.asList( null, null, List.of() )
+				);
+	}
+
+	@Test
+	void nested() {
+		assertThat( index.query()
+				.select( f -> f.object( "nested" )
+						.from( f.field( "nested.strings", String.class ).list(),
+								f.field( "nested.geoPoint", GeoPoint.class ) )
+						.asList()
+						.list() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.fetchAllHits() )
+				.containsExactly(
+						List.of( Arrays.asList( List.of( "x", "y" ), POINT_3 ), Arrays.asList( List.of( "z" ), null ) ),
+						List.of( Arrays.asList( List.of(), null ) ),
+						List.of()
+				);
+	}
+
+	@Test
+	void documentAndField() {
+		// Documents are built from the same loaded values as field projections.
+		List<List<?>> hits = index.query().extension( LuceneExtension.get() )
+				.select( f -> f.composite()
+						.from( f.document(), f.field( "strings", String.class ).list() )
+						.asList() )
+				.where( f -> f.id().matching( "1" ) )
+				.fetchAllHits();
+		assertThat( hits ).hasSize( 1 );
+		Document document = (Document) hits.get( 0 ).get( 0 );
+		assertThat( document.getValues( "strings" ) ).containsExactly( "c", "a", "b" );
+		assertThat( document.getBinaryValues( "geoPoints" ) ).hasSize( 2 );
+		assertThat( document.getBinaryValue( "vector" ) ).isNotNull();
+		assertThat( document.get( "optional" ) ).isEqualTo( "present" );
+		assertThat( hits.get( 0 ).get( 1 ) ).isEqualTo( List.of( "c", "a", "b" ) );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> id;
+		final IndexFieldReference<String> strings;
+		final IndexFieldReference<Integer> integers;
+		final IndexFieldReference<GeoPoint> geoPoint;
+		final IndexFieldReference<GeoPoint> geoPoints;
+		final IndexFieldReference<float[]> vector;
+		final IndexFieldReference<String> optional;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<String> nestedStrings;
+		final IndexFieldReference<GeoPoint> nestedGeoPoint;
+
+		IndexBinding(IndexSchemaElement root) {
+			id = root.field( "id", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			strings = root.field( "strings", f -> f.asString().projectable( Projectable.YES ) )
+					.multiValued().toReference();
+			integers = root.field( "integers", f -> f.asInteger().projectable( Projectable.YES ) )
+					.multiValued().toReference();
+			geoPoint = root.field( "geoPoint", f -> f.asGeoPoint().projectable( Projectable.YES ) ).toReference();
+			geoPoints = root.field( "geoPoints", f -> f.asGeoPoint().projectable( Projectable.YES ) )
+					.multiValued().toReference();
+			vector = root.field( "vector", f -> f.asFloatVector().dimension( 3 ).projectable( Projectable.YES ) )
+					.toReference();
+			optional = root.field( "optional", f -> f.asString().projectable( Projectable.YES ) ).toReference();
+			IndexSchemaObjectField nestedObject = root.objectField( "nested", ObjectStructure.NESTED ).multiValued();
+			nested = nestedObject.toReference();
+			nestedStrings = nestedObject.field( "strings", f -> f.asString().projectable( Projectable.YES ) )
+					.multiValued().toReference();
+			nestedGeoPoint = nestedObject.field( "geoPoint", f -> f.asGeoPoint().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.cfg.spi.LuceneBackendSpiSettings;
+import org.hibernate.search.backend.lucene.index.IndexingQueueStatistics;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.engine.common.execution.spi.DelegatingSimpleScheduledExecutor;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.awaitility.Awaitility;
+
+class LuceneIndexingFairSchedulingIT {
+
+	private static final int HOT_DOCUMENT_COUNT = 2000;
+	private static final int COLD_DOCUMENT_COUNT = 20;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> hotIndex = SimpleMappedIndex.of( IndexBinding::new ).name( "hot" );
+	private final SimpleMappedIndex<IndexBinding> coldIndex = SimpleMappedIndex.of( IndexBinding::new ).name( "cold" );
+
+	@Test
+	void statistics_idle() {
+		setup( false );
+
+		indexAndWait( hotIndex, HOT_DOCUMENT_COUNT );
+
+		awaitIdle( hotIndex );
+	}
+
+	@Test
+	void fairScheduling() {
+		setup( true );
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		futures.addAll( index( hotIndex, HOT_DOCUMENT_COUNT ) );
+		futures.addAll( index( coldIndex, COLD_DOCUMENT_COUNT ) );
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+
+		refresh( hotIndex );
+		refresh( coldIndex );
+		assertThatQuery( hotIndex.query().where( f -> f.matchAll() ) )
+				.hasTotalHitCount( HOT_DOCUMENT_COUNT );
+		assertThatQuery( coldIndex.query().where( f -> f.matchAll() ) )
+				.hasTotalHitCount( COLD_DOCUMENT_COUNT );
+
+		awaitIdle( hotIndex );
+	}
+
+	@Test
+	void fairScheduling_customExecutor() {
+		// The thread count of a custom executor is unknown: fair scheduling must not get in the way.
+		LuceneWorkExecutorProvider customProvider = context -> new DelegatingSimpleScheduledExecutor(
+				Executors.newScheduledThreadPool( 1 ), false );
+		setup( true, c -> c.withBackendProperty( LuceneBackendSpiSettings.Radicals.BACKEND_WORK_EXECUTOR_PROVIDER,
+				BeanReference.ofInstance( customProvider ) ) );
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		futures.addAll( index( hotIndex, HOT_DOCUMENT_COUNT ) );
+		futures.addAll( index( coldIndex, COLD_DOCUMENT_COUNT ) );
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+
+		refresh( hotIndex );
+		refresh( coldIndex );
+		assertThatQuery( hotIndex.query().where( f -> f.matchAll() ) )
+				.hasTotalHitCount( HOT_DOCUMENT_COUNT );
+		assertThatQuery( coldIndex.query().where( f -> f.matchAll() ) )
+				.hasTotalHitCount( COLD_DOCUMENT_COUNT );
+
+		awaitIdle( hotIndex );
+	}
+
+	private void setup(boolean fairScheduling) {
+		setup( fairScheduling, c -> {} );
+	}
+
+	private void setup(boolean fairScheduling, Consumer<SearchSetupHelper.SetupContext> additionalConfiguration) {
+		SearchSetupHelper.SetupContext setupContext = setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.THREAD_POOL_SIZE, 2 )
+				.withBackendProperty( LuceneBackendSettings.THREAD_POOL_FAIR_SCHEDULING, fairScheduling )
+				.withIndexProperty( hotIndex.name(), LuceneIndexSettings.INDEXING_MAX_CONCURRENCY, 1 )
+				.withIndexes( hotIndex, coldIndex );
+		additionalConfiguration.accept( setupContext );
+		setupContext.setup();
+	}
+
+	private void indexAndWait(SimpleMappedIndex<IndexBinding> index, int documentCount) {
+		CompletableFuture.allOf( index( index, documentCount ).toArray( new CompletableFuture[0] ) ).join();
+	}
+
+	private List<CompletableFuture<?>> index(SimpleMappedIndex<IndexBinding> index, int documentCount) {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		// One plan per document, so that documents are spread over all indexing queues.
+		for ( int i = 0; i < documentCount; i++ ) {
+			String id = String.valueOf( i );
+			IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.NONE,
+					DocumentRefreshStrategy.NONE );
+			plan.add( referenceProvider( id ), document -> document.addValue( index.binding().text, id ) );
+			futures.add( plan.execute( OperationSubmitter.blocking() ) );
+		}
+		return futures;
+	}
+
+	private void refresh(SimpleMappedIndex<IndexBinding> index) {
+		index.createWorkspace().refresh( OperationSubmitter.blocking(),
+				UnsupportedOperationBehavior.FAIL ).join();
+	}
+
+	private void awaitIdle(SimpleMappedIndex<IndexBinding> index) {
+		// Indexing queues may still be busy for a short while after works completed, e.g. to commit.
+		Awaitility.await().untilAsserted( () -> {
+			IndexingQueueStatistics statistics = statistics( index );
+			assertThat( statistics.queuedWorkCount() ).isZero();
+			assertThat( statistics.waitingQueueCount() ).isZero();
+			assertThat( statistics.processingQueueCount() ).isZero();
+		} );
+	}
+
+	private IndexingQueueStatistics statistics(SimpleMappedIndex<IndexBinding> index) {
+		return index.toApi().unwrap( LuceneIndexManager.class ).indexingQueueStatistics();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", c -> c.asString() ).toReference();
+		}
+	}
+}
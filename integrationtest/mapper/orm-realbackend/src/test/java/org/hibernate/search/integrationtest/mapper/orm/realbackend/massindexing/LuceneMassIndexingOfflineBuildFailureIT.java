@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.orm.realbackend.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.integrationtest.mapper.orm.realbackend.util.BookCreatorUtils.prepareBooks;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.integrationtest.mapper.orm.realbackend.testsupport.BackendConfigurations;
+import org.hibernate.search.integrationtest.mapper.orm.realbackend.util.Book;
+import org.hibernate.search.integrationtest.mapper.orm.realbackend.util.BookCreatorUtils;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test that a failed rebuild of a Lucene index through an offline build
+ * leaves the previous content of the index untouched.
+ */
+class LuceneMassIndexingOfflineBuildFailureIT {
+
+	private static final int NUMBER_OF_BOOKS = 100;
+
+	@RegisterExtension
+	public OrmSetupHelper setupHelper = OrmSetupHelper.withSingleBackend( BackendConfigurations.simple() );
+
+	private EntityManagerFactory entityManagerFactory;
+
+	@BeforeEach
+	void before() {
+		entityManagerFactory = setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.IO_BULK_LOAD_OFFLINE_BUILD, true )
+				.withProperty( AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+						JdbcStatementFailureOnIdLoadingThreadListener.class.getName() )
+				.setup( Book.class );
+
+		// Indexed through listeners: ID loading only happens during mass indexing.
+		prepareBooks( entityManagerFactory, NUMBER_OF_BOOKS );
+		assertThat( BookCreatorUtils.documentsCount( entityManagerFactory ) ).isEqualTo( NUMBER_OF_BOOKS );
+	}
+
+	@Test
+	void failure_purgeAllOnStart() {
+		// The failure happens after the purge was requested and the offline build started.
+		assertThatThrownBy( () -> Search.mapping( entityManagerFactory ).scope( Book.class ).massIndexer()
+				.purgeAllOnStart( true )
+				.startAndWait() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"failure(s) occurred during mass indexing",
+						JdbcStatementFailureOnIdLoadingThreadListener.MESSAGE
+				);
+
+		// The offline build was discarded instead of replacing the index content: previous documents are still searchable.
+		assertThat( BookCreatorUtils.documentsCount( entityManagerFactory ) ).isEqualTo( NUMBER_OF_BOOKS );
+	}
+
+	public static class JdbcStatementFailureOnIdLoadingThreadListener implements SessionEventListener {
+		private static final String MESSAGE = "Simulated JDBC statement failure on ID loading";
+
+		@Override
+		public void jdbcExecuteStatementStart() {
+			if ( Thread.currentThread().getName().contains( "- ID loading" ) ) {
+				throw new SimulatedFailure( MESSAGE );
+			}
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+}
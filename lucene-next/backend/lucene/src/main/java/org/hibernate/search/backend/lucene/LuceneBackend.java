@@ -6,8 +6,11 @@
 
 import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.cache.QueryCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.metamodel.IndexValueFieldTypeDescriptor;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import org.apache.lucene.analysis.Analyzer;
 
@@ -26,4 +29,12 @@ public interface LuceneBackend extends Backend {
 	 */
 	Optional<? extends Analyzer> normalizer(String name);
 
+	/**
+	 * @return Statistics about the built-in query cache of this backend,
+	 * or {@link Optional#empty()} if the built-in query cache is disabled
+	 * or a query cache was set through a {@link LuceneBackendSettings#QUERY_CACHING_CONFIGURER query caching configurer}.
+	 */
+	@Incubating
+	Optional<QueryCacheStatistics> queryCacheStatistics();
+
 }
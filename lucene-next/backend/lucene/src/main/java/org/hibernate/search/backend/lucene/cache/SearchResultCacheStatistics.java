@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.cache;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Statistics about the search result cache of an index.
+ * <p>
+ * The search result cache can be enabled through the
+ * {@link LuceneIndexSettings#SEARCH_RESULT_CACHE_MAX_ENTRIES configuration properties}.
+ */
+@Incubating
+public interface SearchResultCacheStatistics {
+
+	/**
+	 * @return The number of search queries whose results were retrieved from the cache.
+	 */
+	long hitCount();
+
+	/**
+	 * @return The number of cacheable search queries whose results could not be found in the cache.
+	 */
+	long missCount();
+
+	/**
+	 * @return The number of entries removed from the cache to make room for new entries.
+	 * Entries removed because the index reader they relate to was closed are not taken into account.
+	 */
+	long evictionCount();
+
+	/**
+	 * @return The number of entries currently in the cache.
+	 */
+	int size();
+
+}
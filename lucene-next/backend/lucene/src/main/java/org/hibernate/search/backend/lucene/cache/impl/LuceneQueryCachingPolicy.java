@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
+
+/**
+ * The default query caching policy of the Lucene backend.
+ * <p>
+ * Behaves like Lucene's default policy, except term queries on some metadata fields are always cached:
+ * these are filters added by Hibernate Search to (almost) every search query
+ * (tenant filter, routing filter, filter on main documents),
+ * which Lucene's default policy would never cache because term queries are considered cheap.
+ */
+public final class LuceneQueryCachingPolicy extends UsageTrackingQueryCachingPolicy {
+
+	private static final Set<String> ALWAYS_CACHED_FIELD_NAMES = Set.of(
+			MetadataFields.tenantIdFieldName(),
+			MetadataFields.routingKeyFieldName(),
+			MetadataFields.typeFieldName()
+	);
+
+	@Override
+	public boolean shouldCache(Query query) throws IOException {
+		if ( query instanceof TermQuery termQuery
+				&& ALWAYS_CACHED_FIELD_NAMES.contains( termQuery.getTerm().field() ) ) {
+			return true;
+		}
+		return super.shouldCache( query );
+	}
+
+}
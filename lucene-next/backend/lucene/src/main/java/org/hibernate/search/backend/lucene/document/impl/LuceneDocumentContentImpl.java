@@ -4,8 +4,10 @@
  */
 package org.hibernate.search.backend.lucene.document.impl;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.search.backend.lucene.logging.impl.IndexingLog;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
@@ -13,15 +15,32 @@
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneDocumentContent;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.IndexableField;
 
 public class LuceneDocumentContentImpl implements LuceneDocumentContent {
 
 	private final Document document = new Document();
 	private final Map<String, EncounteredFieldStatus> fieldStatus = new HashMap<>();
+	private final Set<String> docValuesUpdatableFieldPaths;
+
+	LuceneDocumentContentImpl() {
+		this( Collections.emptySet() );
+	}
+
+	LuceneDocumentContentImpl(Set<String> docValuesUpdatableFieldPaths) {
+		this.docValuesUpdatableFieldPaths = docValuesUpdatableFieldPaths;
+	}
 
 	@Override
 	public void addField(IndexableField field) {
+		if ( DocValuesType.SORTED_NUMERIC.equals( field.fieldType().docValuesType() )
+				&& docValuesUpdatableFieldPaths.contains( field.name() ) ) {
+			// Lucene can only update single-valued, numeric doc values in place.
+			// The field is single-valued, so both types hold the exact same information.
+			field = new NumericDocValuesField( field.name(), field.numericValue().longValue() );
+		}
 		document.add( field );
 	}
 
@@ -17,7 +17,7 @@ public class LuceneIndexEntry implements Iterable<Document> {
 
 	private final List<Document> documents;
 
-	LuceneIndexEntry(String indexName, String id, List<Document> documents) {
+	public LuceneIndexEntry(String indexName, String id, List<Document> documents) {
 		this.indexName = indexName;
 		this.id = id;
 		this.documents = documents;
@@ -28,6 +28,10 @@ public Iterator<Document> iterator() {
 		return documents.iterator();
 	}
 
+	public List<Document> documents() {
+		return documents;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
@@ -6,6 +6,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
@@ -17,8 +18,9 @@ public class LuceneRootDocumentBuilder extends AbstractLuceneDocumentElementBuil
 
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
-	LuceneRootDocumentBuilder(LuceneIndexModel model, MultiTenancyStrategy multiTenancyStrategy) {
-		super( model, model.root(), new LuceneDocumentContentImpl() );
+	LuceneRootDocumentBuilder(LuceneIndexModel model, MultiTenancyStrategy multiTenancyStrategy,
+			Set<String> docValuesUpdatableFieldPaths) {
+		super( model, model.root(), new LuceneDocumentContentImpl( docValuesUpdatableFieldPaths ) );
 		this.multiTenancyStrategy = multiTenancyStrategy;
 	}
 
@@ -9,6 +9,7 @@
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cache.QueryCacheStatistics;
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexRootBuilder;
 import org.hibernate.search.backend.lucene.index.impl.IndexManagerBackendContext;
@@ -44,6 +45,8 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
+	private final LuceneQueryCachingContext cachingContext;
+
 	private final LuceneSyncWorkOrchestratorImpl readOrchestrator;
 
 	private final IndexManagerBackendContext indexManagerBackendContext;
@@ -54,6 +57,8 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			LuceneQueryCachingContext cachingContext,
+			int searchSliceMaxDocs,
+			int searchSliceMaxSegments,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
 			FailureHandler failureHandler) {
@@ -62,10 +67,12 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 		this.threads = threads;
 
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
+		this.cachingContext = cachingContext;
 		Similarity similarity = analysisDefinitionRegistry.getSimilarity();
 
 		this.readOrchestrator = new LuceneSyncWorkOrchestratorImpl(
-				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext
+				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext,
+				threads, searchSliceMaxDocs, searchSliceMaxSegments
 		);
 
 		this.indexManagerBackendContext = new IndexManagerBackendContext(
@@ -132,6 +139,11 @@ public Optional<Analyzer> normalizer(String name) {
 		return Optional.ofNullable( analysisDefinitionRegistry.getNormalizerDefinition( name ) );
 	}
 
+	@Override
+	public Optional<QueryCacheStatistics> queryCacheStatistics() {
+		return cachingContext.builtInQueryCacheStatistics();
+	}
+
 	@Override
 	public IndexManagerBuilder createIndexManagerBuilder(
 			String indexName, String mappedTypeName, BackendBuildContext context, BackendMapperContext backendMapperContext,
@@ -148,7 +160,7 @@ public IndexManagerBuilder createIndexManagerBuilder(
 		 */
 		return new LuceneIndexManagerBuilder(
 				indexManagerBackendContext,
-				indexName, indexRootBuilder
+				indexName, indexRootBuilder, propertySource
 		);
 	}
 }
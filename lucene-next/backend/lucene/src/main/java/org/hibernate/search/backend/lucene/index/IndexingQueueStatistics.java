@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.index;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Statistics about the indexing queues of an index, across all its shards.
+ * <p>
+ * Values are a snapshot taken when this object was retrieved, and are not updated afterwards.
+ *
+ * @see LuceneIndexSettings#INDEXING_QUEUE_COUNT
+ * @see LuceneIndexSettings#INDEXING_MAX_CONCURRENCY
+ * @see LuceneBackendSettings#THREAD_POOL_FAIR_SCHEDULING
+ */
+@Incubating
+public interface IndexingQueueStatistics {
+
+	/**
+	 * @return The number of works submitted to the indexing queues and not yet processed.
+	 * Works currently being processed are not taken into account.
+	 */
+	long queuedWorkCount();
+
+	/**
+	 * @return The number of indexing queues that have works to process and are waiting for a write thread.
+	 */
+	int waitingQueueCount();
+
+	/**
+	 * @return The number of indexing queues currently being processed by a write thread.
+	 */
+	int processingQueueCount();
+
+}
@@ -4,26 +4,38 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.io.IOException;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.DebugIOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.ReplicaIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderWarmup;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicaSynchronizer;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicationPublisher;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.TranslogOperation;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchedWorkProcessor;
+import org.hibernate.search.backend.lucene.orchestration.impl.IndexAccessorWorkExecutionContext;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.resources.impl.WriteTaskScheduler;
 import org.hibernate.search.backend.lucene.schema.management.impl.LuceneIndexSchemaManager;
 import org.hibernate.search.backend.lucene.schema.management.impl.SchemaManagementIndexManagerContext;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeIndexManagerContext;
@@ -37,6 +49,7 @@
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexWorkspace;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionBackendContext;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
+import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -52,6 +65,7 @@
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.similarities.Similarity;
 
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
@@ -159,6 +173,7 @@ public <H> LuceneSearchQueryBuilder<H> createSearchQueryBuilder(
 		return new LuceneSearchQueryBuilder<>(
 				workFactory,
 				readOrchestrator,
+				threads.getWriteExecutor(),
 				scope,
 				sessionContext,
 				loadingContextBuilder,
@@ -174,8 +189,9 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
-	LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
-		return new LuceneIndexEntryFactory( model, multiTenancyStrategy );
+	LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model,
+			Set<String> docValuesUpdatableFieldPaths) {
+		return new LuceneIndexEntryFactory( model, multiTenancyStrategy, docValuesUpdatableFieldPaths );
 	}
 
 	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
@@ -188,22 +204,73 @@ IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
 		}
 	}
 
+	IOStrategy createReplicaIOStrategy() {
+		return ReplicaIOStrategy.create( threads, failureHandler );
+	}
+
+	ReplicationPublisher createReplicationPublisher(EventContext shardEventContext, ReplicationChannel channel) {
+		return new ReplicationPublisher( shardEventContext, channel, failureHandler );
+	}
+
+	ReplicaSynchronizer createReplicaSynchronizer(EventContext shardEventContext, DirectoryHolder directoryHolder,
+			ReplicationChannel channel, IndexAccessorImpl indexAccessor, int pollInterval) {
+		return new ReplicaSynchronizer( shardEventContext, directoryHolder, channel, indexAccessor, pollInterval,
+				threads.getWriteExecutor(), failureHandler );
+	}
+
 	LuceneIndexSchemaManager createSchemaManager(String indexName, SchemaManagementIndexManagerContext context) {
 		return new LuceneIndexSchemaManager( indexName, workFactory, context );
 	}
 
 	IndexAccessorImpl createIndexAccessor(LuceneIndexModel model, EventContext shardEventContext,
-			DirectoryHolder directoryHolder, IOStrategy ioStrategy,
-			ConfigurationPropertySource propertySource) {
+			DirectoryHolder directoryHolder, IOStrategy ioStrategy, IndexReaderWarmup readerWarmupOrNull,
+			Sort indexSortOrNull, ConfigurationPropertySource propertySource, Translog translogOrNull,
+			CommitPolicy commitPolicyOrNull, ReplicationPublisher publisherOrNull) {
 		String indexName = model.hibernateSearchName();
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
-				similarity, model.getIndexingAnalyzer(), model.codec(), propertySource, shardEventContext
+				similarity, model.getIndexingAnalyzer(), model.codec(), indexSortOrNull, propertySource, shardEventContext
 		);
 		return ioStrategy.createIndexAccessor(
-				indexName, shardEventContext, directoryHolder, writerConfigSource
+				indexName, shardEventContext, directoryHolder, writerConfigSource, readerWarmupOrNull, translogOrNull,
+				commitPolicyOrNull, publisherOrNull
 		);
 	}
 
+	void replayTranslog(LuceneIndexModel model, EventContext shardEventContext, IndexAccessorImpl indexAccessor)
+			throws IOException {
+		Translog translog = indexAccessor.getTranslogOrNull();
+		if ( translog == null ) {
+			return;
+		}
+		String indexName = model.hibernateSearchName();
+		IndexAccessorWorkExecutionContext context =
+				new IndexAccessorWorkExecutionContext( shardEventContext, indexAccessor );
+		int operationCount = translog.replay( operation -> {
+			try {
+				replay( indexName, operation ).execute( context );
+			}
+			catch (RuntimeException e) {
+				LuceneMiscLog.INSTANCE.unableToReplayTranslogOperation( operation, e.getMessage(), shardEventContext,
+						e );
+			}
+		} );
+		if ( operationCount > 0 ) {
+			indexAccessor.commit();
+			LuceneMiscLog.INSTANCE.replayedTranslog( operationCount, shardEventContext );
+		}
+	}
+
+	private IndexingWork<?> replay(String indexName, TranslogOperation operation) {
+		if ( operation.isDeletion() ) {
+			return workFactory.delete( operation.tenantId(), operation.entityTypeName(), operation.entityIdentifier(),
+					operation.documentIdentifier() );
+		}
+		// Additions are replayed as updates, in case they were committed before the shutdown.
+		return workFactory.update( operation.tenantId(), operation.entityTypeName(), operation.entityIdentifier(),
+				operation.documentIdentifier(),
+				new LuceneIndexEntry( indexName, operation.documentIdentifier(), operation.documents() ) );
+	}
+
 	LuceneParallelWorkOrchestratorImpl createIndexManagementOrchestrator(EventContext eventContext,
 			IndexAccessorImpl indexAccessor) {
 		return new LuceneParallelWorkOrchestratorImpl(
@@ -214,14 +281,16 @@ LuceneParallelWorkOrchestratorImpl createIndexManagementOrchestrator(EventContex
 		);
 	}
 
+	WriteTaskScheduler.Group createIndexingTaskGroup(String indexName, int maxConcurrency) {
+		return threads.getWriteTaskScheduler().createGroup( indexName, maxConcurrency );
+	}
+
 	LuceneSerialWorkOrchestratorImpl createIndexingOrchestrator(EventContext eventContext,
-			IndexAccessorImpl indexAccessor) {
+			IndexAccessorImpl indexAccessor, WriteTaskScheduler.Group indexingTaskGroup) {
 		return new LuceneSerialWorkOrchestratorImpl(
 				"Lucene indexing orchestrator for " + eventContext.render(),
-				new LuceneBatchedWorkProcessor(
-						eventContext, indexAccessor
-				),
-				threads,
+				eventContext, indexAccessor,
+				indexingTaskGroup,
 				failureHandler
 		);
 	}
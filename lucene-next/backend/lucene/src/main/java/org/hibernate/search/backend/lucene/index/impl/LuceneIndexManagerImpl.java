@@ -5,21 +5,30 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.impl.LuceneAnalysisPerformer;
+import org.hibernate.search.backend.lucene.cache.SearchResultCacheStatistics;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.index.IndexingQueueStatistics;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.logging.impl.ConfigurationLog;
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
 import org.hibernate.search.backend.lucene.schema.management.impl.LuceneIndexSchemaManager;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeIndexManagerContext;
+import org.hibernate.search.backend.lucene.types.sort.impl.LuceneIndexSorts;
 import org.hibernate.search.engine.backend.analysis.AnalysisToken;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
@@ -35,6 +44,8 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.resources.spi.SavedState;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.common.spi.SearchIndexIdentifierContext;
@@ -43,6 +54,8 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
 
 public class LuceneIndexManagerImpl
 		implements IndexManagerImplementor, LuceneIndexManager,
@@ -50,6 +63,18 @@
 
 	private static final SavedState.Key<SavedState> SHARD_HOLDER_KEY = SavedState.key( "shard_holder" );
 
+	private static final ConfigurationProperty<Integer> SEARCH_RESULT_CACHE_MAX_ENTRIES =
+			ConfigurationProperty.forKey( LuceneIndexSettings.SEARCH_RESULT_CACHE_MAX_ENTRIES )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.SEARCH_RESULT_CACHE_MAX_ENTRIES )
+					.build();
+
+	private static final OptionalConfigurationProperty<List<String>> INDEXING_SORT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_SORT )
+					.asString()
+					.multivalued()
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 
 	private final String indexName;
@@ -61,6 +86,9 @@
 	private final LuceneIndexSchemaManager schemaManager;
 	private final LuceneAnalysisPerformer analysisPerformer;
 
+	private LuceneSearchResultCache searchResultCache;
+	private Sort indexSort;
+
 	LuceneIndexManagerImpl(IndexManagerBackendContext backendContext,
 			String indexName, LuceneIndexModel model, LuceneIndexEntryFactory indexEntryFactory) {
 		this.backendContext = backendContext;
@@ -97,7 +125,20 @@ public void preStart(IndexManagerStartContext context, SavedState savedState) {
 
 	@Override
 	public void start(IndexManagerStartContext context) {
-		shardHolder.start( context );
+		searchResultCache = SEARCH_RESULT_CACHE_MAX_ENTRIES.getAndTransform( context.configurationPropertySource(),
+				maxEntries -> maxEntries == 0 ? null : new LuceneSearchResultCache( maxEntries ) );
+		indexSort = INDEXING_SORT.getAndMap( context.configurationPropertySource(),
+				definition -> LuceneIndexSorts.create( model, definition ) )
+				.orElse( null );
+		if ( indexSort != null ) {
+			for ( SortField sortField : indexSort.getSort() ) {
+				if ( indexEntryFactory.isDocValuesUpdatable( sortField.getField() ) ) {
+					// The index sort relies on sorted numeric doc values, which cannot be updated in place.
+					throw ConfigurationLog.INSTANCE.indexSortDocValuesUpdatableField( sortField.getField() );
+				}
+			}
+		}
+		shardHolder.start( context, indexSort );
 	}
 
 	@Override
@@ -165,6 +206,16 @@ public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector r
 		shardHolder.openIndexReaders( routingKeys, readerCollector );
 	}
 
+	@Override
+	public LuceneSearchResultCache searchResultCacheOrNull() {
+		return searchResultCache;
+	}
+
+	@Override
+	public Sort indexSortOrNull() {
+		return indexSort;
+	}
+
 	@Override
 	public LuceneIndexModel model() {
 		return model;
@@ -237,6 +288,41 @@ public CompletableFuture<Long> computeSizeInBytesAsync(OperationSubmitter operat
 		return schemaManager.computeSizeInBytes( operationSubmitter );
 	}
 
+	@Override
+	public void beginBulkLoad() {
+		Futures.unwrappedExceptionJoin( schemaManager.beginBulkLoad( OperationSubmitter.blocking() ) );
+	}
+
+	@Override
+	public void endBulkLoad() {
+		Futures.unwrappedExceptionJoin( schemaManager.endBulkLoad( OperationSubmitter.blocking() ) );
+	}
+
+	@Override
+	public void backup(Path target) {
+		Futures.unwrappedExceptionJoin( backupAsync( target ) );
+	}
+
+	@Override
+	public CompletableFuture<?> backupAsync(Path target) {
+		return schemaManager.backup( target, OperationSubmitter.rejecting() );
+	}
+
+	@Override
+	public Optional<SearchResultCacheStatistics> searchResultCacheStatistics() {
+		return Optional.ofNullable( searchResultCache );
+	}
+
+	@Override
+	public IndexingQueueStatistics indexingQueueStatistics() {
+		return shardHolder.indexingQueueStatistics();
+	}
+
+	@Override
+	public OptionalLong directoryMemoryUsageInBytes() {
+		return shardHolder.directoryMemoryUsageInBytes();
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // Checked using reflection
 	public <T> T unwrap(Class<T> clazz) {
@@ -14,37 +14,57 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.index.IndexingQueueStatistics;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
+import org.hibernate.search.backend.lucene.resources.impl.WriteTaskScheduler;
 import org.hibernate.search.backend.lucene.schema.management.impl.SchemaManagementIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.resources.spi.SavedState;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
 
+import org.apache.lucene.search.Sort;
+
 class ShardHolder
 		implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
 	private static final SavedState.Key<Map<String, SavedState>> SHARDS_KEY = SavedState.key( "shards" );
 
+	private static final ConfigurationProperty<Boolean> BULK_LOAD_AUTOMATIC =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_BULK_LOAD_AUTOMATIC )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_BULK_LOAD_AUTOMATIC )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> INDEXING_MAX_CONCURRENCY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_MAX_CONCURRENCY )
+					.asIntegerStrictlyPositive()
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
 
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
 	private final Map<String, Shard> shards = new LinkedHashMap<>();
 	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+	private boolean automaticBulkLoad;
+	private WriteTaskScheduler.Group indexingTaskGroup;
 
 	ShardHolder(IndexManagerBackendContext backendContext, LuceneIndexModel model) {
 		this.backendContext = backendContext;
@@ -96,14 +116,18 @@ void preStart(IndexManagerStartContext startContext, SavedState savedState) {
 		}
 	}
 
-	void start(IndexManagerStartContext startContext) {
+	void start(IndexManagerStartContext startContext, Sort indexSortOrNull) {
 		ConfigurationPropertySource indexPropertySource = startContext.configurationPropertySource();
+		automaticBulkLoad = BULK_LOAD_AUTOMATIC.get( indexPropertySource );
+		// Shared by all shards, so that the concurrency limit applies to the index as a whole.
+		indexingTaskGroup = backendContext.createIndexingTaskGroup( model.hibernateSearchName(),
+				INDEXING_MAX_CONCURRENCY.get( indexPropertySource ).orElse( Integer.MAX_VALUE ) );
 		for ( Map.Entry<String, Shard> entry : shards.entrySet() ) {
 			String shardId = entry.getKey();
 			Shard shard = entry.getValue();
 			ConfigurationPropertySource shardPropertySource = toShardPropertySource( indexPropertySource, shardId );
 			try {
-				shard.start( shardPropertySource );
+				shard.start( shardPropertySource, indexSortOrNull, indexingTaskGroup );
 				managementOrchestrators.add( shard.managementOrchestrator() );
 			}
 			catch (RuntimeException e) {
@@ -132,6 +156,28 @@ void stop() {
 		}
 	}
 
+	IndexingQueueStatistics indexingQueueStatistics() {
+		long queuedWorkCount = 0L;
+		for ( Shard shard : shards.values() ) {
+			queuedWorkCount += shard.queuedWorkCount();
+		}
+		return new IndexingQueueStatisticsImpl( queuedWorkCount,
+				indexingTaskGroup.waitingTaskCount(), indexingTaskGroup.runningTaskCount() );
+	}
+
+	OptionalLong directoryMemoryUsageInBytes() {
+		long memoryUsage = 0L;
+		for ( Shard shard : shards.values() ) {
+			OptionalLong shardMemoryUsage = shard.directoryMemoryUsageInBytes();
+			if ( shardMemoryUsage.isEmpty() ) {
+				// All shards use the same directory type.
+				return OptionalLong.empty();
+			}
+			memoryUsage += shardMemoryUsage.getAsLong();
+		}
+		return OptionalLong.of( memoryUsage );
+	}
+
 	@Override
 	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
 		String mappedTypeName = model.mappedTypeName();
@@ -166,6 +212,20 @@ public List<LuceneParallelWorkOrchestrator> allManagementOrchestrators() {
 		return managementOrchestrators;
 	}
 
+	@Override
+	public Map<String, LuceneParallelWorkOrchestrator> managementOrchestratorsByShardId() {
+		Map<String, LuceneParallelWorkOrchestrator> orchestrators = new LinkedHashMap<>();
+		for ( Map.Entry<String, Shard> entry : shards.entrySet() ) {
+			orchestrators.put( entry.getKey(), entry.getValue().managementOrchestrator() );
+		}
+		return orchestrators;
+	}
+
+	@Override
+	public boolean automaticBulkLoad() {
+		return automaticBulkLoad;
+	}
+
 	@Override
 	public Optional<String> backendName() {
 		return backendContext.toAPI().name();
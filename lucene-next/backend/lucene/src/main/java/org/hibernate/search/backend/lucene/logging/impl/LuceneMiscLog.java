@@ -186,4 +186,129 @@ SearchException uncommittedOperationsBecauseOfFailure(String causeMessage,
 	@LogMessage(level = DEBUG)
 	@Message(id = ID_OFFSET + 193, value = "Set index writer parameter %s to value : %s. %s")
 	void indexWriterSetParameter(String settingName, Object value, String context);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 197,
+			value = "Unable to warm up index segments: %1$s %2$s")
+	void unableToWarmUpIndexSegments(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 204,
+			value = "Unable to apply a bulk of %1$d index works in a single operation;"
+					+ " applying them one by one instead. %2$s")
+	void unableToApplyBulk(int workCount, @FormatWith(EventContextFormatter.class) EventContext context,
+			@Cause Throwable cause);
+
+	@Message(id = ID_OFFSET + 206,
+			value = "Unable to record index changes in the translog: %1$s")
+	SearchException unableToAppendToTranslog(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 207,
+			value = "Unable to replay operation '%1$s' from the translog; this operation will be ignored: %2$s %3$s")
+	void unableToReplayTranslogOperation(Object operation, String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 208,
+			value = "Translog file '%1$s' is truncated or corrupted after offset %2$d; ignoring the rest of this file."
+					+ " This is expected if the application stopped abruptly while writing to the translog. %3$s")
+	void ignoringTruncatedTranslog(Path file, long offset,
+			@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET + 209,
+			value = "Replayed %1$d uncommitted operations from the translog. %2$s")
+	void replayedTranslog(int operationCount, @FormatWith(EventContextFormatter.class) EventContext context);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 210,
+			value = "Unable to delete obsolete translog files: %1$s %2$s")
+	void unableToTrimTranslog(String causeMessage, @FormatWith(EventContextFormatter.class) EventContext context,
+			@Cause Exception cause);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 212,
+			value = "Began bulk loading: deferring commits and refreshes until bulk loading ends. %1$s")
+	void beganBulkLoad(@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 213,
+			value = "Ended bulk loading: restored normal settings, committed and refreshed. %1$s")
+	void endedBulkLoad(@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET + 215,
+			value = "Unable to add documents from the offline build to the index: %1$s")
+	SearchException unableToFinishOfflineBuild(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 216,
+			value = "Unable to delete temporary files of the offline build: %1$s %2$s")
+	void unableToCleanUpOfflineBuild(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 235,
+			value = "Bulk loading was aborted: discarded the offline build, the index keeps its previous content. %1$s")
+	void abortedOfflineBuild(@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET + 218,
+			value = "Unable to allocate %2$s bytes of memory for index file '%1$s':"
+					+ " this would exceed the maximum memory of the directory (%4$s bytes; %3$s bytes used)."
+					+ " Increase the maximum memory of the directory, or use a different directory type.")
+	SearchException offHeapDirectoryMaxMemoryExceeded(String fileName, long requestedBytes, long usedBytes,
+			long maxBytes, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 223,
+			value = "Unable to publish commit to replicas: %1$s")
+	SearchException unableToPublishCommit(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 224,
+			value = "Unable to replicate the latest commit from the primary: %1$s")
+	SearchException unableToReplicateCommit(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 225,
+			value = "Replicated commit '%1$s' from the primary, copying %2$s new files. %3$s")
+	void replicatedCommit(String segmentsFileName, int copiedFileCount,
+			@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET + 226,
+			value = "Unable to back up the index to '%2$s': %1$s")
+	SearchException unableToBackUpIndex(String causeMessage, Path target, @Param EventContext context,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 227,
+			value = "Unable to back up the index: this index is a read-only replica."
+					+ " Back up the primary index instead.")
+	SearchException backUpReplica(@Param EventContext context);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 228,
+			value = "Backed up commit '%1$s' to '%2$s', copying %3$s new files. %4$s")
+	void backedUpCommit(String segmentsFileName, Path target, int copiedFileCount,
+			@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET + 229,
+			value = "Unable to restore the index from the backup in '%2$s': %1$s")
+	SearchException unableToRestoreIndex(String causeMessage, Path source, @Param EventContext context,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 230,
+			value = "Directory '%1$s' does not contain any backup.")
+	SearchException missingBackup(Path source);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET + 231,
+			value = "Restored the index from the backup in '%1$s', copying %2$s files. %3$s")
+	void restoredIndex(Path source, int copiedFileCount, @FormatWith(EventContextFormatter.class) EventContext context);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 233,
+			value = "Unable to evict file '%1$s' from the local cache: %2$s %3$s")
+	void unableToEvictCachedIndexFile(String fileName, String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception cause);
 }
@@ -11,6 +11,7 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -334,4 +335,20 @@ SearchException incompatibleScopeRootType(@FormatWith(ClassFormatter.class) Clas
 	@Message(id = ID_OFFSET + 195, value = "Configured query cache policy is ineffective as query cache is not enabled. "
 			+ "Set the cache explicitly through the QueryCachingConfigurer.")
 	void ineffectiveQueryCachingPolicy();
+
+	@Message(id = ID_OFFSET + 201, value = "Unable to use the point in time: it was closed or it expired."
+			+ " Open a new point in time, and consider increasing its keep-alive.")
+	SearchException pointInTimeClosed();
+
+	@Message(id = ID_OFFSET + 202,
+			value = "Invalid point in time: the point in time was opened for indexes %1$s and routing keys %2$s,"
+					+ " but the search query targets indexes %3$s and routing keys %4$s."
+					+ " A point in time can only be used by search queries targeting the same indexes"
+					+ " with the same routing keys.")
+	SearchException pointInTimeTargetMismatch(Set<String> pointInTimeIndexNames, Set<String> pointInTimeRoutingKeys,
+			Set<String> indexNames, Set<String> routingKeys);
+
+	@Message(id = ID_OFFSET + 203, value = "Invalid keep-alive for a point in time: '%1$s'."
+			+ " The keep-alive must be strictly positive.")
+	SearchException invalidPointInTimeKeepAlive(Duration keepAlive);
 }
@@ -50,6 +50,10 @@ public class MetadataFields {
 
 	private static final String NESTED_DOCUMENT_PATH = internalFieldName( "nested_document_path" );
 
+	private static final String PARENT_FIELD_NAME = internalFieldName( "parent" );
+
+	private static final String SOFT_DELETES_FIELD_NAME = internalFieldName( "soft_deletes" );
+
 	private MetadataFields() {
 	}
 
@@ -96,4 +100,12 @@ public static String nestedDocumentPathFieldName() {
 		return NESTED_DOCUMENT_PATH;
 	}
 
+	public static String parentFieldName() {
+		return PARENT_FIELD_NAME;
+	}
+
+	public static String softDeletesFieldName() {
+		return SOFT_DELETES_FIELD_NAME;
+	}
+
 }
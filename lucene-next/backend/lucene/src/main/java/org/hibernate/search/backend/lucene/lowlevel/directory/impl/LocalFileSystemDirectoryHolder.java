@@ -6,6 +6,7 @@
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
@@ -19,15 +20,17 @@ final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 
 	private final Path directoryPath;
 	private final FileSystemAccessStrategy accessStrategy;
+	private final MMapPolicy mmapPolicy;
 	private final Supplier<LockFactory> lockFactorySupplier;
 	private final EventContext eventContext;
 
 	private Directory directory;
 
-	LocalFileSystemDirectoryHolder(Path directoryPath, FileSystemAccessStrategy accessStrategy,
+	LocalFileSystemDirectoryHolder(Path directoryPath, FileSystemAccessStrategy accessStrategy, MMapPolicy mmapPolicy,
 			Supplier<LockFactory> lockFactorySupplier, EventContext eventContext) {
 		this.directoryPath = directoryPath;
 		this.accessStrategy = accessStrategy;
+		this.mmapPolicy = mmapPolicy;
 		this.lockFactorySupplier = lockFactorySupplier;
 		this.eventContext = eventContext;
 	}
@@ -41,7 +44,7 @@ public void start() throws IOException {
 			throw LuceneMiscLog.INSTANCE.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
 		}
 
-		this.directory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		this.directory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get(), mmapPolicy );
 	}
 
 	@Override
@@ -56,4 +59,9 @@ public void close() throws IOException {
 	public Directory get() {
 		return directory;
 	}
+
+	@Override
+	public Optional<Path> localFileSystemPath() {
+		return Optional.of( directoryPath );
+	}
 }
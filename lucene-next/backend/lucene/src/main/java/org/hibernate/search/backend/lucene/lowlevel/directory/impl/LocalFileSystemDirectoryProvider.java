@@ -6,6 +6,7 @@
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -16,6 +17,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 
 import org.apache.lucene.store.FSLockFactory;
 import org.apache.lucene.store.LockFactory;
@@ -36,12 +38,25 @@ public class LocalFileSystemDirectoryProvider implements DirectoryProvider {
 					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
 					.build();
 
+	private static final OptionalConfigurationProperty<List<String>> FILESYSTEM_ACCESS_MMAP_PRELOAD =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_PRELOAD )
+					.asString().multivalued()
+					.build();
+
+	private static final OptionalConfigurationProperty<List<String>> FILESYSTEM_ACCESS_MMAP_RANDOM_ACCESS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_RANDOM_ACCESS )
+					.asString().multivalued()
+					.build();
+
 	@Override
 	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 		ConfigurationPropertySource propertySource = context.configurationPropertySource();
 		Path directoryRoot = ROOT.get( propertySource ).toAbsolutePath();
 		FileSystemAccessStrategyName accessStrategyName = FILESYSTEM_ACCESS_STRATEGY.get( propertySource );
 		FileSystemAccessStrategy accessStrategy = FileSystemAccessStrategy.get( accessStrategyName );
+		MMapPolicy mmapPolicy = MMapPolicy.create(
+				FILESYSTEM_ACCESS_MMAP_PRELOAD.get( propertySource ).orElse( List.of() ),
+				FILESYSTEM_ACCESS_MMAP_RANDOM_ACCESS.get( propertySource ).orElse( List.of() ) );
 		Supplier<LockFactory> lockFactorySupplier = context.createConfiguredLockFactorySupplier()
 				.orElseGet( () -> FSLockFactory::getDefault );
 
@@ -52,7 +67,7 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 		}
 
 		return new LocalFileSystemDirectoryHolder(
-				directoryPath, accessStrategy, lockFactorySupplier, context.eventContext()
+				directoryPath, accessStrategy, mmapPolicy, lockFactorySupplier, context.eventContext()
 		);
 	}
 
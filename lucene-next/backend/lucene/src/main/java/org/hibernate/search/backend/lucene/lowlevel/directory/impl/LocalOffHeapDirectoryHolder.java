@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.util.OptionalLong;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.LockFactory;
+
+final class LocalOffHeapDirectoryHolder implements DirectoryHolder {
+
+	private final LockFactory lockFactory;
+	private final long maxMemoryInBytes;
+	private final EventContext eventContext;
+
+	private OffHeapDirectory directory;
+
+	LocalOffHeapDirectoryHolder(LockFactory lockFactory, long maxMemoryInBytes, EventContext eventContext) {
+		this.lockFactory = lockFactory;
+		this.maxMemoryInBytes = maxMemoryInBytes;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public void start() {
+		directory = new OffHeapDirectory( lockFactory, maxMemoryInBytes, eventContext );
+	}
+
+	@Override
+	public void close() throws IOException {
+		if ( directory != null ) {
+			directory.close();
+		}
+		directory = null;
+	}
+
+	@Override
+	public Directory get() {
+		return directory;
+	}
+
+	@Override
+	public OptionalLong memoryUsageInBytes() {
+		OffHeapDirectory local = directory;
+		return local == null ? OptionalLong.empty() : OptionalLong.of( local.memoryUsageInBytes() );
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.store.DataAccessHint;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.ReadAdvice;
+import org.apache.lucene.store.ReadOnceHint;
+
+/**
+ * Per-file-extension rules on how to memory-map index files.
+ */
+final class MMapPolicy {
+
+	static final MMapPolicy DEFAULT = new MMapPolicy( Set.of(), Set.of() );
+
+	static MMapPolicy create(Collection<String> preloadExtensions, Collection<String> randomAccessExtensions) {
+		Set<String> normalizedPreloadExtensions = normalize( preloadExtensions );
+		Set<String> normalizedRandomAccessExtensions = normalize( randomAccessExtensions );
+		if ( normalizedPreloadExtensions.isEmpty() && normalizedRandomAccessExtensions.isEmpty() ) {
+			return DEFAULT;
+		}
+		return new MMapPolicy( normalizedPreloadExtensions, normalizedRandomAccessExtensions );
+	}
+
+	private static Set<String> normalize(Collection<String> extensions) {
+		Set<String> result = new HashSet<>();
+		for ( String extension : extensions ) {
+			String normalized = extension.trim().toLowerCase( Locale.ROOT );
+			if ( normalized.startsWith( "." ) ) {
+				normalized = normalized.substring( 1 );
+			}
+			if ( !normalized.isEmpty() ) {
+				result.add( normalized );
+			}
+		}
+		return result;
+	}
+
+	private final Set<String> preloadExtensions;
+	private final Set<String> randomAccessExtensions;
+
+	private MMapPolicy(Set<String> preloadExtensions, Set<String> randomAccessExtensions) {
+		this.preloadExtensions = preloadExtensions;
+		this.randomAccessExtensions = randomAccessExtensions;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[preloadExtensions=" + preloadExtensions
+				+ ", randomAccessExtensions=" + randomAccessExtensions + "]";
+	}
+
+	MMapDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException {
+		MMapDirectory directory = new MMapDirectory( indexDir, factory );
+		if ( !preloadExtensions.isEmpty() ) {
+			directory.setPreload( this::preload );
+		}
+		if ( !randomAccessExtensions.isEmpty() ) {
+			directory.setReadAdvice( this::readAdvice );
+		}
+		return directory;
+	}
+
+	boolean preload(String fileName, IOContext context) {
+		return preloadExtensions.contains( extension( fileName ) );
+	}
+
+	Optional<ReadAdvice> readAdvice(String fileName, IOContext context) {
+		if ( context.context() == IOContext.Context.MERGE || context.context() == IOContext.Context.FLUSH
+				|| context.hints().contains( DataAccessHint.SEQUENTIAL )
+				|| context.hints().contains( ReadOnceHint.INSTANCE ) ) {
+			// Lucene already advises sequential reads for merges, flushes and read-once files:
+			// leave those alone.
+			return MMapDirectory.ADVISE_BY_CONTEXT.apply( fileName, context );
+		}
+		return randomAccessExtensions.contains( extension( fileName ) )
+				? Optional.of( ReadAdvice.RANDOM )
+				: MMapDirectory.ADVISE_BY_CONTEXT.apply( fileName, context );
+	}
+
+	private static String extension(String fileName) {
+		String extension = IndexFileNames.getExtension( fileName );
+		return extension == null ? "" : extension;
+	}
+}
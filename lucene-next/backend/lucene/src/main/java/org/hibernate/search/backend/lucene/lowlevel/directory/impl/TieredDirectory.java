@@ -0,0 +1,408 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.Lock;
+import org.apache.lucene.util.IOUtils;
+
+/**
+ * A directory storing index files in a "remote" directory, e.g. on a slow, network-mounted filesystem,
+ * while keeping recently used files in a size-bounded cache on the local filesystem.
+ * <p>
+ * Lucene never modifies a file once it has been written, so cached copies never need to be invalidated:
+ * <ul>
+ *     <li>New files are written to the cache,
+ *     then copied to the remote directory when they are synced, i.e. on commit.
+ *     Files deleted before being synced, e.g. flushed segments that got merged away, never reach the remote directory.</li>
+ *     <li>Other files are copied to the cache the first time they are opened.
+ *     Files larger than the cache are read from the remote directory directly.</li>
+ *     <li>When the cache exceeds its maximum size, the least recently opened files are evicted.
+ *     Files that were not synced yet only exist in the cache, so they are never evicted.</li>
+ * </ul>
+ * <p>
+ * The remote directory is the source of truth: the content of the cache is discarded on startup.
+ */
+final class TieredDirectory extends Directory {
+
+	private final Directory remote;
+	private final Directory cache;
+	private final long maxCacheSizeInBytes;
+	private final EventContext eventContext;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	// Files in the cache that are not in the remote directory (yet).
+	private final Set<String> pendingUpload = new HashSet<>();
+	// Files in both the cache and the remote directory, with their size, least recently opened first.
+	private final LinkedHashMap<String, Long> cached = new LinkedHashMap<>( 16, 0.75f, true );
+	private long cachedSizeInBytes = 0L;
+
+	// Downloads are serialized, but do not block access to files that are already cached.
+	private final ReentrantLock downloadLock = new ReentrantLock();
+	private String downloadingFileName;
+	private boolean downloadingFileDeleted;
+
+	private volatile boolean closed;
+
+	/**
+	 * @param remote The directory holding the actual index, and the lock.
+	 * @param cache The directory holding cached files. Any file in this directory will be deleted.
+	 * @param maxCacheSizeInBytes The maximum size of files in the cache, in bytes,
+	 * excluding files that were not synced to the remote directory yet.
+	 * @param eventContext The event context to use in logs.
+	 * @throws IOException If the cache cannot be cleared.
+	 */
+	TieredDirectory(Directory remote, Directory cache, long maxCacheSizeInBytes, EventContext eventContext)
+			throws IOException {
+		this.remote = remote;
+		this.cache = cache;
+		this.maxCacheSizeInBytes = maxCacheSizeInBytes;
+		this.eventContext = eventContext;
+		// Files may have changed in the remote directory since the cache was last used.
+		for ( String fileName : cache.listAll() ) {
+			cache.deleteFile( fileName );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "@" + Integer.toHexString( hashCode() ) + "["
+				+ "remote=" + remote
+				+ ", cache=" + cache
+				+ ", maxCacheSizeInBytes=" + maxCacheSizeInBytes
+				+ "]";
+	}
+
+	/**
+	 * @return The size of files in the cache that also exist in the remote directory, in bytes.
+	 */
+	long cachedSizeInBytes() {
+		lock.lock();
+		try {
+			return cachedSizeInBytes;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public String[] listAll() throws IOException {
+		ensureOpen();
+		String[] remoteFileNames = remote.listAll();
+		lock.lock();
+		try {
+			if ( pendingUpload.isEmpty() ) {
+				return remoteFileNames;
+			}
+			SortedSet<String> fileNames = new TreeSet<>( Arrays.asList( remoteFileNames ) );
+			fileNames.addAll( pendingUpload );
+			return fileNames.toArray( new String[0] );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteFile(String name) throws IOException {
+		ensureOpen();
+		lock.lock();
+		try {
+			if ( name.equals( downloadingFileName ) ) {
+				downloadingFileDeleted = true;
+			}
+			if ( pendingUpload.remove( name ) ) {
+				cache.deleteFile( name );
+				return;
+			}
+			Long size = cached.remove( name );
+			if ( size != null ) {
+				cachedSizeInBytes -= size;
+				cache.deleteFile( name );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+		remote.deleteFile( name );
+	}
+
+	@Override
+	public long fileLength(String name) throws IOException {
+		ensureOpen();
+		lock.lock();
+		try {
+			if ( pendingUpload.contains( name ) || cached.containsKey( name ) ) {
+				return cache.fileLength( name );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+		return remote.fileLength( name );
+	}
+
+	@Override
+	public IndexOutput createOutput(String name, IOContext context) throws IOException {
+		ensureOpen();
+		lock.lock();
+		try {
+			IndexOutput output = cache.createOutput( name, context );
+			pendingUpload.add( name );
+			return output;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public IndexOutput createTempOutput(String prefix, String suffix, IOContext context) throws IOException {
+		ensureOpen();
+		lock.lock();
+		try {
+			IndexOutput output = cache.createTempOutput( prefix, suffix, context );
+			pendingUpload.add( output.getName() );
+			return output;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void sync(Collection<String> names) throws IOException {
+		ensureOpen();
+		List<String> toUpload = new ArrayList<>();
+		lock.lock();
+		try {
+			for ( String name : names ) {
+				if ( pendingUpload.contains( name ) ) {
+					toUpload.add( name );
+				}
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+
+		for ( String name : toUpload ) {
+			upload( name );
+		}
+		remote.sync( names );
+
+		lock.lock();
+		try {
+			for ( String name : toUpload ) {
+				if ( pendingUpload.remove( name ) ) {
+					addToCache( name, cache.fileLength( name ) );
+				}
+			}
+			evict( null );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void syncMetaData() throws IOException {
+		ensureOpen();
+		remote.syncMetaData();
+	}
+
+	@Override
+	public void rename(String source, String dest) throws IOException {
+		ensureOpen();
+		boolean toUpload;
+		lock.lock();
+		try {
+			toUpload = pendingUpload.contains( source );
+		}
+		finally {
+			lock.unlock();
+		}
+
+		if ( toUpload ) {
+			upload( source );
+			remote.sync( Collections.singleton( source ) );
+		}
+		remote.rename( source, dest );
+
+		lock.lock();
+		try {
+			boolean wasPendingUpload = pendingUpload.remove( source );
+			Long size = cached.remove( source );
+			if ( size != null ) {
+				cachedSizeInBytes -= size;
+			}
+			if ( wasPendingUpload || size != null ) {
+				cache.rename( source, dest );
+				addToCache( dest, cache.fileLength( dest ) );
+				evict( null );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public IndexInput openInput(String name, IOContext context) throws IOException {
+		ensureOpen();
+		lock.lock();
+		try {
+			// Also marks the file as recently used.
+			if ( pendingUpload.contains( name ) || cached.get( name ) != null ) {
+				return cache.openInput( name, context );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+
+		long size = remote.fileLength( name );
+		if ( size > maxCacheSizeInBytes ) {
+			return remote.openInput( name, context );
+		}
+
+		downloadLock.lock();
+		try {
+			lock.lock();
+			try {
+				if ( cached.get( name ) != null ) {
+					// Another thread downloaded the file while we were waiting.
+					return cache.openInput( name, context );
+				}
+				downloadingFileName = name;
+				downloadingFileDeleted = false;
+			}
+			finally {
+				lock.unlock();
+			}
+			return downloadAndOpen( name, size, context );
+		}
+		finally {
+			downloadLock.unlock();
+		}
+	}
+
+	@Override
+	public Lock obtainLock(String name) throws IOException {
+		ensureOpen();
+		return remote.obtainLock( name );
+	}
+
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		IOUtils.close( cache, remote );
+	}
+
+	@Override
+	public Set<String> getPendingDeletions() throws IOException {
+		return remote.getPendingDeletions();
+	}
+
+	@Override
+	protected void ensureOpen() throws AlreadyClosedException {
+		if ( closed ) {
+			throw new AlreadyClosedException( "this Directory is closed" );
+		}
+	}
+
+	private void upload(String name) throws IOException {
+		try {
+			remote.copyFrom( cache, name, name, IOContext.READONCE );
+		}
+		catch (IOException | RuntimeException e) {
+			// Don't leave a partial copy behind: it would prevent the next attempt.
+			IOUtils.deleteFilesIgnoringExceptions( remote, name );
+			throw e;
+		}
+	}
+
+	private IndexInput downloadAndOpen(String name, long size, IOContext context) throws IOException {
+		boolean success = false;
+		try {
+			cache.copyFrom( remote, name, name, IOContext.READONCE );
+			lock.lock();
+			try {
+				if ( downloadingFileDeleted ) {
+					throw new NoSuchFileException( name );
+				}
+				IndexInput input = cache.openInput( name, context );
+				addToCache( name, size );
+				evict( name );
+				success = true;
+				return input;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+		finally {
+			lock.lock();
+			try {
+				downloadingFileName = null;
+			}
+			finally {
+				lock.unlock();
+			}
+			if ( !success ) {
+				IOUtils.deleteFilesIgnoringExceptions( cache, name );
+			}
+		}
+	}
+
+	private void addToCache(String name, long size) {
+		cached.put( name, size );
+		cachedSizeInBytes += size;
+	}
+
+	private void evict(String excludedName) {
+		Iterator<Map.Entry<String, Long>> iterator = cached.entrySet().iterator();
+		while ( cachedSizeInBytes > maxCacheSizeInBytes && iterator.hasNext() ) {
+			Map.Entry<String, Long> entry = iterator.next();
+			String name = entry.getKey();
+			if ( name.equals( excludedName ) ) {
+				continue;
+			}
+			iterator.remove();
+			cachedSizeInBytes -= entry.getValue();
+			try {
+				// Readers may still have the file open: on most platforms they can keep reading it.
+				cache.deleteFile( name );
+			}
+			catch (IOException | RuntimeException e) {
+				LuceneMiscLog.INSTANCE.unableToEvictCachedIndexFile( name, e.getMessage(), eventContext, e );
+			}
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.NoLockFactory;
+import org.apache.lucene.util.IOUtils;
+
+final class TieredFileSystemDirectoryHolder implements DirectoryHolder {
+
+	private final Path remotePath;
+	private final Path cachePath;
+	private final long maxCacheSizeInBytes;
+	private final FileSystemAccessStrategy cacheAccessStrategy;
+	private final MMapPolicy cacheMMapPolicy;
+	private final Supplier<LockFactory> lockFactorySupplier;
+	private final EventContext eventContext;
+
+	private TieredDirectory directory;
+
+	TieredFileSystemDirectoryHolder(Path remotePath, Path cachePath, long maxCacheSizeInBytes,
+			FileSystemAccessStrategy cacheAccessStrategy, MMapPolicy cacheMMapPolicy,
+			Supplier<LockFactory> lockFactorySupplier, EventContext eventContext) {
+		this.remotePath = remotePath;
+		this.cachePath = cachePath;
+		this.maxCacheSizeInBytes = maxCacheSizeInBytes;
+		this.cacheAccessStrategy = cacheAccessStrategy;
+		this.cacheMMapPolicy = cacheMMapPolicy;
+		this.lockFactorySupplier = lockFactorySupplier;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public void start() throws IOException {
+		try {
+			FileSystemUtils.initializeWriteableDirectory( remotePath );
+			FileSystemUtils.initializeWriteableDirectory( cachePath );
+		}
+		catch (Exception e) {
+			throw LuceneMiscLog.INSTANCE.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
+		}
+
+		Directory remote = null;
+		Directory cache = null;
+		try {
+			remote = FSDirectory.open( remotePath, lockFactorySupplier.get() );
+			// Only this directory ever accesses the cache: no need for locking.
+			cache = cacheAccessStrategy.createDirectory( cachePath, NoLockFactory.INSTANCE, cacheMMapPolicy );
+			this.directory = new TieredDirectory( remote, cache, maxCacheSizeInBytes, eventContext );
+		}
+		catch (IOException | RuntimeException e) {
+			IOUtils.closeWhileHandlingException( cache, remote );
+			throw e;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if ( directory != null ) {
+			directory.close();
+		}
+		directory = null;
+	}
+
+	@Override
+	public Directory get() {
+		return directory;
+	}
+
+	@Override
+	public Optional<Path> localFileSystemPath() {
+		// Files written there (e.g. the translog) must survive the loss of the local cache.
+		return Optional.of( remotePath );
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.ConfigurationLog;
+import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+
+import org.apache.lucene.store.FSLockFactory;
+import org.apache.lucene.store.LockFactory;
+
+public class TieredFileSystemDirectoryProvider implements DirectoryProvider {
+
+	public static final String NAME = "tiered-filesystem";
+
+	private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+	private static final ConfigurationProperty<Path> ROOT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.ROOT )
+					.as( Path.class, Paths::get )
+					.withDefault( () -> Paths.get( LuceneIndexSettings.Defaults.DIRECTORY_ROOT ) )
+					.build();
+
+	private static final OptionalConfigurationProperty<Path> CACHE_ROOT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.CACHE_ROOT )
+					.as( Path.class, Paths::get )
+					.build();
+
+	private static final ConfigurationProperty<Long> CACHE_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.CACHE_MAX_SIZE )
+					.asLongStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_CACHE_MAX_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<FileSystemAccessStrategyName> FILESYSTEM_ACCESS_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY )
+					.as( FileSystemAccessStrategyName.class, FileSystemAccessStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
+					.build();
+
+	private static final OptionalConfigurationProperty<List<String>> FILESYSTEM_ACCESS_MMAP_PRELOAD =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_PRELOAD )
+					.asString().multivalued()
+					.build();
+
+	private static final OptionalConfigurationProperty<List<String>> FILESYSTEM_ACCESS_MMAP_RANDOM_ACCESS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_RANDOM_ACCESS )
+					.asString().multivalued()
+					.build();
+
+	@Override
+	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
+		ConfigurationPropertySource propertySource = context.configurationPropertySource();
+		Path remoteRoot = ROOT.get( propertySource ).toAbsolutePath();
+		Path cacheRoot = CACHE_ROOT.getOrThrow( propertySource,
+				() -> ConfigurationLog.INSTANCE.missingPropertyValueForDirectoryType( NAME ) )
+				.toAbsolutePath();
+		long maxCacheSizeInMegabytes = CACHE_MAX_SIZE.get( propertySource );
+		long maxCacheSizeInBytes = maxCacheSizeInMegabytes > Long.MAX_VALUE / BYTES_PER_MEGABYTE
+				? Long.MAX_VALUE
+				: maxCacheSizeInMegabytes * BYTES_PER_MEGABYTE;
+		FileSystemAccessStrategyName accessStrategyName = FILESYSTEM_ACCESS_STRATEGY.get( propertySource );
+		FileSystemAccessStrategy cacheAccessStrategy = FileSystemAccessStrategy.get( accessStrategyName );
+		MMapPolicy cacheMMapPolicy = MMapPolicy.create(
+				FILESYSTEM_ACCESS_MMAP_PRELOAD.get( propertySource ).orElse( List.of() ),
+				FILESYSTEM_ACCESS_MMAP_RANDOM_ACCESS.get( propertySource ).orElse( List.of() ) );
+		// The lock must be shared with whoever else could access the remote directory.
+		Supplier<LockFactory> lockFactorySupplier = context.createConfiguredLockFactorySupplier()
+				.orElseGet( () -> FSLockFactory::getDefault );
+
+		Path remotePath = remoteRoot.resolve( context.indexName() );
+		Path cachePath = cacheRoot.resolve( context.indexName() );
+		Optional<String> shardId = context.shardId();
+		if ( shardId.isPresent() ) {
+			remotePath = remotePath.resolve( shardId.get() );
+			cachePath = cachePath.resolve( shardId.get() );
+		}
+
+		return new TieredFileSystemDirectoryHolder( remotePath, cachePath, maxCacheSizeInBytes,
+				cacheAccessStrategy, cacheMMapPolicy, lockFactorySupplier, context.eventContext() );
+	}
+
+}
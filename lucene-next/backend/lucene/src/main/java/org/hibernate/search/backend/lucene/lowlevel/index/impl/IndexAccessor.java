@@ -5,7 +5,9 @@
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 
 import org.apache.lucene.index.DirectoryReader;
@@ -54,11 +56,50 @@ public interface IndexAccessor {
 	 */
 	void mergeSegments();
 
+	/**
+	 * Switches to bulk-load mode, where commits are deferred, index readers are not refreshed automatically,
+	 * and the index writer is tuned for throughput.
+	 * <p>
+	 * Calls can be nested: bulk-load mode ends when every call has been matched by a call to {@link #endBulkLoad()}.
+	 */
+	void beginBulkLoad();
+
+	/**
+	 * Leaves bulk-load mode if this call matches the outermost call to {@link #beginBulkLoad()},
+	 * restoring normal settings, then committing and refreshing.
+	 */
+	void endBulkLoad();
+
+	/**
+	 * Same as {@link #endBulkLoad()}, but after a failure:
+	 * if bulk-load mode ends and an offline build was about to replace the whole content of the index,
+	 * the build is discarded and the index keeps its previous content.
+	 * <p>
+	 * When calls are nested, aborting any of them aborts the build when the outermost call ends.
+	 */
+	void abortBulkLoad();
+
+	/**
+	 * Commits, then copies the latest commit to the given directory,
+	 * skipping files already copied by a previous backup to the same directory.
+	 * <p>
+	 * The commit cannot be deleted until the copy is complete, even if other commits happen in the meantime.
+	 *
+	 * @param target The directory to back up the index to.
+	 */
+	void backup(Path target);
+
 	/**
 	 * @return The index writer delegator.
 	 */
 	IndexWriterDelegator getIndexWriterDelegator() throws IOException;
 
+	/**
+	 * @return The translog in which changes must be recorded before they are applied to the index writer,
+	 * or {@code null} if the translog is disabled.
+	 */
+	Translog getTranslogOrNull();
+
 	/**
 	 * @return The most up-to-date index reader available.
 	 */
@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmupContext;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.ByteVectorValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+
+/**
+ * A warmer that reads all field data used for sorting, aggregations, projections and vector search:
+ * doc values, norms and vectors, as well as the vector search graph.
+ * <p>
+ * This loads the corresponding files into the OS page cache (or the JVM heap, for in-memory directories),
+ * so that the first queries on new segments don't need to hit the disk.
+ */
+public final class FieldDataIndexReaderWarmer implements IndexReaderWarmer {
+
+	public static final String NAME = "field-data";
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public void warm(IndexReaderWarmupContext context) throws IOException {
+		for ( LeafReaderContext leaf : context.reader().leaves() ) {
+			LeafReader reader = leaf.reader();
+			for ( FieldInfo fieldInfo : reader.getFieldInfos() ) {
+				String field = fieldInfo.name;
+				if ( fieldInfo.hasNorms() ) {
+					warmNumeric( reader.getNormValues( field ) );
+				}
+				switch ( fieldInfo.getDocValuesType() ) {
+					case NUMERIC:
+						warmNumeric( reader.getNumericDocValues( field ) );
+						break;
+					case BINARY:
+						warmBinary( reader.getBinaryDocValues( field ) );
+						break;
+					case SORTED:
+						warmSorted( reader.getSortedDocValues( field ) );
+						break;
+					case SORTED_NUMERIC:
+						warmSortedNumeric( reader.getSortedNumericDocValues( field ) );
+						break;
+					case SORTED_SET:
+						warmSortedSet( reader.getSortedSetDocValues( field ) );
+						break;
+					case NONE:
+					default:
+						break;
+				}
+				if ( fieldInfo.getVectorDimension() > 0 ) {
+					switch ( fieldInfo.getVectorEncoding() ) {
+						case FLOAT32:
+							warmFloatVectors( reader, field );
+							break;
+						case BYTE:
+							warmByteVectors( reader, field );
+							break;
+						default:
+							break;
+					}
+				}
+			}
+		}
+	}
+
+	private static void warmNumeric(NumericDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			values.longValue();
+		}
+	}
+
+	private static void warmBinary(BinaryDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			values.binaryValue();
+		}
+	}
+
+	private static void warmSorted(SortedDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			values.ordValue();
+		}
+		for ( int ord = 0; ord < values.getValueCount(); ord++ ) {
+			values.lookupOrd( ord );
+		}
+	}
+
+	private static void warmSortedNumeric(SortedNumericDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			for ( int i = 0; i < values.docValueCount(); i++ ) {
+				values.nextValue();
+			}
+		}
+	}
+
+	private static void warmSortedSet(SortedSetDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			for ( int i = 0; i < values.docValueCount(); i++ ) {
+				values.nextOrd();
+			}
+		}
+		for ( long ord = 0; ord < values.getValueCount(); ord++ ) {
+			values.lookupOrd( ord );
+		}
+	}
+
+	private static void warmFloatVectors(LeafReader reader, String field) throws IOException {
+		FloatVectorValues values = reader.getFloatVectorValues( field );
+		if ( values == null ) {
+			return;
+		}
+		float[] firstVector = null;
+		KnnVectorValues.DocIndexIterator iterator = values.iterator();
+		while ( iterator.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			float[] vector = values.vectorValue( iterator.index() );
+			if ( firstVector == null ) {
+				firstVector = vector.clone();
+			}
+		}
+		if ( firstVector != null ) {
+			// Traverse the vector search graph.
+			reader.searchNearestVectors( field, firstVector, 1, null, Integer.MAX_VALUE );
+		}
+	}
+
+	private static void warmByteVectors(LeafReader reader, String field) throws IOException {
+		ByteVectorValues values = reader.getByteVectorValues( field );
+		if ( values == null ) {
+			return;
+		}
+		byte[] firstVector = null;
+		KnnVectorValues.DocIndexIterator iterator = values.iterator();
+		while ( iterator.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			byte[] vector = values.vectorValue( iterator.index() );
+			if ( firstVector == null ) {
+				firstVector = vector.clone();
+			}
+		}
+		if ( firstVector != null ) {
+			// Traverse the vector search graph.
+			reader.searchNearestVectors( field, firstVector, 1, null, Integer.MAX_VALUE );
+		}
+	}
+}
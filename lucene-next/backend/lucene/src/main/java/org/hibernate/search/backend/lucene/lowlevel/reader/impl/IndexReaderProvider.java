@@ -18,6 +18,17 @@ public interface IndexReaderProvider {
 	 */
 	void clear() throws IOException;
 
+	/**
+	 * Closes and drops any cached resources, and stops any background activity.
+	 * <p>
+	 * Should be used when stopping the index; this object must not be used afterwards.
+	 * <p>
+	 * Defaults to {@link #clear()}.
+	 */
+	default void close() throws IOException {
+		clear();
+	}
+
 	/**
 	 * @return A ready-to-use index reader, with its reference count already increased.
 	 * Callers are responsible for calling {@link DirectoryReader#decRef()} when they are done with the index reader.
@@ -26,6 +37,28 @@ public interface IndexReaderProvider {
 	 */
 	DirectoryReader getOrCreate() throws IOException;
 
+	/**
+	 * Makes sure the next call to {@link #getOrCreate()} returns an index reader
+	 * taking into account all changes committed or flushed so far.
+	 * <p>
+	 * Defaults to {@link #clear()}.
+	 */
+	default void refresh() throws IOException {
+		clear();
+	}
+
+	/**
+	 * Suspends or resumes automatic refreshes, e.g. for the duration of bulk loading.
+	 * <p>
+	 * While refreshes are suspended, {@link #getOrCreate()} keeps returning the last published index reader, if any.
+	 * Explicit refreshes through {@link #clear()} are still possible.
+	 *
+	 * @param suspended Whether automatic refreshes should be suspended.
+	 */
+	default void refreshSuspended(boolean suspended) {
+		// Nothing to do by default: index readers are not shared.
+	}
+
 	default DirectoryReader getCurrentForTests() throws IOException {
 		return getOrCreate();
 	}
@@ -5,9 +5,18 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -20,6 +29,13 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * Alternatively, in "background refresh" mode,
+ * the index reader is refreshed periodically by a background task
+ * and requesting an index reader simply returns the last published one,
+ * without ever checking whether it is current.
+ * <p>
+ * New segments are optionally warmed up before a new index reader gets published.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
@@ -28,17 +44,39 @@ public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final SingletonTask backgroundRefreshTask;
+	private final IndexReaderWarmup readerWarmupOrNull;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
+	private volatile boolean refreshSuspended = false;
+
 	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+			TimingSource timingSource, int refreshInterval, IndexReaderWarmup readerWarmupOrNull) {
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.backgroundRefreshTask = null;
+		this.readerWarmupOrNull = readerWarmupOrNull;
+	}
+
+	public NearRealTimeIndexReaderProvider(EventContext eventContext, IndexWriterProvider indexWriterProvider,
+			int refreshInterval, SimpleScheduledExecutor backgroundRefreshExecutor, FailureHandler failureHandler,
+			IndexReaderWarmup readerWarmupOrNull) {
+		this.indexWriterProvider = indexWriterProvider;
+		// Freshness is never checked when querying in this mode, so we don't need a timing source.
+		this.timingSource = null;
+		this.refreshInterval = refreshInterval;
+		this.backgroundRefreshTask = new SingletonTask(
+				"Background index reader refresh for " + eventContext.render(),
+				new BackgroundRefreshWorker( eventContext, failureHandler ),
+				new BackgroundRefreshScheduler( backgroundRefreshExecutor ),
+				failureHandler
+		);
+		this.readerWarmupOrNull = readerWarmupOrNull;
 	}
 
 	@Override
@@ -50,6 +88,16 @@ public void clear() throws IOException {
 		setCurrentReaderEntry( null );
 	}
 
+	@Override
+	public void close() throws IOException {
+		clear();
+		if ( backgroundRefreshTask != null ) {
+			// Don't wait for the next run to notice there is no reader to refresh anymore:
+			// the executor may be shut down by then.
+			backgroundRefreshTask.stop();
+		}
+	}
+
 	@Override
 	public DirectoryReader getOrCreate() throws IOException {
 		IndexReaderEntry entry = currentReaderEntry;
@@ -58,7 +106,9 @@ public DirectoryReader getOrCreate() throws IOException {
 		if ( entry != null && entry.reader.tryIncRef() ) {
 			// Do this *after* tryIncRef,
 			// otherwise the reader could get closed between the call to isFresh and the return
-			if ( entry.isFresh() ) {
+			if ( backgroundRefreshTask != null || refreshSuspended || entry.isFresh() ) {
+				// In background refresh mode, the last published reader is always considered fresh enough.
+				// Same when refreshes are suspended.
 				return entry.reader;
 			}
 			else {
@@ -69,6 +119,11 @@ public DirectoryReader getOrCreate() throws IOException {
 		return getFreshIndexReader().reader;
 	}
 
+	@Override
+	public void refreshSuspended(boolean suspended) {
+		this.refreshSuspended = suspended;
+	}
+
 	@Override
 	public synchronized DirectoryReader getCurrentForTests() throws IOException {
 		return currentReaderEntry == null ? null : currentReaderEntry.reader;
@@ -79,6 +134,7 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry freshEntry;
 		if ( oldEntry == null ) {
 			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
+			warmUp( newReader );
 			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
 		}
 		else {
@@ -88,6 +144,7 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 				freshEntry = oldEntry;
 			}
 			else {
+				warmUp( newReaderOrNull );
 				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
 			}
 		}
@@ -110,6 +167,88 @@ private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throw
 			// Make sure to close the old reader as soon as no user thread is using it.
 			oldEntry.reader.decRef();
 		}
+		if ( newEntry != null && backgroundRefreshTask != null ) {
+			// Make sure the new reader will get refreshed eventually.
+			// If the reader gets cleared, the background refresh stops until a new reader gets published.
+			backgroundRefreshTask.ensureScheduled();
+		}
+	}
+
+	private void warmUp(DirectoryReader newReader) {
+		if ( readerWarmupOrNull != null ) {
+			readerWarmupOrNull.warmNewSegments( newReader );
+		}
+	}
+
+	/**
+	 * Opens a new index reader if the current one is stale, and publishes it.
+	 *
+	 * @return {@code true} if there is a current index reader, {@code false} otherwise.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	private synchronized boolean refreshIfStale() throws IOException {
+		IndexReaderEntry oldEntry = currentReaderEntry;
+		if ( oldEntry == null ) {
+			// Nothing to refresh: the next query will open a new reader.
+			return false;
+		}
+		DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
+		if ( newReaderOrNull != null ) {
+			warmUp( newReaderOrNull );
+			setCurrentReaderEntry( new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval ) );
+		}
+		return true;
+	}
+
+	private class BackgroundRefreshWorker implements SingletonTask.Worker {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+		private final EventContext eventContext;
+		private final FailureHandler failureHandler;
+
+		private BackgroundRefreshWorker(EventContext eventContext, FailureHandler failureHandler) {
+			this.eventContext = eventContext;
+			this.failureHandler = failureHandler;
+		}
+
+		@Override
+		public CompletableFuture<?> work() {
+			boolean hasCurrentReader = true;
+			try {
+				if ( !refreshSuspended ) {
+					hasCurrentReader = refreshIfStale();
+				}
+			}
+			catch (RuntimeException | IOException e) {
+				// Queries will keep using the last published reader; we'll try again on the next run.
+				FailureContext.Builder failureContextBuilder = FailureContext.builder();
+				failureContextBuilder.throwable( LuceneMiscLog.INSTANCE.unableToRefresh( e.getMessage(), eventContext, e ) );
+				failureContextBuilder.failingOperation( "Background refresh of the index reader" );
+				failureHandler.handle( failureContextBuilder.build() );
+			}
+			if ( hasCurrentReader ) {
+				// This will re-schedule the task once this run is over.
+				backgroundRefreshTask.ensureScheduled();
+			}
+			return completedFuture;
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do: the task reschedules itself as long as there is a reader to refresh.
+		}
+	}
+
+	private class BackgroundRefreshScheduler implements SingletonTask.Scheduler {
+		private final SimpleScheduledExecutor delegate;
+
+		private BackgroundRefreshScheduler(SimpleScheduledExecutor delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Future<?> schedule(Runnable runnable) {
+			return delegate.schedule( runnable, refreshInterval, TimeUnit.MILLISECONDS );
+		}
 	}
 
 	private static class IndexReaderEntry {
@@ -120,7 +259,9 @@ private static class IndexReaderEntry {
 		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, int refreshInterval) {
 			this.reader = reader;
 			this.timingSource = timingSource;
-			this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
+			this.expiration = refreshInterval == 0 || timingSource == null
+					? 0
+					: timingSource.monotonicTimeEstimate() + refreshInterval;
 		}
 
 		/**
@@ -7,8 +7,10 @@
 import java.io.IOException;
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.SoftDeletesDirectoryReaderWrapper;
 
 /**
  * A simplistic index reader holder that opens a new index reader
@@ -17,9 +19,11 @@
 public class NotSharedIndexReaderProvider implements IndexReaderProvider {
 
 	private final DirectoryHolder directoryHolder;
+	private final String softDeletesFieldOrNull;
 
-	public NotSharedIndexReaderProvider(DirectoryHolder directoryHolder) {
+	public NotSharedIndexReaderProvider(DirectoryHolder directoryHolder, String softDeletesFieldOrNull) {
 		this.directoryHolder = directoryHolder;
+		this.softDeletesFieldOrNull = softDeletesFieldOrNull;
 	}
 
 	@Override
@@ -29,7 +33,17 @@ public void clear() {
 
 	@Override
 	public DirectoryReader getOrCreate() throws IOException {
-		return DirectoryReader.open( directoryHolder.get() );
+		DirectoryReader reader = DirectoryReader.open( directoryHolder.get() );
+		if ( softDeletesFieldOrNull == null ) {
+			return reader;
+		}
+		try {
+			return new SoftDeletesDirectoryReaderWrapper( reader, softDeletesFieldOrNull );
+		}
+		catch (IOException | RuntimeException e) {
+			new SuppressingCloser( e ).push( reader );
+			throw e;
+		}
 	}
 
 }
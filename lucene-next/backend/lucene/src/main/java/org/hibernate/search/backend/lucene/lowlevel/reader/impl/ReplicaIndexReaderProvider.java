@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.SoftDeletesDirectoryReaderWrapper;
+
+/**
+ * An index reader holder for read-only replicas,
+ * which opens an index reader from the directory once and shares it among all threads
+ * until the next explicit {@link #refresh()},
+ * which only reopens segments that changed.
+ * <p>
+ * New segments are optionally warmed up before a new index reader gets published.
+ */
+public class ReplicaIndexReaderProvider implements IndexReaderProvider {
+
+	private final DirectoryHolder directoryHolder;
+	private final String softDeletesFieldOrNull;
+	private final IndexReaderWarmup readerWarmupOrNull;
+
+	/**
+	 * Current open IndexReader, or null when closed.
+	 */
+	private volatile DirectoryReader currentReader = null;
+
+	public ReplicaIndexReaderProvider(DirectoryHolder directoryHolder, String softDeletesFieldOrNull,
+			IndexReaderWarmup readerWarmupOrNull) {
+		this.directoryHolder = directoryHolder;
+		this.softDeletesFieldOrNull = softDeletesFieldOrNull;
+		this.readerWarmupOrNull = readerWarmupOrNull;
+	}
+
+	@Override
+	public void clear() throws IOException {
+		if ( currentReader == null ) {
+			return;
+		}
+
+		setCurrentReader( null );
+	}
+
+	@Override
+	public DirectoryReader getOrCreate() throws IOException {
+		DirectoryReader reader = currentReader;
+
+		// Optimistic locking to avoid synchronization
+		if ( reader != null && reader.tryIncRef() ) {
+			return reader;
+		}
+
+		return getOrOpen();
+	}
+
+	@Override
+	public synchronized void refresh() throws IOException {
+		DirectoryReader oldReader = currentReader;
+		if ( oldReader == null ) {
+			// Nothing to refresh: the next query will open a new reader.
+			return;
+		}
+		DirectoryReader newReaderOrNull = DirectoryReader.openIfChanged( oldReader );
+		if ( newReaderOrNull != null ) {
+			warmUp( newReaderOrNull );
+			setCurrentReader( newReaderOrNull );
+		}
+	}
+
+	@Override
+	public synchronized DirectoryReader getCurrentForTests() {
+		return currentReader;
+	}
+
+	private synchronized DirectoryReader getOrOpen() throws IOException {
+		DirectoryReader reader = currentReader;
+		if ( reader == null ) {
+			reader = open();
+			warmUp( reader );
+			setCurrentReader( reader );
+		}
+
+		// At this point the reference count is at least one, for the holder.
+		// Let's also increment the reference for the caller.
+		reader.incRef();
+
+		return reader;
+	}
+
+	private DirectoryReader open() throws IOException {
+		DirectoryReader reader = DirectoryReader.open( directoryHolder.get() );
+		if ( softDeletesFieldOrNull == null ) {
+			return reader;
+		}
+		try {
+			return new SoftDeletesDirectoryReaderWrapper( reader, softDeletesFieldOrNull );
+		}
+		catch (IOException | RuntimeException e) {
+			new SuppressingCloser( e ).push( reader );
+			throw e;
+		}
+	}
+
+	private synchronized void setCurrentReader(DirectoryReader newReader) throws IOException {
+		DirectoryReader oldReader = currentReader;
+		currentReader = newReader;
+		if ( oldReader != null ) {
+			// Make sure to close the old reader as soon as no user thread is using it.
+			oldReader.decRef();
+		}
+	}
+
+	private void warmUp(DirectoryReader newReader) {
+		if ( readerWarmupOrNull != null ) {
+			readerWarmupOrNull.warmNewSegments( newReader );
+		}
+	}
+}
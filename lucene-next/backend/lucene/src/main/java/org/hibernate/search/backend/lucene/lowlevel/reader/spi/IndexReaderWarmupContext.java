@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.spi;
+
+import java.util.Optional;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+
+public interface IndexReaderWarmupContext {
+
+	/**
+	 * @return The name of the index in Hibernate Search.
+	 */
+	String indexName();
+
+	/**
+	 * @return The identifier of the index shard, if relevant.
+	 */
+	Optional<String> shardId();
+
+	/**
+	 * @return An index reader exposing the index segments to warm up, and only those.
+	 * Must not be closed.
+	 */
+	IndexReader reader();
+
+	/**
+	 * @return An index searcher on top of {@link #reader()},
+	 * to execute warm-up queries.
+	 * Query caching is disabled on this searcher.
+	 */
+	IndexSearcher searcher();
+
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicatedFile;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationCommit;
+
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.Directory;
+
+/**
+ * Utilities to copy commits between directories, used for replication but also for backups.
+ */
+public final class ReplicationFiles {
+
+	private ReplicationFiles() {
+	}
+
+	/**
+	 * Copies a commit to a directory, skipping files that already exist in that directory.
+	 * <p>
+	 * The "segments_N" file is copied last, under a temporary name, then renamed,
+	 * so that readers of the target directory only ever see the commit once all its files are there.
+	 *
+	 * @param commit The commit to copy.
+	 * @param target The directory to copy the commit to.
+	 * @param copier The operation copying a single file to the target directory.
+	 * @return The number of copied files, excluding the "segments_N" file.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public static int copyCommit(ReplicationCommit commit, Directory target, FileCopier copier) throws IOException {
+		List<String> copiedFileNames = new ArrayList<>();
+		for ( ReplicatedFile file : commit.files() ) {
+			if ( file.existsIn( target ) ) {
+				continue;
+			}
+			// The name may have been reused with different content, e.g. after the index was re-created.
+			deleteIfExists( target, file.name() );
+			copier.copy( file.name(), file.name() );
+			copiedFileNames.add( file.name() );
+		}
+		target.sync( copiedFileNames );
+
+		String segmentsFileName = commit.segmentsFile().name();
+		String pendingSegmentsFileName = IndexFileNames.PENDING_SEGMENTS
+				+ segmentsFileName.substring( IndexFileNames.SEGMENTS.length() );
+		deleteIfExists( target, pendingSegmentsFileName );
+		copier.copy( segmentsFileName, pendingSegmentsFileName );
+		target.sync( List.of( pendingSegmentsFileName ) );
+		deleteIfExists( target, segmentsFileName );
+		target.rename( pendingSegmentsFileName, segmentsFileName );
+		target.syncMetaData();
+
+		return copiedFileNames.size();
+	}
+
+	/**
+	 * Deletes all files from a directory, except the given ones and the write lock.
+	 * <p>
+	 * Failures are ignored: files that could not be deleted, e.g. because they are still open on some platforms,
+	 * will be deleted on the next call.
+	 *
+	 * @param directory The directory to delete files from.
+	 * @param retainedFileNames The names of files to retain.
+	 * @throws IOException If an I/O failure occurs when listing files.
+	 */
+	public static void deleteAllExcept(Directory directory, Set<String> retainedFileNames) throws IOException {
+		for ( String fileName : directory.listAll() ) {
+			if ( retainedFileNames.contains( fileName ) || IndexWriter.WRITE_LOCK_NAME.equals( fileName ) ) {
+				continue;
+			}
+			try {
+				directory.deleteFile( fileName );
+			}
+			catch (IOException ignored) {
+				// Will be deleted next time.
+			}
+		}
+	}
+
+	public static Set<String> fileNames(ReplicationCommit commit) {
+		Set<String> fileNames = new HashSet<>();
+		fileNames.add( commit.segmentsFile().name() );
+		for ( ReplicatedFile file : commit.files() ) {
+			fileNames.add( file.name() );
+		}
+		return fileNames;
+	}
+
+	private static void deleteIfExists(Directory directory, String fileName) throws IOException {
+		try {
+			directory.deleteFile( fileName );
+		}
+		catch (NoSuchFileException | FileNotFoundException ignored) {
+			// Nothing to delete.
+		}
+	}
+
+	public interface FileCopier {
+		void copy(String fileName, String targetFileName) throws IOException;
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicatedFile;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationCommit;
+
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+
+final class SharedFileSystemReplicationChannel implements ReplicationChannel {
+
+	private final FSDirectory directory;
+
+	SharedFileSystemReplicationChannel(FSDirectory directory) {
+		this.directory = directory;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[directory=" + directory + "]";
+	}
+
+	@Override
+	public void publish(Directory source, ReplicationCommit commit) throws IOException {
+		if ( commit.segmentsFile().existsIn( directory ) ) {
+			// Already published.
+			return;
+		}
+
+		Set<String> retainedFileNames = ReplicationFiles.fileNames( commit );
+		// Give replicas a chance to finish fetching the previous commit, if any.
+		// Its "segments_N" file is not retained, so that it can never be mistaken for the latest commit.
+		Optional<ReplicationCommit> previousCommit;
+		try {
+			previousCommit = latestCommit();
+		}
+		catch (IOException e) {
+			// The previous commit is incomplete: replicas cannot fetch it anyway.
+			previousCommit = Optional.empty();
+		}
+		if ( previousCommit.isPresent() ) {
+			for ( ReplicatedFile file : previousCommit.get().files() ) {
+				retainedFileNames.add( file.name() );
+			}
+		}
+
+		ReplicationFiles.copyCommit( commit, directory,
+				(fileName, targetFileName) -> directory.copyFrom( source, fileName, targetFileName,
+						IOContext.DEFAULT ) );
+		ReplicationFiles.deleteAllExcept( directory, retainedFileNames );
+	}
+
+	@Override
+	public Optional<ReplicationCommit> latestCommit() throws IOException {
+		String segmentsFileName = SegmentInfos.getLastCommitSegmentsFileName( directory.listAll() );
+		if ( segmentsFileName == null ) {
+			return Optional.empty();
+		}
+		return Optional.of( ReplicationCommit.read( directory, segmentsFileName ) );
+	}
+
+	@Override
+	public void fetch(String fileName, Directory target, String targetFileName) throws IOException {
+		target.copyFrom( directory, fileName, targetFileName, IOContext.DEFAULT );
+	}
+
+	@Override
+	public void close() throws IOException {
+		directory.close();
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.ConfigurationLog;
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannelCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.NoLockFactory;
+
+/**
+ * A transport publishing commits to a directory on a filesystem shared by the primary and all replicas,
+ * e.g. a network filesystem mount.
+ */
+public class SharedFileSystemReplicationTransport implements ReplicationTransport {
+
+	public static final String NAME = "shared-filesystem";
+
+	private static final OptionalConfigurationProperty<Path> ROOT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.ReplicationRadicals.SHARED_FILESYSTEM_ROOT )
+					.as( Path.class, Paths::get )
+					.build();
+
+	@Override
+	public ReplicationChannel createChannel(ReplicationChannelCreationContext context) {
+		Path root = ROOT.getOrThrow( context.configurationPropertySource(),
+				() -> ConfigurationLog.INSTANCE.missingPropertyValueForReplicationTransport( NAME ) )
+				.toAbsolutePath();
+
+		Path path = root.resolve( context.indexName() );
+		Optional<String> shardId = context.shardId();
+		if ( shardId.isPresent() ) {
+			path = path.resolve( shardId.get() );
+		}
+
+		try {
+			Files.createDirectories( path );
+			// Only the primary ever writes to this directory: no need for locking.
+			return new SharedFileSystemReplicationChannel( FSDirectory.open( path, NoLockFactory.INSTANCE ) );
+		}
+		catch (IOException e) {
+			throw LuceneMiscLog.INSTANCE.unableToInitializeIndexDirectory( e.getMessage(), context.eventContext(), e );
+		}
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.spi;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Optional;
+
+import org.apache.lucene.store.Directory;
+
+/**
+ * A channel through which a primary index publishes its commits and replicas fetch them.
+ */
+public interface ReplicationChannel extends Closeable {
+
+	/**
+	 * Publishes a commit of the primary index, so that replicas can fetch it.
+	 * <p>
+	 * Called on the primary only, after each commit, and never concurrently.
+	 * Implementations should only transfer files that were not published yet,
+	 * and must make sure the new commit only becomes visible to {@link #latestCommit()}
+	 * once all its files can be fetched.
+	 * <p>
+	 * Files that are no longer referenced by the published commit may be removed,
+	 * but implementations should give replicas a chance to finish fetching the previous commit.
+	 *
+	 * @param source The directory of the primary index.
+	 * @param commit The commit to publish.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	void publish(Directory source, ReplicationCommit commit) throws IOException;
+
+	/**
+	 * Called on replicas to check whether the primary published a new commit.
+	 *
+	 * @return The latest commit published by the primary, or an empty optional if no commit was published yet.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	Optional<ReplicationCommit> latestCommit() throws IOException;
+
+	/**
+	 * Copies a file of a published commit to the directory of a replica.
+	 *
+	 * @param fileName The name of the file to fetch, as listed in {@link ReplicationCommit#files()}.
+	 * @param target The directory of the replica.
+	 * @param targetFileName The name of the file to create in the directory of the replica.
+	 * @throws IOException If an I/O failure occurs, in particular if the file no longer exists.
+	 */
+	void fetch(String fileName, Directory target, String targetFileName) throws IOException;
+
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.spi;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+
+/**
+ * A commit of a Lucene index, i.e. a "segments_N" file and all the files it references.
+ */
+public final class ReplicationCommit {
+
+	/**
+	 * @param directory A directory.
+	 * @param segmentsFileName The name of a "segments_N" file in that directory.
+	 * @return A description of the corresponding commit.
+	 * @throws IOException If an I/O failure occurs, e.g. if some files of the commit do not exist.
+	 */
+	public static ReplicationCommit read(Directory directory, String segmentsFileName) throws IOException {
+		SegmentInfos segmentInfos = SegmentInfos.readCommit( directory, segmentsFileName );
+		List<ReplicatedFile> files = new ArrayList<>();
+		for ( String fileName : segmentInfos.files( false ) ) {
+			files.add( ReplicatedFile.read( directory, fileName ) );
+		}
+		return new ReplicationCommit( ReplicatedFile.read( directory, segmentsFileName ), files );
+	}
+
+	private final ReplicatedFile segmentsFile;
+	private final List<ReplicatedFile> files;
+
+	/**
+	 * @param segmentsFile The "segments_N" file.
+	 * @param files The files referenced by the "segments_N" file, excluding the "segments_N" file itself.
+	 */
+	public ReplicationCommit(ReplicatedFile segmentsFile, List<ReplicatedFile> files) {
+		this.segmentsFile = segmentsFile;
+		this.files = Collections.unmodifiableList( files );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[segmentsFile=" + segmentsFile + ", files=" + files + "]";
+	}
+
+	/**
+	 * @return The "segments_N" file,
+	 * which must be the last file to be published or fetched.
+	 */
+	public ReplicatedFile segmentsFile() {
+		return segmentsFile;
+	}
+
+	/**
+	 * @return The files referenced by the "segments_N" file, excluding the "segments_N" file itself.
+	 */
+	public List<ReplicatedFile> files() {
+		return files;
+	}
+
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.spi;
+
+/**
+ * A transport for replicating commits from a primary index to replicas.
+ * <p>
+ * Implementations are responsible for storing the files of commits published by the primary
+ * somewhere replicas can fetch them from, e.g. a shared filesystem or a remote service.
+ */
+public interface ReplicationTransport {
+
+	/**
+	 * Creates a {@link ReplicationChannel} for a given index, or index shard.
+	 * <p>
+	 * The same method is called on the primary and on replicas;
+	 * channels created for the same index name and shard identifier
+	 * are expected to exchange commits with each other.
+	 *
+	 * @param context The creation context, giving access to configuration and environment.
+	 * @return The channel to use for that index, or index shard.
+	 */
+	ReplicationChannel createChannel(ReplicationChannelCreationContext context);
+
+}
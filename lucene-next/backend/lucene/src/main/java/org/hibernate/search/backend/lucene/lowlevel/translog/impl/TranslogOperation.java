@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.translog.impl;
+
+import java.util.List;
+
+import org.apache.lucene.document.Document;
+
+/**
+ * A change to the index, as recorded in a {@link Translog}.
+ *
+ * @param tenantId The tenant identifier, or {@code null}.
+ * @param entityTypeName The name of the entity type, for reporting purposes.
+ * @param entityIdentifier The string representation of the entity identifier, for reporting purposes.
+ * @param documentIdentifier The identifier of the document.
+ * @param documents The documents to index in place of any previous version of the document,
+ * or {@code null} if the document must simply be deleted.
+ */
+public record TranslogOperation(String tenantId, String entityTypeName, String entityIdentifier,
+		String documentIdentifier, List<Document> documents) {
+
+	public static TranslogOperation index(String tenantId, String entityTypeName, Object entityIdentifier,
+			String documentIdentifier, List<Document> documents) {
+		return new TranslogOperation( tenantId, entityTypeName, String.valueOf( entityIdentifier ), documentIdentifier,
+				documents );
+	}
+
+	public static TranslogOperation delete(String tenantId, String entityTypeName, Object entityIdentifier,
+			String documentIdentifier) {
+		return new TranslogOperation( tenantId, entityTypeName, String.valueOf( entityIdentifier ), documentIdentifier,
+				null );
+	}
+
+	public boolean isDeletion() {
+		return documents == null;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ ( isDeletion() ? "delete" : "index" )
+				+ ", tenantId=" + tenantId
+				+ ", entityTypeName=" + entityTypeName
+				+ ", entityIdentifier=" + entityIdentifier
+				+ "]";
+	}
+}
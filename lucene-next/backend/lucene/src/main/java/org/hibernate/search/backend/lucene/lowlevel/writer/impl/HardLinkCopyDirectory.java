@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+
+/**
+ * A directory that copies files from other directories on the same filesystem by creating hard links,
+ * instead of copying their content.
+ * <p>
+ * Used by index writers to add temporary indexes built {@link OfflineIndexBuild offline}
+ * next to the actual index without doubling I/O.
+ * Falls back to a regular copy when hard links are not supported.
+ * <p>
+ * Index files are never modified after being written, so sharing them between directories is safe.
+ */
+final class HardLinkCopyDirectory extends FilterDirectory {
+
+	HardLinkCopyDirectory(Directory in) {
+		super( in );
+	}
+
+	@Override
+	public void copyFrom(Directory from, String src, String dest, IOContext context) throws IOException {
+		Directory fromUnwrapped = FilterDirectory.unwrap( from );
+		Directory toUnwrapped = FilterDirectory.unwrap( this );
+		if ( fromUnwrapped instanceof FSDirectory fromFsDirectory && toUnwrapped instanceof FSDirectory toFsDirectory ) {
+			Path source = fromFsDirectory.getDirectory().resolve( src );
+			Path target = toFsDirectory.getDirectory().resolve( dest );
+			try {
+				Files.createLink( target, source );
+				return;
+			}
+			catch (FileSystemException | UnsupportedOperationException | SecurityException e) {
+				// Hard links are not supported, e.g. because directories are on different filesystems:
+				// fall back to a regular copy.
+			}
+		}
+		super.copyFrom( from, src, dest, context );
+	}
+
+}
@@ -6,14 +6,26 @@
 
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.KeepOnlyLastCommitDeletionPolicy;
+import org.apache.lucene.index.LiveIndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.LogMergePolicy;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
+import org.apache.lucene.index.SoftDeletesRetentionMergePolicy;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.similarities.Similarity;
+import org.apache.lucene.util.Unwrappable;
 
 /**
  * A source of index writer configuration that can be re-used on multiple writers.
@@ -28,23 +40,69 @@
  */
 public class IndexWriterConfigSource {
 
+	private static final ConfigurationProperty<Integer> BULK_LOAD_RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_BULK_LOAD_RAM_BUFFER_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_BULK_LOAD_RAM_BUFFER_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BULK_LOAD_MERGE_FACTOR =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_BULK_LOAD_MERGE_FACTOR )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_BULK_LOAD_MERGE_FACTOR )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> BULK_LOAD_OFFLINE_BUILD =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_BULK_LOAD_OFFLINE_BUILD )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_BULK_LOAD_OFFLINE_BUILD )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> SOFT_DELETES_ENABLED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_SOFT_DELETES_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_SOFT_DELETES_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SOFT_DELETES_RETENTION =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_SOFT_DELETES_RETENTION )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.IO_SOFT_DELETES_RETENTION )
+					.build();
+
 	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer,
-			Codec codec, ConfigurationPropertySource propertySource, EventContext eventContext) {
+			Codec codec, Sort indexSortOrNull, ConfigurationPropertySource propertySource, EventContext eventContext) {
 		List<IndexWriterSettingValue<?>> values = IndexWriterSettings.extractAll( propertySource, eventContext );
-		return new IndexWriterConfigSource( similarity, analyzer, codec, values );
+		return new IndexWriterConfigSource( similarity, analyzer, codec, indexSortOrNull, values,
+				BULK_LOAD_RAM_BUFFER_SIZE.get( propertySource ), BULK_LOAD_MERGE_FACTOR.get( propertySource ),
+				BULK_LOAD_OFFLINE_BUILD.get( propertySource ),
+				SOFT_DELETES_ENABLED.get( propertySource ), SOFT_DELETES_RETENTION.get( propertySource ) );
 	}
 
 	private final Similarity similarity;
 	private final Analyzer analyzer;
 	private final Codec codec;
+	private final Sort indexSortOrNull;
 	private final List<IndexWriterSettingValue<?>> values;
+	private final int bulkLoadRamBufferSize;
+	private final int bulkLoadMergeFactor;
+	private final boolean bulkLoadOfflineBuild;
+	private final boolean softDeletes;
+	private final int softDeletesRetention;
 
-	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, Codec codec,
-			List<IndexWriterSettingValue<?>> values) {
+	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, Codec codec, Sort indexSortOrNull,
+			List<IndexWriterSettingValue<?>> values, int bulkLoadRamBufferSize, int bulkLoadMergeFactor,
+			boolean bulkLoadOfflineBuild, boolean softDeletes, int softDeletesRetention) {
 		this.similarity = similarity;
 		this.analyzer = analyzer;
 		this.codec = codec;
+		this.indexSortOrNull = indexSortOrNull;
 		this.values = values;
+		this.bulkLoadRamBufferSize = bulkLoadRamBufferSize;
+		this.bulkLoadMergeFactor = bulkLoadMergeFactor;
+		this.bulkLoadOfflineBuild = bulkLoadOfflineBuild;
+		this.softDeletes = softDeletes;
+		this.softDeletesRetention = softDeletesRetention;
 	}
 
 	@Override
@@ -60,19 +118,90 @@ public IndexWriterConfig createIndexWriterConfig() {
 		IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
 		writerConfig.setSimilarity( similarity );
 		writerConfig.setCodec( codec );
+		if ( indexSortOrNull != null ) {
+			writerConfig.setIndexSort( indexSortOrNull );
+			// Required by Lucene to keep nested documents together with their parent when sorting the index.
+			writerConfig.setParentField( MetadataFields.parentFieldName() );
+		}
 		for ( IndexWriterSettingValue<?> value : values ) {
 			value.applySetting( writerConfig );
 		}
+		if ( softDeletes ) {
+			writerConfig.setSoftDeletesField( softDeletesFieldOrNull() );
+		}
 		writerConfig.setMergePolicy( createMergePolicy() );
+		// Allows pinning a commit while it's being backed up, see IndexWriterDelegatorImpl#snapshot().
+		writerConfig.setIndexDeletionPolicy( new SnapshotDeletionPolicy( new KeepOnlyLastCommitDeletionPolicy() ) );
 		return writerConfig;
 	}
 
-	private LogByteSizeMergePolicy createMergePolicy() {
+	/**
+	 * Applies bulk-load settings to the configuration of a live index writer.
+	 * <p>
+	 * Segments are flushed only when the (larger) RAM buffer is full, and merged less often.
+	 */
+	public void applyBulkLoadSettings(LiveIndexWriterConfig writerConfig) {
+		// Set the RAM buffer first: Lucene forbids disabling both flush triggers at the same time.
+		writerConfig.setRAMBufferSizeMB( bulkLoadRamBufferSize );
+		writerConfig.setMaxBufferedDocs( IndexWriterConfig.DISABLE_AUTO_FLUSH );
+		if ( Unwrappable.unwrapAll( writerConfig.getMergePolicy() ) instanceof LogMergePolicy mergePolicy ) {
+			mergePolicy.setMergeFactor( bulkLoadMergeFactor );
+		}
+	}
+
+	/**
+	 * @return {@code true} if documents added in bulk-load mode should be written to temporary indexes first,
+	 * see {@link OfflineIndexBuild}.
+	 */
+	public boolean isBulkLoadOfflineBuild() {
+		return bulkLoadOfflineBuild;
+	}
+
+	/**
+	 * Restores the settings changed by {@link #applyBulkLoadSettings(LiveIndexWriterConfig)}.
+	 */
+	public void applyDefaultSettings(LiveIndexWriterConfig writerConfig) {
+		IndexWriterConfig defaults = createIndexWriterConfig();
+		// Re-enable a flush trigger before (potentially) disabling the other one:
+		// Lucene forbids disabling both at the same time.
+		if ( defaults.getMaxBufferedDocs() != IndexWriterConfig.DISABLE_AUTO_FLUSH ) {
+			writerConfig.setMaxBufferedDocs( defaults.getMaxBufferedDocs() );
+			writerConfig.setRAMBufferSizeMB( defaults.getRAMBufferSizeMB() );
+		}
+		else {
+			writerConfig.setRAMBufferSizeMB( defaults.getRAMBufferSizeMB() );
+			writerConfig.setMaxBufferedDocs( defaults.getMaxBufferedDocs() );
+		}
+		if ( Unwrappable.unwrapAll( writerConfig.getMergePolicy() ) instanceof LogMergePolicy mergePolicy
+				&& Unwrappable.unwrapAll( defaults.getMergePolicy() ) instanceof LogMergePolicy defaultMergePolicy ) {
+			mergePolicy.setMergeFactor( defaultMergePolicy.getMergeFactor() );
+		}
+	}
+
+	/**
+	 * @return The name of the field marking documents as soft-deleted,
+	 * or {@code null} if documents are deleted immediately.
+	 * Index readers opened directly from the directory must be wrapped
+	 * in a {@link org.apache.lucene.index.SoftDeletesDirectoryReaderWrapper} in order to ignore soft-deleted documents.
+	 */
+	public String softDeletesFieldOrNull() {
+		return softDeletes ? MetadataFields.softDeletesFieldName() : null;
+	}
+
+	private MergePolicy createMergePolicy() {
 		LogByteSizeMergePolicy logByteSizeMergePolicy = new LogByteSizeMergePolicy();
 		for ( IndexWriterSettingValue<?> value : values ) {
 			value.applySetting( logByteSizeMergePolicy );
 		}
-		return logByteSizeMergePolicy;
+		if ( !softDeletes || softDeletesRetention == 0 ) {
+			return logByteSizeMergePolicy;
+		}
+		String softDeletesField = MetadataFields.softDeletesFieldName();
+		// Soft-deleted documents hold their deletion time: retain those deleted recently enough.
+		return new SoftDeletesRetentionMergePolicy( softDeletesField,
+				() -> NumericDocValuesField.newSlowRangeQuery( softDeletesField,
+						System.currentTimeMillis() - softDeletesRetention, Long.MAX_VALUE ),
+				logByteSizeMergePolicy );
 	}
 
 }
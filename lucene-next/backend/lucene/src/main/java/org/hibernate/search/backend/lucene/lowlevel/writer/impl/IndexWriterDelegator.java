@@ -6,6 +6,7 @@
 
 import java.io.IOException;
 
+import org.apache.lucene.document.Field;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
@@ -22,8 +23,56 @@ public interface IndexWriterDelegator {
 
 	long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException;
 
-	long deleteDocuments(Term term) throws IOException;
+	long updateDocuments(Query query, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException;
 
-	long deleteDocuments(Query query) throws IOException;
+	/**
+	 * Updates doc values of the live documents matching the given term in place,
+	 * without re-indexing these documents.
+	 * <p>
+	 * Soft-deleted documents matching the term are left untouched.
+	 *
+	 * @param term The term identifying the documents to update.
+	 * @param updates The new values of the doc values fields.
+	 * @return The sequence number of the operation,
+	 * or a negative value if no live document matches the term or if the update could not be applied,
+	 * which may also happen for documents added recently;
+	 * callers should then update the whole document instead.
+	 * @throws IOException If the update fails.
+	 * @throws IllegalArgumentException If the update cannot be performed in place,
+	 * e.g. because one of the fields does not exist in the index yet;
+	 * callers should then update the whole document instead.
+	 */
+	long updateDocValues(Term term, Field... updates) throws IOException;
+
+	long deleteDocuments(Term... terms) throws IOException;
+
+	long deleteDocuments(Query... queries) throws IOException;
+
+	/**
+	 * Deletes all documents, or all documents matching the given filter.
+	 * <p>
+	 * Equivalent to {@link #deleteDocuments(Query...)},
+	 * but lets implementations know that the whole content of the index, or of a subset of the index, is being purged.
+	 *
+	 * @param filterOrNull A filter restricting the documents to delete, e.g. to a tenant, or {@code null} to delete all documents.
+	 * @return The sequence number of the operation.
+	 * @throws IOException If the deletion fails.
+	 */
+	long deleteAll(Query filterOrNull) throws IOException;
+
+	/**
+	 * @return {@code true} if documents belonging to multiple blocks (a root document and its nested documents)
+	 * can be passed to a single call to {@link #addDocuments(Iterable)} or {@link #updateDocuments(Query, Iterable)},
+	 * {@code false} if the writer needs each call to pass exactly one block,
+	 * e.g. because it relies on a parent field to keep blocks together when sorting the index.
+	 */
+	boolean canAddMultipleBlocksAtOnce();
+
+	/**
+	 * @return {@code true} if deletions and updates by term mark previous versions of documents as soft-deleted,
+	 * {@code false} if they delete them for good.
+	 * Deletions and updates by query always delete documents for good.
+	 */
+	boolean softDeletesByTerm();
 
 }
@@ -5,55 +5,106 @@
 package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.search.backend.lucene.logging.impl.IndexingLog;
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicationPublisher;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicy;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicyContext;
 import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.Bits;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
  */
 public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 
+	private static final int MAX_TRACKED_LOOKUP_CHANGES = 1000;
+	private static final long SEGMENT_MERGED_AWAY = -2L;
+
 	private final IndexWriter delegate;
+	private final String softDeletesFieldOrNull;
 	private final EventContext eventContext;
+	private final Translog translogOrNull;
+	private final ReplicationPublisher publisherOrNull;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final CommitPolicy commitPolicyOrNull;
 	private final FailureHandler failureHandler;
 
 	private final SingletonTask delayedCommitTask;
 	private final ReentrantLock commitLock = new ReentrantLock();
 
+	// Only used to look up documents before updating their doc values in place.
+	// The lookup reader is only reopened when the document being looked up may have changed since it was opened,
+	// i.e. when it was updated or deleted, because reopening flushes buffered changes to new segments.
+	// Documents added since then are simply missing from the lookup reader: callers update them as a whole.
+	private final ReentrantLock lookupLock = new ReentrantLock();
+	private DirectoryReader lookupReaderOrNull;
+	private volatile boolean lookupReaderOpened;
+	private final Set<Term> termsChangedSinceLookup = ConcurrentHashMap.newKeySet();
+	private volatile boolean lookupReaderOutdated;
+
 	private long commitExpiration;
+	private volatile boolean bulkLoad;
+
+	// Only tracked when there is a commit policy.
+	private final CommitPolicyContextImpl commitPolicyContext;
+	private final LongAdder uncommittedChangeCount = new LongAdder();
+	private volatile long lastCommitTime;
+	private volatile long lastChangeTime;
 
-	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
+	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext, Translog translogOrNull,
+			ReplicationPublisher publisherOrNull,
 			SimpleScheduledExecutor delayedCommitExecutor,
-			TimingSource timingSource, int commitInterval,
+			TimingSource timingSource, int commitInterval, CommitPolicy commitPolicyOrNull,
 			FailureHandler failureHandler,
 			DelayedCommitFailureHandler delayedCommitFailureHandler) {
 		this.delegate = delegate;
+		this.softDeletesFieldOrNull = delegate.getConfig().getSoftDeletesField();
 		this.eventContext = eventContext;
+		this.translogOrNull = translogOrNull;
+		this.publisherOrNull = publisherOrNull;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.commitPolicyOrNull = commitPolicyOrNull;
 		this.failureHandler = failureHandler;
+		this.commitPolicyContext = commitPolicyOrNull == null ? null : new CommitPolicyContextImpl();
 
-		if ( commitInterval == 0L ) {
+		if ( commitInterval == 0L && commitPolicyOrNull == null ) {
 			delayedCommitTask = null;
 		}
 		else {
@@ -66,34 +117,115 @@ public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 		}
 
 		updateCommitExpiration();
+		lastChangeTime = lastCommitTime;
 	}
 
 	@Override
 	public long addDocuments(Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
-		return delegate.addDocuments( docs );
+		long sequenceNumber = delegate.addDocuments( docs );
+		trackChanges( docs );
+		return sequenceNumber;
 	}
 
 	@Override
 	public long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
-		return delegate.updateDocuments( term, docs );
+		long sequenceNumber = softDeletesFieldOrNull == null
+				? delegate.updateDocuments( term, docs )
+				: delegate.softUpdateDocuments( term, docs, softDeletesMarker() );
+		trackChanges( docs );
+		trackLookupChanges( term );
+		return sequenceNumber;
+	}
+
+	@Override
+	public long updateDocuments(Query query, Iterable<? extends Iterable<? extends IndexableField>> docs)
+			throws IOException {
+		long sequenceNumber = delegate.updateDocuments( query, docs );
+		trackChanges( docs );
+		outdateLookupReader();
+		return sequenceNumber;
+	}
+
+	@Override
+	public long updateDocValues(Term term, Field... updates) throws IOException {
+		// IndexWriter#updateDocValues(Term, Field...) silently ignores missing documents,
+		// and would also update soft-deleted documents matching the term:
+		// look up live documents in a near-real-time reader and update them by document ID instead.
+		lookupLock.lock();
+		try {
+			long sequenceNumber = tryUpdateDocValues( lookupReader( term ), term, updates );
+			if ( sequenceNumber == SEGMENT_MERGED_AWAY ) {
+				sequenceNumber = tryUpdateDocValues( reopenLookupReader(), term, updates );
+			}
+			if ( sequenceNumber < 0L ) {
+				return -1L;
+			}
+			trackChanges( 1 );
+			return sequenceNumber;
+		}
+		finally {
+			lookupLock.unlock();
+		}
+	}
+
+	@Override
+	public long deleteDocuments(Term... terms) throws IOException {
+		long sequenceNumber;
+		if ( softDeletesFieldOrNull == null || terms.length == 0 ) {
+			sequenceNumber = delegate.deleteDocuments( terms );
+		}
+		else {
+			Field marker = softDeletesMarker();
+			sequenceNumber = 0L;
+			for ( Term term : terms ) {
+				sequenceNumber = delegate.updateDocValues( term, marker );
+			}
+		}
+		trackChanges( terms.length );
+		trackLookupChanges( terms );
+		return sequenceNumber;
+	}
+
+	@Override
+	public long deleteDocuments(Query... queries) throws IOException {
+		long sequenceNumber = delegate.deleteDocuments( queries );
+		trackChanges( queries.length );
+		outdateLookupReader();
+		return sequenceNumber;
+	}
+
+	@Override
+	public long deleteAll(Query filterOrNull) throws IOException {
+		return deleteDocuments( filterOrNull == null ? new MatchAllDocsQuery() : filterOrNull );
 	}
 
 	@Override
-	public long deleteDocuments(Term term) throws IOException {
-		return delegate.deleteDocuments( term );
+	public boolean canAddMultipleBlocksAtOnce() {
+		// With a parent field, Lucene treats the last document passed to each call as the parent of all others.
+		return delegate.getConfig().getParentField() == null;
 	}
 
 	@Override
-	public long deleteDocuments(Query query) throws IOException {
-		return delegate.deleteDocuments( query );
+	public boolean softDeletesByTerm() {
+		return softDeletesFieldOrNull != null;
 	}
 
 	public void mergeSegments() throws IOException {
 		delegate.forceMerge( 1 );
 	}
 
+	void deleteAll() throws IOException {
+		delegate.deleteAll();
+		outdateLookupReader();
+	}
+
+	void addIndexes(Directory... directories) throws IOException {
+		delegate.addIndexes( directories );
+		outdateLookupReader();
+	}
+
 	public void commit() {
-		doCommit();
+		doCommit( rollTranslog() );
 	}
 
 	public void commitOrDelay() {
@@ -102,11 +234,21 @@ public void commitOrDelay() {
 			return;
 		}
 
+		if ( bulkLoad ) {
+			// Commits are deferred until bulk-load mode ends.
+			return;
+		}
+
 		if ( delayCommit() ) {
 			// The commit was delayed
 			return;
 		}
 
+		// Roll the translog before acquiring the commit lock:
+		// rolling waits for works that are being applied to the index writer,
+		// and those may need the commit lock to close the index writer upon failure.
+		long translogGeneration = rollTranslog();
+
 		// Synchronize in order to prevent a scenario where two threads call commitOrDelay() concurrently,
 		// both notice the previous commit has expired, and both trigger a commit,
 		// resulting in two commits where one would have been enough.
@@ -118,13 +260,41 @@ public void commitOrDelay() {
 			}
 
 			// The previous commit has expired
-			doCommit();
+			doCommit( translogGeneration );
 		}
 		finally {
 			commitLock.unlock();
 		}
 	}
 
+	/**
+	 * Commits, then prevents the latest commit from being deleted
+	 * until {@link #releaseSnapshot(IndexCommit)} is called.
+	 *
+	 * @return The latest commit.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public IndexCommit snapshot() throws IOException {
+		commit();
+		return snapshotDeletionPolicy().snapshot();
+	}
+
+	/**
+	 * Allows a commit returned by {@link #snapshot()} to be deleted, and deletes it if it's no longer needed.
+	 *
+	 * @param commit The commit returned by {@link #snapshot()}.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public void releaseSnapshot(IndexCommit commit) throws IOException {
+		snapshotDeletionPolicy().release( commit );
+		try {
+			delegate.deleteUnusedFiles();
+		}
+		catch (AlreadyClosedException ignored) {
+			// The writer was closed in the meantime: the next writer will delete unused files.
+		}
+	}
+
 	public DirectoryReader openReader() throws IOException {
 		return DirectoryReader.open( delegate );
 	}
@@ -133,13 +303,39 @@ public DirectoryReader openReaderIfChanged(DirectoryReader oldReader) throws IOE
 		return DirectoryReader.openIfChanged( oldReader, delegate );
 	}
 
+	void bulkLoad(boolean bulkLoad, IndexWriterConfigSource configSource) {
+		this.bulkLoad = bulkLoad;
+		if ( bulkLoad ) {
+			configSource.applyBulkLoadSettings( delegate.getConfig() );
+		}
+		else {
+			configSource.applyDefaultSettings( delegate.getConfig() );
+		}
+	}
+
 	public IndexWriter getDelegateForTests() {
 		return delegate;
 	}
 
 	void close() throws IOException {
+		long translogGeneration;
+		try {
+			// Closing the index writer commits: roll the translog so that it can be trimmed afterwards.
+			translogGeneration = rollTranslog();
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e ).push( IndexWriterDelegatorImpl::doClose, this );
+			throw e;
+		}
+		doClose();
+		trimTranslog( translogGeneration );
+		publishLatestCommit();
+	}
+
+	private void doClose() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			closer.push( SingletonTask::stop, delayedCommitTask );
+			closer.push( IndexWriterDelegatorImpl::closeLookupReader, this );
 			// Avoid problems with closing while a (delayed) commit is in progress:
 			// Lucene throws an exception in that case.
 			commitLock.lock();
@@ -158,7 +354,9 @@ void closeAfterFailure(Throwable throwable, Object failingOperation) {
 				LuceneMiscLog.INSTANCE.uncommittedOperationsBecauseOfFailure( throwable.getMessage(), eventContext,
 						throwable );
 		try {
-			close();
+			// Don't touch the translog: we may be holding its append lock,
+			// and operations applied since the last commit may have been lost.
+			doClose();
 		}
 		catch (RuntimeException | IOException e) {
 			exceptionToReport.addSuppressed(
@@ -178,14 +376,124 @@ void closeAfterFailure(Throwable throwable, Object failingOperation) {
 		failureHandler.handle( failureContext );
 	}
 
-	private void doCommit() {
+	/**
+	 * @return The sequence number of the update,
+	 * {@code -1} if no live document matches the term,
+	 * or {@link #SEGMENT_MERGED_AWAY} if a matching document could not be updated through this reader.
+	 */
+	private long tryUpdateDocValues(DirectoryReader reader, Term term, Field... updates) throws IOException {
+		long sequenceNumber = -1L;
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			PostingsEnum postings = leaf.reader().postings( term, PostingsEnum.NONE );
+			if ( postings == null ) {
+				continue;
+			}
+			Bits liveDocs = leaf.reader().getLiveDocs();
+			for ( int docId = postings.nextDoc(); docId != DocIdSetIterator.NO_MORE_DOCS;
+					docId = postings.nextDoc() ) {
+				if ( liveDocs != null && !liveDocs.get( docId ) ) {
+					continue;
+				}
+				sequenceNumber = delegate.tryUpdateDocValue( reader, leaf.docBase + docId, updates );
+				if ( sequenceNumber < 0L ) {
+					return SEGMENT_MERGED_AWAY;
+				}
+			}
+		}
+		return sequenceNumber;
+	}
+
+	private DirectoryReader lookupReader(Term term) throws IOException {
+		// Check the term before the flag: see outdateLookupReader().
+		if ( lookupReaderOrNull == null || termsChangedSinceLookup.contains( term ) || lookupReaderOutdated ) {
+			return reopenLookupReader();
+		}
+		// The document did not change since the lookup reader was opened:
+		// the lookup reader still sees its live version, if any, even if other documents changed.
+		return lookupReaderOrNull;
+	}
+
+	private DirectoryReader reopenLookupReader() throws IOException {
+		// Changes applied from now on may not be visible to the new reader: track them.
+		lookupReaderOpened = true;
+		lookupReaderOutdated = false;
+		termsChangedSinceLookup.clear();
+		if ( lookupReaderOrNull == null ) {
+			lookupReaderOrNull = DirectoryReader.open( delegate );
+		}
+		else {
+			DirectoryReader newReader = DirectoryReader.openIfChanged( lookupReaderOrNull, delegate );
+			if ( newReader != null ) {
+				lookupReaderOrNull.close();
+				lookupReaderOrNull = newReader;
+			}
+		}
+		return lookupReaderOrNull;
+	}
+
+	/**
+	 * Records that documents matching the given terms were updated or deleted,
+	 * so that they are looked up in a new reader next time.
+	 * <p>
+	 * Must be called after the change was applied to the index writer.
+	 */
+	private void trackLookupChanges(Term... terms) {
+		if ( !lookupReaderOpened ) {
+			// Doc values were never updated in place: there is no lookup reader to keep up to date.
+			return;
+		}
+		Collections.addAll( termsChangedSinceLookup, terms );
+		if ( termsChangedSinceLookup.size() > MAX_TRACKED_LOOKUP_CHANGES ) {
+			outdateLookupReader();
+		}
+	}
+
+	/**
+	 * Records that any document may have been updated or deleted,
+	 * so that the next lookup happens in a new reader.
+	 * <p>
+	 * Must be called after the change was applied to the index writer.
+	 */
+	private void outdateLookupReader() {
+		if ( !lookupReaderOpened ) {
+			return;
+		}
+		// Set the flag before clearing terms, so that lookups checking terms then the flag never miss both.
+		lookupReaderOutdated = true;
+		termsChangedSinceLookup.clear();
+	}
+
+	private void closeLookupReader() throws IOException {
+		lookupLock.lock();
+		try {
+			if ( lookupReaderOrNull != null ) {
+				lookupReaderOrNull.close();
+				lookupReaderOrNull = null;
+			}
+		}
+		finally {
+			lookupLock.unlock();
+		}
+	}
+
+	private SnapshotDeletionPolicy snapshotDeletionPolicy() {
+		return (SnapshotDeletionPolicy) delegate.getConfig().getIndexDeletionPolicy();
+	}
+
+	private void doCommit(long translogGeneration) {
 		commitLock.lock();
 		try {
 			// NOTE: underlying Lucene code is using this pattern to sync on object block,
 			// which could be a problem with Loom:
 			// synchronized(commitLock)
+			long committedChangeCount = commitPolicyOrNull == null ? 0L : uncommittedChangeCount.sum();
 			delegate.commit();
 			updateCommitExpiration();
+			if ( commitPolicyOrNull != null ) {
+				uncommittedChangeCount.add( -committedChangeCount );
+			}
+			// Publish while holding the lock, so that the next commit cannot delete files of this one concurrently.
+			publishLatestCommit();
 		}
 		catch (RuntimeException | IOException e) {
 			throw IndexingLog.INSTANCE.unableToCommitIndex( e.getMessage(), eventContext, e );
@@ -193,6 +501,34 @@ private void doCommit() {
 		finally {
 			commitLock.unlock();
 		}
+		trimTranslog( translogGeneration );
+	}
+
+	/**
+	 * @return The translog generation to trim after the next commit, or {@code -1} if there is no translog.
+	 */
+	private long rollTranslog() {
+		if ( translogOrNull == null ) {
+			return -1L;
+		}
+		try {
+			return translogOrNull.roll();
+		}
+		catch (RuntimeException | IOException e) {
+			throw IndexingLog.INSTANCE.unableToCommitIndex( e.getMessage(), eventContext, e );
+		}
+	}
+
+	private void publishLatestCommit() {
+		if ( publisherOrNull != null ) {
+			publisherOrNull.publishLatestCommit( delegate.getDirectory() );
+		}
+	}
+
+	private void trimTranslog(long translogGeneration) {
+		if ( translogOrNull != null ) {
+			translogOrNull.trim( translogGeneration );
+		}
 	}
 
 	/**
@@ -212,6 +548,10 @@ private boolean delayCommit() {
 	}
 
 	private long getTimeToCommit() {
+		if ( commitPolicyOrNull != null ) {
+			return commitPolicyOrNull.timeToCommit( commitPolicyContext );
+		}
+
 		if ( commitInterval == 0L ) {
 			// We never delay anything in this case,
 			// so there's no need to query the timing source (which is probably null in this case).
@@ -222,9 +562,58 @@ private long getTimeToCommit() {
 	}
 
 	private void updateCommitExpiration() {
+		if ( commitPolicyOrNull != null ) {
+			lastCommitTime = timingSource.monotonicTimeEstimate();
+			return;
+		}
 		commitExpiration = commitInterval == 0 ? 0L : timingSource.monotonicTimeEstimate() + commitInterval;
 	}
 
+	/**
+	 * @return A field marking documents as soft-deleted, holding the deletion time
+	 * so that retention can be based on how long ago documents were deleted.
+	 */
+	private Field softDeletesMarker() {
+		return new NumericDocValuesField( softDeletesFieldOrNull, System.currentTimeMillis() );
+	}
+
+	private void trackChanges(Iterable<?> docs) {
+		if ( commitPolicyOrNull == null ) {
+			return;
+		}
+		trackChanges( docs instanceof Collection<?> collection ? collection.size() : 1 );
+	}
+
+	private void trackChanges(int changeCount) {
+		if ( commitPolicyOrNull == null ) {
+			return;
+		}
+		uncommittedChangeCount.add( changeCount );
+		lastChangeTime = timingSource.monotonicTimeEstimate();
+	}
+
+	private class CommitPolicyContextImpl implements CommitPolicyContext {
+		@Override
+		public long uncommittedChangeCount() {
+			return uncommittedChangeCount.sum();
+		}
+
+		@Override
+		public long ramBytesUsed() {
+			return delegate.ramBytesUsed();
+		}
+
+		@Override
+		public long timeSinceLastCommit() {
+			return timingSource.monotonicTimeEstimate() - lastCommitTime;
+		}
+
+		@Override
+		public long timeSinceLastChange() {
+			return timingSource.monotonicTimeEstimate() - lastChangeTime;
+		}
+	}
+
 	private class LuceneDelayedCommitWorker implements SingletonTask.Worker {
 		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
 		private final DelayedCommitFailureHandler delayedCommitFailureHandler;
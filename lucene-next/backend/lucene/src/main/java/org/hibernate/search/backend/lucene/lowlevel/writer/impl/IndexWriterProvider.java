@@ -10,6 +10,10 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderWarmup;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicationPublisher;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicy;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -19,6 +23,7 @@
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.store.Directory;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -29,8 +34,12 @@ public class IndexWriterProvider {
 	private final EventContext eventContext;
 	private final DirectoryHolder directoryHolder;
 	private final IndexWriterConfigSource configSource;
+	private final IndexReaderWarmup readerWarmupOrNull;
+	private final Translog translogOrNull;
+	private final ReplicationPublisher publisherOrNull;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final CommitPolicy commitPolicyOrNull;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
 
@@ -44,17 +53,34 @@ public class IndexWriterProvider {
 	 */
 	private final ReentrantLock currentWriterModificationLock = new ReentrantLock();
 
+	/**
+	 * Whether index writers are in bulk-load mode.
+	 * Only accessed while holding {@link #currentWriterModificationLock}.
+	 */
+	private boolean bulkLoad;
+
+	/**
+	 * The offline build in progress, if any.
+	 * Only modified while holding {@link #currentWriterModificationLock}.
+	 */
+	private volatile OfflineIndexBuild offlineBuild;
+
 	public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
-			TimingSource timingSource, int commitInterval,
+			IndexReaderWarmup readerWarmupOrNull, Translog translogOrNull, ReplicationPublisher publisherOrNull,
+			TimingSource timingSource, int commitInterval, CommitPolicy commitPolicyOrNull,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
 		this.configSource = configSource;
+		this.readerWarmupOrNull = readerWarmupOrNull;
+		this.translogOrNull = translogOrNull;
+		this.publisherOrNull = publisherOrNull;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.commitPolicyOrNull = commitPolicyOrNull;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
 	}
@@ -67,9 +93,18 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 	public void clear() throws IOException {
 		currentWriterModificationLock.lock();
 		try {
-			IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.getAndSet( null );
-			if ( indexWriterDelegator != null ) {
-				indexWriterDelegator.close();
+			try {
+				if ( offlineBuild != null ) {
+					// Closing the index writer commits: do not lose documents added to temporary indexes.
+					finishOfflineBuild();
+					offlineBuild = createOfflineBuild();
+				}
+			}
+			finally {
+				IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.getAndSet( null );
+				if ( indexWriterDelegator != null ) {
+					indexWriterDelegator.close();
+				}
 			}
 		}
 		finally {
@@ -103,6 +138,69 @@ public void clearAfterFailure(Throwable throwable, Object failingOperation) {
 		}
 	}
 
+	/**
+	 * Switches the current index writer, and those created afterwards, to or from bulk-load mode.
+	 * <p>
+	 * If configured to, also starts or finishes an {@link OfflineIndexBuild offline build}.
+	 *
+	 * @param bulkLoad Whether index writers should be in bulk-load mode.
+	 * @see IndexWriterConfigSource#applyBulkLoadSettings(org.apache.lucene.index.LiveIndexWriterConfig)
+	 */
+	public void bulkLoad(boolean bulkLoad) {
+		bulkLoad( bulkLoad, false );
+	}
+
+	/**
+	 * Switches the current index writer, and those created afterwards, out of bulk-load mode after a failure.
+	 * <p>
+	 * Same as {@code bulkLoad(false)}, except an {@link OfflineIndexBuild offline build}
+	 * that would replace the whole content of the index is {@link OfflineIndexBuild#abort(IndexWriterDelegatorImpl) aborted}.
+	 */
+	public void abortBulkLoad() {
+		bulkLoad( false, true );
+	}
+
+	private void bulkLoad(boolean bulkLoad, boolean abort) {
+		currentWriterModificationLock.lock();
+		try {
+			this.bulkLoad = bulkLoad;
+			if ( bulkLoad ) {
+				if ( offlineBuild == null ) {
+					offlineBuild = createOfflineBuild();
+				}
+			}
+			else if ( offlineBuild != null ) {
+				finishOfflineBuild( abort );
+			}
+			IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
+			if ( indexWriterDelegator != null ) {
+				indexWriterDelegator.bulkLoad( bulkLoad, configSource );
+			}
+		}
+		finally {
+			currentWriterModificationLock.unlock();
+		}
+	}
+
+	/**
+	 * @return The index writer to use for indexing,
+	 * which may write to temporary indexes first during an {@link OfflineIndexBuild offline build}.
+	 */
+	public IndexWriterDelegator getOrCreateForIndexing() throws IOException {
+		IndexWriterDelegatorImpl indexWriterDelegator = getOrCreate();
+		OfflineIndexBuild build = offlineBuild;
+		return build == null ? indexWriterDelegator : build.delegator( indexWriterDelegator );
+	}
+
+	/**
+	 * @return {@code true} if an {@link OfflineIndexBuild offline build} will replace
+	 * the whole content of the index when bulk-load mode ends.
+	 */
+	public boolean isReplacingContent() {
+		OfflineIndexBuild build = offlineBuild;
+		return build != null && build.isReplacing();
+	}
+
 	public IndexWriterDelegatorImpl getOrNull() {
 		return currentWriter.get();
 	}
@@ -116,12 +214,15 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 				if ( indexWriterDelegator == null ) {
 					IndexWriter indexWriter = createNewIndexWriter();
 					indexWriterDelegator = new IndexWriterDelegatorImpl(
-							indexWriter, eventContext,
+							indexWriter, eventContext, translogOrNull, publisherOrNull,
 							threads.getWriteExecutor(),
-							timingSource, commitInterval,
+							timingSource, commitInterval, commitPolicyOrNull,
 							failureHandler,
 							this::clearAfterFailure
 					);
+					if ( bulkLoad ) {
+						indexWriterDelegator.bulkLoad( true, configSource );
+					}
 					LuceneMiscLog.INSTANCE.openedIndexWriter();
 					currentWriter.set( indexWriterDelegator );
 				}
@@ -136,17 +237,66 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 	private IndexWriter createNewIndexWriter() throws IOException {
 		// Each writer config can be attached only once to an IndexWriter
 		final IndexWriterConfig indexWriterConfig = createWriterConfig();
-		return new IndexWriter( directoryHolder.get(), indexWriterConfig );
+		Directory directory = directoryHolder.get();
+		if ( configSource.isBulkLoadOfflineBuild() ) {
+			// Temporary indexes are stored next to the actual index: avoid copying their files.
+			directory = new HardLinkCopyDirectory( directory );
+		}
+		return new IndexWriter( directory, indexWriterConfig );
+	}
+
+	private OfflineIndexBuild createOfflineBuild() {
+		if ( !configSource.isBulkLoadOfflineBuild() ) {
+			return null;
+		}
+		return new OfflineIndexBuild( eventContext, directoryHolder.localFileSystemPath(),
+				this::createTemporaryWriterConfig );
+	}
+
+	private void finishOfflineBuild(boolean abort) {
+		// Ongoing changes will be blocked until the build finishes, then applied to the actual index:
+		// only remove the build afterwards, so that changes cannot skip the queue.
+		IndexWriterDelegatorImpl indexWriterDelegator;
+		try {
+			indexWriterDelegator = getOrCreate();
+		}
+		catch (RuntimeException | IOException e) {
+			throw LuceneMiscLog.INSTANCE.unableToFinishOfflineBuild( e.getMessage(), eventContext, e );
+		}
+		try {
+			if ( abort ) {
+				offlineBuild.abort( indexWriterDelegator );
+			}
+			else {
+				offlineBuild.finish( indexWriterDelegator );
+			}
+		}
+		finally {
+			offlineBuild = null;
+		}
+	}
+
+	private IndexWriterConfig createTemporaryWriterConfig() {
+		IndexWriterConfig writerConfig = configSource.createIndexWriterConfig();
+		writerConfig.setMergeScheduler( createMergeScheduler() );
+		configSource.applyBulkLoadSettings( writerConfig );
+		return writerConfig;
 	}
 
 	private IndexWriterConfig createWriterConfig() {
 		IndexWriterConfig writerConfig = configSource.createIndexWriterConfig();
-		MergeScheduler mergeScheduler = new HibernateSearchConcurrentMergeScheduler(
+		writerConfig.setMergeScheduler( createMergeScheduler() );
+		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
+		if ( readerWarmupOrNull != null ) {
+			writerConfig.setMergedSegmentWarmer( readerWarmupOrNull.asMergedSegmentWarmer() );
+		}
+		return writerConfig;
+	}
+
+	private MergeScheduler createMergeScheduler() {
+		return new HibernateSearchConcurrentMergeScheduler(
 				indexName, eventContext.render(),
 				threads.getThreadProvider(), failureHandler
 		);
-		writerConfig.setMergeScheduler( mergeScheduler );
-		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
-		return writerConfig;
 	}
 }
@@ -0,0 +1,439 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.IOUtils;
+
+/**
+ * An offline build of an index, used in bulk-load mode:
+ * each thread writes the documents it adds to its own, temporary index,
+ * and temporary indexes are added to the actual index in a single operation
+ * when the build {@link #finish(IndexWriterDelegatorImpl) finishes}.
+ * <p>
+ * This avoids contention on a single index writer when many threads add documents concurrently.
+ * <p>
+ * Deletions are applied to the actual index and to every temporary index,
+ * and updates add the new version of documents to the temporary index of the current thread
+ * after deleting the previous version from every other index,
+ * so that the end result is the same as if all changes had been applied to the actual index.
+ * This relies on changes to a given document being applied sequentially,
+ * which the indexing orchestrator already guarantees.
+ * <p>
+ * Deleting all documents during the build turns it into a <em>replacement</em>:
+ * the actual index is left untouched until the build finishes,
+ * then its whole content is replaced with the content of temporary indexes in a single commit.
+ * This allows rebuilding an index from scratch while queries keep seeing the previous content,
+ * then switching to the new content atomically.
+ * <p>
+ * If the build is {@link #abort(IndexWriterDelegatorImpl) aborted}, e.g. because mass indexing failed,
+ * the actual index keeps its previous content.
+ * <p>
+ * Similarly, deleting all documents matching a filter during the build, e.g. all documents of a tenant,
+ * defers the deletion of these documents from the actual index until the build finishes,
+ * so that it happens in the same commit as the addition of temporary indexes.
+ * Other changes are still applied to the actual index as they happen.
+ */
+final class OfflineIndexBuild {
+
+	private static final String DIRECTORY_SUFFIX = ".offline-build";
+
+	private final EventContext eventContext;
+	private final Path rootPathOrNull;
+	private final Supplier<IndexWriterConfig> writerConfigFactory;
+
+	private final Map<Thread, TemporaryIndex> temporaryIndexes = new ConcurrentHashMap<>();
+	private final AtomicInteger temporaryIndexCounter = new AtomicInteger();
+
+	/**
+	 * Prevents the build from finishing while changes are being applied.
+	 */
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * Whether the build finished, in which case changes must be applied to the actual index directly.
+	 * Only accessed while holding {@link #lock}.
+	 */
+	private boolean finished = false;
+
+	/**
+	 * Whether the build will replace the whole content of the actual index.
+	 * Only accessed while holding {@link #lock}.
+	 */
+	private boolean replacing = false;
+
+	/**
+	 * Filters of deletions to apply to the actual index when the build finishes,
+	 * unless the build is {@link #replacing} it.
+	 * Only accessed while holding {@link #lock}.
+	 */
+	private final List<Query> deferredDeletionFilters = new ArrayList<>();
+
+	/**
+	 * @param eventContext The event context, for logging purposes.
+	 * @param indexDirectoryPath The path to the index directory, if stored on the local filesystem:
+	 * temporary indexes will be stored next to it. Otherwise, temporary indexes will be stored on the heap.
+	 * @param writerConfigFactory A factory for the configuration of writers to temporary indexes,
+	 * which must be compatible with the configuration of the actual index writer.
+	 */
+	OfflineIndexBuild(EventContext eventContext, Optional<Path> indexDirectoryPath,
+			Supplier<IndexWriterConfig> writerConfigFactory) {
+		this.eventContext = eventContext;
+		this.rootPathOrNull = indexDirectoryPath
+				.map( path -> path.resolveSibling( path.getFileName() + DIRECTORY_SUFFIX ) )
+				.orElse( null );
+		this.writerConfigFactory = writerConfigFactory;
+		if ( rootPathOrNull != null ) {
+			try {
+				// Leftovers from a build that was interrupted by an abrupt shutdown.
+				IOUtils.rm( rootPathOrNull );
+			}
+			catch (IOException | RuntimeException e) {
+				// Temporary indexes are created from scratch anyway.
+				LuceneMiscLog.INSTANCE.unableToCleanUpOfflineBuild( e.getMessage(), eventContext, e );
+			}
+		}
+	}
+
+	/**
+	 * @param actualIndexWriter The writer to the actual index.
+	 * @return A writer delegator applying changes to the temporary index of the calling thread where relevant,
+	 * or to the actual index once the build is finished.
+	 * Must not be shared with other threads.
+	 */
+	IndexWriterDelegator delegator(IndexWriterDelegatorImpl actualIndexWriter) {
+		return new ThreadIndexWriterDelegator( actualIndexWriter, Thread.currentThread() );
+	}
+
+	/**
+	 * @return {@code true} if the build will replace the whole content of the actual index when it finishes.
+	 */
+	boolean isReplacing() {
+		lock.readLock().lock();
+		try {
+			return replacing && !finished;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Closes temporary indexes, adds their content to the actual index, and deletes them.
+	 * <p>
+	 * If the build {@link #isReplacing() is replacing} the actual index,
+	 * the previous content of the actual index is deleted as part of the same commit.
+	 * Otherwise, deferred deletions of documents matching a filter are applied as part of the same commit.
+	 * <p>
+	 * Changes applied afterwards go to the actual index directly.
+	 *
+	 * @param actualIndexWriter The writer to the actual index.
+	 */
+	void finish(IndexWriterDelegatorImpl actualIndexWriter) {
+		lock.writeLock().lock();
+		try {
+			if ( finished ) {
+				return;
+			}
+			finished = true;
+			List<Directory> directories = new ArrayList<>();
+			try {
+				for ( TemporaryIndex temporaryIndex : temporaryIndexes.values() ) {
+					// Closing commits.
+					temporaryIndex.writer.close();
+					directories.add( temporaryIndex.directory );
+				}
+				if ( replacing ) {
+					actualIndexWriter.deleteAll();
+				}
+				else if ( !deferredDeletionFilters.isEmpty() ) {
+					actualIndexWriter.deleteDocuments( deferredDeletionFilters.toArray( Query[]::new ) );
+				}
+				actualIndexWriter.addIndexes( directories.toArray( Directory[]::new ) );
+			}
+			catch (RuntimeException | IOException e) {
+				throw LuceneMiscLog.INSTANCE.unableToFinishOfflineBuild( e.getMessage(), eventContext, e );
+			}
+			finally {
+				cleanUp();
+			}
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Ends the build after a failure.
+	 * <p>
+	 * If the build {@link #isReplacing() is replacing} the actual index,
+	 * temporary indexes are discarded and the actual index is left untouched,
+	 * so that it keeps its previous content instead of being replaced with partial content.
+	 * Otherwise, this is equivalent to {@link #finish(IndexWriterDelegatorImpl)}.
+	 * <p>
+	 * Changes applied afterwards go to the actual index directly.
+	 *
+	 * @param actualIndexWriter The writer to the actual index.
+	 */
+	void abort(IndexWriterDelegatorImpl actualIndexWriter) {
+		lock.writeLock().lock();
+		try {
+			if ( finished ) {
+				return;
+			}
+			if ( !replacing ) {
+				finish( actualIndexWriter );
+				return;
+			}
+			finished = true;
+			// The deferred purge is never applied, and temporary indexes are rolled back.
+			cleanUp();
+			LuceneMiscLog.INSTANCE.abortedOfflineBuild( eventContext );
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private TemporaryIndex temporaryIndex(Thread thread) throws IOException {
+		TemporaryIndex temporaryIndex = temporaryIndexes.get( thread );
+		if ( temporaryIndex == null ) {
+			// Only the given thread ever creates its own temporary index: no need for further synchronization.
+			temporaryIndex = createTemporaryIndex();
+			temporaryIndexes.put( thread, temporaryIndex );
+		}
+		return temporaryIndex;
+	}
+
+	private TemporaryIndex createTemporaryIndex() throws IOException {
+		Directory directory;
+		if ( rootPathOrNull == null ) {
+			directory = new ByteBuffersDirectory();
+		}
+		else {
+			Path path = rootPathOrNull.resolve( String.valueOf( temporaryIndexCounter.incrementAndGet() ) );
+			Files.createDirectories( path );
+			directory = FSDirectory.open( path );
+		}
+		try {
+			IndexWriterConfig writerConfig = writerConfigFactory.get();
+			writerConfig.setOpenMode( IndexWriterConfig.OpenMode.CREATE );
+			return new TemporaryIndex( directory, new IndexWriter( directory, writerConfig ) );
+		}
+		catch (RuntimeException | IOException e) {
+			IOUtils.closeWhileHandlingException( directory );
+			throw e;
+		}
+	}
+
+	private void cleanUp() {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			for ( TemporaryIndex temporaryIndex : temporaryIndexes.values() ) {
+				// Writers that were not closed yet, because of a failure, are rolled back:
+				// their content is discarded.
+				closer.push( IndexWriter::rollback, temporaryIndex.writer );
+				closer.push( Directory::close, temporaryIndex.directory );
+			}
+			temporaryIndexes.clear();
+			if ( rootPathOrNull != null ) {
+				closer.push( IOUtils::rm, rootPathOrNull );
+			}
+		}
+		catch (RuntimeException | IOException e) {
+			LuceneMiscLog.INSTANCE.unableToCleanUpOfflineBuild( e.getMessage(), eventContext, e );
+		}
+	}
+
+	private record TemporaryIndex(Directory directory, IndexWriter writer) {
+	}
+
+	private class ThreadIndexWriterDelegator implements IndexWriterDelegator {
+		private final IndexWriterDelegatorImpl actualIndexWriter;
+		private final Thread thread;
+
+		private ThreadIndexWriterDelegator(IndexWriterDelegatorImpl actualIndexWriter, Thread thread) {
+			this.actualIndexWriter = actualIndexWriter;
+			this.thread = thread;
+		}
+
+		@Override
+		public long addDocuments(Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
+			lock.readLock().lock();
+			try {
+				if ( finished ) {
+					return actualIndexWriter.addDocuments( docs );
+				}
+				return temporaryIndex( thread ).writer.addDocuments( docs );
+			}
+			finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		@Override
+		public long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs)
+				throws IOException {
+			lock.readLock().lock();
+			try {
+				if ( finished ) {
+					return actualIndexWriter.updateDocuments( term, docs );
+				}
+				TemporaryIndex ownTemporaryIndex = temporaryIndex( thread );
+				if ( !replacing ) {
+					actualIndexWriter.deleteDocuments( term );
+				}
+				for ( TemporaryIndex temporaryIndex : temporaryIndexes.values() ) {
+					if ( temporaryIndex != ownTemporaryIndex ) {
+						temporaryIndex.writer.deleteDocuments( term );
+					}
+				}
+				return ownTemporaryIndex.writer.updateDocuments( term, docs );
+			}
+			finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		@Override
+		public long updateDocuments(Query query, Iterable<? extends Iterable<? extends IndexableField>> docs)
+				throws IOException {
+			lock.readLock().lock();
+			try {
+				if ( finished ) {
+					return actualIndexWriter.updateDocuments( query, docs );
+				}
+				TemporaryIndex ownTemporaryIndex = temporaryIndex( thread );
+				if ( !replacing ) {
+					actualIndexWriter.deleteDocuments( query );
+				}
+				for ( TemporaryIndex temporaryIndex : temporaryIndexes.values() ) {
+					if ( temporaryIndex != ownTemporaryIndex ) {
+						temporaryIndex.writer.deleteDocuments( query );
+					}
+				}
+				return ownTemporaryIndex.writer.updateDocuments( query, docs );
+			}
+			finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		@Override
+		public long updateDocValues(Term term, Field... updates) throws IOException {
+			lock.readLock().lock();
+			try {
+				if ( finished ) {
+					return actualIndexWriter.updateDocValues( term, updates );
+				}
+				// The document may live in any temporary index, some of which may not know about the updated fields:
+				// let the caller update the whole document instead.
+				throw new IllegalArgumentException( "Doc values cannot be updated in place during an offline index build" );
+			}
+			finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		@Override
+		public long deleteDocuments(Term... terms) throws IOException {
+			lock.readLock().lock();
+			try {
+				if ( finished ) {
+					return actualIndexWriter.deleteDocuments( terms );
+				}
+				for ( TemporaryIndex temporaryIndex : temporaryIndexes.values() ) {
+					temporaryIndex.writer.deleteDocuments( terms );
+				}
+				return replacing ? 0L : actualIndexWriter.deleteDocuments( terms );
+			}
+			finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		@Override
+		public long deleteDocuments(Query... queries) throws IOException {
+			lock.readLock().lock();
+			try {
+				if ( finished ) {
+					return actualIndexWriter.deleteDocuments( queries );
+				}
+				for ( TemporaryIndex temporaryIndex : temporaryIndexes.values() ) {
+					temporaryIndex.writer.deleteDocuments( queries );
+				}
+				return replacing ? 0L : actualIndexWriter.deleteDocuments( queries );
+			}
+			finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		@Override
+		public long deleteAll(Query filterOrNull) throws IOException {
+			// Prevent concurrent changes: they must be applied either before or after this.
+			lock.writeLock().lock();
+			try {
+				if ( finished ) {
+					return actualIndexWriter.deleteAll( filterOrNull );
+				}
+				for ( TemporaryIndex temporaryIndex : temporaryIndexes.values() ) {
+					if ( filterOrNull == null ) {
+						temporaryIndex.writer.deleteAll();
+					}
+					else {
+						temporaryIndex.writer.deleteDocuments( filterOrNull );
+					}
+				}
+				// Leave the actual index alone until the build finishes.
+				if ( filterOrNull == null ) {
+					replacing = true;
+					deferredDeletionFilters.clear();
+				}
+				else if ( !replacing ) {
+					deferredDeletionFilters.add( filterOrNull );
+				}
+				return 0L;
+			}
+			finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		@Override
+		public boolean canAddMultipleBlocksAtOnce() {
+			// Temporary indexes use the same configuration as the actual index.
+			return actualIndexWriter.canAddMultipleBlocksAtOnce();
+		}
+
+		@Override
+		public boolean softDeletesByTerm() {
+			return actualIndexWriter.softDeletesByTerm();
+		}
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.spi;
+
+/**
+ * A policy deciding when changes applied to an index writer must be committed.
+ * <p>
+ * The policy is consulted after each batch of changes, and again when the time it returned has elapsed,
+ * until it decides to commit or there are no more uncommitted changes.
+ * <p>
+ * Policies are only consulted with the "near-real-time" I/O strategy,
+ * outside of bulk-load mode, and when no commit is forced by the indexing operations themselves.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface CommitPolicy {
+
+	/**
+	 * Initializes the policy for a given index shard.
+	 * <p>
+	 * Called once per index shard, before any call to {@link #timeToCommit(CommitPolicyContext)}.
+	 *
+	 * @param context The initialization context, giving access to configuration and environment.
+	 */
+	default void initialize(CommitPolicyInitializationContext context) {
+	}
+
+	/**
+	 * @param context The context, giving access to metrics about uncommitted changes.
+	 * @return The time to wait before committing, in milliseconds,
+	 * or {@code 0} (or a negative value) to commit immediately.
+	 * When the returned time has elapsed, this method will be called again.
+	 */
+	long timeToCommit(CommitPolicyContext context);
+
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.spi;
+
+public interface CommitPolicyContext {
+
+	/**
+	 * @return The number of changes (document additions, updates or deletions) applied since the last commit.
+	 * Changes affecting multiple documents at once, such as deletions by query, count as one change.
+	 */
+	long uncommittedChangeCount();
+
+	/**
+	 * @return The amount of RAM used by the index writer, in bytes,
+	 * i.e. buffered documents and deletions that haven't been flushed yet.
+	 */
+	long ramBytesUsed();
+
+	/**
+	 * @return The time elapsed since the last commit, in milliseconds.
+	 */
+	long timeSinceLastCommit();
+
+	/**
+	 * @return The time elapsed since the last change, in milliseconds.
+	 */
+	long timeSinceLastChange();
+
+}
@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.spi;
+
+import java.util.Optional;
+
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
+
+public interface CommitPolicyInitializationContext {
+
+	/**
+	 * @return The name of the index in Hibernate Search.
+	 */
+	String indexName();
+
+	/**
+	 * @return The identifier of the index shard, if relevant.
+	 */
+	Optional<String> shardId();
+
+	/**
+	 * @return The configured {@link org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings#IO_COMMIT_INTERVAL
+	 * commit interval}, in milliseconds.
+	 */
+	int commitInterval();
+
+	/**
+	 * @return A {@link BeanResolver}.
+	 */
+	BeanResolver beanResolver();
+
+	/**
+	 * @return A configuration property source, appropriately masked so that the policy
+	 * doesn't need to care about Hibernate Search prefixes (hibernate.search.*, etc.).
+	 * All the properties starting with {@code io.commit.} in the index configuration
+	 * can be accessed at the root.
+	 * <strong>CAUTION:</strong> the property key "policy" is reserved for use by the backend.
+	 */
+	ConfigurationPropertySource configurationPropertySource();
+
+}
@@ -18,7 +18,7 @@
 	private final EventContext eventContext;
 	private final IndexAccessor indexAccessor;
 
-	IndexAccessorWorkExecutionContext(EventContext eventContext, IndexAccessor indexAccessor) {
+	public IndexAccessorWorkExecutionContext(EventContext eventContext, IndexAccessor indexAccessor) {
 		this.eventContext = eventContext;
 		this.indexAccessor = indexAccessor;
 	}
@@ -4,15 +4,44 @@
  */
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
 
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.TranslogBuffer;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.TranslogOperation;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
+import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWorkBulk;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
+import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 /**
- * A thread-safe component responsible for applying write works to an index writer.
+ * A component responsible for applying write works to an index writer.
+ * <p>
+ * Methods that do not pertain to batches ({@link #submit(IndexingWork)}, {@link #forceCommit()}, {@link #forceRefresh()})
+ * are thread-safe, but batches are not:
+ * each {@link org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor} needs its own processor.
+ * <p>
+ * Works submitted as part of a batch are only applied when the batch ends,
+ * so that works on a given document can be coalesced:
+ * a work that is followed, in the same batch, by another work that supersedes it
+ * (e.g. an update followed by another update of the same document)
+ * is not applied to the index writer at all,
+ * and simply completes the same way as the work that superseded it.
+ * Remaining consecutive single-document works are then grouped into a {@link SingleDocumentIndexingWorkBulk}
+ * and applied to the index writer in a single operation.
+ * <p>
+ * If the translog is enabled, works that remain after coalescing are recorded in the translog
+ * before being applied to the index writer, and thus before being considered complete.
  * <p>
  * Ported from Search 5's LuceneBackendQueueTask, in particular.
  */
@@ -20,20 +49,30 @@ public class LuceneBatchedWorkProcessor implements BatchedWorkProcessor {
 
 	private final IndexAccessor indexAccessor;
 	private final IndexAccessorWorkExecutionContext context;
+	private final Translog translogOrNull;
+
+	private final List<LuceneBatchedWork<?>> batch = new ArrayList<>();
+	private final Map<Object, LuceneBatchedWork<?>> supersedingWorkByCoalescingKey = new HashMap<>();
+	private final SingleDocumentIndexingWorkBulk bulk = new SingleDocumentIndexingWorkBulk();
+	private final List<LuceneBatchedWork<?>> bulkWorks = new ArrayList<>();
+	private final TranslogBuffer translogBuffer;
 
 	public LuceneBatchedWorkProcessor(EventContext eventContext,
 			IndexAccessor indexAccessor) {
 		this.indexAccessor = indexAccessor;
 		this.context = new IndexAccessorWorkExecutionContext( eventContext, indexAccessor );
+		this.translogOrNull = indexAccessor.getTranslogOrNull();
+		this.translogBuffer = translogOrNull == null ? null : new TranslogBuffer();
 	}
 
 	@Override
 	public void beginBatch() {
-		// Nothing to do
+		batch.clear();
 	}
 
 	@Override
 	public CompletableFuture<?> endBatch() {
+		executeBatch();
 		try {
 			indexAccessor.commitOrDelay();
 		}
@@ -56,6 +95,10 @@ public void complete() {
 		}
 	}
 
+	void enqueue(LuceneBatchedWork<?> work) {
+		batch.add( work );
+	}
+
 	public <T> T submit(IndexingWork<T> work) {
 		try {
 			return work.execute( context );
@@ -66,6 +109,165 @@ public <T> T submit(IndexingWork<T> work) {
 		}
 	}
 
+	private void executeBatch() {
+		int size = batch.size();
+		LuceneBatchedWork<?>[] supersedingWorks = new LuceneBatchedWork<?>[size];
+		// Walk the batch backwards to find, for each work, the last work that supersedes it, if any.
+		try {
+			for ( int i = size - 1; i >= 0; i-- ) {
+				LuceneBatchedWork<?> work = batch.get( i );
+				Object coalescingKey = work.getCoalescingKey();
+				if ( coalescingKey == null ) {
+					continue;
+				}
+				LuceneBatchedWork<?> supersedingWork = supersedingWorkByCoalescingKey.get( coalescingKey );
+				if ( supersedingWork != null ) {
+					supersedingWorks[i] = supersedingWork;
+				}
+				else if ( work.supersedesPreviousWorks() ) {
+					supersedingWorkByCoalescingKey.put( coalescingKey, work );
+				}
+			}
+		}
+		finally {
+			supersedingWorkByCoalescingKey.clear();
+		}
+
+		Lock translogAppendLock = translogOrNull == null ? null : translogOrNull.appendLock();
+		if ( translogAppendLock != null ) {
+			// Prevent commits from trimming the translog until recorded works have been applied to the index writer.
+			translogAppendLock.lock();
+		}
+		// Group consecutive works into bulks, to apply them to the index writer in as few operations as possible.
+		try {
+			boolean[] failedWorks = translogOrNull == null ? null : recordInTranslog( supersedingWorks );
+			for ( int i = 0; i < size; i++ ) {
+				LuceneBatchedWork<?> work = batch.get( i );
+				LuceneBatchedWork<?> supersedingWork = supersedingWorks[i];
+				if ( supersedingWork != null ) {
+					try {
+						work.completeAsSupersededBy( supersedingWork );
+					}
+					catch (Throwable e) {
+						work.markAsFailed( e );
+					}
+				}
+				else if ( failedWorks != null && failedWorks[i] ) {
+					// The work was already marked as failed.
+					continue;
+				}
+				else if ( bulk.add( work.work ) ) {
+					bulkWorks.add( work );
+				}
+				else {
+					executeBulk();
+					if ( bulk.add( work.work ) ) {
+						bulkWorks.add( work );
+					}
+					else {
+						execute( work );
+					}
+				}
+			}
+			executeBulk();
+		}
+		finally {
+			if ( translogAppendLock != null ) {
+				translogAppendLock.unlock();
+			}
+			batch.clear();
+			bulk.clear();
+			bulkWorks.clear();
+		}
+	}
+
+	/**
+	 * @return For each work of the batch, whether it failed and must not be executed.
+	 */
+	private boolean[] recordInTranslog(LuceneBatchedWork<?>[] supersedingWorks) {
+		int size = batch.size();
+		boolean[] failedWorks = new boolean[size];
+		try {
+			for ( int i = 0; i < size; i++ ) {
+				if ( supersedingWorks[i] != null ) {
+					// The work will not be executed: no need to record it.
+					continue;
+				}
+				LuceneBatchedWork<?> work = batch.get( i );
+				try {
+					TranslogOperation operation = work.work.toTranslogOperationOrNull();
+					if ( operation != null ) {
+						translogBuffer.add( operation );
+					}
+				}
+				catch (IOException | RuntimeException e) {
+					work.markAsFailed( e );
+					failedWorks[i] = true;
+				}
+			}
+			translogOrNull.append( translogBuffer );
+		}
+		catch (IOException | RuntimeException e) {
+			SearchException failure = LuceneMiscLog.INSTANCE.unableToAppendToTranslog( e.getMessage(),
+					context.getEventContext(), e );
+			for ( int i = 0; i < size; i++ ) {
+				if ( supersedingWorks[i] == null && !failedWorks[i] ) {
+					batch.get( i ).markAsFailed( failure );
+					failedWorks[i] = true;
+				}
+			}
+		}
+		finally {
+			translogBuffer.clear();
+		}
+		return failedWorks;
+	}
+
+	private void executeBulk() {
+		int bulkSize = bulkWorks.size();
+		if ( bulkSize == 0 ) {
+			return;
+		}
+		Long result = null;
+		if ( bulkSize > 1 ) {
+			try {
+				IndexWriterDelegator indexWriterDelegator = context.getIndexWriterDelegator();
+				if ( bulk.canExecute( indexWriterDelegator ) ) {
+					result = bulk.execute( indexWriterDelegator );
+				}
+			}
+			catch (IOException | RuntimeException e) {
+				LuceneMiscLog.INSTANCE.unableToApplyBulk( bulkSize, context.getEventContext(), e );
+			}
+		}
+		try {
+			for ( LuceneBatchedWork<?> work : bulkWorks ) {
+				if ( result == null ) {
+					// Execute works one by one, so that any failure is reported for the right work.
+					// Re-applying deletions that may have been applied by a failed bulk is harmless,
+					// and Lucene does not keep any document from a failed addition.
+					execute( work );
+				}
+				else {
+					work.completeWithBulkResult( result );
+				}
+			}
+		}
+		finally {
+			bulk.clear();
+			bulkWorks.clear();
+		}
+	}
+
+	private void execute(LuceneBatchedWork<?> work) {
+		try {
+			work.executeWith( this );
+		}
+		catch (Throwable e) {
+			work.markAsFailed( e );
+		}
+	}
+
 	// Note this may be called outside of a batch
 	public void forceCommit() {
 		try {
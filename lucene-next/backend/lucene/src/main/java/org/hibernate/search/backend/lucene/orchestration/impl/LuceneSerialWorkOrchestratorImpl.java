@@ -7,17 +7,19 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
-import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.HashTable;
 import org.hibernate.search.util.common.data.impl.ModuloHashTable;
 import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 public class LuceneSerialWorkOrchestratorImpl
 		extends AbstractWorkOrchestrator<LuceneBatchedWork<?>>
@@ -35,25 +37,30 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private final EventContext eventContext;
+	private final IndexAccessor indexAccessor;
 	private final LuceneBatchedWorkProcessor processor;
-	private final BackendThreads threads;
+	private final SimpleScheduledExecutor writeExecutor;
 	private final FailureHandler failureHandler;
 
 	private HashTable<BatchingExecutor<LuceneBatchedWorkProcessor, LuceneBatchedWork<?>>> executors;
 
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
-	 * @param processor A processor to use in the background thread.
-	 * @param threads The threads for this backend.
+	 * @param eventContext The event context of the index.
+	 * @param indexAccessor The accessor to the index that works will be applied to.
+	 * @param writeExecutor The executor to process indexing queues with.
 	 * @param failureHandler A failure handler to report failures of the background thread.
 	 */
 	public LuceneSerialWorkOrchestratorImpl(
-			String name, LuceneBatchedWorkProcessor processor,
-			BackendThreads threads,
+			String name, EventContext eventContext, IndexAccessor indexAccessor,
+			SimpleScheduledExecutor writeExecutor,
 			FailureHandler failureHandler) {
 		super( name );
-		this.processor = processor;
-		this.threads = threads;
+		this.eventContext = eventContext;
+		this.indexAccessor = indexAccessor;
+		this.processor = new LuceneBatchedWorkProcessor( eventContext, indexAccessor );
+		this.writeExecutor = writeExecutor;
 		this.failureHandler = failureHandler;
 	}
 
@@ -67,6 +74,21 @@ public void forceRefreshInCurrentThread() {
 		processor.forceRefresh();
 	}
 
+	/**
+	 * @return The number of works submitted to this orchestrator and waiting to be processed.
+	 */
+	public int queuedWorkCount() {
+		HashTable<BatchingExecutor<LuceneBatchedWorkProcessor, LuceneBatchedWork<?>>> currentExecutors = executors;
+		if ( currentExecutors == null ) {
+			return 0;
+		}
+		int count = 0;
+		for ( BatchingExecutor<?, ?> executor : currentExecutors ) {
+			count += executor.queueSize();
+		}
+		return count;
+	}
+
 	@Override
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
@@ -74,9 +96,10 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
+			// Processors hold the state of the current batch, so each executor needs its own.
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
-					processor,
+					new LuceneBatchedWorkProcessor( eventContext, indexAccessor ),
 					queueSize,
 					true,
 					failureHandler,
@@ -85,7 +108,7 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		}
 
 		for ( BatchingExecutor<?, ?> executor : executors ) {
-			executor.start( threads.getWriteExecutor() );
+			executor.start( writeExecutor );
 		}
 	}
 
@@ -21,11 +21,11 @@
 public interface LuceneSyncWorkOrchestrator {
 
 	default <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work) {
-		return submit( indexNames, indexManagerContexts, routingKeys, work, null );
+			Set<String> routingKeys, String tenantId, ReadWork<T> work) {
+		return submit( indexNames, indexManagerContexts, routingKeys, tenantId, work, null );
 	}
 
 	<T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work, HibernateSearchMultiReader indexReader);
+			Set<String> routingKeys, String tenantId, ReadWork<T> work, HibernateSearchMultiReader indexReader);
 
 }
@@ -4,6 +4,9 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.cfg.spi.LuceneBackendSpiSettings;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
@@ -25,10 +28,19 @@ public class BackendThreads {
 							.asBeanReference( LuceneWorkExecutorProvider.class )
 							.withDefault( LuceneBackendSpiSettings.Defaults.BACKEND_WORK_EXECUTOR_PROVIDER )
 							.build();
+
+	private static final ConfigurationProperty<Boolean> THREAD_POOL_FAIR_SCHEDULING =
+			ConfigurationProperty.forKey( LuceneBackendSettings.THREAD_POOL_FAIR_SCHEDULING )
+					.asBoolean()
+					.withDefault( LuceneBackendSettings.Defaults.THREAD_POOL_FAIR_SCHEDULING )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private SimpleScheduledExecutor writeExecutor;
+	private WriteTaskScheduler writeTaskScheduler;
+	private ExecutorService searchExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -45,28 +57,26 @@ public void onStart(ConfigurationPropertySource propertySource, BeanResolver bea
 
 		try ( BeanHolder<? extends LuceneWorkExecutorProvider> provider = BACKEND_WORK_EXECUTOR_PROVIDER.getAndTransform(
 				propertySource, beanResolver::resolve ) ) {
-			this.writeExecutor = provider.get().writeExecutor( new LuceneWorkExecutorProvider.Context() {
-				@Override
-				public ThreadPoolProvider threadPoolProvider() {
-					return threadPoolProvider;
-				}
-
-				@Override
-				public ConfigurationPropertySource propertySource() {
-					return propertySource;
-				}
-
-				@Override
-				public String recommendedThreadNamePrefix() {
-					return prefix + " - Worker thread";
-				}
-			} );
+			this.writeExecutor = provider.get().writeExecutor(
+					new ExecutorProviderContext( propertySource, prefix + " - Worker thread" ) );
+			this.searchExecutor = provider.get().searchExecutor(
+					new ExecutorProviderContext( propertySource, prefix + " - Search thread" ) );
 		}
+		// With fair scheduling, indexing queues wait for a write thread in the scheduler rather than in the executor,
+		// so that the scheduler decides which index gets the next available thread.
+		// That requires knowing how many threads the executor has:
+		// custom executors, whose thread count is unknown, get tasks as soon as they are ready.
+		int maxDispatchedTasks = THREAD_POOL_FAIR_SCHEDULING.get( propertySource )
+				&& writeExecutor instanceof FixedSizeSimpleScheduledExecutor
+						? ( (FixedSizeSimpleScheduledExecutor) writeExecutor ).threadCount()
+						: Integer.MAX_VALUE;
+		this.writeTaskScheduler = new WriteTaskScheduler( writeExecutor, maxDispatchedTasks );
 	}
 
 	public void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( SimpleScheduledExecutor::shutdownNow, writeExecutor );
+			closer.push( ExecutorService::shutdownNow, searchExecutor );
 		}
 	}
 
@@ -80,6 +90,19 @@ public SimpleScheduledExecutor getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	public WriteTaskScheduler getWriteTaskScheduler() {
+		checkStarted();
+		return writeTaskScheduler;
+	}
+
+	/**
+	 * @return The executor to use for concurrent search, or {@code null} if concurrent search is disabled.
+	 */
+	public ExecutorService getSearchExecutorOrNull() {
+		checkStarted();
+		return searchExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
@@ -87,4 +110,29 @@ private void checkStarted() {
 			);
 		}
 	}
+
+	private class ExecutorProviderContext implements LuceneWorkExecutorProvider.Context {
+		private final ConfigurationPropertySource propertySource;
+		private final String threadNamePrefix;
+
+		private ExecutorProviderContext(ConfigurationPropertySource propertySource, String threadNamePrefix) {
+			this.propertySource = propertySource;
+			this.threadNamePrefix = threadNamePrefix;
+		}
+
+		@Override
+		public ThreadPoolProvider threadPoolProvider() {
+			return threadPoolProvider;
+		}
+
+		@Override
+		public ConfigurationPropertySource propertySource() {
+			return propertySource;
+		}
+
+		@Override
+		public String recommendedThreadNamePrefix() {
+			return threadNamePrefix;
+		}
+	}
 }
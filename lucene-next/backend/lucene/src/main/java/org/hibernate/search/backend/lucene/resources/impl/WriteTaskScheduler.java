@@ -0,0 +1,288 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.resources.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+
+/**
+ * Schedules the processing of indexing queues in the write executor.
+ * <p>
+ * Tasks are submitted through {@link Group groups}, one per index,
+ * and each group may limit the number of its tasks handed over to the write executor at any given time.
+ * The scheduler itself may limit the total number of tasks handed over to the write executor,
+ * in which case tasks waiting for the write executor are picked from each group in turn,
+ * so that a group with many pending tasks cannot delay the tasks of other groups indefinitely.
+ * <p>
+ * When the write executor rejects a task handed over during the call to {@link Group#submit(Runnable)},
+ * the rejection is thrown from that call.
+ * When it rejects a task handed over later, e.g. when another task finishes,
+ * the task is notified through {@link SingletonTask.RejectableRunnable#rejected(Throwable)} if possible.
+ */
+public final class WriteTaskScheduler {
+
+	private final SimpleScheduledExecutor delegate;
+	private final int maxDispatchedTasks;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	// Groups with pending tasks that can accept more dispatched tasks, in the order they will be served.
+	private final Deque<Group> readyGroups = new ArrayDeque<>();
+	private int dispatchedTasks = 0;
+
+	/**
+	 * @param delegate The write executor.
+	 * @param maxDispatchedTasks The maximum number of tasks handed over to the write executor at any given time,
+	 * across all groups; usually the number of write threads, or {@link Integer#MAX_VALUE} for no limit.
+	 */
+	public WriteTaskScheduler(SimpleScheduledExecutor delegate, int maxDispatchedTasks) {
+		this.delegate = delegate;
+		this.maxDispatchedTasks = maxDispatchedTasks;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxDispatchedTasks=" + maxDispatchedTasks
+				+ "]";
+	}
+
+	/**
+	 * @param name The name of the group, for debugging purposes.
+	 * @param maxDispatchedTasks The maximum number of tasks of this group handed over to the write executor
+	 * at any given time, or {@link Integer#MAX_VALUE} for no limit.
+	 * @return A new group, to be used as an executor for tasks.
+	 */
+	public Group createGroup(String name, int maxDispatchedTasks) {
+		return new Group( name, maxDispatchedTasks );
+	}
+
+	/**
+	 * @param submittedTaskOrNull The task being submitted by the caller, if any:
+	 * if the write executor rejects that task, the rejection will be thrown.
+	 */
+	private void dispatch(GroupTask submittedTaskOrNull) {
+		List<GroupTask> tasksToDispatch = null;
+		lock.lock();
+		try {
+			while ( dispatchedTasks < maxDispatchedTasks && !readyGroups.isEmpty() ) {
+				Group group = readyGroups.poll();
+				GroupTask task = group.pendingTasks.poll();
+				++group.dispatchedTasks;
+				++dispatchedTasks;
+				if ( group.isReady() ) {
+					// Serve other groups before this one again.
+					readyGroups.add( group );
+				}
+				else {
+					group.inReadyGroups = false;
+				}
+				if ( tasksToDispatch == null ) {
+					tasksToDispatch = new ArrayList<>();
+				}
+				tasksToDispatch.add( task );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+		if ( tasksToDispatch == null ) {
+			return;
+		}
+		// Submit outside of the lock, since submitting may block.
+		RuntimeException submittedTaskRejection = null;
+		for ( GroupTask task : tasksToDispatch ) {
+			try {
+				delegate.submit( task );
+			}
+			catch (RuntimeException e) {
+				// Most likely the executor was shut down.
+				if ( task == submittedTaskOrNull ) {
+					// The caller will get the exception: no need to notify the task.
+					task.reject( e, false );
+					submittedTaskRejection = e;
+				}
+				else {
+					task.reject( e, true );
+				}
+			}
+		}
+		if ( submittedTaskRejection != null ) {
+			throw submittedTaskRejection;
+		}
+	}
+
+	private void onTaskFinished(Group group, boolean ran) {
+		lock.lock();
+		try {
+			if ( ran ) {
+				--group.runningTasks;
+			}
+			--group.dispatchedTasks;
+			--dispatchedTasks;
+			group.addToReadyGroupsIfNecessary();
+		}
+		finally {
+			lock.unlock();
+		}
+		dispatch( null );
+	}
+
+	/**
+	 * A group of tasks, typically those of a single index, exposed as an executor.
+	 * <p>
+	 * Only {@link #submit(Runnable)} and {@link #offer(Runnable)} are subject to scheduling;
+	 * delayed tasks are passed to the write executor directly.
+	 */
+	public final class Group implements SimpleScheduledExecutor {
+		private final String name;
+		private final int maxDispatchedTasks;
+
+		// Guarded by the scheduler's lock
+		private final Deque<GroupTask> pendingTasks = new ArrayDeque<>();
+		private int dispatchedTasks = 0;
+		private int runningTasks = 0;
+		private boolean inReadyGroups = false;
+
+		private Group(String name, int maxDispatchedTasks) {
+			this.name = name;
+			this.maxDispatchedTasks = maxDispatchedTasks;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "["
+					+ "name=" + name
+					+ ", maxDispatchedTasks=" + maxDispatchedTasks
+					+ "]";
+		}
+
+		@Override
+		public Future<?> submit(Runnable task) {
+			GroupTask groupTask = new GroupTask( this, task );
+			lock.lock();
+			try {
+				pendingTasks.add( groupTask );
+				addToReadyGroupsIfNecessary();
+			}
+			finally {
+				lock.unlock();
+			}
+			dispatch( groupTask );
+			return groupTask;
+		}
+
+		@Override
+		public Future<?> offer(Runnable task) {
+			// Pending tasks are queued without any bound: submitting never blocks.
+			return submit( task );
+		}
+
+		@Override
+		public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+			return delegate.schedule( command, delay, unit );
+		}
+
+		@Override
+		public void shutdownNow() {
+			// Nothing to do: the write executor is shut down along with the backend.
+		}
+
+		@Override
+		public boolean isBlocking() {
+			return false;
+		}
+
+		/**
+		 * @return The number of tasks of this group that are waiting for a write thread.
+		 */
+		public int waitingTaskCount() {
+			lock.lock();
+			try {
+				return pendingTasks.size() + dispatchedTasks - runningTasks;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * @return The number of tasks of this group currently being executed by a write thread.
+		 */
+		public int runningTaskCount() {
+			lock.lock();
+			try {
+				return runningTasks;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private boolean isReady() {
+			return !pendingTasks.isEmpty() && dispatchedTasks < maxDispatchedTasks;
+		}
+
+		private void addToReadyGroupsIfNecessary() {
+			if ( !inReadyGroups && isReady() ) {
+				readyGroups.add( this );
+				inReadyGroups = true;
+			}
+		}
+	}
+
+	private final class GroupTask extends FutureTask<Void> {
+		private final Group group;
+		private final Runnable runnable;
+
+		private GroupTask(Group group, Runnable runnable) {
+			super( runnable, null );
+			this.group = group;
+			this.runnable = runnable;
+		}
+
+		@Override
+		public void run() {
+			lock.lock();
+			try {
+				++group.runningTasks;
+			}
+			finally {
+				lock.unlock();
+			}
+			try {
+				super.run();
+			}
+			finally {
+				onTaskFinished( group, true );
+			}
+		}
+
+		/**
+		 * @param throwable The reason of the rejection.
+		 * @param notifyRunnable Whether the runnable should be notified of the rejection, if it supports it.
+		 */
+		private void reject(Throwable throwable, boolean notifyRunnable) {
+			setException( throwable );
+			try {
+				if ( notifyRunnable && runnable instanceof SingletonTask.RejectableRunnable rejectableRunnable ) {
+					rejectableRunnable.rejected( throwable );
+				}
+			}
+			finally {
+				onTaskFinished( group, false );
+			}
+		}
+	}
+}
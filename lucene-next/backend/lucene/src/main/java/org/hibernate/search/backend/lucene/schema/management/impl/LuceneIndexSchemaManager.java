@@ -4,7 +4,9 @@
  */
 package org.hibernate.search.backend.lucene.schema.management.impl;
 
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BinaryOperator;
 
@@ -82,6 +84,29 @@ public CompletableFuture<Long> computeSizeInBytes(OperationSubmitter operationSu
 		return totalSizeFuture;
 	}
 
+	public CompletableFuture<?> beginBulkLoad(OperationSubmitter operationSubmitter) {
+		return doSubmit( luceneWorkFactory.beginBulkLoad(), operationSubmitter );
+	}
+
+	public CompletableFuture<?> endBulkLoad(OperationSubmitter operationSubmitter) {
+		return doSubmit( luceneWorkFactory.endBulkLoad(), operationSubmitter );
+	}
+
+	public CompletableFuture<?> backup(Path target, OperationSubmitter operationSubmitter) {
+		Map<String, LuceneParallelWorkOrchestrator> orchestrators =
+				indexManagerContext.managementOrchestratorsByShardId();
+		CompletableFuture<?>[] futures = new CompletableFuture[orchestrators.size()];
+		int i = 0;
+		for ( Map.Entry<String, LuceneParallelWorkOrchestrator> entry : orchestrators.entrySet() ) {
+			String shardId = entry.getKey();
+			// Same layout as the local-filesystem directory: one subdirectory per shard.
+			Path shardTarget = shardId == null ? target : target.resolve( shardId );
+			futures[i] = entry.getValue().submit( luceneWorkFactory.backup( shardTarget ), operationSubmitter );
+			++i;
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
 	private CompletableFuture<?> doSubmit(IndexManagementWork<?> work, OperationSubmitter operationSubmitter) {
 		Collection<LuceneParallelWorkOrchestrator> orchestrators =
 				indexManagerContext.allManagementOrchestrators();
@@ -62,6 +62,17 @@ public boolean hasTermVectorsConfigured() {
 				"hasTermVectorsConfigured" );
 	}
 
+	@Override
+	public boolean projectableFromDocValues() {
+		// Doc values may be enabled in some indexes and not others, e.g. if the field is sortable in only some indexes.
+		for ( LuceneSearchIndexValueFieldContext<F> fieldInIndex : nodeForEachIndex ) {
+			if ( !fieldInIndex.type().projectableFromDocValues() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public LuceneFieldCodec<F, ?> codec() {
 		return fromTypeIfCompatible( LuceneSearchIndexValueFieldTypeContext::codec, LuceneFieldCodec::isCompatibleWith,
@@ -6,6 +6,7 @@
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -40,6 +41,13 @@
  */
 public final class ExtractionRequirements {
 
+	/*
+	 * Doc IDs are global to the index searcher, so breaking ties by doc ID when merging results from slices
+	 * yields the same order as a sequential search.
+	 * This matters for "search after" in particular, which relies on ties being broken by doc ID.
+	 */
+	private static final Comparator<ScoreDoc> DOC_ID_TIE_BREAKER = Comparator.comparingInt( scoreDoc -> scoreDoc.doc );
+
 	private final boolean requireScore;
 	private final Set<CollectorFactory<?, ?, ?>> requiredCollectorForAllMatchingDocsFactories;
 	private final StoredFieldsValuesDelegate.Factory storedFieldsSourceFactoryOrNull;
@@ -51,8 +59,8 @@ private ExtractionRequirements(Builder builder) {
 	}
 
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query originalLuceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, int offset, TimeoutManager timeoutManager,
-			int requestedTotalHitCountThreshold)
+			IndexReaderMetadataResolver metadataResolver, int maxDocs, int offset, ScoreDoc after,
+			TimeoutManager timeoutManager, int requestedTotalHitCountThreshold)
 			throws IOException {
 		// Necessary to unwrap boolean queries with a single clause, in particular:
 		// we have optimizations in place when there is a single query and this query is a MatchAllDocsQuery.
@@ -81,7 +89,7 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 
 		if ( maxDocs > 0 ) {
 			if ( sort == null || isDescendingScoreSort( sort ) ) {
-				topDocsCollectorManager = new HibernateSearchTopScoreDocCollectorManager( offset, maxDocs, null,
+				topDocsCollectorManager = new HibernateSearchTopScoreDocCollectorManager( offset, maxDocs, after,
 						totalHitCountThreshold
 				);
 			}
@@ -94,8 +102,8 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
 					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 				}
-				topDocsCollectorManager = new HibernateSearchTopFieldCollectorManager( offset, sort, maxDocs, null,
-						totalHitCountThreshold
+				topDocsCollectorManager = new HibernateSearchTopFieldCollectorManager( offset, sort, maxDocs,
+						(FieldDoc) after, totalHitCountThreshold
 				);
 			}
 			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollectorManager );
@@ -125,6 +133,18 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 		);
 	}
 
+	public boolean requireScore() {
+		return requireScore;
+	}
+
+	/**
+	 * @return {@code true} if the documents matched by a query with these requirements can be cached,
+	 * i.e. if the only data collected for all matching docs is the top docs and the total hit count.
+	 */
+	public boolean allowsMatchingDocsCaching() {
+		return requiredCollectorForAllMatchingDocsFactories.isEmpty();
+	}
+
 	private boolean isDescendingScoreSort(Sort sort) {
 		SortField[] fields = sort.getSort();
 		return fields.length == 1 && isDescendingScoreSort( fields[0] );
@@ -151,7 +171,7 @@ public static class Builder {
 		private final Set<CollectorFactory<?, ?, ?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
 
 		private boolean requireAllStoredFields = false;
-		private final Set<String> requiredStoredFields = new HashSet<>();
+		private final Set<String> requiredStoredFields = new LinkedHashSet<>();
 		private final Set<String> requiredNestedDocumentPathsForStoredFields = new HashSet<>();
 
 		public void requireScore() {
@@ -165,7 +185,6 @@ public <C extends Collector, T, CM extends CollectorManager<C, T>> void requireC
 
 		public void requireAllStoredFields() {
 			requireAllStoredFields = true;
-			requiredStoredFields.clear();
 		}
 
 		public void requireNestedObjects(Collection<String> paths) {
@@ -173,9 +192,9 @@ public void requireNestedObjects(Collection<String> paths) {
 		}
 
 		public void requireStoredField(String absoluteFieldPath, String nestedDocumentPath) {
-			if ( !requireAllStoredFields ) {
-				requiredStoredFields.add( absoluteFieldPath );
-			}
+			// Even when all stored fields are required, we need to register the field
+			// so that it gets assigned a slot: see StoredFieldsValuesDelegate#storedFieldSlot.
+			requiredStoredFields.add( absoluteFieldPath );
 			if ( nestedDocumentPath != null ) {
 				requiredNestedDocumentPathsForStoredFields.add( nestedDocumentPath );
 			}
@@ -186,19 +205,14 @@ public ExtractionRequirements build() {
 		}
 
 		private StoredFieldsValuesDelegate.Factory createStoredFieldsSourceFactoryOrNull() {
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor;
-			if ( requireAllStoredFields ) {
-				storedFieldVisitor = new ReusableDocumentStoredFieldVisitor();
-			}
-			else if ( !requiredStoredFields.isEmpty() ) {
-				storedFieldVisitor = new ReusableDocumentStoredFieldVisitor( requiredStoredFields );
-			}
-			else {
+			if ( !requireAllStoredFields && requiredStoredFields.isEmpty() ) {
 				return null;
 			}
 
-			return new StoredFieldsValuesDelegate.Factory( storedFieldVisitor, requiredNestedDocumentPathsForStoredFields );
+			return new StoredFieldsValuesDelegate.Factory( requireAllStoredFields, requiredStoredFields,
+					requiredNestedDocumentPathsForStoredFields );
 		}
+
 	}
 
 	private static final class HibernateSearchTopScoreDocCollectorManager extends TopScoreDocCollectorManager {
@@ -218,7 +232,8 @@ public TopDocs reduce(Collection<TopScoreDocCollector> collectors) {
 			for ( TopScoreDocCollector collector : collectors ) {
 				topDocs[i++] = collector.topDocs();
 			}
-			return TopDocs.merge( offset, numHits, topDocs );
+			// numHits includes the offset, but TopDocs.merge expects the number of hits to return after the offset.
+			return TopDocs.merge( offset, numHits - offset, topDocs, DOC_ID_TIE_BREAKER );
 		}
 	}
 
@@ -242,7 +257,8 @@ public TopFieldDocs reduce(Collection<TopFieldCollector> collectors) {
 			for ( TopFieldCollector collector : collectors ) {
 				topDocs[i++] = collector.topDocs();
 			}
-			return TopDocs.merge( sort, offset, numHits, topDocs );
+			// numHits includes the offset, but TopDocs.merge expects the number of hits to return after the offset.
+			return TopDocs.merge( sort, offset, numHits - offset, topDocs, DOC_ID_TIE_BREAKER );
 		}
 	}
 }
@@ -182,7 +182,8 @@ public static final class HibernateSearchQueryTimeout implements QueryTimeout {
 		private final long baseline;
 		private final long timeout;
 
-		private boolean reached = false;
+		// Written from any of the threads collecting slices concurrently.
+		private volatile boolean reached = false;
 
 		public HibernateSearchQueryTimeout(TimeoutManager timeoutManager, Deadline deadline) {
 			this.deadline = deadline;
@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.Reader;
+import java.util.Arrays;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.InvertableType;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StoredValue;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexableFieldType;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * A reusable buffer holding the values of stored fields loaded for a single document
+ * by a {@link ReusableStoredFieldVisitor}.
+ * <p>
+ * Values are exposed through a single, reused {@link IndexableField} view,
+ * so that extracting values does not require creating a {@link Document} and one field instance per value.
+ * Callers must not retain the view returned by {@link #field(int)}:
+ * it is repositioned on each call, and its content is replaced when the buffer is reused for another document.
+ * <p>
+ * Use {@link #toDocument()} when an actual {@link Document} is needed.
+ */
+public final class LoadedStoredFields {
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	private FieldInfo[] fieldInfos = new FieldInfo[INITIAL_CAPACITY];
+	private int[] slots = new int[INITIAL_CAPACITY];
+	private Object[] values = new Object[INITIAL_CAPACITY];
+	private int size = 0;
+
+	private final FieldView view = new FieldView();
+
+	/**
+	 * @return The number of loaded values.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param index The index of a loaded value, between {@code 0} (inclusive) and {@link #size()} (exclusive).
+	 * @return The slot of the field this value belongs to, or {@code -1} if the field was not assigned a slot.
+	 * @see ReusableStoredFieldVisitor#slot(String)
+	 */
+	public int slot(int index) {
+		return slots[index];
+	}
+
+	/**
+	 * @param index The index of a loaded value, between {@code 0} (inclusive) and {@link #size()} (exclusive).
+	 * @return A view of the loaded value as an {@link IndexableField}.
+	 * The view is reused: it is only valid until the next call to this method.
+	 */
+	public IndexableField field(int index) {
+		view.index = index;
+		return view;
+	}
+
+	/**
+	 * @return A new document containing all loaded values.
+	 */
+	public Document toDocument() {
+		Document document = new Document();
+		for ( int i = 0; i < size; i++ ) {
+			document.add( createField( fieldInfos[i], values[i] ) );
+		}
+		return document;
+	}
+
+	void reset() {
+		Arrays.fill( fieldInfos, 0, size, null );
+		Arrays.fill( values, 0, size, null );
+		size = 0;
+	}
+
+	void add(FieldInfo fieldInfo, int slot, Object value) {
+		if ( size == values.length ) {
+			int newCapacity = ArrayUtil.oversize( size + 1, Integer.BYTES );
+			fieldInfos = Arrays.copyOf( fieldInfos, newCapacity );
+			slots = Arrays.copyOf( slots, newCapacity );
+			values = Arrays.copyOf( values, newCapacity );
+		}
+		fieldInfos[size] = fieldInfo;
+		slots[size] = slot;
+		values[size] = value;
+		++size;
+	}
+
+	private static IndexableField createField(FieldInfo fieldInfo, Object value) {
+		if ( value instanceof String ) {
+			return new Field( fieldInfo.name, (String) value, stringFieldType( fieldInfo ) );
+		}
+		else if ( value instanceof BytesRef ) {
+			return new StoredField( fieldInfo.name, (BytesRef) value );
+		}
+		else if ( value instanceof Integer ) {
+			return new StoredField( fieldInfo.name, (Integer) value );
+		}
+		else if ( value instanceof Long ) {
+			return new StoredField( fieldInfo.name, (Long) value );
+		}
+		else if ( value instanceof Float ) {
+			return new StoredField( fieldInfo.name, (Float) value );
+		}
+		else {
+			return new StoredField( fieldInfo.name, (Double) value );
+		}
+	}
+
+	private static FieldType stringFieldType(FieldInfo fieldInfo) {
+		final FieldType ft = new FieldType( TextField.TYPE_STORED );
+		ft.setStoreTermVectors( fieldInfo.hasTermVectors() );
+		ft.setOmitNorms( fieldInfo.omitsNorms() );
+		ft.setIndexOptions( fieldInfo.getIndexOptions() );
+		return ft;
+	}
+
+	/**
+	 * Mimics the behavior of the {@link Field} instances that {@link #toDocument()} would create,
+	 * without actually creating them.
+	 */
+	private final class FieldView implements IndexableField {
+		private int index;
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "<" + name() + ":" + values[index] + ">";
+		}
+
+		@Override
+		public String name() {
+			return fieldInfos[index].name;
+		}
+
+		@Override
+		public IndexableFieldType fieldType() {
+			// Unlike the fields created by toDocument(), this doesn't reflect term vectors, norms and index options:
+			// these are irrelevant when reading stored values, and would require creating a field type per call.
+			return values[index] instanceof String ? TextField.TYPE_STORED : StoredField.TYPE;
+		}
+
+		@Override
+		public TokenStream tokenStream(Analyzer analyzer, TokenStream reuse) {
+			return createField( fieldInfos[index], values[index] ).tokenStream( analyzer, reuse );
+		}
+
+		@Override
+		public BytesRef binaryValue() {
+			Object value = values[index];
+			return value instanceof BytesRef ? (BytesRef) value : null;
+		}
+
+		@Override
+		public String stringValue() {
+			Object value = values[index];
+			return ( value instanceof String || value instanceof Number ) ? value.toString() : null;
+		}
+
+		@Override
+		public Reader readerValue() {
+			return null;
+		}
+
+		@Override
+		public Number numericValue() {
+			Object value = values[index];
+			return value instanceof Number ? (Number) value : null;
+		}
+
+		@Override
+		public StoredValue storedValue() {
+			return createField( fieldInfos[index], values[index] ).storedValue();
+		}
+
+		@Override
+		public InvertableType invertableType() {
+			return InvertableType.TOKEN_STREAM;
+		}
+	}
+}
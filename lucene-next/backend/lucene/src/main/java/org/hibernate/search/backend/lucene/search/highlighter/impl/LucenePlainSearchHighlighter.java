@@ -16,6 +16,7 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.Values;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LoadedStoredFields;
 import org.hibernate.search.backend.lucene.search.projection.impl.ProjectionExtractContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.ProjectionRequestContext;
 import org.hibernate.search.engine.search.highlighter.dsl.HighlighterFragmenter;
@@ -24,7 +25,6 @@
 import org.hibernate.search.engine.search.projection.ProjectionCollector;
 
 import org.apache.lucene.analysis.Analyzer;
-import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.highlight.Encoder;
 import org.apache.lucene.search.highlight.Fragmenter;
 import org.apache.lucene.search.highlight.Highlighter;
@@ -104,6 +104,7 @@ public void request(ProjectionRequestContext context, String absoluteFieldPath)
 
 	private final class PlainHighlighterValues<A, T> extends HighlighterValues<A, T> {
 		private final StoredFieldsValuesDelegate storedFieldsValuesDelegate;
+		private final int storedFieldSlot;
 		private final Highlighter highlighter;
 		private final Analyzer analyzer;
 		private final String field;
@@ -112,6 +113,7 @@ public void request(ProjectionRequestContext context, String absoluteFieldPath)
 				ProjectionExtractContext context, ProjectionCollector<String, ?, A, T> collector) {
 			super( parentDocumentPath, nestedDocumentPath, context.collectorExecutionContext(), collector );
 			this.storedFieldsValuesDelegate = context.collectorExecutionContext().storedFieldsValuesDelegate();
+			this.storedFieldSlot = storedFieldsValuesDelegate.storedFieldSlot( field );
 			this.field = field;
 			this.analyzer = analyzer;
 
@@ -147,11 +149,12 @@ public List<String> highlight(int doc) throws IOException {
 			try {
 				// we build a single result based on all field entries:
 				List<TextFragment> result = new ArrayList<>();
-				for ( IndexableField indexableField : storedFieldsValuesDelegate.get( doc ).getFields() ) {
-					if ( !indexableField.name().equals( field ) ) {
+				LoadedStoredFields storedFields = storedFieldsValuesDelegate.storedFields( doc );
+				for ( int valueIndex = 0; valueIndex < storedFields.size(); valueIndex++ ) {
+					if ( storedFields.slot( valueIndex ) != storedFieldSlot ) {
 						continue;
 					}
-					String text = indexableField.stringValue();
+					String text = storedFields.field( valueIndex ).stringValue();
 					// we cannot use other highlight methods as we need to not merge the fragments and that's
 					// the only method that would allow us to do so:
 					TextFragment[] bestFragments = highlighter.getBestTextFragments(
@@ -177,11 +180,11 @@ public List<String> highlight(int doc) throws IOException {
 					return converted;
 				}
 				else if ( LucenePlainSearchHighlighter.this.noMatchSize > 0 ) {
-					for ( IndexableField indexableField : storedFieldsValuesDelegate.get( doc ).getFields() ) {
-						if ( !indexableField.name().equals( field ) ) {
+					for ( int valueIndex = 0; valueIndex < storedFields.size(); valueIndex++ ) {
+						if ( storedFields.slot( valueIndex ) != storedFieldSlot ) {
 							continue;
 						}
-						String text = indexableField.stringValue();
+						String text = storedFields.field( valueIndex ).stringValue();
 						if ( !text.isEmpty() ) {
 							return Collections.singletonList( text.substring(
 									0,
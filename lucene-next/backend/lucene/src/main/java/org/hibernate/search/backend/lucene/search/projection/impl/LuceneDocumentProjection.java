@@ -46,7 +46,7 @@ public void context(LeafReaderContext context) {
 
 			@Override
 			public Document get(int doc) {
-				return delegate.get( doc );
+				return delegate.document( doc );
 			}
 		};
 	}
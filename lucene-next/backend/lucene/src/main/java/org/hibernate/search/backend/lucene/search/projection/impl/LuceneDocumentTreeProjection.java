@@ -139,7 +139,7 @@ public DocumentTree get(int doc) throws IOException {
 					nested.put( child.getPath(), nodes );
 				}
 			}
-			return new DocumentTreeImpl( storedFieldsValuesDelegate.get( doc ), Collections.unmodifiableMap( nested ) );
+			return new DocumentTreeImpl( storedFieldsValuesDelegate.document( doc ), Collections.unmodifiableMap( nested ) );
 		}
 	}
 
@@ -183,7 +183,7 @@ public List<DocumentTree> get(int doc) throws IOException {
 						}
 					}
 
-					result.add( new DocumentTreeImpl( storedFieldsValuesDelegate.get( currentChildDocId ),
+					result.add( new DocumentTreeImpl( storedFieldsValuesDelegate.document( currentChildDocId ),
 							Collections.unmodifiableMap( nested ) ) );
 				}
 			}
@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.search.query;
+
+import org.hibernate.search.backend.lucene.search.query.dsl.LuceneSearchQueryOptionsStep;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A point in time, i.e. a view of the content of indexes as it was when the point in time was opened.
+ * <p>
+ * Search queries {@link LuceneSearchQueryOptionsStep#pointInTime(LuceneSearchPointInTime) relying on a point in time}
+ * will ignore any change made to indexes after the point in time was opened,
+ * and will not need to open new index readers.
+ * This is useful in particular to paginate through search results with multiple calls to
+ * {@link LuceneSearchQuery#fetch(Integer, Integer)}, while still getting consistent pages.
+ * <p>
+ * Points in time hold on to index readers, and thus to index files, which consumes resources:
+ * they must be {@link #close() closed} as soon as they are no longer needed.
+ * Points in time that are not used for longer than their keep-alive are closed automatically.
+ *
+ * @see LuceneSearchQuery#openPointInTime(java.time.Duration)
+ */
+@Incubating
+public interface LuceneSearchPointInTime extends AutoCloseable {
+
+	/**
+	 * Closes this point in time, releasing the underlying index readers
+	 * as soon as search queries currently using them complete.
+	 * <p>
+	 * Search queries relying on this point in time will fail after this method is called.
+	 * Scrolls opened before this method was called are not affected.
+	 */
+	@Override
+	void close();
+
+}
@@ -4,7 +4,10 @@
  */
 package org.hibernate.search.backend.lucene.search.query;
 
+import java.time.Duration;
+
 import org.hibernate.search.engine.search.query.ExtendedSearchQuery;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Sort;
@@ -46,4 +49,19 @@
 	 */
 	Sort luceneSort();
 
+	/**
+	 * Opens a point in time for the indexes and routing keys targeted by this query,
+	 * which can then be used by other search queries
+	 * through {@link org.hibernate.search.backend.lucene.search.query.dsl.LuceneSearchQueryOptionsStep#pointInTime(LuceneSearchPointInTime)}.
+	 * <p>
+	 * This query itself does not use the point in time.
+	 *
+	 * @param keepAlive How long the point in time should remain open after it was last used.
+	 * Points in time that are not used for longer than that are closed automatically.
+	 * @return The point in time. Must be closed once it is no longer needed.
+	 * @see LuceneSearchPointInTime
+	 */
+	@Incubating
+	LuceneSearchPointInTime openPointInTime(Duration keepAlive);
+
 }
@@ -6,6 +6,7 @@
 
 import org.hibernate.search.backend.lucene.search.aggregation.dsl.LuceneSearchAggregationFactory;
 import org.hibernate.search.backend.lucene.search.predicate.dsl.LuceneSearchPredicateFactory;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchPointInTime;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchScroll;
@@ -41,6 +42,23 @@
 		this.searchQueryBuilder = searchQueryBuilder;
 	}
 
+	@Override
+	public LuceneSearchQueryOptionsStep<SR, H, LOS> pointInTime(LuceneSearchPointInTime pointInTime) {
+		searchQueryBuilder.pointInTime( pointInTime );
+		return this;
+	}
+
+	@Override
+	public LuceneSearchQueryOptionsStep<SR, H, LOS> preferDocValuesForProjections() {
+		return preferDocValuesForProjections( true );
+	}
+
+	@Override
+	public LuceneSearchQueryOptionsStep<SR, H, LOS> preferDocValuesForProjections(boolean enabled) {
+		searchQueryBuilder.preferDocValuesForProjections( enabled );
+		return this;
+	}
+
 	@Override
 	public LuceneSearchQuery<H> toQuery() {
 		return searchQueryBuilder.build();
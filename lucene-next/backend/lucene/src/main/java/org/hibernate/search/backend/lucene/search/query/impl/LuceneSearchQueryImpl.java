@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -13,6 +14,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexContext;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchPointInTime;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchScroll;
@@ -23,6 +25,7 @@
 import org.hibernate.search.engine.backend.types.converter.runtime.ToDocumentValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
@@ -38,6 +41,7 @@
 
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
 	private final LuceneWorkFactory workFactory;
+	private final SimpleScheduledExecutor pointInTimeExpirationExecutor;
 	private final LuceneSearchQueryIndexScope<?, ?> scope;
 	private final BackendSessionContext sessionContext;
 	private final SearchLoadingContext<?> loadingContext;
@@ -46,20 +50,24 @@
 	private final Sort luceneSort;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher;
 	private final Long totalHitCountThreshold;
+	private final LuceneSearchPointInTimeImpl pointInTime;
 
 	private TimeoutManager timeoutManager;
 
 	LuceneSearchQueryImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
-			LuceneWorkFactory workFactory, LuceneSearchQueryIndexScope<?, ?> scope,
+			LuceneWorkFactory workFactory, SimpleScheduledExecutor pointInTimeExpirationExecutor,
+			LuceneSearchQueryIndexScope<?, ?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContext<?> loadingContext,
 			Set<String> routingKeys,
 			TimeoutManager timeoutManager,
 			Query luceneQuery, Sort luceneSort,
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
-			Long totalHitCountThreshold) {
+			Long totalHitCountThreshold,
+			LuceneSearchPointInTimeImpl pointInTime) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
+		this.pointInTimeExpirationExecutor = pointInTimeExpirationExecutor;
 		this.scope = scope;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
@@ -69,6 +77,7 @@
 		this.luceneSort = luceneSort;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.pointInTime = pointInTime;
 	}
 
 	@Override
@@ -109,13 +118,33 @@ public long fetchTotalHitCount() {
 
 	@Override
 	public LuceneSearchScroll<H> scroll(int chunkSize) {
-		Set<String> indexNames = scope.hibernateSearchIndexNames();
-		HibernateSearchMultiReader indexReader = HibernateSearchMultiReader.open(
-				indexNames, scope.indexes(), routingKeys );
-		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, scope, routingKeys, timeoutManager,
+		HibernateSearchMultiReader indexReader;
+		if ( pointInTime == null ) {
+			indexReader = HibernateSearchMultiReader.open( scope.hibernateSearchIndexNames(), scope.indexes(),
+					routingKeys );
+		}
+		else {
+			// The scroll will release the reader when closed.
+			indexReader = pointInTime.acquire();
+		}
+		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, scope, routingKeys,
+				sessionContext.tenantIdentifier(), timeoutManager,
 				searcher, totalHitCountThreshold( true ), indexReader, chunkSize );
 	}
 
+	@Override
+	public LuceneSearchPointInTime openPointInTime(Duration keepAlive) {
+		Contracts.assertNotNull( keepAlive, "keepAlive" );
+		if ( keepAlive.isNegative() || keepAlive.isZero() ) {
+			throw QueryLog.INSTANCE.invalidPointInTimeKeepAlive( keepAlive );
+		}
+		Set<String> indexNames = scope.hibernateSearchIndexNames();
+		HibernateSearchMultiReader indexReader = HibernateSearchMultiReader.open( indexNames, scope.indexes(),
+				routingKeys );
+		return new LuceneSearchPointInTimeImpl( indexNames, routingKeys, indexReader,
+				pointInTimeExpirationExecutor, keepAlive );
+	}
+
 	@Override
 	public Explanation explain(Object id) {
 		Contracts.assertNotNull( id, "id" );
@@ -193,12 +222,28 @@ private Explanation doExplain(String typeName, String id) {
 	}
 
 	private <T> T doSubmit(ReadWork<T> work) {
-		return queryOrchestrator.submit(
-				scope.hibernateSearchIndexNames(),
-				scope.indexes(),
-				routingKeys,
-				work
-		);
+		if ( pointInTime == null ) {
+			return queryOrchestrator.submit(
+					scope.hibernateSearchIndexNames(),
+					scope.indexes(),
+					routingKeys,
+					sessionContext.tenantIdentifier(),
+					work
+			);
+		}
+		HibernateSearchMultiReader indexReader = pointInTime.acquire();
+		try {
+			return queryOrchestrator.submit(
+					scope.hibernateSearchIndexNames(),
+					scope.indexes(),
+					routingKeys,
+					sessionContext.tenantIdentifier(),
+					work, indexReader
+			);
+		}
+		finally {
+			pointInTime.release( indexReader );
+		}
 	}
 
 	private int totalHitCountThreshold(boolean trackTotalHitCount) {
@@ -21,6 +21,8 @@
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
+import org.apache.lucene.search.ScoreDoc;
+
 public class LuceneSearchScrollImpl<H> implements LuceneSearchScroll<H> {
 
 	// shared with its query instance:
@@ -28,6 +30,7 @@
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSearchQueryIndexScope<?, ?> scope;
 	private final Set<String> routingKeys;
+	private final String tenantId;
 	private final TimeoutManager timeoutManager;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher;
 	private final int totalHitCountThreshold;
@@ -36,14 +39,15 @@
 	private final HibernateSearchMultiReader indexReader;
 	private final int chunkSize;
 
-	private int nextChunkOffset = 0;
-	private int currentPageLimit;
+	private final int pageSize;
+
 	private LuceneExtractableSearchResult<H> currentPage;
-	private int currentPageOffset = 0;
+	private int nextChunkStartIndexInPage = 0;
+	private boolean closed = false;
 
 	public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchQueryIndexScope<?, ?> scope,
-			Set<String> routingKeys,
+			Set<String> routingKeys, String tenantId,
 			TimeoutManager timeoutManager,
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
 			int totalHitCountThreshold,
@@ -52,18 +56,27 @@ public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 		this.workFactory = workFactory;
 		this.scope = scope;
 		this.routingKeys = routingKeys;
+		this.tenantId = tenantId;
 		this.timeoutManager = timeoutManager;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.indexReader = indexReader;
 		this.chunkSize = chunkSize;
-		this.currentPageLimit = chunkSize * 4; // Will fetch the topdocs for the first 4 pages initially
+		// Each page holds the top docs for 4 chunks.
+		// Pages are fetched using "search after" the last hit of the previous page,
+		// so that the cost of fetching a page does not increase as we progress through the results.
+		this.pageSize = (int) Math.min( (long) chunkSize * 4, Integer.MAX_VALUE );
 	}
 
 	@Override
 	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
 		try {
-			indexReader.close();
+			// The reader may be shared with a point in time: release our reference instead of closing it.
+			indexReader.decRef();
 		}
 		catch (IOException | RuntimeException e) {
 			LuceneMiscLog.INSTANCE.unableToCloseIndexReader(
@@ -84,17 +97,14 @@ public LuceneSearchScrollResult<H> next() {
 	}
 
 	private LuceneSearchScrollResult<H> doNext() {
-		if ( currentPage == null || nextChunkOffset + chunkSize > currentPageLimit + currentPageOffset ) {
-			if ( currentPage != null ) {
-				currentPageLimit *= 2;
-			}
-			currentPageOffset = nextChunkOffset;
-			currentPage = doSubmitWithIndexReader(
-					workFactory.scroll( searcher, currentPageOffset, currentPageLimit, totalHitCountThreshold ),
-					indexReader );
+		if ( currentPage == null ) {
+			currentPage = fetchPage( null );
+		}
+		else if ( nextChunkStartIndexInPage >= currentPage.hitSize() && currentPage.hitSize() >= pageSize ) {
+			// The current page is exhausted, but it was full: there may be more results.
+			currentPage = fetchPage( currentPage.lastScoreDoc() );
+			nextChunkStartIndexInPage = 0;
 		}
-
-		int nextChunkStartIndexInPage = nextChunkOffset - currentPageOffset;
 
 		// no more results check
 		if ( nextChunkStartIndexInPage >= currentPage.hitSize() ) {
@@ -123,16 +133,22 @@ private LuceneSearchScrollResult<H> doNext() {
 		LuceneSearchResult<H> result = loadableSearchResult.loadBlocking();
 
 		// increasing the index for further next(s)
-		nextChunkOffset += chunkSize;
+		nextChunkStartIndexInPage += chunkSize;
 		return new LuceneSearchScrollResultImpl<>( currentPage.total(), true, result.hits(),
 				result.took(), result.timedOut() );
 	}
 
+	private LuceneExtractableSearchResult<H> fetchPage(ScoreDoc after) {
+		return doSubmitWithIndexReader( workFactory.scroll( searcher, after, pageSize, totalHitCountThreshold ),
+				indexReader );
+	}
+
 	private <T> T doSubmitWithIndexReader(ReadWork<T> work, HibernateSearchMultiReader indexReader) {
 		return queryOrchestrator.submit(
 				scope.hibernateSearchIndexNames(),
 				scope.indexes(),
 				routingKeys,
+				tenantId,
 				work, indexReader
 		);
 	}
@@ -59,6 +59,21 @@ public boolean isCompatibleWith(LuceneFieldCodec<?, ?> obj) {
 		return getClass() == obj.getClass();
 	}
 
+	@Override
+	public final LuceneDocValuesDecoder<E> docValuesDecoderOrNull() {
+		return ( DocValues.ENABLED == docValues && hasLosslessDocValues() )
+				? LuceneDocValuesDecoder.numeric( getDomain() )
+				: null;
+	}
+
+	/**
+	 * @return {@code true} if the encoded value, which is what doc values hold, carries the exact same information
+	 * as the stored value; {@code false} otherwise (e.g. when the encoding truncates to milliseconds or drops the offset).
+	 */
+	protected boolean hasLosslessDocValues() {
+		return false;
+	}
+
 	public abstract LuceneNumericDomain<E> getDomain();
 
 	abstract void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath,
@@ -20,6 +20,7 @@
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Pruning;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 
 public class LuceneFloatDomain implements LuceneNumericDomain<Float> {
@@ -102,6 +103,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Float
 		return new SortedNumericDocValuesField( absoluteFieldPath, NumericUtils.floatToSortableInt( numericValue ) );
 	}
 
+	@Override
+	public SortField.Type sortFieldType() {
+		return SortField.Type.FLOAT;
+	}
+
 	@Override
 	public FieldComparator<Float> createFieldComparator(String fieldName, int numHits,
 			Float missingValue, boolean reversed, Pruning pruning, MultiValueMode multiValueMode,
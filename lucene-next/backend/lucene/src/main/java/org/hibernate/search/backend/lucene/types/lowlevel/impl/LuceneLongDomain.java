@@ -20,6 +20,7 @@
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Pruning;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public class LuceneLongDomain implements LuceneNumericDomain<Long> {
 	private static final LuceneNumericDomain<Long> INSTANCE = new LuceneLongDomain();
@@ -100,6 +101,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Long
 		return new SortedNumericDocValuesField( absoluteFieldPath, numericValue );
 	}
 
+	@Override
+	public SortField.Type sortFieldType() {
+		return SortField.Type.LONG;
+	}
+
 	@Override
 	public FieldComparator<Long> createFieldComparator(String fieldName, int numHits,
 			Long missingValue, boolean reversed, Pruning pruning, MultiValueMode multiValueMode,
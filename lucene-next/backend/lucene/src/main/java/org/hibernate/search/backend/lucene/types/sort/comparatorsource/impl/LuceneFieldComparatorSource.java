@@ -4,19 +4,70 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 
 import org.apache.lucene.search.FieldComparatorSource;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public abstract class LuceneFieldComparatorSource extends FieldComparatorSource {
 
+	private final String nestedDocumentPath;
+	private final Query filter;
 	protected NestedDocsProvider nestedDocsProvider;
 
 	public LuceneFieldComparatorSource(String nestedDocumentPath, Query filter) {
+		this.nestedDocumentPath = nestedDocumentPath;
+		this.filter = filter;
 		this.nestedDocsProvider = nestedDocumentPath == null
 				? null
 				: new NestedDocsProvider( nestedDocumentPath, filter );
 	}
 
+	/*
+	 * equals/hashCode are necessary for equivalent sorts to be considered equal,
+	 * which matters when sorts are used as cache keys.
+	 */
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		LuceneFieldComparatorSource other = (LuceneFieldComparatorSource) obj;
+		return Objects.equals( nestedDocumentPath, other.nestedDocumentPath )
+				&& Objects.equals( filter, other.filter );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( getClass(), nestedDocumentPath, filter );
+	}
+
+	/**
+	 * @param fieldName The name of the field to sort on.
+	 * @param reverse Whether the sort order is reversed.
+	 * @return A sort field relying on Lucene's built-in comparators
+	 * and sorting documents exactly as this comparator source would,
+	 * or {@code null} if there is no such sort field.
+	 * Built-in sort fields can be used for index sorting,
+	 * and allow Lucene to terminate collection early when they match the index sort.
+	 */
+	public final SortField toBuiltInSortFieldOrNull(String fieldName, boolean reverse) {
+		if ( nestedDocumentPath != null ) {
+			// Built-in sort fields do not support nested documents.
+			return null;
+		}
+		return doToBuiltInSortFieldOrNull( fieldName, reverse );
+	}
+
+	protected SortField doToBuiltInSortFieldOrNull(String fieldName, boolean reverse) {
+		return null;
+	}
+
 }
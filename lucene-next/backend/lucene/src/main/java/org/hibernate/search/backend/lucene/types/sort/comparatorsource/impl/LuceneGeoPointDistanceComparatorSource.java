@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.lowlevel.comparator.impl.DoubleValuesSourceComparator;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GeoPointDistanceMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
@@ -27,6 +29,22 @@ public LuceneGeoPointDistanceComparatorSource(String nestedDocumentPath, GeoPoin
 		this.mode = mode;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneGeoPointDistanceComparatorSource other = (LuceneGeoPointDistanceComparatorSource) obj;
+		return center.equals( other.center )
+				&& Double.compare( missingValue, other.missingValue ) == 0
+				&& mode == other.mode;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), center, missingValue, mode );
+	}
+
 	@Override
 	public FieldComparator<?> newComparator(String fieldname, int numHits, Pruning pruning, boolean reversed) {
 		GeoPointDistanceMultiValuesToSingleValuesSource source = new GeoPointDistanceMultiValuesToSingleValuesSource(
@@ -4,12 +4,17 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Pruning;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
 
 public class LuceneNumericFieldComparatorSource<E extends Number> extends LuceneFieldComparatorSource {
 
@@ -25,9 +30,44 @@ public LuceneNumericFieldComparatorSource(String nestedDocumentPath, LuceneNumer
 		this.sortMode = sortMode;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericFieldComparatorSource<?> other = (LuceneNumericFieldComparatorSource<?>) obj;
+		return numericDomain.equals( other.numericDomain )
+				&& Objects.equals( missingValue, other.missingValue )
+				&& sortMode == other.sortMode;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), numericDomain, missingValue, sortMode );
+	}
+
 	@Override
 	public FieldComparator<?> newComparator(String fieldname, int numHits, Pruning pruning, boolean reversed) {
 		return numericDomain.createFieldComparator( fieldname, numHits, missingValue, reversed, pruning,
 				sortMode, nestedDocsProvider );
 	}
+
+	@Override
+	protected SortField doToBuiltInSortFieldOrNull(String fieldName, boolean reverse) {
+		SortedNumericSelector.Type selector;
+		switch ( sortMode ) {
+			case MIN:
+				selector = SortedNumericSelector.Type.MIN;
+				break;
+			case MAX:
+				selector = SortedNumericSelector.Type.MAX;
+				break;
+			default:
+				return null;
+		}
+		SortedNumericSortField sortField =
+				new SortedNumericSortField( fieldName, numericDomain.sortFieldType(), reverse, selector );
+		sortField.setMissingValue( missingValue );
+		return sortField;
+	}
 }
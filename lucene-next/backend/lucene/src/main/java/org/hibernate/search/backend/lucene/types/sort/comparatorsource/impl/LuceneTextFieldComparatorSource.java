@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
 import java.io.IOException;
+import java.util.Objects;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ReplaceMissingSortedDocValues;
@@ -16,6 +17,9 @@
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Pruning;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedSetSelector;
+import org.apache.lucene.search.SortedSetSortField;
 import org.apache.lucene.search.comparators.TermOrdValComparator;
 import org.apache.lucene.util.BytesRef;
 
@@ -32,22 +36,23 @@ public LuceneTextFieldComparatorSource(String nestedDocumentPath, Object missing
 	}
 
 	@Override
-	public FieldComparator<?> newComparator(String fieldname, int numHits, Pruning pruning, boolean reversed) {
-		final boolean considerMissingHighest;
-		if ( SortMissingValue.MISSING_LOWEST.equals( missingValue ) ) {
-			considerMissingHighest = false;
-		}
-		else if ( SortMissingValue.MISSING_HIGHEST.equals( missingValue ) ) {
-			considerMissingHighest = true;
-		}
-		else if ( SortMissingValue.MISSING_LAST.equals( missingValue ) ) {
-			// To appear last, missing values must be considered highest, or lowest if the order is reversed.
-			considerMissingHighest = !reversed;
-		}
-		else { // SortMissingValue.MISSING_FIRST, the default
-				// To appear first, missing values must be considered lowest, or highest if the order is reversed.
-			considerMissingHighest = reversed;
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
 		}
+		LuceneTextFieldComparatorSource other = (LuceneTextFieldComparatorSource) obj;
+		return Objects.equals( missingValue, other.missingValue )
+				&& multiValueMode == other.multiValueMode;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), missingValue, multiValueMode );
+	}
+
+	@Override
+	public FieldComparator<?> newComparator(String fieldname, int numHits, Pruning pruning, boolean reversed) {
+		boolean considerMissingHighest = considerMissingHighest( reversed );
 		TextMultiValuesToSingleValuesSource source =
 				TextMultiValuesToSingleValuesSource.fromField( fieldname, multiValueMode, nestedDocsProvider );
 
@@ -66,6 +71,45 @@ protected SortedDocValues getSortedDocValues(LeafReaderContext context, String f
 		};
 	}
 
+	@Override
+	protected SortField doToBuiltInSortFieldOrNull(String fieldName, boolean reverse) {
+		if ( !isOneOfSortMissingValues() ) {
+			// Replacing missing values with a given value is not supported by built-in sort fields.
+			return null;
+		}
+		SortedSetSelector.Type selector;
+		switch ( multiValueMode ) {
+			case MIN:
+				selector = SortedSetSelector.Type.MIN;
+				break;
+			case MAX:
+				selector = SortedSetSelector.Type.MAX;
+				break;
+			default:
+				return null;
+		}
+		SortedSetSortField sortField = new SortedSetSortField( fieldName, reverse, selector );
+		sortField.setMissingValue( considerMissingHighest( reverse ) ? SortField.STRING_LAST : SortField.STRING_FIRST );
+		return sortField;
+	}
+
+	private boolean considerMissingHighest(boolean reversed) {
+		if ( SortMissingValue.MISSING_LOWEST.equals( missingValue ) ) {
+			return false;
+		}
+		else if ( SortMissingValue.MISSING_HIGHEST.equals( missingValue ) ) {
+			return true;
+		}
+		else if ( SortMissingValue.MISSING_LAST.equals( missingValue ) ) {
+			// To appear last, missing values must be considered highest, or lowest if the order is reversed.
+			return !reversed;
+		}
+		else { // SortMissingValue.MISSING_FIRST, the default
+				// To appear first, missing values must be considered lowest, or highest if the order is reversed.
+			return reversed;
+		}
+	}
+
 	private boolean isOneOfSortMissingValues() {
 		return missingValue instanceof SortMissingValue;
 	}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.types.sort.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexField;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexValueField;
+import org.hibernate.search.backend.lucene.logging.impl.ConfigurationLog;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStringFieldCodec;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneNumericFieldComparatorSource;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneTextFieldComparatorSource;
+import org.hibernate.search.engine.backend.document.model.spi.IndexFieldFilter;
+
+import org.apache.lucene.search.FieldComparatorSource;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+/**
+ * Utilities related to index sorting,
+ * i.e. sorting documents within each index segment, which Lucene can take advantage of
+ * to stop collecting top documents early when the query sort matches the index sort.
+ */
+public final class LuceneIndexSorts {
+
+	private static final String ORDER_SEPARATOR = ":";
+	private static final String ORDER_ASC = "asc";
+	private static final String ORDER_DESC = "desc";
+
+	private LuceneIndexSorts() {
+	}
+
+	/**
+	 * @param model The index model.
+	 * @param definition The index sort definition: a list of field paths,
+	 * each optionally followed with {@code :asc} or {@code :desc}.
+	 * @return The index sort, or {@code null} if the definition is empty.
+	 */
+	public static Sort create(LuceneIndexModel model, List<String> definition) {
+		if ( definition.isEmpty() ) {
+			return null;
+		}
+		SortField[] sortFields = new SortField[definition.size()];
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			String element = definition.get( i ).trim();
+			String absoluteFieldPath = element;
+			boolean reverse = false;
+			int separatorIndex = element.lastIndexOf( ORDER_SEPARATOR );
+			if ( separatorIndex >= 0 ) {
+				absoluteFieldPath = element.substring( 0, separatorIndex ).trim();
+				String order = element.substring( separatorIndex + 1 ).trim().toLowerCase( Locale.ROOT );
+				switch ( order ) {
+					case ORDER_ASC:
+						break;
+					case ORDER_DESC:
+						reverse = true;
+						break;
+					default:
+						throw ConfigurationLog.INSTANCE.indexSortInvalidOrder( order, absoluteFieldPath,
+								Arrays.asList( ORDER_ASC, ORDER_DESC ) );
+				}
+			}
+			sortFields[i] = createSortField( model, absoluteFieldPath, reverse );
+		}
+		return new Sort( sortFields );
+	}
+
+	/**
+	 * @param querySort The sort of a search query.
+	 * @param indexSort The sort of all targeted indexes, or {@code null}.
+	 * @return The given query sort, with the leading sort fields that sort documents exactly like the index sort
+	 * replaced with the corresponding index sort fields,
+	 * so that Lucene can detect the query sort matches the index sort.
+	 */
+	public static Sort applyIndexSort(Sort querySort, Sort indexSort) {
+		if ( indexSort == null ) {
+			return querySort;
+		}
+		SortField[] querySortFields = querySort.getSort();
+		SortField[] indexSortFields = indexSort.getSort();
+		SortField[] result = null;
+		for ( int i = 0; i < querySortFields.length && i < indexSortFields.length; i++ ) {
+			SortField querySortField = querySortFields[i];
+			SortField indexSortField = indexSortFields[i];
+			FieldComparatorSource comparatorSource = querySortField.getComparatorSource();
+			if ( !( comparatorSource instanceof LuceneFieldComparatorSource luceneComparatorSource )
+					|| !indexSortField.equals( luceneComparatorSource.toBuiltInSortFieldOrNull(
+							querySortField.getField(), querySortField.getReverse() ) ) ) {
+				break;
+			}
+			if ( result == null ) {
+				result = querySortFields.clone();
+			}
+			result[i] = indexSortField;
+		}
+		return result == null ? querySort : new Sort( result );
+	}
+
+	private static SortField createSortField(LuceneIndexModel model, String absoluteFieldPath, boolean reverse) {
+		LuceneIndexField field = model.fieldOrNull( absoluteFieldPath, IndexFieldFilter.ALL );
+		if ( field == null || !field.isValueField() ) {
+			throw ConfigurationLog.INSTANCE.indexSortUnknownField( absoluteFieldPath );
+		}
+		LuceneIndexValueField<?> valueField = field.toValueField();
+		LuceneFieldComparatorSource comparatorSource = null;
+		if ( valueField.type().sortable() && valueField.nestedDocumentPath() == null ) {
+			comparatorSource = createDefaultComparatorSource( valueField.type().codec(), reverse );
+		}
+		SortField sortField = comparatorSource == null
+				? null
+				: comparatorSource.toBuiltInSortFieldOrNull( absoluteFieldPath, reverse );
+		if ( sortField == null ) {
+			throw ConfigurationLog.INSTANCE.indexSortUnsupportedField( absoluteFieldPath );
+		}
+		return sortField;
+	}
+
+	/*
+	 * Creates a comparator source equivalent to that of a field sort with default options,
+	 * so that the index sort matches the default behavior of field sorts.
+	 */
+	private static LuceneFieldComparatorSource createDefaultComparatorSource(LuceneFieldCodec<?, ?> codec,
+			boolean reverse) {
+		MultiValueMode multiValueMode = reverse ? MultiValueMode.MAX : MultiValueMode.MIN;
+		if ( codec instanceof AbstractLuceneNumericFieldCodec<?, ?> numericCodec ) {
+			return createDefaultNumericComparatorSource( numericCodec.getDomain(), multiValueMode, reverse );
+		}
+		else if ( codec instanceof LuceneStringFieldCodec ) {
+			return new LuceneTextFieldComparatorSource( null, SortMissingValue.MISSING_LAST, multiValueMode, null );
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static <E extends Number> LuceneFieldComparatorSource createDefaultNumericComparatorSource(
+			LuceneNumericDomain<E> domain, MultiValueMode multiValueMode, boolean reverse) {
+		// Missing values last
+		E missingValue = reverse ? domain.getMinValue() : domain.getMaxValue();
+		return new LuceneNumericFieldComparatorSource<>( null, domain, missingValue, multiValueMode, null );
+	}
+}
@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.lucene.work.execution.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +18,7 @@
 import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -25,6 +27,8 @@
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 
+import org.apache.lucene.document.Field;
+
 public class LuceneIndexIndexingPlan implements IndexIndexingPlan {
 
 	private final LuceneWorkFactory factory;
@@ -79,6 +83,30 @@ public void addOrUpdate(DocumentReferenceProvider referenceProvider,
 		) );
 	}
 
+	@Override
+	public void updateFields(DocumentReferenceProvider referenceProvider,
+			DocumentContributor documentContributor, Collection<? extends IndexFieldReference<?>> updatedFields) {
+		String id = referenceProvider.identifier();
+		String routingKey = referenceProvider.routingKey();
+
+		LuceneIndexEntry indexEntry = indexEntryFactory.create( tenantId, id, routingKey, documentContributor );
+		Field[] docValuesUpdates = indexEntryFactory.createDocValuesUpdatesOrNull( indexEntry, updatedFields );
+
+		if ( docValuesUpdates == null ) {
+			// At least one field cannot be updated in place: update the whole document.
+			collect( id, routingKey, factory.update(
+					tenantId, indexManagerContext.mappedTypeName(), referenceProvider.entityIdentifier(),
+					id, indexEntry
+			) );
+		}
+		else {
+			collect( id, routingKey, factory.updateDocValues(
+					tenantId, indexManagerContext.mappedTypeName(), referenceProvider.entityIdentifier(),
+					id, indexEntry, docValuesUpdates
+			) );
+		}
+	}
+
 	@Override
 	public void delete(DocumentReferenceProvider referenceProvider) {
 		String id = referenceProvider.identifier();
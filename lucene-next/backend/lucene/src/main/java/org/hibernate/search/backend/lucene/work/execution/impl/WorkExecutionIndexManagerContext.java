@@ -30,4 +30,9 @@ public interface WorkExecutionIndexManagerContext {
 	List<LuceneParallelWorkOrchestrator> managementOrchestrators(Set<String> routingKeys);
 
 	List<LuceneParallelWorkOrchestrator> allManagementOrchestrators();
+
+	/**
+	 * @return Whether bulk-load mode should be enabled when requested through {@link LuceneIndexWorkspace}.
+	 */
+	boolean automaticBulkLoad();
 }
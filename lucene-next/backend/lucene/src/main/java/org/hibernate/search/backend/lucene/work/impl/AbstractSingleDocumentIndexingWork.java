@@ -4,6 +4,11 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.TranslogOperation;
+
+import org.apache.lucene.search.Query;
+
 public abstract class AbstractSingleDocumentIndexingWork extends AbstractIndexingWork<Long>
 		implements SingleDocumentIndexingWork {
 
@@ -47,4 +52,36 @@ public Object getEntityIdentifier() {
 	public String getQueuingKey() {
 		return documentIdentifier;
 	}
+
+	@Override
+	public Object getCoalescingKey() {
+		return new CoalescingKey( tenantId, documentIdentifier );
+	}
+
+	@Override
+	public TranslogOperation toTranslogOperationOrNull() {
+		LuceneIndexEntry indexEntry = indexEntryOrNull();
+		if ( indexEntry == null ) {
+			return TranslogOperation.delete( tenantId, entityTypeName, entityIdentifier, documentIdentifier );
+		}
+		// Additions are replayed as updates,
+		// so that replaying an addition that was already committed does not duplicate the document.
+		return TranslogOperation.index( tenantId, entityTypeName, entityIdentifier, documentIdentifier,
+				indexEntry.documents() );
+	}
+
+	/**
+	 * @return The filter to apply, in addition to the document identifier,
+	 * when deleting previous versions of the document. May be {@code null}.
+	 * @see #supersedesPreviousWorks()
+	 */
+	abstract Query filterOrNull();
+
+	/**
+	 * @return The entry to add to the index, or {@code null} if this work does not add anything.
+	 */
+	abstract LuceneIndexEntry indexEntryOrNull();
+
+	private record CoalescingKey(String tenantId, String documentIdentifier) {
+	}
 }
@@ -6,6 +6,7 @@
 
 import java.io.IOException;
 
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.logging.impl.IndexingLog;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
@@ -45,4 +46,20 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	@Override
+	public boolean supersedesPreviousWorks() {
+		// Deleting a document removes all previous versions of that document.
+		return true;
+	}
+
+	@Override
+	Query filterOrNull() {
+		return filter;
+	}
+
+	@Override
+	LuceneIndexEntry indexEntryOrNull() {
+		return null;
+	}
+
 }
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.TranslogOperation;
 
 public interface IndexingWork<T> {
 
@@ -19,4 +20,27 @@
 	 */
 	String getQueuingKey();
 
+	/**
+	 * @return A key identifying the document this work applies to,
+	 * such that works with the same key may be coalesced within a batch,
+	 * or {@code null} if this work must never be coalesced with other works.
+	 * @see #supersedesPreviousWorks()
+	 */
+	Object getCoalescingKey();
+
+	/**
+	 * @return {@code true} if executing this work cancels the effects of any previous work
+	 * with the same {@link #getCoalescingKey() coalescing key},
+	 * in which case those previous works can be skipped if they are part of the same batch.
+	 * {@code false} otherwise.
+	 */
+	boolean supersedesPreviousWorks();
+
+	/**
+	 * @return The operation to record in the translog before executing this work,
+	 * such that replaying the operation has the same effect as executing this work,
+	 * or {@code null} if this work does not change the content of the index.
+	 */
+	TranslogOperation toTranslogOperationOrNull();
+
 }
@@ -49,4 +49,20 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	@Override
+	public boolean supersedesPreviousWorks() {
+		// Updating a document removes all previous versions of that document.
+		return true;
+	}
+
+	@Override
+	Query filterOrNull() {
+		return filter;
+	}
+
+	@Override
+	LuceneIndexEntry indexEntryOrNull() {
+		return indexEntry;
+	}
+
 }
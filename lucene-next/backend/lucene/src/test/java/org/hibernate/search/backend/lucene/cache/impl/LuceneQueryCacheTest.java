@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LuceneQueryCacheTest {
+
+	@Test
+	void forTenant_trackedTenantCountIsBounded() {
+		LuceneQueryCache cache = new LuceneQueryCache( 100, 1L << 20 );
+
+		for ( int i = 0; i < LuceneQueryCache.MAX_TRACKED_TENANT_COUNT; i++ ) {
+			assertThat( cache.forTenant( "tenant_" + i ) ).isNotSameAs( cache );
+		}
+
+		// Additional tenants are only accounted for in global statistics.
+		assertThat( cache.forTenant( "some_other_tenant" ) ).isSameAs( cache );
+		assertThat( cache.hitCount( "some_other_tenant" ) ).isZero();
+		assertThat( cache.missCount( "some_other_tenant" ) ).isZero();
+
+		// Tenants that are already tracked still are.
+		assertThat( cache.forTenant( "tenant_0" ) ).isNotSameAs( cache );
+	}
+
+	@Test
+	void forTenant_noTenant() {
+		LuceneQueryCache cache = new LuceneQueryCache( 100, 1L << 20 );
+
+		assertThat( cache.forTenant( null ) ).isSameAs( cache );
+	}
+}
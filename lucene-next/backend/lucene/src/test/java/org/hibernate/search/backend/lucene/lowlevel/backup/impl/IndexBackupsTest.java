@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.backup.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.KeepOnlyLastCommitDeletionPolicy;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+class IndexBackupsTest {
+
+	private static final String INDEX_NAME = "SomeIndexName";
+
+	private final EventContext indexEventContext = EventContexts.fromIndexName( INDEX_NAME );
+
+	@TempDir
+	Path backupRoot;
+
+	private final Directory directory = new ByteBuffersDirectory();
+	private final SnapshotDeletionPolicy snapshotDeletionPolicy =
+			new SnapshotDeletionPolicy( new KeepOnlyLastCommitDeletionPolicy() );
+	private IndexWriter writer;
+
+	@BeforeEach
+	void start() throws IOException {
+		writer = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() )
+				.setIndexDeletionPolicy( snapshotDeletionPolicy ) );
+	}
+
+	@AfterEach
+	void close() throws IOException {
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	void backup() throws IOException {
+		addAndCommit( 0, 10 );
+
+		assertThat( backupLatestCommit() ).isPositive();
+		assertThat( docCount( backupRoot ) ).isEqualTo( 10 );
+
+		// Nothing changed: nothing to copy.
+		assertThat( backupLatestCommit() ).isZero();
+		assertThat( docCount( backupRoot ) ).isEqualTo( 10 );
+	}
+
+	@Test
+	void backup_incremental() throws IOException {
+		addAndCommit( 0, 10 );
+		int firstBackupCopiedFileCount = backupLatestCommit();
+
+		addAndCommit( 10, 5 );
+		// Files of the first commit are still referenced: only the new segment is copied.
+		assertThat( backupLatestCommit() ).isEqualTo( firstBackupCopiedFileCount );
+		assertThat( docCount( backupRoot ) ).isEqualTo( 15 );
+
+		writer.forceMerge( 1 );
+		writer.commit();
+		backupLatestCommit();
+		assertThat( docCount( backupRoot ) ).isEqualTo( 15 );
+		// Merged segments are no longer referenced: they were deleted from the backup.
+		try ( Directory backupDirectory = FSDirectory.open( backupRoot ) ) {
+			assertThat( backupDirectory.listAll() )
+					.containsExactlyInAnyOrder( SegmentInfos.readLatestCommit( directory ).files( true )
+							.toArray( String[]::new ) );
+		}
+	}
+
+	@Test
+	void backup_pinnedCommit() throws IOException {
+		addAndCommit( 0, 5 );
+		addAndCommit( 5, 5 );
+		IndexCommit commit = snapshotDeletionPolicy.snapshot();
+		try {
+			// Commits happening during the backup must not delete files of the pinned commit.
+			writer.forceMerge( 1 );
+			addAndCommit( 10, 5 );
+			IndexBackups.backup( commit, backupRoot, indexEventContext );
+		}
+		finally {
+			snapshotDeletionPolicy.release( commit );
+		}
+
+		assertThat( docCount( backupRoot ) ).isEqualTo( 10 );
+	}
+
+	@Test
+	void restoreIfMissing() throws IOException {
+		addAndCommit( 0, 10 );
+		backupLatestCommit();
+
+		try ( Directory target = new ByteBuffersDirectory() ) {
+			assertThat( IndexBackups.restoreIfMissing( backupRoot, target, indexEventContext ) ).isTrue();
+			try ( DirectoryReader reader = DirectoryReader.open( target ) ) {
+				assertThat( reader.numDocs() ).isEqualTo( 10 );
+			}
+
+			// The index exists: leave it untouched.
+			addAndCommit( 10, 5 );
+			backupLatestCommit();
+			assertThat( IndexBackups.restoreIfMissing( backupRoot, target, indexEventContext ) ).isFalse();
+			try ( DirectoryReader reader = DirectoryReader.open( target ) ) {
+				assertThat( reader.numDocs() ).isEqualTo( 10 );
+			}
+		}
+	}
+
+	@Test
+	void restoreIfMissing_missingBackup() throws IOException {
+		Path missingBackup = backupRoot.resolve( "missing" );
+		try ( Directory target = new ByteBuffersDirectory() ) {
+			assertThatThrownBy( () -> IndexBackups.restoreIfMissing( missingBackup, target, indexEventContext ) )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll( "Directory '" + missingBackup + "' does not contain any backup" );
+			assertThatThrownBy( () -> IndexBackups.restoreIfMissing( backupRoot, target, indexEventContext ) )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll( "Directory '" + backupRoot + "' does not contain any backup" );
+		}
+	}
+
+	private int backupLatestCommit() throws IOException {
+		IndexCommit commit = snapshotDeletionPolicy.snapshot();
+		try {
+			return IndexBackups.backup( commit, backupRoot, indexEventContext );
+		}
+		finally {
+			snapshotDeletionPolicy.release( commit );
+			writer.deleteUnusedFiles();
+		}
+	}
+
+	private void addAndCommit(int firstId, int count) throws IOException {
+		for ( int i = firstId; i < firstId + count; i++ ) {
+			Document document = new Document();
+			document.add( new StringField( "id", String.valueOf( i ), Field.Store.YES ) );
+			writer.addDocument( document );
+		}
+		writer.commit();
+	}
+
+	private static int docCount(Path path) throws IOException {
+		try ( Directory backupDirectory = FSDirectory.open( path );
+				DirectoryReader reader = DirectoryReader.open( backupDirectory ) ) {
+			return reader.numDocs();
+		}
+	}
+}
@@ -6,7 +6,6 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -21,6 +20,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.junit.jupiter.api.AfterEach;
@@ -57,7 +57,7 @@ class IndexAccessorTest {
 
 	@BeforeEach
 	void start() throws IOException {
-		accessor = new IndexAccessorImpl( indexEventContext, directoryHolderMock,
+		accessor = new IndexAccessorImpl( indexEventContext, directoryHolderMock, null, null, false,
 				indexWriterProviderMock, indexReaderProviderMock );
 	}
 
@@ -134,7 +134,7 @@ void commitOrDelay_runtimeException() {
 	void refresh() throws IOException {
 		accessor.refresh();
 
-		verify( indexReaderProviderMock ).clear();
+		verify( indexReaderProviderMock ).refresh();
 		verifyNoOtherIndexInteractions();
 	}
 
@@ -142,11 +142,10 @@ void refresh() throws IOException {
 	void refresh_runtimeException() throws IOException {
 		RuntimeException exception = new RuntimeException( "Some message" );
 
-		doThrow( exception ).when( indexReaderProviderMock ).clear();
+		doThrow( exception ).when( indexReaderProviderMock ).refresh();
 
 		assertThatThrownBy( () -> accessor.refresh() )
 				.isSameAs( exception );
-		doNothing().when( indexReaderProviderMock ).clear();
 
 		verifyNoOtherIndexInteractions();
 	}
@@ -157,19 +156,45 @@ void mergeSegments() throws IOException {
 
 		accessor.mergeSegments();
 
+		verify( indexWriterProviderMock ).isReplacingContent();
 		verify( indexWriterDelegatorMock ).mergeSegments();
 		verify( indexReaderProviderMock ).clear();
 		verifyNoOtherIndexInteractions();
 	}
 
+	@Test
+	void mergeSegments_replacingContent() {
+		when( indexWriterProviderMock.isReplacingContent() ).thenReturn( true );
+
+		accessor.mergeSegments();
+
+		verify( indexWriterProviderMock ).isReplacingContent();
+		verifyNoOtherIndexInteractions();
+	}
+
 	@Test
 	void getIndexWriterDelegator() throws IOException {
-		when( indexWriterProviderMock.getOrCreate() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterProviderMock.getOrCreateForIndexing() ).thenReturn( indexWriterDelegatorMock );
 
 		assertThat( accessor.getIndexWriterDelegator() ).isSameAs( indexWriterDelegatorMock );
 		verifyNoOtherIndexInteractions();
 	}
 
+	@Test
+	void getIndexWriterDelegator_readOnly() throws IOException {
+		IndexAccessorImpl readOnlyAccessor = new IndexAccessorImpl( indexEventContext, directoryHolderMock, null,
+				null, true, indexWriterProviderMock, indexReaderProviderMock );
+
+		assertThatThrownBy( readOnlyAccessor::getIndexWriterDelegator )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to write to the index: this index is a read-only replica",
+						INDEX_NAME );
+		assertThatThrownBy( readOnlyAccessor::mergeSegments )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "this index is a read-only replica" );
+		verifyNoOtherIndexInteractions();
+	}
+
 	@Test
 	void getIndexReader() throws IOException {
 		when( indexReaderProviderMock.getOrCreate() ).thenReturn( indexReaderMock );
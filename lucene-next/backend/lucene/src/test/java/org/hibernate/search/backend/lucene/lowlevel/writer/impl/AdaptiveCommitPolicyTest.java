@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.writer.spi.CommitPolicyContext;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveCommitPolicyTest {
+
+	@Test
+	void defaults_idleIntervalBelowCommitInterval() {
+		AdaptiveCommitPolicy policy = create( LuceneIndexSettings.Defaults.IO_COMMIT_INTERVAL );
+		int idleInterval = LuceneIndexSettings.Defaults.IO_COMMIT_IDLE_INTERVAL;
+		assertThat( idleInterval ).isLessThan( LuceneIndexSettings.Defaults.IO_COMMIT_INTERVAL );
+
+		// Writes keep coming: don't commit until writes stop or the commit interval elapses.
+		assertThat( policy.timeToCommit( context( 1, 0, 0 ) ) )
+				.isEqualTo( idleInterval );
+		assertThat( policy.timeToCommit( context( 1, LuceneIndexSettings.Defaults.IO_COMMIT_INTERVAL - 50, 0 ) ) )
+				.isEqualTo( 50L );
+		assertThat( policy.timeToCommit( context( 1, LuceneIndexSettings.Defaults.IO_COMMIT_INTERVAL, 0 ) ) )
+				.isLessThanOrEqualTo( 0L );
+
+		// Writes stopped: commit once idle, before the commit interval elapses.
+		assertThat( policy.timeToCommit( context( 1, idleInterval, idleInterval ) ) )
+				.isLessThanOrEqualTo( 0L );
+	}
+
+	@Test
+	void budgetExceeded() {
+		AdaptiveCommitPolicy policy = create( 60_000 );
+
+		assertThat( policy.timeToCommit( context( LuceneIndexSettings.Defaults.IO_COMMIT_MAX_CHANGES, 0, 0 ) ) )
+				.isZero();
+		assertThat( policy.timeToCommit( context( LuceneIndexSettings.Defaults.IO_COMMIT_MAX_CHANGES - 1, 0, 0 ) ) )
+				.isPositive();
+	}
+
+	@Test
+	void commitIntervalZero() {
+		assertThatThrownBy( () -> create( 0 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "the 'adaptive' commit policy requires a strictly positive commit interval",
+						"the commit interval is set to 0" );
+	}
+
+	private static AdaptiveCommitPolicy create(int commitInterval) {
+		AdaptiveCommitPolicy policy = new AdaptiveCommitPolicy();
+		policy.initialize( new CommitPolicyInitializationContextImpl( "SomeIndexName", Optional.empty(), commitInterval,
+				null, ConfigurationPropertySource.empty() ) );
+		return policy;
+	}
+
+	private static CommitPolicyContext context(long uncommittedChangeCount, long timeSinceLastCommit,
+			long timeSinceLastChange) {
+		return new CommitPolicyContext() {
+			@Override
+			public long uncommittedChangeCount() {
+				return uncommittedChangeCount;
+			}
+
+			@Override
+			public long ramBytesUsed() {
+				return 0L;
+			}
+
+			@Override
+			public long timeSinceLastCommit() {
+				return timeSinceLastCommit;
+			}
+
+			@Override
+			public long timeSinceLastChange() {
+				return timeSinceLastChange;
+			}
+		};
+	}
+}
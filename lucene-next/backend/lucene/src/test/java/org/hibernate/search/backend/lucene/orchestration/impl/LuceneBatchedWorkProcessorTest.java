@@ -7,29 +7,45 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWorkExecutionContext;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.util.BytesRef;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -38,6 +54,7 @@
 class LuceneBatchedWorkProcessorTest {
 
 	private static final String INDEX_NAME = "SomeIndexName";
+	private static final String TYPE_NAME = "SomeTypeName";
 
 	private final EventContext indexEventContext = EventContexts.fromIndexName( INDEX_NAME );
 
@@ -46,6 +63,8 @@ class LuceneBatchedWorkProcessorTest {
 	@Mock
 	private IndexWriterDelegator indexWriterDelegatorMock;
 
+	private final LuceneWorkFactory workFactory = new LuceneWorkFactory( new NoMultiTenancyStrategy() );
+
 	private LuceneBatchedWorkProcessor processor;
 
 	private int nextWorkId = 0;
@@ -53,6 +72,9 @@ class LuceneBatchedWorkProcessorTest {
 	@BeforeEach
 	void setup() {
 		processor = new LuceneBatchedWorkProcessor( indexEventContext, indexAccessorMock );
+		// The translog is disabled in these tests.
+		verify( indexAccessorMock ).getTranslogOrNull();
+		verifyNoOtherIndexInteractionsAndClear();
 	}
 
 	@Test
@@ -113,6 +135,369 @@ void error_workExecute() throws IOException {
 		checkCompleteWithNothingToCommit();
 	}
 
+	@Test
+	void batch_coalescing() {
+		IndexingWork<Object> add1 = workMock( "doc1", false );
+		IndexingWork<Object> update1 = workMock( "doc1", true );
+		IndexingWork<Object> update2 = workMock( "doc2", true );
+		IndexingWork<Object> lastUpdate1 = workMock( "doc1", true );
+		IndexingWork<Object> delete2 = workMock( "doc2", true );
+		IndexingWork<Object> add2 = workMock( "doc2", false );
+		IndexingWork<Object> notCoalescable = workMock( null, false );
+		Object lastUpdate1Result = new Object();
+		Object delete2Result = new Object();
+		Object add2Result = new Object();
+		Object notCoalescableResult = new Object();
+		when( lastUpdate1.execute( any() ) ).thenReturn( lastUpdate1Result );
+		when( delete2.execute( any() ) ).thenReturn( delete2Result );
+		when( add2.execute( any() ) ).thenReturn( add2Result );
+		when( notCoalescable.execute( any() ) ).thenReturn( notCoalescableResult );
+
+		processor.beginBatch();
+		CompletableFuture<Object> add1Future = submitBatched( add1 );
+		CompletableFuture<Object> update1Future = submitBatched( update1 );
+		CompletableFuture<Object> update2Future = submitBatched( update2 );
+		CompletableFuture<Object> lastUpdate1Future = submitBatched( lastUpdate1 );
+		CompletableFuture<Object> delete2Future = submitBatched( delete2 );
+		CompletableFuture<Object> add2Future = submitBatched( add2 );
+		CompletableFuture<Object> notCoalescableFuture = submitBatched( notCoalescable );
+		// Works are only executed when the batch ends
+		verify( lastUpdate1, never() ).execute( any() );
+		verifyNoOtherIndexInteractionsAndClear();
+
+		processor.endBatch();
+		InOrder inOrder = inOrder( lastUpdate1, delete2, add2, notCoalescable, indexAccessorMock );
+		inOrder.verify( lastUpdate1 ).execute( any() );
+		inOrder.verify( delete2 ).execute( any() );
+		inOrder.verify( add2 ).execute( any() );
+		inOrder.verify( notCoalescable ).execute( any() );
+		inOrder.verify( indexAccessorMock ).commitOrDelay();
+		verify( add1, never() ).execute( any() );
+		verify( update1, never() ).execute( any() );
+		verify( update2, never() ).execute( any() );
+		verifyNoOtherIndexInteractionsAndClear();
+
+		// Superseded works complete the same way as the work that superseded them
+		assertThat( add1Future ).isCompletedWithValue( lastUpdate1Result );
+		assertThat( update1Future ).isCompletedWithValue( lastUpdate1Result );
+		assertThat( lastUpdate1Future ).isCompletedWithValue( lastUpdate1Result );
+		assertThat( update2Future ).isCompletedWithValue( delete2Result );
+		assertThat( delete2Future ).isCompletedWithValue( delete2Result );
+		assertThat( add2Future ).isCompletedWithValue( add2Result );
+		assertThat( notCoalescableFuture ).isCompletedWithValue( notCoalescableResult );
+
+		// Coalescing does not cross batch boundaries
+		IndexingWork<Object> nextBatchUpdate1 = workMock( "doc1", true );
+		processor.beginBatch();
+		CompletableFuture<Object> nextBatchUpdate1Future = submitBatched( nextBatchUpdate1 );
+		processor.endBatch();
+		verify( nextBatchUpdate1 ).execute( any() );
+		verify( indexAccessorMock ).commitOrDelay();
+		verifyNoOtherIndexInteractionsAndClear();
+		assertThat( nextBatchUpdate1Future ).isCompleted();
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	void error_batch_coalescing() {
+		IndexingWork<Object> update1 = workMock( "doc1", true );
+		IndexingWork<Object> lastUpdate1 = workMock( "doc1", true );
+		RuntimeException workException = new RuntimeException( "Some message" );
+		when( lastUpdate1.execute( any() ) ).thenThrow( workException );
+
+		processor.beginBatch();
+		CompletableFuture<Object> update1Future = submitBatched( update1 );
+		CompletableFuture<Object> lastUpdate1Future = submitBatched( lastUpdate1 );
+		processor.endBatch();
+		verify( update1, never() ).execute( any() );
+		verify( indexAccessorMock ).cleanUpAfterFailure( workException, lastUpdate1.getInfo() );
+		verify( indexAccessorMock ).commitOrDelay();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		// Superseded works fail the same way as the work that superseded them
+		assertThat( lastUpdate1Future ).isCompletedExceptionally();
+		assertThat( update1Future ).isCompletedExceptionally();
+		assertThatThrownBy( update1Future::join ).hasCause( workException );
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	void batch_bulk() throws IOException {
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.softDeletesByTerm() ).thenReturn( false );
+		when( indexWriterDelegatorMock.canAddMultipleBlocksAtOnce() ).thenReturn( true );
+		// The bulk is cleared after execution: copy the documents.
+		List<Document> bulkDocuments = new ArrayList<>();
+		when( indexWriterDelegatorMock.updateDocuments( any( Query.class ), any() ) ).thenAnswer( invocation -> {
+			Iterable<Document> documents = invocation.getArgument( 1 );
+			documents.forEach( bulkDocuments::add );
+			return 42L;
+		} );
+		LuceneIndexEntry entry1 = indexEntry( "doc1" );
+		LuceneIndexEntry entry2 = indexEntry( "doc2" );
+
+		processor.beginBatch();
+		CompletableFuture<Long> add1Future = submitBatched( workFactory.add( null, TYPE_NAME, 1, "doc1", entry1 ) );
+		CompletableFuture<Long> update2Future = submitBatched( workFactory.update( null, TYPE_NAME, 2, "doc2", entry2 ) );
+		CompletableFuture<Long> delete3Future = submitBatched( workFactory.delete( null, TYPE_NAME, 3, "doc3" ) );
+		processor.endBatch();
+
+		// All works are applied in a single, atomic operation.
+		ArgumentCaptor<Query> deleteQueryCaptor = ArgumentCaptor.forClass( Query.class );
+		verify( indexWriterDelegatorMock ).softDeletesByTerm();
+		verify( indexWriterDelegatorMock ).canAddMultipleBlocksAtOnce();
+		verify( indexWriterDelegatorMock ).updateDocuments( deleteQueryCaptor.capture(), any() );
+		assertThat( deleteQueryCaptor.getValue() )
+				.isEqualTo( new TermInSetQuery( MetadataFields.idFieldName(), List.of(
+						new BytesRef( "doc2" ), new BytesRef( "doc3" ) ) ) );
+		assertThat( bulkDocuments )
+				.containsExactly( entry1.documents().get( 0 ), entry2.documents().get( 0 ) );
+		verify( indexAccessorMock ).getIndexWriterDelegator();
+		verify( indexAccessorMock ).commitOrDelay();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		// Each work completes with the result of the bulk.
+		assertThat( add1Future ).isCompletedWithValue( 42L );
+		assertThat( update2Future ).isCompletedWithValue( 42L );
+		assertThat( delete3Future ).isCompletedWithValue( 42L );
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	void batch_bulk_deletesOnly() throws IOException {
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.canAddMultipleBlocksAtOnce() ).thenReturn( true );
+		when( indexWriterDelegatorMock.deleteDocuments( any( Term[].class ) ) ).thenReturn( 42L );
+
+		processor.beginBatch();
+		CompletableFuture<Long> delete1Future = submitBatched( workFactory.delete( null, TYPE_NAME, 1, "doc1" ) );
+		CompletableFuture<Long> delete2Future = submitBatched( workFactory.delete( null, TYPE_NAME, 2, "doc2" ) );
+		processor.endBatch();
+
+		// Deletions without a filter are applied by term.
+		verify( indexWriterDelegatorMock ).canAddMultipleBlocksAtOnce();
+		verify( indexWriterDelegatorMock ).deleteDocuments(
+				new Term( MetadataFields.idFieldName(), "doc1" ), new Term( MetadataFields.idFieldName(), "doc2" ) );
+		verify( indexAccessorMock ).getIndexWriterDelegator();
+		verify( indexAccessorMock ).commitOrDelay();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		assertThat( delete1Future ).isCompletedWithValue( 42L );
+		assertThat( delete2Future ).isCompletedWithValue( 42L );
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	void batch_bulk_coalescing() throws IOException {
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.softDeletesByTerm() ).thenReturn( false );
+		when( indexWriterDelegatorMock.canAddMultipleBlocksAtOnce() ).thenReturn( true );
+		// The bulk is cleared after execution: copy the documents.
+		List<Document> bulkDocuments = new ArrayList<>();
+		when( indexWriterDelegatorMock.updateDocuments( any( Query.class ), any() ) ).thenAnswer( invocation -> {
+			Iterable<Document> documents = invocation.getArgument( 1 );
+			documents.forEach( bulkDocuments::add );
+			return 42L;
+		} );
+		LuceneIndexEntry entry1 = indexEntry( "doc1" );
+		LuceneIndexEntry lastEntry1 = indexEntry( "doc1" );
+		LuceneIndexEntry entry2 = indexEntry( "doc2" );
+
+		processor.beginBatch();
+		CompletableFuture<Long> add1Future = submitBatched( workFactory.add( null, TYPE_NAME, 1, "doc1", entry1 ) );
+		CompletableFuture<Long> update2Future = submitBatched( workFactory.update( null, TYPE_NAME, 2, "doc2", entry2 ) );
+		CompletableFuture<Long> lastUpdate1Future =
+				submitBatched( workFactory.update( null, TYPE_NAME, 1, "doc1", lastEntry1 ) );
+		processor.endBatch();
+
+		// Superseded works are not part of the bulk.
+		verify( indexWriterDelegatorMock ).softDeletesByTerm();
+		verify( indexWriterDelegatorMock ).canAddMultipleBlocksAtOnce();
+		verify( indexWriterDelegatorMock ).updateDocuments( any( Query.class ), any() );
+		assertThat( bulkDocuments )
+				.containsExactly( entry2.documents().get( 0 ), lastEntry1.documents().get( 0 ) );
+		verify( indexAccessorMock ).getIndexWriterDelegator();
+		verify( indexAccessorMock ).commitOrDelay();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		assertThat( add1Future ).isCompletedWithValue( 42L );
+		assertThat( update2Future ).isCompletedWithValue( 42L );
+		assertThat( lastUpdate1Future ).isCompletedWithValue( 42L );
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	void batch_bulk_split() throws IOException {
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.canAddMultipleBlocksAtOnce() ).thenReturn( true );
+		when( indexWriterDelegatorMock.addDocuments( any() ) ).thenReturn( 1L, 3L );
+		IndexingWork<Object> notBulkable = workMock();
+		Object notBulkableResult = new Object();
+		when( notBulkable.execute( any() ) ).thenReturn( notBulkableResult );
+
+		processor.beginBatch();
+		CompletableFuture<Long> add1Future = submitBatched( workFactory.add( null, TYPE_NAME, 1, "doc1", indexEntry( "doc1" ) ) );
+		CompletableFuture<Long> add2Future = submitBatched( workFactory.add( null, TYPE_NAME, 2, "doc2", indexEntry( "doc2" ) ) );
+		CompletableFuture<Object> notBulkableFuture = submitBatched( notBulkable );
+		CompletableFuture<Long> add3Future = submitBatched( workFactory.add( null, TYPE_NAME, 3, "doc3", indexEntry( "doc3" ) ) );
+		CompletableFuture<Long> add4Future = submitBatched( workFactory.add( null, TYPE_NAME, 4, "doc4", indexEntry( "doc4" ) ) );
+		processor.endBatch();
+
+		// Works that cannot be part of a bulk end the current bulk, preserving the order of works.
+		InOrder inOrder = inOrder( indexWriterDelegatorMock, notBulkable, indexAccessorMock );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( any() );
+		inOrder.verify( notBulkable ).execute( any() );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( any() );
+		inOrder.verify( indexAccessorMock ).commitOrDelay();
+		verify( indexWriterDelegatorMock, times( 2 ) ).canAddMultipleBlocksAtOnce();
+		verify( indexAccessorMock, times( 2 ) ).getIndexWriterDelegator();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		assertThat( add1Future ).isCompletedWithValue( 1L );
+		assertThat( add2Future ).isCompletedWithValue( 1L );
+		assertThat( notBulkableFuture ).isCompletedWithValue( notBulkableResult );
+		assertThat( add3Future ).isCompletedWithValue( 3L );
+		assertThat( add4Future ).isCompletedWithValue( 3L );
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	void batch_bulk_singleWork() throws IOException {
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		LuceneIndexEntry entry1 = indexEntry( "doc1" );
+		when( indexWriterDelegatorMock.updateDocuments( any( Term.class ), any() ) ).thenReturn( 42L );
+
+		processor.beginBatch();
+		CompletableFuture<Long> update1Future = submitBatched( workFactory.update( null, TYPE_NAME, 1, "doc1", entry1 ) );
+		processor.endBatch();
+
+		// A bulk of one work is pointless: the work is executed as usual.
+		verify( indexWriterDelegatorMock ).updateDocuments( new Term( MetadataFields.idFieldName(), "doc1" ), entry1 );
+		verify( indexAccessorMock ).getIndexWriterDelegator();
+		verify( indexAccessorMock ).commitOrDelay();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		assertThat( update1Future ).isCompletedWithValue( 42L );
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	void batch_bulk_notSupportedByIndexWriter() throws IOException {
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.canAddMultipleBlocksAtOnce() ).thenReturn( false );
+		LuceneIndexEntry entry1 = indexEntry( "doc1" );
+		LuceneIndexEntry entry2 = indexEntry( "doc2" );
+		when( indexWriterDelegatorMock.addDocuments( any() ) ).thenReturn( 1L, 2L );
+
+		processor.beginBatch();
+		CompletableFuture<Long> add1Future = submitBatched( workFactory.add( null, TYPE_NAME, 1, "doc1", entry1 ) );
+		CompletableFuture<Long> add2Future = submitBatched( workFactory.add( null, TYPE_NAME, 2, "doc2", entry2 ) );
+		processor.endBatch();
+
+		// Works are executed one by one.
+		InOrder inOrder = inOrder( indexWriterDelegatorMock );
+		inOrder.verify( indexWriterDelegatorMock ).canAddMultipleBlocksAtOnce();
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( entry1 );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( entry2 );
+		verify( indexAccessorMock, times( 3 ) ).getIndexWriterDelegator();
+		verify( indexAccessorMock ).commitOrDelay();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		assertThat( add1Future ).isCompletedWithValue( 1L );
+		assertThat( add2Future ).isCompletedWithValue( 2L );
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	void batch_bulk_softDeletes() throws IOException {
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.softDeletesByTerm() ).thenReturn( true );
+		LuceneIndexEntry entry1 = indexEntry( "doc1" );
+		LuceneIndexEntry entry2 = indexEntry( "doc2" );
+		when( indexWriterDelegatorMock.updateDocuments( new Term( MetadataFields.idFieldName(), "doc1" ), entry1 ) )
+				.thenReturn( 1L );
+		when( indexWriterDelegatorMock.updateDocuments( new Term( MetadataFields.idFieldName(), "doc2" ), entry2 ) )
+				.thenReturn( 2L );
+
+		processor.beginBatch();
+		CompletableFuture<Long> update1Future = submitBatched( workFactory.update( null, TYPE_NAME, 1, "doc1", entry1 ) );
+		CompletableFuture<Long> update2Future = submitBatched( workFactory.update( null, TYPE_NAME, 2, "doc2", entry2 ) );
+		processor.endBatch();
+
+		// The bulk would delete previous versions by query, i.e. for good:
+		// works are executed one by one so that previous versions are soft-deleted.
+		InOrder inOrder = inOrder( indexWriterDelegatorMock );
+		inOrder.verify( indexWriterDelegatorMock ).softDeletesByTerm();
+		inOrder.verify( indexWriterDelegatorMock )
+				.updateDocuments( new Term( MetadataFields.idFieldName(), "doc1" ), entry1 );
+		inOrder.verify( indexWriterDelegatorMock )
+				.updateDocuments( new Term( MetadataFields.idFieldName(), "doc2" ), entry2 );
+		verify( indexAccessorMock, times( 3 ) ).getIndexWriterDelegator();
+		verify( indexAccessorMock ).commitOrDelay();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		assertThat( update1Future ).isCompletedWithValue( 1L );
+		assertThat( update2Future ).isCompletedWithValue( 2L );
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	void error_batch_bulk() throws IOException {
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.softDeletesByTerm() ).thenReturn( false );
+		when( indexWriterDelegatorMock.canAddMultipleBlocksAtOnce() ).thenReturn( true );
+		IOException bulkException = new IOException( "Some bulk message" );
+		when( indexWriterDelegatorMock.updateDocuments( any( Query.class ), any() ) ).thenThrow( bulkException );
+		LuceneIndexEntry entry1 = indexEntry( "doc1" );
+		LuceneIndexEntry entry2 = indexEntry( "doc2" );
+		LuceneIndexEntry entry3 = indexEntry( "doc3" );
+		IOException workException = new IOException( "Some work message" );
+		when( indexWriterDelegatorMock.addDocuments( entry1 ) ).thenReturn( 1L );
+		when( indexWriterDelegatorMock.updateDocuments( new Term( MetadataFields.idFieldName(), "doc2" ), entry2 ) )
+				.thenThrow( workException );
+		when( indexWriterDelegatorMock.updateDocuments( new Term( MetadataFields.idFieldName(), "doc3" ), entry3 ) )
+				.thenReturn( 3L );
+
+		processor.beginBatch();
+		IndexingWork<Long> failingWork = workFactory.update( null, TYPE_NAME, 2, "doc2", entry2 );
+		CompletableFuture<Long> add1Future = submitBatched( workFactory.add( null, TYPE_NAME, 1, "doc1", entry1 ) );
+		CompletableFuture<Long> update2Future = submitBatched( failingWork );
+		CompletableFuture<Long> update3Future = submitBatched( workFactory.update( null, TYPE_NAME, 3, "doc3", entry3 ) );
+		processor.endBatch();
+
+		// When the bulk fails, works are executed one by one, so that failures are reported for the right work.
+		InOrder inOrder = inOrder( indexWriterDelegatorMock, indexAccessorMock );
+		inOrder.verify( indexWriterDelegatorMock ).updateDocuments( any( Query.class ), any() );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( entry1 );
+		inOrder.verify( indexWriterDelegatorMock )
+				.updateDocuments( new Term( MetadataFields.idFieldName(), "doc2" ), entry2 );
+		inOrder.verify( indexAccessorMock ).cleanUpAfterFailure( any(), eq( failingWork.getInfo() ) );
+		inOrder.verify( indexWriterDelegatorMock )
+				.updateDocuments( new Term( MetadataFields.idFieldName(), "doc3" ), entry3 );
+		inOrder.verify( indexAccessorMock ).commitOrDelay();
+		verify( indexWriterDelegatorMock ).softDeletesByTerm();
+		verify( indexWriterDelegatorMock ).canAddMultipleBlocksAtOnce();
+		verify( indexAccessorMock, times( 4 ) ).getIndexWriterDelegator();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		// Only the failing work fails.
+		assertThat( add1Future ).isCompletedWithValue( 1L );
+		assertThat( update2Future ).isCompletedExceptionally();
+		assertThatThrownBy( update2Future::join ).hasRootCause( workException );
+		assertThat( update3Future ).isCompletedWithValue( 3L );
+
+		checkCompleteWithNothingToCommit();
+	}
+
 	@Test
 	void forceCommit() {
 		processor.forceCommit();
@@ -192,6 +577,12 @@ private void testSuccessfulWriteWorks(int workCount) throws IOException {
 		}
 	}
 
+	private <T> CompletableFuture<T> submitBatched(IndexingWork<T> work) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		new LuceneBatchedWork<>( work, future ).submitTo( processor );
+		return future;
+	}
+
 	private void checkCompleteWithNothingToCommit() {
 		doNothing().when( indexAccessorMock ).commitOrDelay();
 
@@ -223,6 +614,17 @@ private <T> IndexingWork<T> workMock() {
 		return workMock;
 	}
 
+	private <T> IndexingWork<T> workMock(String coalescingKey, boolean supersedesPreviousWorks) {
+		IndexingWork<T> workMock = workMock();
+		when( workMock.getCoalescingKey() ).thenReturn( coalescingKey );
+		when( workMock.supersedesPreviousWorks() ).thenReturn( supersedesPreviousWorks );
+		return workMock;
+	}
+
+	private static LuceneIndexEntry indexEntry(String id) {
+		return new LuceneIndexEntry( INDEX_NAME, id, List.of( new Document() ) );
+	}
+
 	private String workInfo(int index) {
 		return "work_" + index;
 	}
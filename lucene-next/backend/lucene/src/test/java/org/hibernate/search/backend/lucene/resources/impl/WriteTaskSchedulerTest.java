@@ -0,0 +1,233 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.resources.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+
+import org.junit.jupiter.api.Test;
+
+class WriteTaskSchedulerTest {
+
+	private final ManualExecutor executor = new ManualExecutor();
+	private final List<String> executedTasks = new ArrayList<>();
+
+	@Test
+	void fair_groupsServedInTurn() {
+		WriteTaskScheduler scheduler = new WriteTaskScheduler( executor, 1 );
+		WriteTaskScheduler.Group hot = scheduler.createGroup( "hot", Integer.MAX_VALUE );
+		WriteTaskScheduler.Group cold = scheduler.createGroup( "cold", Integer.MAX_VALUE );
+
+		for ( int i = 1; i <= 4; i++ ) {
+			hot.submit( task( "hot" + i ) );
+		}
+		cold.submit( task( "cold1" ) );
+		cold.submit( task( "cold2" ) );
+
+		// Only one task is handed over to the executor at a time.
+		assertThat( executor.submitted ).hasSize( 1 );
+		assertThat( hot.waitingTaskCount() ).isEqualTo( 4 );
+		assertThat( cold.waitingTaskCount() ).isEqualTo( 2 );
+
+		executor.runAll();
+
+		// Once both groups have pending tasks, they are served in turn.
+		assertThat( executedTasks ).containsExactly( "hot1", "hot2", "cold1", "hot3", "cold2", "hot4" );
+		assertThat( hot.waitingTaskCount() ).isZero();
+		assertThat( cold.waitingTaskCount() ).isZero();
+	}
+
+	@Test
+	void groupLimit() {
+		WriteTaskScheduler scheduler = new WriteTaskScheduler( executor, Integer.MAX_VALUE );
+		WriteTaskScheduler.Group limited = scheduler.createGroup( "limited", 2 );
+		WriteTaskScheduler.Group other = scheduler.createGroup( "other", Integer.MAX_VALUE );
+
+		limited.submit( task( "limited1" ) );
+		limited.submit( task( "limited2" ) );
+		limited.submit( task( "limited3" ) );
+		other.submit( task( "other1" ) );
+		other.submit( task( "other2" ) );
+
+		// The limited group cannot have more than two tasks handed over to the executor,
+		// but other groups are not affected.
+		assertThat( executor.submitted ).hasSize( 4 );
+		assertThat( limited.waitingTaskCount() ).isEqualTo( 3 );
+
+		executor.runNext();
+		assertThat( executedTasks ).containsExactly( "limited1" );
+		assertThat( executor.submitted ).hasSize( 4 );
+
+		executor.runAll();
+		assertThat( executedTasks ).containsExactlyInAnyOrder( "limited1", "limited2", "limited3", "other1", "other2" );
+		assertThat( limited.waitingTaskCount() ).isZero();
+		assertThat( limited.runningTaskCount() ).isZero();
+	}
+
+	@Test
+	void runningTaskCount() {
+		WriteTaskScheduler scheduler = new WriteTaskScheduler( executor, Integer.MAX_VALUE );
+		WriteTaskScheduler.Group group = scheduler.createGroup( "group", Integer.MAX_VALUE );
+		List<Integer> runningCounts = new ArrayList<>();
+		List<Integer> waitingCounts = new ArrayList<>();
+
+		group.submit( () -> {
+			runningCounts.add( group.runningTaskCount() );
+			waitingCounts.add( group.waitingTaskCount() );
+		} );
+		group.submit( task( "other" ) );
+		executor.runNext();
+
+		assertThat( runningCounts ).containsExactly( 1 );
+		assertThat( waitingCounts ).containsExactly( 1 );
+		assertThat( group.runningTaskCount() ).isZero();
+		assertThat( group.waitingTaskCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void rejected() {
+		WriteTaskScheduler scheduler = new WriteTaskScheduler( executor, 1 );
+		WriteTaskScheduler.Group group = scheduler.createGroup( "group", Integer.MAX_VALUE );
+		executor.rejecting = true;
+
+		// The task was handed over to the executor immediately: the rejection is thrown to the caller.
+		assertThatThrownBy( () -> group.submit( task( "rejected" ) ) )
+				.isInstanceOf( RejectedExecutionException.class );
+		assertThat( group.waitingTaskCount() ).isZero();
+
+		// The scheduler is still usable afterwards.
+		executor.rejecting = false;
+		group.submit( task( "accepted" ) );
+		executor.runAll();
+		assertThat( executedTasks ).containsExactly( "accepted" );
+	}
+
+	@Test
+	void rejected_singletonTask() {
+		WriteTaskScheduler scheduler = new WriteTaskScheduler( executor, 1 );
+		WriteTaskScheduler.Group group = scheduler.createGroup( "group", Integer.MAX_VALUE );
+		FailureHandler failureHandler = mock( FailureHandler.class );
+		SingletonTask singletonTask = singletonTask( group, failureHandler );
+		executor.rejecting = true;
+
+		assertThatThrownBy( singletonTask::ensureScheduled )
+				.isInstanceOf( RejectedExecutionException.class );
+		assertThat( singletonTask.completion() ).isDone();
+		// The caller got the exception: no need to report it.
+		verifyNoInteractions( failureHandler );
+
+		// The task can be scheduled again.
+		executor.rejecting = false;
+		singletonTask.ensureScheduled();
+		assertThat( singletonTask.completion() ).isNotDone();
+		executor.runAll();
+		assertThat( executedTasks ).containsExactly( "singleton" );
+		assertThat( singletonTask.completion() ).isCompleted();
+	}
+
+	@Test
+	void rejected_singletonTask_handedOverLater() {
+		WriteTaskScheduler scheduler = new WriteTaskScheduler( executor, 1 );
+		WriteTaskScheduler.Group group = scheduler.createGroup( "group", Integer.MAX_VALUE );
+		FailureHandler failureHandler = mock( FailureHandler.class );
+		SingletonTask singletonTask = singletonTask( group, failureHandler );
+
+		group.submit( task( "other" ) );
+		// The executor is busy with the other task: the singleton task is pending in the scheduler.
+		singletonTask.ensureScheduled();
+		CompletableFuture<?> completion = singletonTask.completion();
+		assertThat( executor.submitted ).hasSize( 1 );
+
+		// The singleton task is handed over to the executor when the other task finishes, and rejected.
+		executor.rejecting = true;
+		executor.runNext();
+		assertThat( executedTasks ).containsExactly( "other" );
+		assertThat( completion ).isCompletedExceptionally();
+		verify( failureHandler ).handle( any( FailureContext.class ) );
+
+		// The task can be scheduled again.
+		executor.rejecting = false;
+		singletonTask.ensureScheduled();
+		executor.runAll();
+		assertThat( executedTasks ).containsExactly( "other", "singleton" );
+		assertThat( singletonTask.completion() ).isCompleted();
+	}
+
+	private SingletonTask singletonTask(WriteTaskScheduler.Group group, FailureHandler failureHandler) {
+		return new SingletonTask( "singleton", new SingletonTask.Worker() {
+			@Override
+			public CompletableFuture<?> work() {
+				executedTasks.add( "singleton" );
+				return CompletableFuture.completedFuture( null );
+			}
+
+			@Override
+			public void complete() {
+				// Nothing to do.
+			}
+		}, group::submit, failureHandler );
+	}
+
+	private Runnable task(String name) {
+		return () -> executedTasks.add( name );
+	}
+
+	private static class ManualExecutor implements SimpleScheduledExecutor {
+		private final Deque<Runnable> submitted = new ArrayDeque<>();
+		private boolean rejecting = false;
+
+		@Override
+		public Future<?> submit(Runnable task) {
+			if ( rejecting ) {
+				throw new RejectedExecutionException( "Simulated rejection" );
+			}
+			submitted.add( task );
+			return CompletableFuture.completedFuture( null );
+		}
+
+		@Override
+		public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void shutdownNow() {
+		}
+
+		@Override
+		public boolean isBlocking() {
+			return false;
+		}
+
+		void runNext() {
+			submitted.poll().run();
+		}
+
+		void runAll() {
+			while ( !submitted.isEmpty() ) {
+				runNext();
+			}
+		}
+	}
+}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -11,6 +12,7 @@
 import java.util.Objects;
 import java.util.Set;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
 import org.hibernate.search.mapper.pojo.extractor.mapping.programmatic.ContainerExtractorPath;
@@ -87,6 +89,19 @@ public <U> PojoIndexingDependencyCollectorTypeNode<? extends U> castedType(PojoR
 
 	public abstract void collectDependency();
 
+	/**
+	 * Collects a dependency to the value represented by this node,
+	 * specifying that the value is only used to populate the given index fields, as-is.
+	 * <p>
+	 * When the value is a property of the indexed entity itself,
+	 * this allows updating only these index fields when the value changes,
+	 * provided no other dependency was collected for the same value.
+	 * Otherwise, this is equivalent to {@link #collectDependency()}.
+	 *
+	 * @param indexFields The index fields populated from the value represented by this node.
+	 */
+	public abstract void collectDependency(Collection<? extends IndexFieldReference<?>> indexFields);
+
 	abstract void doCollectDependency(LinkedNode<DerivedDependencyWalkingInfo> derivedDependencyPath);
 
 	@Override
@@ -4,13 +4,17 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverImpl;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
@@ -35,6 +39,11 @@ static Walker walker() {
 
 	// Use a LinkedHashSet for deterministic iteration
 	private final Set<PojoModelPathValueNode> dirtyPathsTriggeringSelfReindexing = new LinkedHashSet<>();
+	// Subset of the paths above whose dirtiness requires reindexing the whole dirty entity
+	private final Set<PojoModelPathValueNode> dirtyPathsTriggeringFullSelfReindexing = new LinkedHashSet<>();
+	// Index fields populated from the paths above whose dirtiness only requires updating these fields
+	private final Map<PojoModelPathValueNode, List<IndexFieldReference<?>>> indexFieldsByDirtyPathTriggeringSelfFieldsUpdate =
+			new LinkedHashMap<>();
 
 	private final Map<PojoModelPathValueNode, Map<PojoRawTypeModel<?>, PojoModelPathValueNode>> containingAssociationPaths =
 			new LinkedHashMap<>();
@@ -63,7 +72,18 @@ void closeOnFailure() {
 
 	void addDirtyPathTriggeringSelfReindexing(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityType) {
 		checkNotFrozen();
-		dirtyPathsTriggeringSelfReindexing.add( dirtyPathFromEntityType.toUnboundPath() );
+		PojoModelPathValueNode path = dirtyPathFromEntityType.toUnboundPath();
+		dirtyPathsTriggeringSelfReindexing.add( path );
+		dirtyPathsTriggeringFullSelfReindexing.add( path );
+	}
+
+	void addDirtyPathTriggeringSelfFieldsUpdate(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityType,
+			Collection<? extends IndexFieldReference<?>> indexFields) {
+		checkNotFrozen();
+		PojoModelPathValueNode path = dirtyPathFromEntityType.toUnboundPath();
+		dirtyPathsTriggeringSelfReindexing.add( path );
+		indexFieldsByDirtyPathTriggeringSelfFieldsUpdate.computeIfAbsent( path, ignored -> new ArrayList<>() )
+				.addAll( indexFields );
 	}
 
 	void addContainingAssociationPath(PojoModelPathValueNode pathFromContainedSide,
@@ -107,7 +127,21 @@ final Optional<PojoImplicitReindexingResolver<T>> build() {
 					containingEntitiesResolverRootBuilder.getDirtyPathsTriggeringReindexingIncludingNestedNodes() );
 			PojoPathFilter dirtySelfOrContainingFilter = pathsBuildingHelper.createFilter( dirtySelfOrContainingPaths );
 
+			PojoPathFilter dirtySelfFullReindexingFilter =
+					pathsBuildingHelper.createFilter( dirtyPathsTriggeringFullSelfReindexing );
+			// Paths that are also used in other ways (e.g. by a bridge) require reindexing the whole entity.
+			List<PojoPathFilter> dirtySelfFieldsUpdateFilters = new ArrayList<>();
+			List<List<IndexFieldReference<?>>> dirtySelfFieldsUpdateIndexFields = new ArrayList<>();
+			for ( Map.Entry<PojoModelPathValueNode, List<IndexFieldReference<?>>> entry
+					: indexFieldsByDirtyPathTriggeringSelfFieldsUpdate.entrySet() ) {
+				if ( !dirtyPathsTriggeringFullSelfReindexing.contains( entry.getKey() ) ) {
+					dirtySelfFieldsUpdateFilters.add( pathsBuildingHelper.createFilter( Set.of( entry.getKey() ) ) );
+					dirtySelfFieldsUpdateIndexFields.add( List.copyOf( entry.getValue() ) );
+				}
+			}
+
 			return Optional.of( new PojoImplicitReindexingResolverImpl<>( dirtySelfFilter, dirtySelfOrContainingFilter,
+					dirtySelfFullReindexingFilter, dirtySelfFieldsUpdateFilters, dirtySelfFieldsUpdateIndexFields,
 					containingEntitiesResolverRoot,
 					buildingHelper.createAssociationInverseSideResolver( rawTypeModel, containingAssociationPaths ) ) );
 		}
@@ -108,7 +108,8 @@ public <T> PojoImplicitReindexingResolver<T> build(PojoRawTypeModel<T> typeModel
 					PojoRuntimePathsBuildingHelper helper = runtimePathsBuildingHelper( typeModel );
 					PojoPathFilter emptyFilter = helper.createFilter( Collections.emptySet() );
 					return new PojoImplicitReindexingResolverImpl<>(
-							emptyFilter, emptyFilter,
+							emptyFilter, emptyFilter, emptyFilter,
+							Collections.emptyList(), Collections.emptyList(),
 							PojoImplicitReindexingResolverNode.noOp(),
 							createAssociationInverseSideResolver( typeModel, Collections.emptyMap() )
 					);
@@ -4,8 +4,10 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
+import java.util.Collection;
 import java.util.Optional;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
 import org.hibernate.search.mapper.pojo.logging.impl.MappingLog;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
@@ -60,6 +62,16 @@ public void collectDependency() {
 		doCollectDependency( null );
 	}
 
+	@Override
+	public void collectDependency(Collection<? extends IndexFieldReference<?>> indexFields) {
+		if ( metadata.derivedFrom.isEmpty() && !ReindexOnUpdate.NO.equals( metadata.reindexOnUpdate ) ) {
+			parentNode.parentNode().collectDependency( this.modelPathFromLastEntityNode, indexFields );
+		}
+		else {
+			collectDependency();
+		}
+	}
+
 	@Override
 	void collectDependency(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityType) {
 		if ( metadata.derivedFrom.isEmpty() ) {
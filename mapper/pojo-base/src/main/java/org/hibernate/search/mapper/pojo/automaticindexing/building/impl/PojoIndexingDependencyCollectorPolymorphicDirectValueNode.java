@@ -5,8 +5,10 @@
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.extractor.impl.BoundContainerExtractorPath;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathValueNode;
 import org.hibernate.search.util.common.data.impl.LinkedNode;
@@ -82,6 +84,13 @@ public void collectDependency() {
 		}
 	}
 
+	@Override
+	public void collectDependency(Collection<? extends IndexFieldReference<?>> indexFields) {
+		for ( PojoIndexingDependencyCollectorMonomorphicDirectValueNode<?, ?> node : monomorphicValueNodes ) {
+			node.collectDependency( indexFields );
+		}
+	}
+
 	@Override
 	void collectDependency(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityType) {
 		for ( PojoIndexingDependencyCollectorMonomorphicDirectValueNode<?, ?> node : monomorphicValueNodes ) {
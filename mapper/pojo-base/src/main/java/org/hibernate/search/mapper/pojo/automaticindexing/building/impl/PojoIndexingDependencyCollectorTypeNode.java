@@ -5,11 +5,13 @@
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
 import org.hibernate.search.mapper.pojo.logging.impl.MappingLog;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
@@ -116,6 +118,19 @@ ReindexOnUpdate reindexOnUpdate() {
 		return reindexOnUpdate;
 	}
 
+	void collectDependency(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityType,
+			Collection<? extends IndexFieldReference<?>> indexFields) {
+		if ( parentNode != null || buildingHelper.isEntity( dirtyPathFromEntityType.getTypeModel().rawType() ) ) {
+			// Only values that are directly part of the indexed entity, and are not associations,
+			// can be handled by updating the index fields they populate.
+			collectDependency( dirtyPathFromEntityType );
+			return;
+		}
+		PojoImplicitReindexingResolverBuilder<?> builder =
+				buildingHelper.getOrCreateResolverBuilder( modelPathFromLastEntityNode.getTypeModel().rawType() );
+		builder.addDirtyPathTriggeringSelfFieldsUpdate( dirtyPathFromEntityType, indexFields );
+	}
+
 	void collectDependency(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityType) {
 		if ( lastEntityNode != this ) {
 			if ( parentNode == null ) {
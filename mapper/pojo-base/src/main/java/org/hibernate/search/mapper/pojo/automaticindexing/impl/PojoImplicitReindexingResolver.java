@@ -4,6 +4,10 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.impl;
 
+import java.util.BitSet;
+import java.util.Collection;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
 import org.hibernate.search.util.common.spi.ToStringTreeAppendable;
 
@@ -32,6 +36,15 @@
 	 */
 	PojoPathFilter dirtySelfOrContainingFilter();
 
+	/**
+	 * @param dirtyPaths The dirty paths of an entity that must be reindexed,
+	 * as accepted by {@link #dirtySelfFilter()}.
+	 * @return The index fields that must be updated to reflect the given dirty paths,
+	 * if updating these fields is enough;
+	 * {@code null} if the dirty entity must be reindexed completely.
+	 */
+	Collection<IndexFieldReference<?>> updatedIndexFieldsOrNull(BitSet dirtyPaths);
+
 	/**
 	 * Adds all entities that should be reindexed to {@code collector},
 	 * taking into account the given "dirty entity" and the context describing its "dirtiness".
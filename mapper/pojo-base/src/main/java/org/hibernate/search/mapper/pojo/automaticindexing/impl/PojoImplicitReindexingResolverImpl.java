@@ -4,6 +4,13 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.impl;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.spi.ToStringTreeAppender;
@@ -12,15 +19,24 @@
 
 	private final PojoPathFilter dirtySelfFilter;
 	private final PojoPathFilter dirtySelfOrContainingFilter;
+	private final PojoPathFilter dirtySelfFullReindexingFilter;
+	private final List<PojoPathFilter> dirtySelfFieldsUpdateFilters;
+	private final List<List<IndexFieldReference<?>>> dirtySelfFieldsUpdateIndexFields;
 	private final PojoImplicitReindexingResolverNode<T> containingEntitiesResolverRoot;
 	private final PojoImplicitReindexingAssociationInverseSideResolver associationInverseSideResolver;
 
 	public PojoImplicitReindexingResolverImpl(PojoPathFilter dirtySelfFilter,
 			PojoPathFilter dirtySelfOrContainingFilter,
+			PojoPathFilter dirtySelfFullReindexingFilter,
+			List<PojoPathFilter> dirtySelfFieldsUpdateFilters,
+			List<List<IndexFieldReference<?>>> dirtySelfFieldsUpdateIndexFields,
 			PojoImplicitReindexingResolverNode<T> containingEntitiesResolverRoot,
 			PojoImplicitReindexingAssociationInverseSideResolver associationInverseSideResolver) {
 		this.dirtySelfFilter = dirtySelfFilter;
 		this.dirtySelfOrContainingFilter = dirtySelfOrContainingFilter;
+		this.dirtySelfFullReindexingFilter = dirtySelfFullReindexingFilter;
+		this.dirtySelfFieldsUpdateFilters = dirtySelfFieldsUpdateFilters;
+		this.dirtySelfFieldsUpdateIndexFields = dirtySelfFieldsUpdateIndexFields;
 		this.containingEntitiesResolverRoot = containingEntitiesResolverRoot;
 		this.associationInverseSideResolver = associationInverseSideResolver;
 	}
@@ -56,6 +72,20 @@ public PojoPathFilter dirtySelfOrContainingFilter() {
 		return dirtySelfOrContainingFilter;
 	}
 
+	@Override
+	public Collection<IndexFieldReference<?>> updatedIndexFieldsOrNull(BitSet dirtyPaths) {
+		if ( dirtySelfFieldsUpdateFilters.isEmpty() || dirtySelfFullReindexingFilter.test( dirtyPaths ) ) {
+			return null;
+		}
+		Set<IndexFieldReference<?>> result = new LinkedHashSet<>();
+		for ( int i = 0; i < dirtySelfFieldsUpdateFilters.size(); i++ ) {
+			if ( dirtySelfFieldsUpdateFilters.get( i ).test( dirtyPaths ) ) {
+				result.addAll( dirtySelfFieldsUpdateIndexFields.get( i ) );
+			}
+		}
+		return result.isEmpty() ? null : result;
+	}
+
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			T dirty, PojoImplicitReindexingResolverRootContext context) {
@@ -55,6 +55,7 @@ public class PojoMassIndexingBatchCoordinator extends PojoMassIndexingFailureHan
 
 	private final Collection<SessionContext> sessionContexts = new ArrayList<>();
 	private PojoScopeWorkspace allTenantsWorkspace;
+	private boolean bulkLoadStarted;
 
 	public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingContext,
 			PojoMassIndexingNotifier notifier,
@@ -91,10 +92,10 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchCoordinator instance not expected to be reused" );
 		}
 
-		beforeBatch(); // purgeAll and mergeSegments if enabled
+		beforeBatch(); // begin bulk load, then purgeAll and mergeSegments if enabled
 		try {
 			doBatchWork();
-			afterBatch(); // mergeSegments if enabled and flush
+			afterBatch(); // end bulk load, mergeSegments if enabled and flush
 		}
 		catch (MassIndexingOperationHandledFailureException e) {
 			// Something is wrong, but it's already been reported.
@@ -130,6 +131,14 @@ private void beforeBatch() throws InterruptedException {
 			failureCollector.checkNoFailure();
 		}
 
+		// Let backends optimize for bulk loading, e.g. by deferring commits and refreshes.
+		// Backends that don't support it simply ignore the request.
+		// This happens before the purge, so that backends can also defer its effects,
+		// e.g. to replace the content of indexes atomically when bulk loading ends.
+		Futures.unwrappedExceptionGet( allTenantsWorkspace.beginBulkLoad( OperationSubmitter.blocking(),
+				UnsupportedOperationBehavior.IGNORE ) );
+		bulkLoadStarted = true;
+
 		if ( purgeAtStart ) {
 			Futures.unwrappedExceptionGet(
 					allTenantsWorkspace.purge( Collections.emptySet(), OperationSubmitter.blocking(),
@@ -201,6 +210,7 @@ mappingContext, getNotifier(), getMassIndexingEnvironment(), typeGroup,
 	 * Operations to do after all subthreads finished their work on index
 	 */
 	private void afterBatch() throws InterruptedException {
+		endBulkLoad();
 		if ( isEnabledWithDefault( mergeSegmentsOnFinish, false ) ) {
 			Futures.unwrappedExceptionGet( allTenantsWorkspace.mergeSegments( OperationSubmitter.blocking(),
 					failIfUnsupportedAndExplicitlyEnabled( mergeSegmentsOnFinish ) ) );
@@ -218,6 +228,25 @@ private void afterBatch() throws InterruptedException {
 		agentStartContext.clear();
 	}
 
+	private void endBulkLoad() {
+		if ( !bulkLoadStarted ) {
+			return;
+		}
+		bulkLoadStarted = false;
+		Futures.unwrappedExceptionJoin( allTenantsWorkspace.endBulkLoad( OperationSubmitter.blocking(),
+				UnsupportedOperationBehavior.IGNORE ) );
+	}
+
+	private void abortBulkLoad() {
+		if ( !bulkLoadStarted ) {
+			return;
+		}
+		bulkLoadStarted = false;
+		// Indexes being rebuilt from scratch keep their previous content instead of ending up partially indexed.
+		Futures.unwrappedExceptionJoin( allTenantsWorkspace.abortBulkLoad( OperationSubmitter.blocking(),
+				UnsupportedOperationBehavior.IGNORE ) );
+	}
+
 	private void flushAndRefresh() throws InterruptedException {
 		Futures.unwrappedExceptionGet( allTenantsWorkspace.flush( OperationSubmitter.blocking(),
 				UnsupportedOperationBehavior.IGNORE ) );
@@ -230,7 +259,9 @@ protected void cleanUpOnInterruption() throws InterruptedException {
 		try ( Closer<InterruptedException> closer = new Closer<>() ) {
 			closer.pushAll( this::cancelPendingTask, indexingFutures );
 			// Indexing performed before the exception must still be committed,
-			// in order to leave the index in a consistent state
+			// in order to leave the index in a consistent state,
+			// unless it would replace the previous content of an index rebuilt from scratch
+			closer.push( PojoMassIndexingBatchCoordinator::abortBulkLoad, this );
 			closer.push( PojoMassIndexingBatchCoordinator::flushAndRefresh, this );
 			closer.pushAll( PojoMassIndexerAgent::stop, sessionContexts, SessionContext::agent );
 			closer.push( PojoMassIndexerAgentStartContextImpl::clear, agentStartContext );
@@ -242,6 +273,8 @@ protected void cleanUpOnInterruption() throws InterruptedException {
 	protected void cleanUpOnFailure() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.pushAll( this::cancelPendingTask, indexingFutures );
+			// Restore normal index settings, even though indexing failed
+			closer.push( PojoMassIndexingBatchCoordinator::abortBulkLoad, this );
 			closer.pushAll( PojoMassIndexerAgent::stop, sessionContexts, SessionContext::agent );
 			closer.push( PojoMassIndexerAgentStartContextImpl::clear, agentStartContext );
 			sessionContexts.clear();
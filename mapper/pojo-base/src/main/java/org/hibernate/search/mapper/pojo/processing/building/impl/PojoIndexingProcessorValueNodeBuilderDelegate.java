@@ -7,10 +7,12 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.types.ObjectStructure;
 import org.hibernate.search.engine.common.tree.TreeFilterDefinition;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
@@ -188,7 +190,18 @@ private Collection<PojoIndexingProcessor<? super V>> doBuild(
 					.forEach( immutableNestedNodes::add );
 
 			if ( !immutableNestedNodes.isEmpty() ) {
-				valueDependencyCollector.collectDependency();
+				if ( typeNodeBuilders.isEmpty() && !multiValuedFromContainerExtractor ) {
+					// The value is only used to populate index fields, as-is:
+					// when it changes, updating these fields may be enough.
+					List<IndexFieldReference<?>> indexFields = new ArrayList<>( boundBridges.size() );
+					for ( BoundValueBridge<V, ?> boundBridge : boundBridges ) {
+						indexFields.add( boundBridge.getIndexFieldReference() );
+					}
+					valueDependencyCollector.collectDependency( indexFields );
+				}
+				else {
+					valueDependencyCollector.collectDependency();
+				}
 			}
 
 			return immutableNestedNodes;
@@ -55,6 +55,24 @@ public CompletableFuture<?> refresh(OperationSubmitter operationSubmitter,
 		return doOperationOnTypes( IndexWorkspace::refresh, operationSubmitter, unsupportedOperationBehavior );
 	}
 
+	@Override
+	public CompletableFuture<?> beginBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior) {
+		return doOperationOnTypes( IndexWorkspace::beginBulkLoad, operationSubmitter, unsupportedOperationBehavior );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior) {
+		return doOperationOnTypes( IndexWorkspace::endBulkLoad, operationSubmitter, unsupportedOperationBehavior );
+	}
+
+	@Override
+	public CompletableFuture<?> abortBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior) {
+		return doOperationOnTypes( IndexWorkspace::abortBulkLoad, operationSubmitter, unsupportedOperationBehavior );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(
 			TriFunction<IndexWorkspace, OperationSubmitter, UnsupportedOperationBehavior, CompletableFuture<?>> operation,
 			OperationSubmitter operationSubmitter,
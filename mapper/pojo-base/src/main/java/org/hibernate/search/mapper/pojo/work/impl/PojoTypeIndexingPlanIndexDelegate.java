@@ -10,7 +10,9 @@
 import java.util.function.Supplier;
 
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
@@ -74,8 +76,20 @@ public void addOrUpdate(I identifier, DocumentRoutesDescriptor routes, Supplier<
 		}
 		DocumentReferenceProvider referenceProvider = new PojoDocumentReferenceProvider( documentIdentifier,
 				routes.currentRoute().routingKey(), identifier );
-		indexPlan.addOrUpdate( referenceProvider,
-				typeContext.toDocumentContributor( sessionContext, processorContext, identifier, entitySupplier ) );
+		DocumentContributor documentContributor =
+				typeContext.toDocumentContributor( sessionContext, processorContext, identifier, entitySupplier );
+		// If we know exactly what changed in the entity itself,
+		// and the document stays in the same place, updating a few fields may be enough.
+		Collection<IndexFieldReference<?>> updatedFields =
+				forceSelfDirty || updatedBecauseOfContained || dirtyPaths == null || !routes.previousRoutes().isEmpty()
+						? null
+						: typeContext.reindexingResolver().updatedIndexFieldsOrNull( dirtyPaths );
+		if ( updatedFields != null ) {
+			indexPlan.updateFields( referenceProvider, documentContributor, updatedFields );
+		}
+		else {
+			indexPlan.addOrUpdate( referenceProvider, documentContributor );
+		}
 	}
 
 	@Override
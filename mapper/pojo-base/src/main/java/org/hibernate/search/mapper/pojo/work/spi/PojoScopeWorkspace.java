@@ -64,4 +64,13 @@ default CompletableFuture<?> refresh(OperationSubmitter operationSubmitter) {
 	CompletableFuture<?> refresh(OperationSubmitter operationSubmitter,
 			UnsupportedOperationBehavior unsupportedOperationBehavior);
 
+	CompletableFuture<?> beginBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior);
+
+	CompletableFuture<?> endBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior);
+
+	CompletableFuture<?> abortBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior);
+
 }
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
+import org.hibernate.search.mapper.pojo.extractor.impl.BoundContainerExtractorPath;
+import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorBinder;
+import org.hibernate.search.mapper.pojo.model.additionalmetadata.building.impl.PojoTypeAdditionalMetadataProvider;
+import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoEntityTypeAdditionalMetadata;
+import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoTypeAdditionalMetadata;
+import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPath;
+import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathValueNode;
+import org.hibernate.search.mapper.pojo.model.path.impl.SimplePojoPathsDefinitionProvider;
+import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Checks which dirty paths of an indexed entity only require updating the index fields they populate,
+ * and which ones require reindexing the whole entity.
+ */
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+@SuppressWarnings({ "unchecked", "rawtypes" })
+class PojoImplicitReindexingResolverBuilderTest {
+
+	@Mock
+	private ContainerExtractorBinder extractorBinderMock;
+	@Mock
+	private PojoTypeAdditionalMetadataProvider typeAdditionalMetadataProviderMock;
+	@Mock
+	private PojoRawTypeModel<Object> entityTypeMock;
+
+	private final IndexFieldReference<?> rankFieldMock = mock( IndexFieldReference.class, "rankFieldMock" );
+	private final IndexFieldReference<?> rankSortFieldMock = mock( IndexFieldReference.class, "rankSortFieldMock" );
+	private final IndexFieldReference<?> scoreFieldMock = mock( IndexFieldReference.class, "scoreFieldMock" );
+
+	private PojoImplicitReindexingResolverBuildingHelper buildingHelper;
+	private PojoIndexingDependencyCollectorTypeNode<Object> dependencyCollector;
+
+	@BeforeEach
+	void setup() {
+		when( entityTypeMock.rawType() ).thenReturn( (PojoRawTypeModel) entityTypeMock );
+		PojoTypeAdditionalMetadata entityTypeAdditionalMetadataMock = mock( PojoTypeAdditionalMetadata.class );
+		when( typeAdditionalMetadataProviderMock.get( entityTypeMock ) )
+				.thenReturn( entityTypeAdditionalMetadataMock );
+		when( entityTypeAdditionalMetadataMock.getEntityTypeMetadata() )
+				.thenReturn( Optional.of( new PojoEntityTypeAdditionalMetadata( "Entity", null,
+						SimplePojoPathsDefinitionProvider.INSTANCE, Optional.empty(), null ) ) );
+
+		buildingHelper = new PojoImplicitReindexingResolverBuildingHelper( extractorBinderMock,
+				typeAdditionalMetadataProviderMock, Set.of( entityTypeMock ), ReindexOnUpdate.DEFAULT );
+		dependencyCollector = buildingHelper.createDependencyCollector( entityTypeMock );
+	}
+
+	@Test
+	void valueOnlyUsedInFields() {
+		dependencyCollector.collectDependency( path( "rank" ), List.of( rankFieldMock, rankSortFieldMock ) );
+		dependencyCollector.collectDependency( path( "score" ), List.of( scoreFieldMock ) );
+		dependencyCollector.collectDependency( path( "name" ) );
+
+		PojoImplicitReindexingResolver<Object> resolver = buildingHelper.build( entityTypeMock );
+
+		// Every path requires reindexing the entity in some way.
+		assertThat( resolver.dirtySelfFilter().test( dirtyPaths( "rank" ) ) ).isTrue();
+		assertThat( resolver.dirtySelfFilter().test( dirtyPaths( "score" ) ) ).isTrue();
+		assertThat( resolver.dirtySelfFilter().test( dirtyPaths( "name" ) ) ).isTrue();
+
+		// Values only used to populate fields: updating these fields is enough.
+		assertThat( resolver.updatedIndexFieldsOrNull( dirtyPaths( "rank" ) ) )
+				.containsExactly( rankFieldMock, rankSortFieldMock );
+		assertThat( resolver.updatedIndexFieldsOrNull( dirtyPaths( "rank", "score" ) ) )
+				.containsExactlyInAnyOrder( rankFieldMock, rankSortFieldMock, scoreFieldMock );
+
+		// Any other change requires reindexing the whole entity.
+		assertThat( resolver.updatedIndexFieldsOrNull( dirtyPaths( "name" ) ) ).isNull();
+		assertThat( resolver.updatedIndexFieldsOrNull( dirtyPaths( "rank", "name" ) ) ).isNull();
+	}
+
+	@Test
+	void valueAlsoUsedInOtherWays() {
+		// e.g. the same property is mapped to a field and used by a bridge.
+		dependencyCollector.collectDependency( path( "rank" ), List.of( rankFieldMock ) );
+		dependencyCollector.collectDependency( path( "rank" ) );
+
+		PojoImplicitReindexingResolver<Object> resolver = buildingHelper.build( entityTypeMock );
+
+		assertThat( resolver.dirtySelfFilter().test( dirtyPaths( "rank" ) ) ).isTrue();
+		assertThat( resolver.updatedIndexFieldsOrNull( dirtyPaths( "rank" ) ) ).isNull();
+	}
+
+	@Test
+	void valueIsEntity() {
+		// Associations cannot be handled by updating fields.
+		dependencyCollector.collectDependency( path( "association", entityTypeMock ), List.of( rankFieldMock ) );
+
+		PojoImplicitReindexingResolver<Object> resolver = buildingHelper.build( entityTypeMock );
+
+		assertThat( resolver.dirtySelfFilter().test( dirtyPaths( "association" ) ) ).isTrue();
+		assertThat( resolver.updatedIndexFieldsOrNull( dirtyPaths( "association" ) ) ).isNull();
+	}
+
+	private BoundPojoModelPathValueNode<?, ?, ?> path(String propertyName) {
+		return path( propertyName, mock( PojoRawTypeModel.class, propertyName + "TypeMock" ) );
+	}
+
+	private BoundPojoModelPathValueNode<?, ?, ?> path(String propertyName, PojoRawTypeModel<?> propertyTypeMock) {
+		PojoPropertyModel<?> propertyModelMock = mock( PojoPropertyModel.class, propertyName + "ModelMock" );
+		when( entityTypeMock.property( propertyName ) ).thenReturn( (PojoPropertyModel) propertyModelMock );
+		when( propertyModelMock.name() ).thenReturn( propertyName );
+		when( propertyTypeMock.rawType() ).thenReturn( (PojoRawTypeModel) propertyTypeMock );
+		return BoundPojoModelPath.root( entityTypeMock ).property( propertyName )
+				.value( BoundContainerExtractorPath.noExtractors( (PojoRawTypeModel) propertyTypeMock ) );
+	}
+
+	private BitSet dirtyPaths(String... paths) {
+		return buildingHelper.runtimePathsBuildingHelper( entityTypeMock ).pathOrdinals()
+				.toPathSelection( List.of( paths ) );
+	}
+}
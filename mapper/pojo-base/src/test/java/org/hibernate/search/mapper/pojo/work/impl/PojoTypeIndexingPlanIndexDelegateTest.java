@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
+import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
+import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Checks that entities whose dirty paths only affect a few index fields
+ * get these fields updated instead of being reindexed completely.
+ */
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class PojoTypeIndexingPlanIndexDelegateTest {
+
+	private static final Integer ID = 1;
+	private static final String DOCUMENT_ID = "1";
+
+	@Mock
+	private PojoWorkIndexedTypeContext<Integer, Object> typeContextMock;
+	@Mock
+	private PojoWorkSessionContext sessionContextMock;
+	@Mock
+	private PojoIndexingProcessorRootContext processorContextMock;
+	@Mock
+	private IndexIndexingPlan indexPlanMock;
+	@Mock
+	private PojoImplicitReindexingResolver<Object> reindexingResolverMock;
+	@Mock
+	private PojoDocumentContributor<Object> documentContributorMock;
+	@Mock
+	private Supplier<Object> entitySupplierMock;
+
+	private final IndexFieldReference<?> rankFieldMock = mock( IndexFieldReference.class, "rankFieldMock" );
+
+	private PojoTypeIndexingPlanIndexDelegate<Integer, Object> delegate;
+
+	@BeforeEach
+	void setup() {
+		delegate = new PojoTypeIndexingPlanIndexDelegate<>( typeContextMock, sessionContextMock, processorContextMock,
+				indexPlanMock );
+		when( typeContextMock.toDocumentIdentifier( sessionContextMock, ID ) ).thenReturn( DOCUMENT_ID );
+		when( typeContextMock.toDocumentContributor( sessionContextMock, processorContextMock, ID, entitySupplierMock ) )
+				.thenReturn( documentContributorMock );
+	}
+
+	@Test
+	void addOrUpdate_fieldsOnly() {
+		BitSet dirtyPaths = new BitSet();
+		dirtyPaths.set( 0 );
+		when( typeContextMock.reindexingResolver() ).thenReturn( reindexingResolverMock );
+		when( reindexingResolverMock.updatedIndexFieldsOrNull( dirtyPaths ) ).thenReturn( List.of( rankFieldMock ) );
+
+		delegate.addOrUpdate( ID, DocumentRoutesDescriptor.of( DocumentRouteDescriptor.of( "routingKey" ) ),
+				entitySupplierMock, false, false, dirtyPaths, false, true );
+
+		ArgumentCaptor<DocumentReferenceProvider> referenceCaptor =
+				ArgumentCaptor.forClass( DocumentReferenceProvider.class );
+		verify( indexPlanMock ).updateFields( referenceCaptor.capture(), same( documentContributorMock ),
+				eq( List.of( rankFieldMock ) ) );
+		verifyNoMoreInteractions( indexPlanMock );
+		assertThat( referenceCaptor.getValue().identifier() ).isEqualTo( DOCUMENT_ID );
+		assertThat( referenceCaptor.getValue().routingKey() ).isEqualTo( "routingKey" );
+		assertThat( referenceCaptor.getValue().entityIdentifier() ).isEqualTo( ID );
+	}
+
+	@Test
+	void addOrUpdate_otherDirtyPaths() {
+		BitSet dirtyPaths = new BitSet();
+		dirtyPaths.set( 1 );
+		when( typeContextMock.reindexingResolver() ).thenReturn( reindexingResolverMock );
+		when( reindexingResolverMock.updatedIndexFieldsOrNull( dirtyPaths ) ).thenReturn( null );
+
+		delegate.addOrUpdate( ID, DocumentRoutesDescriptor.of( DocumentRouteDescriptor.of( null ) ),
+				entitySupplierMock, false, false, dirtyPaths, false, true );
+
+		verifyFullReindexing();
+	}
+
+	@Test
+	void addOrUpdate_unknownDirtyPaths() {
+		delegate.addOrUpdate( ID, DocumentRoutesDescriptor.of( DocumentRouteDescriptor.of( null ) ),
+				entitySupplierMock, false, false, null, false, false );
+
+		verifyFullReindexing();
+	}
+
+	@Test
+	void addOrUpdate_forceSelfDirty() {
+		BitSet dirtyPaths = new BitSet();
+		dirtyPaths.set( 0 );
+
+		delegate.addOrUpdate( ID, DocumentRoutesDescriptor.of( DocumentRouteDescriptor.of( null ) ),
+				entitySupplierMock, true, false, dirtyPaths, false, true );
+
+		verifyFullReindexing();
+	}
+
+	@Test
+	void addOrUpdate_updatedBecauseOfContained() {
+		BitSet dirtyPaths = new BitSet();
+		dirtyPaths.set( 0 );
+
+		delegate.addOrUpdate( ID, DocumentRoutesDescriptor.of( DocumentRouteDescriptor.of( null ) ),
+				entitySupplierMock, false, false, dirtyPaths, true, true );
+
+		verifyFullReindexing();
+	}
+
+	@Test
+	void addOrUpdate_routeChanged() {
+		BitSet dirtyPaths = new BitSet();
+		dirtyPaths.set( 0 );
+
+		// The document moves to another route: it must be indexed again from scratch.
+		delegate.addOrUpdate( ID, DocumentRoutesDescriptor.of( DocumentRouteDescriptor.of( "newRoutingKey" ),
+				Collections.singleton( DocumentRouteDescriptor.of( "oldRoutingKey" ) ) ),
+				entitySupplierMock, false, false, dirtyPaths, false, true );
+
+		verify( indexPlanMock ).delete( any() );
+		verifyFullReindexing();
+	}
+
+	private void verifyFullReindexing() {
+		verify( indexPlanMock ).addOrUpdate( any(), same( documentContributorMock ) );
+		verifyNoMoreInteractions( indexPlanMock );
+	}
+}